@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.benchmark;
+
+import com.artos.annotation.TestCase;
+import com.artos.annotation.Unit;
+import com.artos.framework.infra.TestContext;
+import com.artos.interfaces.TestExecutable;
+
+/**
+ * Test case without any work, used to measure framework overhead per test case
+ */
+@TestCase(sequence = 1)
+public class EmptyTestExecutable implements TestExecutable {
+
+	@Unit(sequence = 1)
+	public void emptyUnit(TestContext context) throws Exception {
+		// intentionally empty
+	}
+}
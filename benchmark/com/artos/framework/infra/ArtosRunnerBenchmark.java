@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.LoggerContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.artos.benchmark.EmptyTestExecutable;
+import com.artos.framework.FWStaticStore;
+
+/**
+ * Measures framework overhead per test case. Test suite containing a single {@code EmptyTestExecutable} is executed {@link #LOOP_COUNT} times
+ * per invocation, result is reported per test case execution. Each invocation also includes one (indexed) test suite scan and suite summary, which
+ * is amortised over loop count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArtosRunnerBenchmark {
+
+	static final int LOOP_COUNT = 100;
+
+	@Param({ "false", "true" })
+	boolean enableParallelTestExecution;
+
+	PrintStream stdout;
+	LoggerContext loggerContext;
+	LogWrapper logWrapper;
+
+	@Setup
+	public void setup() throws Exception {
+		stdout = BenchmarkSupport.suppressConsoleOutput();
+		BenchmarkSupport.initFrameworkConfig(false);
+		FWStaticStore.frameworkConfig.setEnableParallelTestExecution(enableParallelTestExecution);
+		FWStaticStore.frameworkConfig.setEnableScanIndex(true);
+		loggerContext = BenchmarkSupport.createLoggerContext(EmptyTestExecutable.class.getPackage().getName());
+		logWrapper = new LogWrapper(loggerContext, 0);
+	}
+
+	@TearDown
+	public void tearDown() {
+		TestWorkerPool.shutdown();
+		loggerContext.stop();
+		System.setOut(stdout);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LOOP_COUNT)
+	public TestContext emptyTestCase() throws Exception {
+		TestContext context = BenchmarkSupport.createContext(EmptyTestExecutable.class, logWrapper, LOOP_COUNT);
+		new ArtosRunner(context, null).run();
+		return context;
+	}
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.logging.log4j.core.LoggerContext;
+
+import com.artos.framework.FWStaticStore;
+import com.artos.framework.parser.FrameworkConfigParser;
+import com.artos.framework.parser.TestSuite;
+import com.google.common.collect.Lists;
+
+/**
+ * Prepares framework configuration and logger context the same way {@code Runner} does, so benchmarks can exercise framework code without
+ * launching complete test suite. Features which require user interaction or network (GUI selector, dashboard, reports) are disabled.
+ */
+final class BenchmarkSupport {
+
+	static final String LOG_ROOT_DIR = "./reporting/";
+
+	private BenchmarkSupport() {
+		// utility class
+	}
+
+	/**
+	 * Discards everything written to standard output (console log appender, scan progress), otherwise benchmark output is flooded and console
+	 * speed becomes part of the result. Must be called before logger context is created because console appender holds on to the stream.
+	 * 
+	 * @return original standard output stream
+	 */
+	static PrintStream suppressConsoleOutput() {
+		PrintStream original = System.out;
+		System.setOut(new PrintStream(new OutputStream() {
+			@Override
+			public void write(int b) {
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+			}
+		}));
+		return original;
+	}
+
+	/**
+	 * Loads framework configuration from working directory (default configuration is generated if not present) and applies benchmark settings
+	 * 
+	 * @param enableAsyncLogging enable/disable asynchronous logging
+	 * @throws IOException if schema file can not be created
+	 */
+	static void initFrameworkConfig(boolean enableAsyncLogging) throws IOException {
+		// Configuration is validated against schema, Runner transfers it the same way
+		File schemaFile = new File(FWStaticStore.CONFIG_BASE_DIR + File.separator + "framework_configuration.xsd");
+		if (!schemaFile.exists()) {
+			schemaFile.getParentFile().mkdirs();
+			try (InputStream ins = BenchmarkSupport.class.getResourceAsStream("/com/artos/template/framework_configuration.xsd")) {
+				Files.copy(ins, schemaFile.toPath());
+			}
+		}
+
+		FWStaticStore.frameworkConfig = new FrameworkConfigParser(true, null);
+		FWStaticStore.frameworkConfig.setLogLevel("info");
+		FWStaticStore.frameworkConfig.setLogRootDir(LOG_ROOT_DIR);
+		FWStaticStore.frameworkConfig.setEnableTextLog(true);
+		FWStaticStore.frameworkConfig.setEnableHTMLLog(false);
+		FWStaticStore.frameworkConfig.setEnableRealTimeLog(false);
+		FWStaticStore.frameworkConfig.setEnableAsyncLogging(enableAsyncLogging);
+		FWStaticStore.frameworkConfig.setEnableGUITestSelector(false);
+		FWStaticStore.frameworkConfig.setEnableBanner(false);
+		FWStaticStore.frameworkConfig.setEnableOrganisationInfo(false);
+		FWStaticStore.frameworkConfig.setGenerateTestScript(false);
+		FWStaticStore.frameworkConfig.setGenerateEclipseTemplate(false);
+		FWStaticStore.frameworkConfig.setGenerateIntelliJTemplate(false);
+		FWStaticStore.frameworkConfig.setEnableExtentReport(false);
+		FWStaticStore.frameworkConfig.setEnableJUnitReport(false);
+		FWStaticStore.frameworkConfig.setEnableDashBoard(false);
+		FWStaticStore.frameworkConfig.setEnableParallelTestExecution(false);
+	}
+
+	/**
+	 * Creates logger context for a single test suite thread using current framework configuration
+	 * 
+	 * @param testCaseFQCN used as log sub-directory name
+	 * @return LoggerContext
+	 */
+	static LoggerContext createLoggerContext(String testCaseFQCN) {
+		return new OrganisedLog(FWStaticStore.frameworkConfig.getLogRootDir(), testCaseFQCN, FWStaticStore.frameworkConfig.isEnableLogDecoration(),
+				FWStaticStore.frameworkConfig.isEnableTextLog(), FWStaticStore.frameworkConfig.isEnableHTMLLog(),
+				FWStaticStore.frameworkConfig.isEnableRealTimeLog(), null).getLoggerContext();
+	}
+
+	/**
+	 * Creates TestContext equivalent to the one created by {@code Runner} for a single test suite
+	 * 
+	 * @param prePostRunnableObj class which defines scan scope (its package) and holds before/after suite methods
+	 * @param logWrapper logger
+	 * @param loopCount number of times test suite is executed
+	 * @return TestContext
+	 */
+	static TestContext createContext(Class<?> prePostRunnableObj, LogWrapper logWrapper, int loopCount) {
+		TestSuite testSuite = new TestSuite();
+		testSuite.setTestFQCNList(new ArrayList<>());
+		testSuite.setTestGroupList(Lists.newArrayList("*"));
+		testSuite.setTestUnitGroupList(Lists.newArrayList("*"));
+		testSuite.setLoopCount(loopCount);
+
+		TestContext context = new TestContext();
+		context.setPrePostRunnableObj(prePostRunnableObj);
+		context.setThreadLatch(new CountDownLatch(1));
+		context.setOrganisedLogger(logWrapper);
+		context.setTestSuite(testSuite);
+		return context;
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.LoggerContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures cost of writing test log through {@code LogWrapper}. Disabled level benchmark shows cost of a log statement which is filtered out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogWrapperBenchmark {
+
+	@Param({ "false", "true" })
+	boolean enableAsyncLogging;
+
+	PrintStream stdout;
+	LoggerContext loggerContext;
+	LogWrapper logger;
+	int counter = 0;
+
+	@Setup
+	public void setup() throws Exception {
+		stdout = BenchmarkSupport.suppressConsoleOutput();
+		BenchmarkSupport.initFrameworkConfig(enableAsyncLogging);
+		loggerContext = BenchmarkSupport.createLoggerContext(LogWrapperBenchmark.class.getSimpleName());
+		logger = new LogWrapper(loggerContext, 0);
+	}
+
+	@TearDown
+	public void tearDown() {
+		// flushes async appender
+		loggerContext.stop();
+		System.setOut(stdout);
+	}
+
+	@Benchmark
+	public void info() {
+		logger.info("Benchmark log message with fixed content");
+	}
+
+	@Benchmark
+	public void infoWithParameters() {
+		logger.info("Benchmark log message {} of {}", counter++, "LogWrapperBenchmark");
+	}
+
+	@Benchmark
+	public void debugDisabled() {
+		logger.debug("Benchmark log message {} of {}", counter++, "LogWrapperBenchmark");
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.LoggerContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.artos.framework.FWStaticStore;
+
+/**
+ * Measures test suite scanning which is performed before every test suite execution. Scanning is measured with and without persistent scan index
+ * for a narrow package (single test case) and for complete framework package.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScanTestSuiteBenchmark {
+
+	@Param({ "com.artos.benchmark", "com.artos" })
+	String packageName;
+
+	@Param({ "false", "true" })
+	boolean enableScanIndex;
+
+	PrintStream stdout;
+	LoggerContext loggerContext;
+	TestContext context;
+
+	@Setup
+	public void setup() throws Exception {
+		stdout = BenchmarkSupport.suppressConsoleOutput();
+		BenchmarkSupport.initFrameworkConfig(false);
+		FWStaticStore.frameworkConfig.setEnableScanIndex(enableScanIndex);
+		loggerContext = BenchmarkSupport.createLoggerContext(ScanTestSuiteBenchmark.class.getSimpleName());
+		context = BenchmarkSupport.createContext(ScanTestSuiteBenchmark.class, new LogWrapper(loggerContext, 0), 1);
+	}
+
+	@TearDown
+	public void tearDown() {
+		loggerContext.stop();
+		System.setOut(stdout);
+	}
+
+	@Benchmark
+	public ScanTestSuite scan() {
+		return new ScanTestSuite(context, packageName);
+	}
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.artos.interfaces.Connectable;
+
+/**
+ * Measures send to receive latency of connectors over loopback interface. Each invocation sends one message and waits until it is available in
+ * receiving connector's queue, so result includes socket read, queue hand-off and thread wake-up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectorBenchmark {
+
+	static final String LOCALHOST = "127.0.0.1";
+	static final int TCP_PORT = 45101;
+	static final int NIO_TCP_PORT = 45102;
+	static final int UDP_PORT_A = 45111;
+	static final int UDP_PORT_B = 45112;
+
+	@Param({ "16", "1024" })
+	int size;
+
+	byte[] payload;
+
+	TCPServer tcpServer;
+	TCPClient tcpClient;
+	TCPServer nioTcpServer;
+	NioTCPClient nioTcpClient;
+	UDP udpSender;
+	UDP udpReceiver;
+
+	@Setup
+	public void setup() throws Exception {
+		payload = new Transform().generateRandomBytes(size);
+
+		tcpServer = new TCPServer(TCP_PORT);
+		tcpClient = new TCPClient(LOCALHOST, TCP_PORT);
+		connect(tcpServer, tcpClient);
+
+		nioTcpServer = new TCPServer(NIO_TCP_PORT);
+		nioTcpClient = new NioTCPClient(LOCALHOST, NIO_TCP_PORT);
+		connect(nioTcpServer, nioTcpClient);
+
+		udpSender = new UDP(LOCALHOST, UDP_PORT_A, LOCALHOST, UDP_PORT_B);
+		udpReceiver = new UDP(LOCALHOST, UDP_PORT_B, LOCALHOST, UDP_PORT_A);
+		udpSender.connect();
+		udpReceiver.connect();
+	}
+
+	/**
+	 * TCPServer blocks until client is connected, so server is connected on a separate thread
+	 */
+	private void connect(TCPServer server, Connectable client) throws Exception {
+		Thread serverThread = new Thread(() -> {
+			try {
+				server.connect();
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		});
+		serverThread.start();
+		// give server socket time to bind
+		while (serverThread.isAlive()) {
+			try {
+				client.connect();
+				break;
+			} catch (ConnectException e) {
+				Thread.sleep(50);
+			}
+		}
+		serverThread.join();
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		tcpClient.disconnect();
+		tcpServer.disconnect();
+		nioTcpClient.disconnect();
+		nioTcpServer.disconnect();
+		udpSender.disconnect();
+		udpReceiver.disconnect();
+	}
+
+	@Benchmark
+	public byte[] tcpClientReceive() throws Exception {
+		tcpServer.sendMsg(payload);
+		return tcpClient.getNextMsg(1, TimeUnit.SECONDS);
+	}
+
+	@Benchmark
+	public byte[] nioTcpClientReceive() throws Exception {
+		nioTcpServer.sendMsg(payload);
+		return nioTcpClient.getNextMsg(1, TimeUnit.SECONDS);
+	}
+
+	@Benchmark
+	public byte[] udpReceive() throws Exception {
+		udpSender.sendMsg(payload);
+		return udpReceiver.getNextMsg(1, TimeUnit.SECONDS);
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.artos.exception.ValueNotAsExpectedException;
+
+/**
+ * Measures {@code Guard} comparisons for the most common value types. String comparison is measured for exact match as well as for regular
+ * expression match, which is the path taken when values are not equal.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuardBenchmark {
+
+	String actualString;
+	String referenceString;
+	String referenceRegex;
+	String format;
+	byte[] actualBytes;
+	byte[] referenceBytes;
+	int actualInt;
+
+	@Setup
+	public void setup() {
+		actualString = "Artos_Test_Value_0123456789";
+		// new String so equals() can not short-circuit on reference equality
+		referenceString = new String(actualString);
+		referenceRegex = "Artos_Test_Value_[0-9]+";
+		format = "$$$$$_$$$$_$$$$$_$$$$$$$$$$";
+		actualBytes = new Transform().generateRandomBytes(256);
+		referenceBytes = actualBytes.clone();
+		actualInt = 1024;
+	}
+
+	@Benchmark
+	public void guardEqualsString() throws ValueNotAsExpectedException {
+		Guard.guardEquals(referenceString, actualString);
+	}
+
+	@Benchmark
+	public void guardEqualsStringRegex() throws ValueNotAsExpectedException {
+		Guard.guardEquals(referenceRegex, actualString);
+	}
+
+	@Benchmark
+	public void guardFormatEquals() throws ValueNotAsExpectedException {
+		Guard.guardFormatEquals(format, actualString);
+	}
+
+	@Benchmark
+	public void guardEqualsBytes() throws ValueNotAsExpectedException {
+		Guard.guardEquals(referenceBytes, actualBytes);
+	}
+
+	@Benchmark
+	public void guardEqualsInt() throws ValueNotAsExpectedException {
+		Guard.guardEquals(1024, actualInt);
+	}
+}
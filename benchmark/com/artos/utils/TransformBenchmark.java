@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures byte/hex/integer conversions of {@code Transform} which are used by connectors, real time log and test cases.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformBenchmark {
+
+	@Param({ "16", "1024" })
+	int size;
+
+	Transform transform = new Transform();
+	byte[] data;
+	String hexString;
+	byte[] intBytes;
+
+	@Setup
+	public void setup() {
+		data = transform.generateRandomBytes(size);
+		hexString = transform.bytesToHexString(data);
+		intBytes = transform.intToByteArray(0x12345678, ByteOrder.BIG_ENDIAN);
+	}
+
+	@Benchmark
+	public String bytesToHexString() {
+		return transform.bytesToHexString(data);
+	}
+
+	@Benchmark
+	public String bytesToHexStringWithSize() {
+		return transform.bytesToHexString(data, true);
+	}
+
+	@Benchmark
+	public byte[] strHexToByteArray() {
+		return transform.strHexToByteArray(hexString);
+	}
+
+	@Benchmark
+	public byte[] concat() {
+		return transform.concat(data, intBytes);
+	}
+
+	@Benchmark
+	public int bytesToInteger() {
+		return transform.bytesToInteger(intBytes, ByteOrder.BIG_ENDIAN);
+	}
+
+	@Benchmark
+	public byte[] intToByteArray() {
+		return transform.intToByteArray(size, ByteOrder.LITTLE_ENDIAN);
+	}
+}
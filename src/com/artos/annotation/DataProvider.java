@@ -31,6 +31,11 @@ import java.lang.annotation.Target;
  * Annotation {@code DataProvider} can be used to mark method which provides data to test case
  * 
  * <p>
+ * Data provider method can return {@code Object[][]} or an {@code Iterator}, {@code Iterable} or {@code Stream} of rows (each row is an
+ * {@code Object[]}). Iterator, Iterable and Stream are consumed lazily, so large data sets can be generated row by row while tests are executed.
+ * </p>
+ * 
+ * <p>
  * Annotation {@code RetentionPolicy.RUNTIME} is recorded in the class file by the compiler and retained by the VM at run time, so it may be read
  * reflectively.
  * </p>
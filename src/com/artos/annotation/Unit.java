@@ -70,6 +70,14 @@ public @interface Unit {
 	 */
 	String dataprovider() default "";
 
+	/**
+	 * Responsible for executing data provider rows in parallel using shared worker pool. Each row is executed with its own copy of
+	 * {@code TestContext} parameters and outcome of each row is reported in data provider order. Ignored if data provider is not specified.
+	 * 
+	 * @return true = execute data provider rows in parallel | false = execute data provider rows one after another
+	 */
+	boolean parallelDataProvider() default false;
+
 	/**
 	 * bug reference number
 	 * 
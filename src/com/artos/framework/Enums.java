@@ -214,6 +214,186 @@ public class Enums {
 
 	}
 
+	/**
+	 * Enum for receive queue overflow policy of connectors
+	 * 
+	 */
+	public enum QueueOverflowPolicy {
+
+		// @formatter:off
+		
+		BLOCK(0), // receiver thread waits until space is available (back-pressure)
+		DROP_NEWEST(1), // newly received message is dropped
+		DROP_OLDEST(2); // oldest message in the queue is dropped
+		
+		// @formatter:on
+
+		private final int policy;
+
+		QueueOverflowPolicy(int policy) {
+			this.policy = policy;
+		}
+
+		/**
+		 * Get enum value
+		 * 
+		 * @return enum value
+		 */
+		public int getValue() {
+			return policy;
+		}
+
+		/**
+		 * Get Enum name
+		 * 
+		 * @param policy policy
+		 * @return Enum name
+		 */
+		public String getEnumName(int policy) {
+			for (QueueOverflowPolicy e : QueueOverflowPolicy.values()) {
+				if (policy == e.getValue()) {
+					return e.name();
+				}
+			}
+			return null;
+		}
+
+	}
+
+	/**
+	 * Enum for test class instance lifecycle. Decides how long a test class (or pre-post runnable class) instance is reused for invocation of
+	 * test units, local/global before/after methods and non-static data provider methods.
+	 */
+	public enum TestInstanceLifecycle {
+
+		// @formatter:off
+		
+		PER_METHOD("method"), // new instance for each method invocation
+		PER_UNIT("unit"), // new instance for each unit execution (including its before/after unit methods)
+		PER_TEST_CASE("testcase"), // one instance for all units of a test case
+		PER_SUITE("suite"); // one instance for the whole test suite
+		
+		// @formatter:on
+
+		private final String lifecycle;
+
+		TestInstanceLifecycle(String lifecycle) {
+			this.lifecycle = lifecycle;
+		}
+
+		/**
+		 * Get enum value
+		 * 
+		 * @return enum value
+		 */
+		public String getValue() {
+			return lifecycle;
+		}
+
+		/**
+		 * Get Enum name
+		 * 
+		 * @param lifecycle lifecycle
+		 * @return Enum name
+		 */
+		public String getEnumName(String lifecycle) {
+			for (TestInstanceLifecycle e : TestInstanceLifecycle.values()) {
+				if (lifecycle.equals(e.getValue())) {
+					return e.name();
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Enumeration of {@code TestProgress} listener events, one constant per listener method name. Overloaded methods (test case and BDD
+	 * scenario variants) share the same constant.
+	 */
+	public enum TestProgressEvent {
+
+		// @formatter:off
+		
+		TEST_EXECUTION_LOOP_COUNT("testExecutionLoopCount"),
+		BEFORE_TEST_SUITE_METHOD_EXECUTION_STARTED("beforeTestSuiteMethodExecutionStarted"),
+		BEFORE_TEST_SUITE_METHOD_EXECUTION_FINISHED("beforeTestSuiteMethodExecutionFinished"),
+		TEST_SUITE_EXECUTION_STARTED("testSuiteExecutionStarted"),
+		TEST_SUITE_EXECUTION_FINISHED("testSuiteExecutionFinished"),
+		AFTER_TEST_SUITE_METHOD_EXECUTION_STARTED("afterTestSuiteMethodExecutionStarted"),
+		AFTER_TEST_SUITE_METHOD_EXECUTION_FINISHED("afterTestSuiteMethodExecutionFinished"),
+		PRINT_TEST_PLAN("printTestPlan"),
+		PRINT_TEST_UNIT_PLAN("printTestUnitPlan"),
+		GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_STARTED("globalBeforeTestUnitMethodExecutionStarted"),
+		GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_FINISHED("globalBeforeTestUnitMethodExecutionFinished"),
+		GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_STARTED("globalAfterTestUnitMethodExecutionStarted"),
+		GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_STARTED("globalAfterFailedUnitMethodExecutionStarted"),
+		GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_FINISHED("globalAfterTestUnitMethodExecutionFinished"),
+		GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_FINISHED("globalAfterFailedUnitMethodExecutionFinished"),
+		LOCAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_STARTED("localBeforeTestUnitMethodExecutionStarted"),
+		LOCAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_FINISHED("localBeforeTestUnitMethodExecutionFinished"),
+		LOCAL_AFTER_TEST_UNIT_METHOD_EXECUTION_STARTED("localAfterTestUnitMethodExecutionStarted"),
+		LOCAL_AFTER_TEST_UNIT_METHOD_EXECUTION_FINISHED("localAfterTestUnitMethodExecutionFinished"),
+		GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_STARTED("globalBeforeTestCaseMethodExecutionStarted"),
+		GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_FINISHED("globalBeforeTestCaseMethodExecutionFinished"),
+		GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_STARTED("globalAfterTestCaseMethodExecutionStarted"),
+		GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_FINISHED("globalAfterTestCaseMethodExecutionFinished"),
+		LOCAL_BEFORE_TEST_CASE_METHOD_EXECUTION_STARTED("localBeforeTestCaseMethodExecutionStarted"),
+		LOCAL_BEFORE_TEST_CASE_METHOD_EXECUTION_FINISHED("localBeforeTestCaseMethodExecutionFinished"),
+		LOCAL_AFTER_TEST_CASE_METHOD_EXECUTION_STARTED("localAfterTestCaseMethodExecutionStarted"),
+		LOCAL_AFTER_TEST_CASE_METHOD_EXECUTION_FINISHED("localAfterTestCaseMethodExecutionFinished"),
+		TEST_CASE_EXECUTION_STARTED("testCaseExecutionStarted"),
+		TEST_CASE_EXECUTION_FINISHED("testCaseExecutionFinished"),
+		TEST_UNIT_EXECUTION_STARTED("testUnitExecutionStarted"),
+		TEST_UNIT_EXECUTION_FINISHED("testUnitExecutionFinished"),
+		TEST_CASE_EXECUTION_SKIPPED("testCaseExecutionSkipped"),
+		CHILD_TEST_CASE_EXECUTION_STARTED("childTestCaseExecutionStarted"),
+		CHILD_TEST_CASE_EXECUTION_FINISHED("childTestCaseExecutionFinished"),
+		CHILD_TEST_UNIT_EXECUTION_STARTED("childTestUnitExecutionStarted"),
+		CHILD_TEST_UNIT_EXECUTION_FINISHED("childTestUnitExecutionFinished"),
+		TEST_CASE_STATUS_UPDATE("testCaseStatusUpdate"),
+		TEST_RESULT("testResult"),
+		TEST_CASE_SUMMARY_PRINTING("testCaseSummaryPrinting"),
+		TEST_UNIT_RESULT("testUnitResult"),
+		TEST_UNIT_SUMMARY_PRINTING("testUnitSummaryPrinting"),
+		TEST_SUITE_SUMMARY_PRINTING("testSuiteSummaryPrinting"),
+		TEST_SUITE_FAILURE_HIGHLIGHT("testSuiteFailureHighlight"),
+		TEST_SUITE_EXCEPTION("testSuiteException"),
+		TEST_EXCEPTION("testException"),
+		UNIT_EXCEPTION("unitException");
+		
+		// @formatter:on
+
+		private final String methodName;
+
+		TestProgressEvent(String methodName) {
+			this.methodName = methodName;
+		}
+
+		/**
+		 * Get enum value
+		 * 
+		 * @return {@code TestProgress} method name
+		 */
+		public String getValue() {
+			return methodName;
+		}
+
+		/**
+		 * Get Enum name
+		 * 
+		 * @param methodName {@code TestProgress} method name
+		 * @return Enum name
+		 */
+		public static String getEnumName(String methodName) {
+			for (TestProgressEvent e : TestProgressEvent.values()) {
+				if (methodName.equals(e.getValue())) {
+					return e.name();
+				}
+			}
+			return null;
+		}
+	}
+
 	/**
 	 * Enum for Gherkin
 	 *
@@ -78,6 +78,7 @@ public class FWStaticStore {
 	public static final String TEMPLATE_BASE_DIR = "." + File.separator + "template" + File.separator;
 	public static final String LOG_BASE_DIR = "." + File.separator + "reporting" + File.separator;
 	public static final String JUNIT_REPORT_BASE_DIR = "." + File.separator + "reporting" + File.separator + "JUnitReport" + File.separator;
+	public static final String CACHE_BASE_DIR = "." + File.separator + "cache" + File.separator;
 
 	// Must be kept after default paths initialised
 	public static FrameworkConfigParser frameworkConfig = null;
@@ -25,17 +25,16 @@ import java.io.InvalidObjectException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.artos.framework.Enums.Importance;
 import com.artos.framework.Enums.ScriptFileType;
+import com.artos.framework.Enums.TestProgressEvent;
 import com.artos.framework.Enums.TestStatus;
 import com.artos.framework.FWStaticStore;
 import com.artos.framework.listener.ExtentReportListener;
@@ -55,7 +54,7 @@ import com.artos.utils.UtilsFramework;
 public class ArtosRunner {
 
 	TestContext context;
-	List<TestProgress> listenerList = new ArrayList<TestProgress>();
+	ListenerDispatchTable listeners = new ListenerDispatchTable();
 	List<Class<?>> externalListnerClassList = null;
 	// ==================================================================================
 	// Constructor (Starting point of framework)
@@ -87,8 +86,7 @@ public class ArtosRunner {
 		// Register extent reporting listener
 		if (FWStaticStore.frameworkConfig.isEnableExtentReport()) {
 			ExtentReportListener extentListener = new ExtentReportListener(context);
-			registerListener(extentListener);
-			context.registerListener(extentListener);
+			registerReportListener(extentListener);
 		}
 
 		// Register JUnit reporting listener
@@ -101,21 +99,34 @@ public class ArtosRunner {
 		// Register UDPReport listener
 		if (FWStaticStore.frameworkConfig.isEnableDashBoard()) {
 			UDPReportListener udpListener = new UDPReportListener(context);
-			registerListener(udpListener);
-			context.registerListener(udpListener);
+			registerReportListener(udpListener);
 		}
 
 		// Register external listener
 		if (null != externalListnerClassList) {
 			for (Class<?> listener : externalListnerClassList) {
 				TestProgress externalListener = (TestProgress) listener.getDeclaredConstructor().newInstance();
-				registerListener(externalListener);
-				context.registerListener(externalListener);
+				registerReportListener(externalListener);
 			}
 		}
 
 	}
 
+	/**
+	 * Constructor responsible for running a single test case on a worker thread
+	 * during parallel execution. All events are recorded by provided recorder and
+	 * replayed on the suite listeners once test case is finished.
+	 * 
+	 * @param childContext child TestContext created for the test case
+	 * @param recorder     listener which records test progress events
+	 * @see TestContext#createChildContext()
+	 */
+	private ArtosRunner(TestContext childContext, TestProgressRecorder recorder) {
+		this.context = childContext;
+		registerListener(recorder);
+		childContext.registerListener(recorder);
+	}
+
 	// ==================================================================================
 	// Runner Method
 	// ==================================================================================
@@ -161,11 +172,7 @@ public class ArtosRunner {
 
 		LogWrapper logger = context.getLogger();
 
-		// TODO : Parallel running test case can not work with current
-		// architecture so should not enable this feature until solution is
-		// found
-		boolean enableParallelTestRunning = false;
-		if (enableParallelTestRunning) {
+		if (FWStaticStore.frameworkConfig.isEnableParallelTestExecution()) {
 			runParallelThread(transformedTestList, context);
 		} else {
 			runSingleThread(transformedTestList, context);
@@ -225,6 +232,9 @@ public class ArtosRunner {
 					ScriptFileType.ERROR_SCRIPT);
 		}
 
+		// Listener events must be delivered before test suite is considered finished
+		flushListeners();
+
 		// to release a thread lock
 		context.getThreadLatch().countDown();
 	}
@@ -337,6 +347,7 @@ public class ArtosRunner {
 		context.setTestSuiteStartTime(System.currentTimeMillis());
 		ScanTestSuite scan = new ScanTestSuite();
 		scan.scanForBeforeAfterMethods(context);
+		DependencyGraph<TestObjectWrapper> dependencyGraph = DependencyGraph.ofTestCases(testList);
 
 		try {
 
@@ -344,8 +355,7 @@ public class ArtosRunner {
 			if (null != context.getBeforeTestSuite()) {
 				notifyBeforeTestSuiteMethodExecutionStarted(context.getBeforeTestSuite().getName(),
 						context.getPrePostRunnableObj().getName());
-				context.getBeforeTestSuite()
-						.invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(), context);
+				context.getBeforeTestSuiteInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyBeforeTestSuiteMethodExecutionFinished(context.getPrePostRunnableObj().getName());
 			}
 
@@ -374,23 +384,7 @@ public class ArtosRunner {
 						break;
 					}
 
-					// Print test case header and test plan in the log file
-					context.setCurrentTestCase(t);
-					notifyPrintTestPlan(t);
-
-					if (null != t.getDependencyList() && !t.getDependencyList().isEmpty()) {
-						if (!hasDependencyMet(testList, t)) {
-							context.getLogger().warn(FWStaticStore.ARTOS_TEST_DEPENDENCY_REQ_NOT_MET);
-							continue;
-						}
-					}
-
-					// if data provider is not specified
-					if (null == t.getDataProviderName() || "".equals(t.getDataProviderName())) {
-						runIndividualTest(t);
-					} else { // if data provider is specified
-						runParameterizedTest(t);
-					}
+					executeTestCase(dependencyGraph, t);
 
 					// If "drop following tests execution upon failure" is enabled then drop rest of
 					// test cases
@@ -407,8 +401,7 @@ public class ArtosRunner {
 			if (null != context.getAfterTestSuite()) {
 				notifyAfterTestSuiteMethodExecutionStarted(context.getAfterTestSuite().getName(),
 						context.getPrePostRunnableObj().getName());
-				context.getAfterTestSuite()
-						.invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(), context);
+				context.getAfterTestSuiteInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyAfterTestSuiteMethodExecutionFinished(context.getPrePostRunnableObj().getName());
 			}
 
@@ -444,64 +437,30 @@ public class ArtosRunner {
 //	}
 
 	/**
-	 * Dependency feature ensures that user specified test cases are executed prior
-	 * to executing target test case and pre-requisite test cases must be completed
-	 * with PASS status, otherwise dependency agreement will not be met.
+	 * Prints test plan, validates dependency and executes test case with or
+	 * without data provider
 	 * 
-	 * @param testList = test case list
-	 * @param t        = target test case
-	 * @return true if dependency agreement is met | false if dependency agreement
-	 *         is not met
+	 * @param dependencyGraph dependency graph of test case list
+	 * @param t               TestCase in format {@code TestObjectWrapper}
 	 */
-	private boolean hasDependencyMet(List<TestObjectWrapper> testList, TestObjectWrapper t) {
-
-		// Find execution index of target test case
-		int indexOfTest = testList.indexOf(t);
-
-		// Iterate through provided dependency list and ensure it meets an agreement
-		for (Class<? extends TestExecutable> dependencyClass : t.getDependencyList()) {
-
-			List<TestObjectWrapper> matchList;
-
-			// Find list dependency class in execution list, If we can not find list class
-			// in execution list then dependency agreement will not be met
-			{
-				matchList = testList.stream()
-						.filter(obj -> obj.getTestClassObject().getName().equals(dependencyClass.getName()))
-						.collect(Collectors.toList());
-				if (null == matchList || matchList.isEmpty()) {
-					return false;
-				}
-			}
-
-			TestObjectWrapper dependencyTestCaseObjectWrapper = matchList.get(0);
-			// If dependency test case execution index is same or greater than target
-			// test-case execution index then requirements will not be met
-			{
-				int matchIndex = testList.indexOf(dependencyTestCaseObjectWrapper);
-				if (matchIndex >= indexOfTest) {
-					return false;
-				}
+	private void executeTestCase(DependencyGraph<TestObjectWrapper> dependencyGraph, TestObjectWrapper t) {
+		// Print test case header and test plan in the log file
+		context.setCurrentTestCase(t);
+		notifyPrintTestPlan(t);
+
+		if (null != t.getDependencyList() && !t.getDependencyList().isEmpty()) {
+			if (!dependencyGraph.hasDependencyMet(t)) {
+				context.getLogger().warn(FWStaticStore.ARTOS_TEST_DEPENDENCY_REQ_NOT_MET);
+				return;
 			}
+		}
 
-			// If dependency test cases status is not PASS then dependency agreement will
-			// not be met
-			{
-				if (dependencyTestCaseObjectWrapper.getTestOutcomeList().stream()
-						.anyMatch(s -> (s.equals(TestStatus.FAIL)))) {
-					return false;
-				}
-				if (dependencyTestCaseObjectWrapper.getTestOutcomeList().stream()
-						.anyMatch(s -> (s.equals(TestStatus.KTF)))) {
-					return false;
-				}
-				if (dependencyTestCaseObjectWrapper.getTestOutcomeList().stream()
-						.anyMatch(s -> (s.equals(TestStatus.SKIP)))) {
-					return false;
-				}
-			}
+		// if data provider is not specified
+		if (null == t.getDataProviderName() || "".equals(t.getDataProviderName())) {
+			runIndividualTest(t);
+		} else { // if data provider is specified
+			runParameterizedTest(t);
 		}
-		return true;
 	}
 
 	/**
@@ -515,8 +474,7 @@ public class ArtosRunner {
 			// Run Pre Method prior to any test Execution
 			if (null != context.getBeforeTest()) {
 				notifyGlobalBeforeTestCaseMethodExecutionStarted(context.getBeforeTest().getName(), t);
-				context.getBeforeTest().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(),
-						context);
+				context.getBeforeTestInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyGlobalBeforeTestCaseMethodExecutionFinished(t);
 			}
 		} catch (Throwable e) {
@@ -559,8 +517,7 @@ public class ArtosRunner {
 			// Run Post Method prior to any test Execution
 			if (null != context.getAfterTest()) {
 				notifyGlobalAfterTestCaseMethodExecutionStarted(context.getAfterTest().getName(), t);
-				context.getAfterTest().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(),
-						context);
+				context.getAfterTestInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyGlobalAfterTestCaseMethodExecutionFinished(t);
 			}
 		} catch (Throwable e) {
@@ -572,6 +529,9 @@ public class ArtosRunner {
 			}
 		}
 
+		// Discard test case scoped test class instances
+		context.getTestInstanceProvider().testCaseFinished();
+
 		// ********************************************************************************************
 		// Generate Summary
 		// ********************************************************************************************
@@ -583,12 +543,13 @@ public class ArtosRunner {
 	 * execution returns an array of parameters. TestCase will be re-run using all
 	 * parameters available in the parameter array. If data provider method returns
 	 * empty array or null then test case will be executed only once with null
-	 * arguments.
+	 * arguments. Iterator, Iterable or Stream returned by data provider method is
+	 * consumed lazily, one row per test case execution.
 	 * 
 	 * @param t TestCase in format {@code TestObjectWrapper}
 	 */
 	private void runParameterizedTest(TestObjectWrapper t) {
-		Object[][] data;
+		Object data = null;
 		TestDataProvider dataProviderObj;
 
 		try {
@@ -604,13 +565,8 @@ public class ArtosRunner {
 
 			// Handle it because this executes method
 			try {
-				if (dataProviderObj.isStaticMethod()) {
-					data = (Object[][]) dataProviderObj.getMethod().invoke(null, context);
-				} else {
-					/* NonStatic data provider method needs an instance */
-					data = (Object[][]) dataProviderObj.getMethod().invoke(
-							dataProviderObj.getClassOfTheMethod().getDeclaredConstructor().newInstance(), context);
-				}
+				/* NonStatic data provider method is invoked on an instance provided by context */
+				data = dataProviderObj.getInvoker().invoke(dataProviderObj.getClassOfTheMethod(), context);
 			} catch (InvocationTargetException e) {
 				context.getLogger().info(FWStaticStore.ARTOS_DATAPROVIDER_FAIL_STAMP);
 				// Catch InvocationTargetException and return cause
@@ -626,13 +582,13 @@ public class ArtosRunner {
 				}
 			}
 
-			// If data provider method returns null or empty object then execute test with
-			// null parameter
-			if (null == data || data.length == 0) {
-				executeChildTest(t, new String[][] { {} }, 0);
-			} else {
-				for (int i = 0; i < data.length; i++) {
-					executeChildTest(t, data, i);
+			// Rows are consumed lazily, if data provider method returns null or empty object then execute test with null parameter
+			try (DataProviderRows rows = DataProviderRows.of(data)) {
+				if (!rows.hasNext()) {
+					executeChildTest(t, new Object[0], 0);
+				}
+				for (int i = 0; rows.hasNext(); i++) {
+					executeChildTest(t, rows.next(), i);
 				}
 			}
 		} catch (Exception e) {
@@ -657,7 +613,7 @@ public class ArtosRunner {
 		notifyTestCaseExecutionStarted(t);
 
 		// Run Unit tests (This is if test suite have unit tests)
-		new RunnerTestUnits(context, listenerList).runSingleThreadUnits(t);
+		new RunnerTestUnits(context, listeners).runSingleThreadUnits(t);
 
 		notifyTestCaseExecutionFinished(t);
 		// --------------------------------------------------------------------------------------------
@@ -672,30 +628,15 @@ public class ArtosRunner {
 	 * @throws Throwable Exception during test execution
 	 */
 	private void runTestWithTimeout(TestObjectWrapper t) throws Throwable {
-		ExecutorService executor = Executors.newSingleThreadExecutor();
-		Future<String> future = executor.submit(new Callable<String>() {
-			@Override
-			public String call() throws Exception {
-				runSimpleTest(t);
-				return "TEST CASE FINISHED WITHIN TIME";
-			}
-		});
-
 		try {
-			// System.out.println(future.get(t.getTestTimeout(), TimeUnit.MILLISECONDS));
-			future.get(t.getTestTimeout(), TimeUnit.MILLISECONDS);
+			TestTimeoutWatchdog.run(() -> {
+				runSimpleTest(t);
+				return null;
+			}, t.getTestTimeout());
 		} catch (TimeoutException e) {
-			future.cancel(true);
+			// Test case thread is abandoned, remaining units of the test case are not executed
 			context.setTestStatus(TestStatus.FAIL, "TEST CASE TIMED OUT");
-		} catch (ExecutionException e) {
-			future.cancel(true);
-			if (null == e.getCause()) {
-				// If no cause is listed then throw parent exception
-				throw e;
-			} else {
-				// If cause is listed then only throw cause
-				throw e.getCause();
-			}
+			context.getLogger().warn(e.getMessage());
 		}
 	}
 
@@ -705,22 +646,22 @@ public class ArtosRunner {
 	 * will be printed prior to test execution for user's benefit.
 	 * 
 	 * @param t          TestCase in format {@code TestObjectWrapper}
-	 * @param data       Array of parameters
-	 * @param arrayIndex Parameter array index
+	 * @param row        Row of parameters
+	 * @param rowIndex   Row index
 	 */
-	private void executeChildTest(TestObjectWrapper t, Object[][] data, int arrayIndex) {
-		String userInfo = "DataProvider(" + arrayIndex + ")  : ";
-		if (data[arrayIndex].length == 2) {
-			context.setParameterisedObject1(null == data[arrayIndex][0] ? null : data[arrayIndex][0]);
-			context.setParameterisedObject2(null == data[arrayIndex][1] ? null : data[arrayIndex][1]);
-			String firstType = (context.getParameterisedObject1().getClass().getSimpleName());
-			String secondType = (context.getParameterisedObject2().getClass().getSimpleName());
+	private void executeChildTest(TestObjectWrapper t, Object[] row, int rowIndex) {
+		String userInfo = "DataProvider(" + rowIndex + ")  : ";
+		if (row.length == 2) {
+			context.setParameterisedObject1(row[0]);
+			context.setParameterisedObject2(row[1]);
+			String firstType = (null == row[0] ? "null" : row[0].getClass().getSimpleName());
+			String secondType = (null == row[1] ? "null" : row[1].getClass().getSimpleName());
 			userInfo += "[" + firstType + "][" + secondType + "]";
 
-		} else if (data[arrayIndex].length == 1) {
-			context.setParameterisedObject1(null == data[arrayIndex][0] ? null : data[arrayIndex][0]);
+		} else if (row.length == 1) {
+			context.setParameterisedObject1(row[0]);
 			context.setParameterisedObject2(null);
-			String firstType = (context.getParameterisedObject1().getClass().getSimpleName());
+			String firstType = (null == row[0] ? "null" : row[0].getClass().getSimpleName());
 			userInfo += "[" + firstType + "][]";
 		} else {
 			context.setParameterisedObject1(null);
@@ -824,65 +765,186 @@ public class ArtosRunner {
 		}
 	}
 
-	@SuppressWarnings("unchecked")
-	private void runParallelThread(List<TestObjectWrapper> testList, TestContext context)
-			throws InstantiationException, IllegalAccessException, Exception {
+	/**
+	 * Executes test cases in parallel. Each test case is executed on a worker
+	 * thread using its own child {@code TestContext}, so test status, known to
+	 * fail information and parameters of one test case can not be overwritten by
+	 * another. Once test case is finished, test suite thread delivers recorded
+	 * events to listeners and merges child results into suite totals in test list
+	 * order.
+	 * 
+	 * <PRE>
+	 * - Test cases without dependency are submitted to worker pool straight away
+	 * - Test cases with dependency are submitted as soon as all pre-requisite test cases are finished
+	 * - Stop on fail and drop remaining tests upon failure will stop test cases which have not started yet
+	 * </PRE>
+	 * 
+	 * @param testList test case list
+	 * @param context  test suite context
+	 * @throws Exception Exception will be thrown if test execution failed
+	 */
+	private void runParallelThread(List<TestObjectWrapper> testList, TestContext context) throws Exception {
 		// ********************************************************************************************
-		// Test Start
+		// TestSuite Start
 		// ********************************************************************************************
 		notifyTestSuiteExecutionStarted(context.getPrePostRunnableObj().getName());
 		context.setTestSuiteStartTime(System.currentTimeMillis());
 		ScanTestSuite scan = new ScanTestSuite();
 		scan.scanForBeforeAfterMethods(context);
+		DependencyGraph<TestObjectWrapper> dependencyGraph = DependencyGraph.ofTestCases(testList);
 
-		// Run prior to each test suite
-		if (null != context.getBeforeTestSuite()) {
-			notifyBeforeTestSuiteMethodExecutionStarted(context.getBeforeTestSuite().getName(),
-					context.getPrePostRunnableObj().getName());
-			context.getBeforeTestSuite().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(),
-					context);
-			notifyBeforeTestSuiteMethodExecutionFinished(context.getPrePostRunnableObj().getName());
-		}
+		// Worker pool is shared across loops and test suites
+		ExecutorService service = TestWorkerPool.getExecutorService();
+		try {
 
-		// get loop count from testSuite
-		int loopCount = context.getTestSuite().getLoopCount();
+			// Run prior to each test suite
+			if (null != context.getBeforeTestSuite()) {
+				notifyBeforeTestSuiteMethodExecutionStarted(context.getBeforeTestSuite().getName(),
+						context.getPrePostRunnableObj().getName());
+				context.getBeforeTestSuiteInvoker().invoke(context.getPrePostRunnableObj(), context);
+				notifyBeforeTestSuiteMethodExecutionFinished(context.getPrePostRunnableObj().getName());
+			}
 
-		for (int index = 0; index < loopCount; index++) {
-			notifyTestExecutionLoopCount(index);
-			// --------------------------------------------------------------------------------------------
-			ExecutorService service = Executors.newFixedThreadPool(1000);
-			List<Future<Runnable>> futures = new ArrayList<>();
+			int loopCount = context.getTestSuite().getLoopCount();
 
-			for (TestObjectWrapper t : testList) {
+			// Run as many loop set via test script or main method
+			for (int index = 0; index < loopCount; index++) {
+				notifyTestExecutionLoopCount(index);
+				// --------------------------------------------------------------------------------------------
 
-				Future<?> f = service.submit(new runTestInParallel(context, t, scan));
-				futures.add((Future<Runnable>) f);
+				if (testList.isEmpty()) {
+					System.err.println("[WARNING] : Test case execution list is empty");
+					System.err.println("[HINT-01] : Test case class may not be meeting criteria");
+					System.err.println("[HINT-02] : Test cases may not be within the same package as TestRunner");
+					System.err.println("[HINT-03] : Test case(s) are filtered out due to group filtering");
+				}
 
+				AtomicBoolean stopExecution = new AtomicBoolean(false);
+				BlockingQueue<ParallelTestTask> completionQueue = new LinkedBlockingQueue<>();
+				ParallelTestTask[] taskArray = new ParallelTestTask[dependencyGraph.size()];
+				int[] pendingPrerequisiteCount = new int[dependencyGraph.size()];
+
+				// Release test cases which do not wait for any pre-requisite
+				for (int i = 0; i < dependencyGraph.size(); i++) {
+					pendingPrerequisiteCount[i] = dependencyGraph.getPrerequisites(i).size();
+					if (pendingPrerequisiteCount[i] == 0) {
+						taskArray[i] = new ParallelTestTask(dependencyGraph, i, context.createChildContext(), stopExecution, completionQueue);
+						service.submit(taskArray[i]);
+					}
+				}
+
+				int reportIndex = 0;
+				for (int finishedCount = 0; finishedCount < dependencyGraph.size(); finishedCount++) {
+					ParallelTestTask finishedTask = completionQueue.take();
+					finishedTask.finished = true;
+
+					// Release dependent test cases once all of their pre-requisites are finished
+					for (int dependent : dependencyGraph.getDependents(finishedTask.index)) {
+						if (--pendingPrerequisiteCount[dependent] == 0) {
+							taskArray[dependent] = new ParallelTestTask(dependencyGraph, dependent, context.createChildContext(), stopExecution,
+									completionQueue);
+							service.submit(taskArray[dependent]);
+						}
+					}
+
+					// Deliver events and merge results in test list order
+					while (reportIndex < taskArray.length && null != taskArray[reportIndex] && taskArray[reportIndex].finished) {
+						ParallelTestTask task = taskArray[reportIndex++];
+						task.recorder.replay(listeners);
+						context.mergeChildContext(task.childContext);
+
+						if (task.stopTriggered) {
+							if (task.t.isDropRemainingTestsUponFailure()) {
+								context.getLogger().warn(FWStaticStore.ARTOS_DROP_EXECUTION_UPON_TEST_FAIL_STAMP);
+							} else {
+								context.getLogger().warn(FWStaticStore.ARTOS_STOP_ON_FAIL_STAMP);
+							}
+						}
+					}
+				}
+				// --------------------------------------------------------------------------------------------
 			}
 
-			// wait for all tasks to complete before continuing
-			for (Future<Runnable> f : futures) {
-				f.get();
+			// Run at the end of each test suit
+			if (null != context.getAfterTestSuite()) {
+				notifyAfterTestSuiteMethodExecutionStarted(context.getAfterTestSuite().getName(),
+						context.getPrePostRunnableObj().getName());
+				context.getAfterTestSuiteInvoker().invoke(context.getPrePostRunnableObj(), context);
+				notifyAfterTestSuiteMethodExecutionFinished(context.getPrePostRunnableObj().getName());
 			}
 
-			// shut down the executor service so that this thread can exit
-			service.shutdownNow();
-			// --------------------------------------------------------------------------------------------
+		} catch (Throwable e) {
+			// Catch InvocationTargetException and return cause
+			if (null == e.getCause()) {
+				// Handle if any exception in pre-post runnable
+				UtilsFramework.writePrintStackTrace(context, e);
+				notifyTestSuiteException(e);
+			} else {
+				// Handle if any exception in pre-post runnable
+				UtilsFramework.writePrintStackTrace(context, e.getCause());
+				notifyTestSuiteException(e.getCause());
+			}
 		}
 
-		// Run at the end of each test suit
-		if (null != context.getAfterTestSuite()) {
-			notifyAfterTestSuiteMethodExecutionStarted(context.getAfterTestSuite().getName(),
-					context.getPrePostRunnableObj().getName());
-			context.getAfterTestSuite().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(),
-					context);
-			notifyAfterTestSuiteMethodExecutionFinished(context.getPrePostRunnableObj().getName());
-		}
+		// Set Test Finish Time
+		context.setTestSuiteFinishTime(System.currentTimeMillis());
+		notifyTestSuiteExecutionFinished(context.getPrePostRunnableObj().getName());
 		// ********************************************************************************************
-		// Test Finish
+		// TestSuite Finish
 		// ********************************************************************************************
 	}
 
+	/**
+	 * Runnable responsible for executing a single test case using child
+	 * {@code TestContext} during parallel execution
+	 */
+	private class ParallelTestTask implements Runnable {
+
+		final DependencyGraph<TestObjectWrapper> dependencyGraph;
+		final int index;
+		final TestObjectWrapper t;
+		final TestContext childContext;
+		final TestProgressRecorder recorder = new TestProgressRecorder();
+		final AtomicBoolean stopExecution;
+		final BlockingQueue<ParallelTestTask> completionQueue;
+		boolean stopTriggered = false;
+		// Only accessed by test suite thread
+		boolean finished = false;
+
+		ParallelTestTask(DependencyGraph<TestObjectWrapper> dependencyGraph, int index, TestContext childContext, AtomicBoolean stopExecution,
+				BlockingQueue<ParallelTestTask> completionQueue) {
+			this.dependencyGraph = dependencyGraph;
+			this.index = index;
+			this.t = dependencyGraph.get(index);
+			this.childContext = childContext;
+			this.stopExecution = stopExecution;
+			this.completionQueue = completionQueue;
+		}
+
+		@Override
+		public void run() {
+			try {
+				// Do not start test case if stop on fail or drop remaining tests upon failure is triggered
+				if (stopExecution.get()) {
+					return;
+				}
+
+				try {
+					new ArtosRunner(childContext, recorder).executeTestCase(dependencyGraph, t);
+				} catch (Throwable e) {
+					UtilsFramework.writePrintStackTrace(childContext, e);
+				}
+
+				if ((FWStaticStore.frameworkConfig.isStopOnFail() || t.isDropRemainingTestsUponFailure()) && childContext.getCurrentFailCount() > 0) {
+					stopTriggered = !stopExecution.getAndSet(true);
+				}
+			} finally {
+				// Test suite thread must be notified even if test case is not executed
+				completionQueue.add(this);
+			}
+		}
+	}
+
 	// ==================================================================================
 	// Register, deRegister and Notify Event Listeners
 	// ==================================================================================
@@ -893,7 +955,35 @@ public class ArtosRunner {
 	 * @param listener TestProgress listener
 	 */
 	protected void registerListener(TestProgress listener) {
-		listenerList.add(listener);
+		listeners.add(listener);
+	}
+
+	/**
+	 * Registers report listener with runner and context. If asynchronous
+	 * listeners are enabled then listener receives events on its own thread via
+	 * {@code AsyncTestProgressDispatcher}, otherwise listener is notified on test
+	 * thread.
+	 * 
+	 * @param listener TestProgress listener
+	 */
+	private void registerReportListener(TestProgress listener) {
+		if (FWStaticStore.frameworkConfig.isEnableAsyncListeners()) {
+			// Same dispatcher is used by runner and context so events keep their order
+			listener = new AsyncTestProgressDispatcher(listener);
+		}
+		registerListener(listener);
+		context.registerListener(listener);
+	}
+
+	/**
+	 * Waits until asynchronous listeners have processed all published events
+	 */
+	private void flushListeners() {
+		for (TestProgress listener : listeners.getListenerList()) {
+			if (listener instanceof AsyncTestProgressDispatcher) {
+				((AsyncTestProgressDispatcher) listener).flush();
+			}
+		}
 	}
 
 	/**
@@ -902,194 +992,139 @@ public class ArtosRunner {
 	 * @param listener listener
 	 */
 	protected void deRegisterListener(TestProgress listener) {
-		listenerList.remove(listener);
+		listeners.remove(listener);
 	}
 
 	/**
 	 * deResiters all listeners
 	 */
 	protected void deRegisterAllListener() {
-		listenerList.clear();
+		listeners.clear();
 	}
 
 	void notifyBeforeTestSuiteMethodExecutionStarted(String methodName, String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.BEFORE_TEST_SUITE_METHOD_EXECUTION_STARTED)) {
 			listener.beforeTestSuiteMethodExecutionStarted(methodName, testSuiteName);
 		}
 	}
 
 	void notifyBeforeTestSuiteMethodExecutionFinished(String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.BEFORE_TEST_SUITE_METHOD_EXECUTION_FINISHED)) {
 			listener.beforeTestSuiteMethodExecutionFinished(testSuiteName);
 		}
 	}
 
 	void notifyAfterTestSuiteMethodExecutionStarted(String methodName, String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.AFTER_TEST_SUITE_METHOD_EXECUTION_STARTED)) {
 			listener.afterTestSuiteMethodExecutionStarted(methodName, testSuiteName);
 		}
 	}
 
 	void notifyAfterTestSuiteMethodExecutionFinished(String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.AFTER_TEST_SUITE_METHOD_EXECUTION_FINISHED)) {
 			listener.afterTestSuiteMethodExecutionFinished(testSuiteName);
 		}
 	}
 
 	void notifyTestSuiteExecutionStarted(String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_SUITE_EXECUTION_STARTED)) {
 			listener.testSuiteExecutionStarted(testSuiteName);
 		}
 	}
 
 	void notifyTestSuiteExecutionFinished(String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_SUITE_EXECUTION_FINISHED)) {
 			listener.testSuiteExecutionFinished(testSuiteName);
 		}
 	}
 
 	void notifyPrintTestPlan(TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.PRINT_TEST_PLAN)) {
 			listener.printTestPlan(t);
 		}
 	}
 
 	void notifyGlobalBeforeTestCaseMethodExecutionStarted(String methodName, TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_STARTED)) {
 			listener.globalBeforeTestCaseMethodExecutionStarted(methodName, t);
 		}
 	}
 
 	void notifyGlobalBeforeTestCaseMethodExecutionFinished(TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_FINISHED)) {
 			listener.globalBeforeTestCaseMethodExecutionFinished(t);
 		}
 	}
 
 	void notifyGlobalAfterTestCaseMethodExecutionStarted(String methodName, TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_STARTED)) {
 			listener.globalAfterTestCaseMethodExecutionStarted(methodName, t);
 		}
 	}
 
 	void notifyGlobalAfterTestCaseMethodExecutionFinished(TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_FINISHED)) {
 			listener.globalAfterTestCaseMethodExecutionFinished(t);
 		}
 	}
 
 	void notifyTestCaseExecutionStarted(TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_CASE_EXECUTION_STARTED)) {
 			listener.testCaseExecutionStarted(t);
 		}
 	}
 
 	void notifyTestCaseExecutionFinished(TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_CASE_EXECUTION_FINISHED)) {
 			listener.testCaseExecutionFinished(t);
 		}
 	}
 
 	void notifyChildTestCaseExecutionStarted(TestObjectWrapper t, String userInfo) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.CHILD_TEST_CASE_EXECUTION_STARTED)) {
 			listener.childTestCaseExecutionStarted(t, userInfo);
 		}
 	}
 
 	void notifyChildTestCaseExecutionFinished(TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.CHILD_TEST_CASE_EXECUTION_FINISHED)) {
 			listener.childTestCaseExecutionFinished(t);
 		}
 	}
 
 	void notifyTestCaseExecutionSkipped(TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_CASE_EXECUTION_SKIPPED)) {
 			listener.testCaseExecutionSkipped(t);
 		}
 	}
 
 	void notifyTestExecutionLoopCount(int count) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_EXECUTION_LOOP_COUNT)) {
 			listener.testExecutionLoopCount(count);
 		}
 	}
 
 	void notifyTestSuiteException(Throwable e) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_SUITE_EXCEPTION)) {
 			listener.testSuiteException(e);
 		}
 	}
 
 	void notifyTestException(Throwable e) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_EXCEPTION)) {
 			listener.testException(e);
 		}
 	}
 
 	void notifyTestSuiteSummaryPrinting(String description) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_SUITE_SUMMARY_PRINTING)) {
 			listener.testSuiteSummaryPrinting(description);
 		}
 	}
 
 	void notifyTestSuiteFailureHighlight(String description) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_SUITE_FAILURE_HIGHLIGHT)) {
 			listener.testSuiteFailureHighlight(description);
 		}
 	}
 }
-
-class runTestInParallel implements Runnable {
-
-	ScanTestSuite scan;
-	TestContext context;
-	TestObjectWrapper t;
-
-	public runTestInParallel(TestContext context, TestObjectWrapper test, ScanTestSuite scan) {
-		this.context = context;
-		this.t = test;
-		this.scan = scan;
-	}
-
-	@Override
-	public void run() {
-		try {
-			// notifyTestExecutionStarted(t);
-			// Run Pre Method prior to any test Execution
-			context.getBeforeTest().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(),
-					context);
-
-			runIndividualTest(t);
-
-			// Run Post Method prior to any test Execution
-			context.getAfterTestSuite().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(),
-					context);
-			// notifyTestExecutionFinished(t);
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-	}
-
-	private void runIndividualTest(TestObjectWrapper t) {
-		t.setTestStartTime(System.currentTimeMillis());
-		try {
-			// Set Default Known to fail information
-			context.setKnownToFail(t.isKTF(), t.getBugTrackingNumber());
-
-			// --------------------------------------------------------------------------------------------
-			// get test objects new instance and cast it to TestExecutable type
-			((TestExecutable) t.getTestClassObject().getDeclaredConstructor().newInstance()).execute(context);
-			// --------------------------------------------------------------------------------------------
-
-		} catch (Exception e) {
-			context.setTestStatus(TestStatus.FAIL, e.getMessage());
-			UtilsFramework.writePrintStackTrace(context, e);
-		} catch (Throwable ex) {
-			context.setTestStatus(TestStatus.FAIL, ex.getMessage());
-			UtilsFramework.writePrintStackTrace(context, ex);
-		} finally {
-			t.setTestFinishTime(System.currentTimeMillis());
-			context.generateTestSummary(t);
-		}
-	}
-}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.artos.framework.Enums.TestProgressEvent;
+import com.artos.interfaces.TestProgress;
+
+/**
+ * Delivers test progress events to a single listener on a dedicated consumer thread, so time spent by listener is taken off the test
+ * thread. Events are immutable snapshots of event arguments and are delivered in the same order as they were published.
+ * 
+ * <PRE>
+ * - Events are held in bounded ring buffer, publisher waits if listener falls behind by more than buffer capacity
+ * - Consumer thread is started upon first event and stops once it has been idle for a while, so dispatcher does not hold a thread between test suites
+ * - {@link #flush()} acts as a barrier, it returns once every event published before the call is delivered
+ * - Exception thrown by listener is printed and does not stop delivery of remaining events
+ * </PRE>
+ * 
+ * Listener must only rely on event arguments, listener which reads mutable test state (for example test unit start and finish time) while
+ * handling an event must not be dispatched asynchronously.
+ */
+class AsyncTestProgressDispatcher extends TestProgressEventPublisher {
+
+	private static final int BUFFER_CAPACITY = 8192;
+	private static final long CONSUMER_KEEP_ALIVE_MILLIS = 60_000;
+
+	private final TestProgress listener;
+	private final BlockingQueue<Consumer<TestProgress>> ringBuffer = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+	// Guarded by this
+	private Thread consumer = null;
+
+	/**
+	 * Default constructor
+	 * 
+	 * @param listener listener which receives events on consumer thread
+	 */
+	AsyncTestProgressDispatcher(TestProgress listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Returns listener which events are delivered to
+	 * 
+	 * @return {@code TestProgress} listener
+	 */
+	TestProgress getListener() {
+		return listener;
+	}
+
+	@Override
+	protected void publish(TestProgressEvent type, Consumer<TestProgress> event) {
+		enqueue(event);
+	}
+
+	private void enqueue(Consumer<TestProgress> event) {
+		// Timeout watchdog may interrupt test thread, event must not be lost because of it
+		boolean interrupted = false;
+		while (true) {
+			try {
+				ringBuffer.put(event);
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		startConsumerIfRequired();
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Waits until every event published prior to this call is delivered to the listener
+	 */
+	void flush() {
+		synchronized (this) {
+			// Listener publishing an event while handling an event would wait for itself
+			if (Thread.currentThread() == consumer) {
+				return;
+			}
+		}
+
+		CountDownLatch barrier = new CountDownLatch(1);
+		enqueue(target -> barrier.countDown());
+
+		boolean interrupted = false;
+		while (true) {
+			try {
+				barrier.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private synchronized void startConsumerIfRequired() {
+		if (null == consumer) {
+			consumer = new Thread(this::consume, "artos-listener-" + listener.getClass().getSimpleName());
+			consumer.setDaemon(true);
+			consumer.start();
+		}
+	}
+
+	private void consume() {
+		while (true) {
+			Consumer<TestProgress> event;
+			try {
+				event = ringBuffer.poll(CONSUMER_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				event = null;
+			}
+
+			if (null == event) {
+				// Publisher starts new consumer if event arrives after this point
+				synchronized (this) {
+					if (ringBuffer.isEmpty()) {
+						consumer = null;
+						return;
+					}
+				}
+				continue;
+			}
+
+			try {
+				event.accept(listener);
+			} catch (Throwable e) {
+				e.printStackTrace();
+			}
+		}
+	}
+}
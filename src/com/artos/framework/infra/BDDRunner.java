@@ -28,9 +28,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.artos.framework.Enums.Importance;
+import com.artos.framework.Enums.TestProgressEvent;
 import com.artos.framework.Enums.TestStatus;
 import com.artos.framework.FWStaticStore;
 import com.artos.framework.listener.ExtentReportListener;
@@ -48,8 +52,9 @@ import com.artos.utils.UtilsFramework;
 public class BDDRunner {
 
 	TestContext context;
-	List<TestProgress> listenerList = new ArrayList<TestProgress>();
+	ListenerDispatchTable listeners = new ListenerDispatchTable();
 	Map<String, TestUnitObjectWrapper> stepDefinitionMap = null;
+	BDDStepMatcher stepMatcher = null;
 
 	// ==================================================================================
 	// Constructor (Starting point of framework)
@@ -80,28 +85,40 @@ public class BDDRunner {
 		// Register extent reporting listener
 		if (FWStaticStore.frameworkConfig.isEnableExtentReport()) {
 			ExtentReportListener extentListener = new ExtentReportListener(context);
-			registerListener(extentListener);
-			context.registerListener(extentListener);
+			registerReportListener(extentListener);
 		}
 
 		// Register UDPReport listener
 		if (FWStaticStore.frameworkConfig.isEnableDashBoard()) {
 			UDPReportListener udpListener = new UDPReportListener(context);
-			registerListener(udpListener);
-			context.registerListener(udpListener);
+			registerReportListener(udpListener);
 		}
 
 		// Register external listener
 		if (null != externalListnerClassList) {
 			for (Class<?> listener : externalListnerClassList) {
 				TestProgress externalListener = (TestProgress) listener.getDeclaredConstructor().newInstance();
-				registerListener(externalListener);
-				context.registerListener(externalListener);
+				registerReportListener(externalListener);
 			}
 		}
 
 	}
 
+	/**
+	 * Constructor used by parallel scenario execution. Runner executes scenario(s)
+	 * using child context and records listener events, so test suite thread can
+	 * deliver them to registered listeners once scenario is finished.
+	 * 
+	 * @param childContext scenario TestContext created for the parallel task
+	 * @param recorder     listener which records test progress events
+	 * @see TestContext#createScenarioContext()
+	 */
+	private BDDRunner(TestContext childContext, TestProgressRecorder recorder) {
+		this.context = childContext;
+		registerListener(recorder);
+		childContext.registerListener(recorder);
+	}
+
 	// ==================================================================================
 	// Runner Method
 	// ==================================================================================
@@ -119,14 +136,14 @@ public class BDDRunner {
 		List<BDDScenario> scenarioList = new ArrayList<>();
 		// Get all featureFileObjectWrapper
 		List<BDDFeatureObjectWrapper> featureObjectWrapperList = context.getTestSuite().getFeatureFiles();
-		// Find unitGroupList
-		List<String> groupList = context.getTestSuite().getTestUnitGroupList();
+		// Find unitGroupList, compiled once for all feature files
+		GroupMatcher groupMatcher = new GroupMatcher(context.getTestSuite().getTestUnitGroupList());
 
 		// Iterate through each of the provided feature file and find scenarios
 		for (BDDFeatureObjectWrapper featureObj : featureObjectWrapperList) {
 			// Parse file, If any issue then stop execution
 			File featureFile = featureObj.getFeatureFile();
-			BDDFeatureFileParser featureFileParser = new BDDFeatureFileParser(featureFile, groupList);
+			BDDFeatureFileParser featureFileParser = new BDDFeatureFileParser(featureFile, groupMatcher);
 			// print(featureFileParser.getScenarioList());
 
 			// get feature scenarios which contains all methods filtered by the group list
@@ -144,6 +161,7 @@ public class BDDRunner {
 
 		// Transform TestUnitList into TestUnitObjectWrapper Map
 		this.stepDefinitionMap = new BDDTransformToTestObjectWrapper(context).getStepDefinitionMap();
+		this.stepMatcher = new BDDStepMatcher(stepDefinitionMap);
 
 		// find and populate all methods against test steps
 		mapTestStepMethods(scenarioList);
@@ -180,16 +198,22 @@ public class BDDRunner {
 
 		for (BDDScenario sc : scenarioList) {
 			for (BDDStep st : sc.getSteplist()) {
-				String description = st.getStepDescription().trim().replaceAll("\\\".*?\\\"", "\"\"");
-
-				TestUnitObjectWrapper unit = stepDefinitionMap.get(description);
-				if (null == unit) {
+				// Binding also extracts in-line parameters of the step
+				BDDStepMatcher.Match match = stepMatcher.match(st.getStepDescription());
+				if (null == match) {
 					missingStepMethods = true;
 					// System.err.println("[Warning] Step \"" + st.getStepDescription() + "\" can
 					// not be found in a step file");
 					sb.append(buildMockFunction(mockMethodNames, st.getStepDescription().trim()));
+					st.setUnit(null);
+					continue;
+				}
+				st.setUnit(match.getUnit());
+				st.setInlineParameterList(match.getInlineParameterList());
+				st.setInlineGlobalKeyList(match.getInlineGlobalKeyList());
+				if (match.hasGlobalReference()) {
+					st.setHasGlobalReference(true);
 				}
-				st.setUnit(unit);
 			}
 		}
 
@@ -279,11 +303,7 @@ public class BDDRunner {
 
 		LogWrapper logger = context.getLogger();
 
-		// TODO : Parallel running test case can not work with current
-		// architecture so should not enable this feature until solution is
-		// found
-		boolean enableParallelTestRunning = false;
-		if (enableParallelTestRunning) {
+		if (FWStaticStore.frameworkConfig.isEnableParallelTestExecution()) {
 			runParallelThread(scenarioList, context);
 		} else {
 			runSingleThread(scenarioList, context);
@@ -337,6 +357,9 @@ public class BDDRunner {
 		// HighLight Failed Test Cases
 		highlightFailure(scenarioList);
 
+		// Listener events must be delivered before test suite is considered finished
+		flushListeners();
+
 		// to release a thread lock
 		context.getThreadLatch().countDown();
 	}
@@ -452,8 +475,7 @@ public class BDDRunner {
 			if (null != context.getBeforeTestSuite()) {
 				notifyBeforeTestSuiteMethodExecutionStarted(context.getBeforeTestSuite().getName(),
 						context.getPrePostRunnableObj().getName());
-				context.getBeforeTestSuite()
-						.invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(), context);
+				context.getBeforeTestSuiteInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyBeforeTestSuiteMethodExecutionFinished(context.getPrePostRunnableObj().getName());
 			}
 
@@ -466,9 +488,6 @@ public class BDDRunner {
 				// Go through each test case and execute it
 				for (BDDScenario scenario : scenarioList) {
 
-					// reset parameterised index
-					context.setTestParameterIndex(0);
-
 					// If "stop on fail" is enabled then stop test execution
 					if (FWStaticStore.frameworkConfig.isStopOnFail()) {
 						if (context.getCurrentFailCount() > 0) {
@@ -476,19 +495,7 @@ public class BDDRunner {
 						}
 					}
 
-					// Print test case header and test plan in the log file
-					context.setCurrentTestScenario(scenario);
-					notifyPrintTestPlan(scenario);
-
-					notifyTestCaseExecutionStarted(scenario);
-					// if global data table is not specified
-					if (null == scenario.getGlobalDataTable() || scenario.getGlobalDataTable().isEmpty()) {
-						runIndividualTest(scenario);
-					} else { // if data provider is specified
-						runParameterizedTest(scenario);
-					}
-					notifyTestCaseExecutionFinished(scenario);
-
+					runScenario(scenario, -1);
 				}
 				// --------------------------------------------------------------------------------------------
 			}
@@ -497,8 +504,7 @@ public class BDDRunner {
 			if (null != context.getAfterTestSuite()) {
 				notifyAfterTestSuiteMethodExecutionStarted(context.getAfterTestSuite().getName(),
 						context.getPrePostRunnableObj().getName());
-				context.getAfterTestSuite()
-						.invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(), context);
+				context.getAfterTestSuiteInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyAfterTestSuiteMethodExecutionFinished(context.getPrePostRunnableObj().getName());
 			}
 
@@ -523,6 +529,36 @@ public class BDDRunner {
 		// ********************************************************************************************
 	}
 
+	/**
+	 * Responsible for execution of a scenario. If scenario has global data table
+	 * then all rows are executed, unless specific row is requested.
+	 * 
+	 * @param scenario     test scenario
+	 * @param dataTableRow global data table row to be executed, -1 to execute all
+	 *                     rows
+	 */
+	private void runScenario(BDDScenario scenario, int dataTableRow) {
+		// reset parameterised index
+		context.setTestParameterIndex(0);
+
+		// Print test case header and test plan in the log file
+		context.setCurrentTestScenario(scenario);
+		notifyPrintTestPlan(scenario);
+
+		notifyTestCaseExecutionStarted(scenario);
+		// if global data table is not specified
+		if (null == scenario.getGlobalDataTable() || scenario.getGlobalDataTable().isEmpty()) {
+			runIndividualTest(scenario);
+		} else if (dataTableRow < 0) { // if data provider is specified
+			runParameterizedTest(scenario);
+		} else {
+			context.setStepParameter(new HashMap<>());
+			context.setTestParameterIndex(dataTableRow);
+			executeChildTest(scenario);
+		}
+		notifyTestCaseExecutionFinished(scenario);
+	}
+
 	/**
 	 * Responsible for execution individual test scenario
 	 * 
@@ -534,8 +570,7 @@ public class BDDRunner {
 			// Run Pre Method prior to any scenario Execution
 			if (null != context.getBeforeTest()) {
 				notifyGlobalBeforeTestCaseMethodExecutionStarted(context.getBeforeTest().getName(), scenario);
-				context.getBeforeTest().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(),
-						context);
+				context.getBeforeTestInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyGlobalBeforeTestCaseMethodExecutionFinished(scenario);
 			}
 		} catch (Throwable e) {
@@ -553,7 +588,7 @@ public class BDDRunner {
 
 		try {
 
-			scenario.setTestStartTime(System.currentTimeMillis());
+			context.setScenarioStartTime(scenario, System.currentTimeMillis());
 
 			runSimpleTest(scenario);
 
@@ -562,7 +597,7 @@ public class BDDRunner {
 			UtilsFramework.writePrintStackTrace(context, e);
 			notifyTestException(e);
 		} finally {
-			scenario.setTestFinishTime(System.currentTimeMillis());
+			context.setScenarioFinishTime(scenario, System.currentTimeMillis());
 		}
 
 		// ********************************************************************************************
@@ -573,8 +608,7 @@ public class BDDRunner {
 			// Run Post Method prior to any test Execution
 			if (null != context.getAfterTest()) {
 				notifyGlobalAfterTestCaseMethodExecutionStarted(context.getAfterTest().getName(), scenario);
-				context.getAfterTest().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(),
-						context);
+				context.getAfterTestInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyGlobalAfterTestCaseMethodExecutionFinished(scenario);
 			}
 		} catch (Throwable e) {
@@ -586,6 +620,9 @@ public class BDDRunner {
 			}
 		}
 
+		// Discard test case (scenario) scoped class instances
+		context.getTestInstanceProvider().testCaseFinished();
+
 		// ********************************************************************************************
 		// Generate Summary
 		// ********************************************************************************************
@@ -639,7 +676,7 @@ public class BDDRunner {
 		// --------------------------------------------------------------------------------------------
 
 		// Run Unit tests (This is if test suite have unit tests)
-		new BDDRunnerTestSteps(context, listenerList).runSingleThreadSteps(scenario);
+		new BDDRunnerTestSteps(context, listeners).runSingleThreadSteps(scenario);
 
 		// --------------------------------------------------------------------------------------------
 	}
@@ -683,17 +720,192 @@ public class BDDRunner {
 		// ********************************************************************************************
 	}
 
-	private void runParallelThread(List<BDDScenario> testScenarioList, TestContext context)
-			throws InstantiationException, IllegalAccessException, Exception {
+	/**
+	 * Runs scenarios in parallel using shared {@link TestWorkerPool}. Each
+	 * scenario and each global data table row of a scenario outline is executed
+	 * using its own child {@code TestContext}, so test status and step parameters
+	 * are not shared. Background is re-run prior to each scenario (or row) using
+	 * the same child context. Listener events and results are delivered by test
+	 * suite thread in scenario order.
+	 * 
+	 * <PRE>
+	 * - Scenario outline rows are reported as individual scenarios
+	 * - Stop on fail will stop scenarios which have not started yet
+	 * </PRE>
+	 * 
+	 * @param scenarioList scenario list
+	 * @param context      test suite context
+	 * @throws Exception Exception will be thrown if test execution failed
+	 */
+	private void runParallelThread(List<BDDScenario> scenarioList, TestContext context) throws Exception {
 		// ********************************************************************************************
-		// Test Start
+		// TestSuite Start
 		// ********************************************************************************************
+		notifyTestSuiteExecutionStarted(context.getPrePostRunnableObj().getName());
+		context.setTestSuiteStartTime(System.currentTimeMillis());
+		ScanTestSuite scan = new ScanTestSuite();
+		scan.scanForBeforeAfterMethods(context);
+
+		// Worker pool is shared across loops and test suites
+		ExecutorService service = TestWorkerPool.getExecutorService();
+		try {
+
+			// Run prior to each test suite
+			if (null != context.getBeforeTestSuite()) {
+				notifyBeforeTestSuiteMethodExecutionStarted(context.getBeforeTestSuite().getName(),
+						context.getPrePostRunnableObj().getName());
+				context.getBeforeTestSuiteInvoker().invoke(context.getPrePostRunnableObj(), context);
+				notifyBeforeTestSuiteMethodExecutionFinished(context.getPrePostRunnableObj().getName());
+			}
+
+			int loopCount = context.getTestSuite().getLoopCount();
+
+			// Run as many loop set via test script or main method
+			for (int index = 0; index < loopCount; index++) {
+				notifyTestExecutionLoopCount(index);
+				// --------------------------------------------------------------------------------------------
+				AtomicBoolean stopExecution = new AtomicBoolean(false);
+				List<ParallelScenarioTask> taskList = createParallelScenarioTasks(scenarioList, stopExecution);
+				List<Future<?>> futureList = new ArrayList<>(taskList.size());
+				for (ParallelScenarioTask task : taskList) {
+					futureList.add(service.submit(task));
+				}
+
+				// Deliver events and merge results in scenario order
+				for (int i = 0; i < taskList.size(); i++) {
+					futureList.get(i).get();
+					ParallelScenarioTask task = taskList.get(i);
+					task.recorder.replay(listeners);
+					context.mergeScenarioContext(task.childContext);
+				}
+				// --------------------------------------------------------------------------------------------
+			}
+
+			// Run at the end of each test suit
+			if (null != context.getAfterTestSuite()) {
+				notifyAfterTestSuiteMethodExecutionStarted(context.getAfterTestSuite().getName(),
+						context.getPrePostRunnableObj().getName());
+				context.getAfterTestSuiteInvoker().invoke(context.getPrePostRunnableObj(), context);
+				notifyAfterTestSuiteMethodExecutionFinished(context.getPrePostRunnableObj().getName());
+			}
 
+		} catch (Throwable e) {
+			// Catch InvocationTargetException and return cause
+			if (null == e.getCause()) {
+				// Handle if any exception in pre-post runnable
+				UtilsFramework.writePrintStackTrace(context, e);
+				notifyTestSuiteException(e);
+			} else {
+				// Handle if any exception in pre-post runnable
+				UtilsFramework.writePrintStackTrace(context, e.getCause());
+				notifyTestSuiteException(e.getCause());
+			}
+		}
+
+		// Set Test Finish Time
+		context.setTestSuiteFinishTime(System.currentTimeMillis());
+		notifyTestSuiteExecutionFinished(context.getPrePostRunnableObj().getName());
 		// ********************************************************************************************
-		// Test Finish
+		// TestSuite Finish
 		// ********************************************************************************************
 	}
 
+	/**
+	 * Splits scenario list into tasks which can run in parallel. Parser places
+	 * background in front of each scenario, so background is attached to the
+	 * scenario which follows it. Scenario outline is split into one task per
+	 * global data table row.
+	 * 
+	 * @param scenarioList  scenario list
+	 * @param stopExecution flag shared by all tasks of the test loop
+	 * @return list of tasks in scenario order
+	 */
+	private List<ParallelScenarioTask> createParallelScenarioTasks(List<BDDScenario> scenarioList,
+			AtomicBoolean stopExecution) {
+		List<ParallelScenarioTask> taskList = new ArrayList<>();
+		BDDScenario background = null;
+
+		for (BDDScenario scenario : scenarioList) {
+			if (scenario.isBackground()) {
+				// Background which is not followed by a scenario is executed on its own
+				if (null != background) {
+					taskList.add(new ParallelScenarioTask(null, background, -1, context.createScenarioContext(), stopExecution));
+				}
+				background = scenario;
+				continue;
+			}
+
+			int rowCount = 0;
+			if (null != scenario.getGlobalDataTable() && !scenario.getGlobalDataTable().isEmpty()) {
+				rowCount = scenario.getGlobalDataTable().values().iterator().next().size();
+			}
+
+			if (rowCount == 0) {
+				taskList.add(new ParallelScenarioTask(background, scenario, -1, context.createScenarioContext(), stopExecution));
+			} else {
+				for (int row = 0; row < rowCount; row++) {
+					taskList.add(new ParallelScenarioTask(background, scenario, row, context.createScenarioContext(), stopExecution));
+				}
+			}
+			background = null;
+		}
+
+		if (null != background) {
+			taskList.add(new ParallelScenarioTask(null, background, -1, context.createScenarioContext(), stopExecution));
+		}
+		return taskList;
+	}
+
+	/**
+	 * Runnable responsible for executing a single scenario (or a single global
+	 * data table row of scenario outline) together with its background using
+	 * child {@code TestContext} during parallel execution
+	 */
+	private class ParallelScenarioTask implements Runnable {
+
+		final BDDScenario background;
+		final BDDScenario scenario;
+		final int dataTableRow;
+		final TestContext childContext;
+		final TestProgressRecorder recorder = new TestProgressRecorder();
+		final AtomicBoolean stopExecution;
+
+		ParallelScenarioTask(BDDScenario background, BDDScenario scenario, int dataTableRow, TestContext childContext,
+				AtomicBoolean stopExecution) {
+			this.background = background;
+			this.scenario = scenario;
+			this.dataTableRow = dataTableRow;
+			this.childContext = childContext;
+			this.stopExecution = stopExecution;
+		}
+
+		@Override
+		public void run() {
+			try {
+				BDDRunner runner = new BDDRunner(childContext, recorder);
+				if (null != background) {
+					runTaskScenario(runner, background, -1);
+				}
+				runTaskScenario(runner, scenario, dataTableRow);
+			} catch (Throwable e) {
+				UtilsFramework.writePrintStackTrace(childContext, e);
+			}
+		}
+
+		private void runTaskScenario(BDDRunner runner, BDDScenario scenario, int dataTableRow) {
+			// Do not start scenario if stop on fail is triggered
+			if (stopExecution.get()) {
+				return;
+			}
+
+			runner.runScenario(scenario, dataTableRow);
+
+			if (FWStaticStore.frameworkConfig.isStopOnFail() && childContext.getCurrentFailCount() > 0) {
+				stopExecution.set(true);
+			}
+		}
+	}
+
 	// ==================================================================================
 	// Register, deRegister and Notify Event Listeners
 	// ==================================================================================
@@ -704,7 +916,35 @@ public class BDDRunner {
 	 * @param listener {@link TestProgress} listener
 	 */
 	protected void registerListener(TestProgress listener) {
-		listenerList.add(listener);
+		listeners.add(listener);
+	}
+
+	/**
+	 * Registers report listener with runner and context. If asynchronous
+	 * listeners are enabled then listener receives events on its own thread via
+	 * {@code AsyncTestProgressDispatcher}, otherwise listener is notified on test
+	 * thread.
+	 * 
+	 * @param listener {@link TestProgress} listener
+	 */
+	private void registerReportListener(TestProgress listener) {
+		if (FWStaticStore.frameworkConfig.isEnableAsyncListeners()) {
+			// Same dispatcher is used by runner and context so events keep their order
+			listener = new AsyncTestProgressDispatcher(listener);
+		}
+		registerListener(listener);
+		context.registerListener(listener);
+	}
+
+	/**
+	 * Waits until asynchronous listeners have processed all published events
+	 */
+	private void flushListeners() {
+		for (TestProgress listener : listeners.getListenerList()) {
+			if (listener instanceof AsyncTestProgressDispatcher) {
+				((AsyncTestProgressDispatcher) listener).flush();
+			}
+		}
 	}
 
 	/**
@@ -713,138 +953,138 @@ public class BDDRunner {
 	 * @param listener {@link TestProgress} listener
 	 */
 	protected void deRegisterListener(TestProgress listener) {
-		listenerList.remove(listener);
+		listeners.remove(listener);
 	}
 
 	/**
 	 * De-register all listeners
 	 */
 	protected void deRegisterAllListener() {
-		listenerList.clear();
+		listeners.clear();
 	}
 
 	void notifyBeforeTestSuiteMethodExecutionStarted(String methodName, String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.BEFORE_TEST_SUITE_METHOD_EXECUTION_STARTED)) {
 			listener.beforeTestSuiteMethodExecutionStarted(methodName, testSuiteName);
 		}
 	}
 
 	void notifyBeforeTestSuiteMethodExecutionFinished(String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.BEFORE_TEST_SUITE_METHOD_EXECUTION_FINISHED)) {
 			listener.beforeTestSuiteMethodExecutionFinished(testSuiteName);
 		}
 	}
 
 	void notifyAfterTestSuiteMethodExecutionStarted(String methodName, String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.AFTER_TEST_SUITE_METHOD_EXECUTION_STARTED)) {
 			listener.afterTestSuiteMethodExecutionStarted(methodName, testSuiteName);
 		}
 	}
 
 	void notifyAfterTestSuiteMethodExecutionFinished(String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.AFTER_TEST_SUITE_METHOD_EXECUTION_FINISHED)) {
 			listener.afterTestSuiteMethodExecutionFinished(testSuiteName);
 		}
 	}
 
 	void notifyTestSuiteExecutionStarted(String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_SUITE_EXECUTION_STARTED)) {
 			listener.testSuiteExecutionStarted(testSuiteName);
 		}
 	}
 
 	void notifyTestSuiteExecutionFinished(String testSuiteName) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_SUITE_EXECUTION_FINISHED)) {
 			listener.testSuiteExecutionFinished(testSuiteName);
 		}
 	}
 
 	void notifyPrintTestPlan(BDDScenario scenario) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.PRINT_TEST_PLAN)) {
 			listener.printTestPlan(scenario);
 		}
 	}
 
 	void notifyGlobalBeforeTestCaseMethodExecutionStarted(String methodName, BDDScenario scenario) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_STARTED)) {
 			listener.globalBeforeTestCaseMethodExecutionStarted(methodName, scenario);
 		}
 	}
 
 	void notifyGlobalBeforeTestCaseMethodExecutionFinished(BDDScenario scenario) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_FINISHED)) {
 			listener.globalBeforeTestCaseMethodExecutionFinished(scenario);
 		}
 	}
 
 	void notifyGlobalAfterTestCaseMethodExecutionStarted(String methodName, BDDScenario scenario) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_STARTED)) {
 			listener.globalAfterTestCaseMethodExecutionStarted(methodName, scenario);
 		}
 	}
 
 	void notifyGlobalAfterTestCaseMethodExecutionFinished(BDDScenario scenario) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_FINISHED)) {
 			listener.globalAfterTestCaseMethodExecutionFinished(scenario);
 		}
 	}
 
 	void notifyTestCaseExecutionStarted(BDDScenario scenario) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_CASE_EXECUTION_STARTED)) {
 			listener.testCaseExecutionStarted(scenario);
 		}
 	}
 
 	void notifyTestCaseExecutionFinished(BDDScenario scenario) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_CASE_EXECUTION_FINISHED)) {
 			listener.testCaseExecutionFinished(scenario);
 		}
 	}
 
 	void notifyChildTestCaseExecutionStarted(BDDScenario scenario, String userInfo) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.CHILD_TEST_CASE_EXECUTION_STARTED)) {
 			listener.childTestCaseExecutionStarted(scenario, userInfo);
 		}
 	}
 
 	void notifyChildTestCaseExecutionFinished(BDDScenario scenario) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.CHILD_TEST_CASE_EXECUTION_FINISHED)) {
 			listener.childTestCaseExecutionFinished(scenario);
 		}
 	}
 
 	// void notifyTestCaseExecutionSkipped(TestScenario scenario) {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.testCaseExecutionSkipped(scenario);
 	// }
 	// }
 
 	void notifyTestExecutionLoopCount(int count) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_EXECUTION_LOOP_COUNT)) {
 			listener.testExecutionLoopCount(count);
 		}
 	}
 
 	void notifyTestSuiteException(Throwable e) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_SUITE_EXCEPTION)) {
 			listener.testSuiteException(e);
 		}
 	}
 
 	void notifyTestException(Throwable e) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_EXCEPTION)) {
 			listener.testException(e);
 		}
 	}
 
 	void notifyTestSuiteSummaryPrinting(String description) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_SUITE_SUMMARY_PRINTING)) {
 			listener.testSuiteSummaryPrinting(description);
 		}
 	}
 
 	void notifyTestSuiteFailureHighlight(String description) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_SUITE_FAILURE_HIGHLIGHT)) {
 			listener.testSuiteFailureHighlight(description);
 		}
 	}
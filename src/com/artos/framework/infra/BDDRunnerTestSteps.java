@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import com.artos.framework.Enums.TestProgressEvent;
 import com.artos.framework.Enums.TestStatus;
 import com.artos.framework.FWStaticStore;
 import com.artos.interfaces.TestProgress;
@@ -42,17 +43,17 @@ public class BDDRunnerTestSteps {
 
 	TestContext context;
 	BDDScenario scenario;
-	List<TestProgress> listenerList;
+	ListenerDispatchTable listeners;
 
 	/**
 	 * Constructor
 	 * 
 	 * @param context      {@link TestContext}
-	 * @param listenerList List of {@link TestProgress} listener
+	 * @param listeners registered {@link TestProgress} listeners
 	 */
-	protected BDDRunnerTestSteps(TestContext context, List<TestProgress> listenerList) {
+	protected BDDRunnerTestSteps(TestContext context, ListenerDispatchTable listeners) {
 		this.context = context;
-		this.listenerList = listenerList;
+		this.listeners = listeners;
 	}
 
 	/**
@@ -140,14 +141,16 @@ public class BDDRunnerTestSteps {
 	 * @param step TestUnit in format {@code TestStep}
 	 */
 	private void runIndividualUnitTest(BDDStep step) {
+		// Unit scoped class instances are used from here until unit is finished
+		context.getTestInstanceProvider().unitStarted();
+
 		try {
 			// Run global before method prior to each test unit execution
 			if (null != context.getBeforeTestUnit()) {
 				notifyGlobalBeforeTestUnitMethodExecutionStarted(context.getBeforeTestUnit().getName(), step);
 				// notifyGlobalBeforeTestUnitMethodExecutionStarted(step.getStepAction() + " " +
 				// step.getStepDescription(), step);
-				context.getBeforeTestUnit()
-						.invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(), context);
+				context.getBeforeTestUnitInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyGlobalBeforeTestUnitMethodExecutionFinished(step);
 			}
 		} catch (Throwable e) {
@@ -162,7 +165,7 @@ public class BDDRunnerTestSteps {
 			injectGlobalTableValues();
 			injectInlineTagValues(step);
 
-			step.getUnit().setTestUnitStartTime(System.currentTimeMillis());
+			context.setStepStartTime(step.getUnit(), System.currentTimeMillis());
 
 			runSimpleStep(step);
 
@@ -170,7 +173,7 @@ public class BDDRunnerTestSteps {
 		} catch (Throwable e) {
 			processTestUnitException(step.getUnit(), e);
 		} finally {
-			step.getUnit().setTestUnitFinishTime(System.currentTimeMillis());
+			context.setStepFinishTime(step.getUnit(), System.currentTimeMillis());
 		}
 		// ********************************************************************************************
 		// TestStep Finish
@@ -182,8 +185,7 @@ public class BDDRunnerTestSteps {
 				notifyGlobalAfterTestUnitMethodExecutionStarted(context.getAfterTestUnit().getName(), step);
 				// notifyGlobalAfterTestUnitMethodExecutionStarted(step.getStepAction() + " " +
 				// step.getStepDescription(), step);
-				context.getAfterTestUnit()
-						.invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(), context);
+				context.getAfterTestUnitInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyGlobalAfterTestUnitMethodExecutionFinished(step);
 			}
 
@@ -196,8 +198,7 @@ public class BDDRunnerTestSteps {
 					notifyGlobalAfterFailedUnitMethodExecutionStarted(context.getAfterFailedUnit().getName(), step);
 					// notifyGlobalAfterFailedUnitMethodExecutionStarted(step.getStepAction() + " "
 					// + step.getStepDescription(), step);
-					context.getAfterFailedUnit()
-							.invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(), context);
+					context.getAfterFailedUnitInvoker().invoke(context.getPrePostRunnableObj(), context);
 					notifyGlobalAfterFailedUnitMethodExecutionFinished(step);
 				}
 			}
@@ -205,6 +206,9 @@ public class BDDRunnerTestSteps {
 			printException(e);
 		}
 
+		// Discard unit (step) scoped class instances
+		context.getTestInstanceProvider().unitFinished();
+
 		// ********************************************************************************************
 		// Generate Summary
 		// ********************************************************************************************
@@ -267,8 +271,7 @@ public class BDDRunnerTestSteps {
 
 			// Run single unit
 			TestUnitObjectWrapper unit = step.getUnit();
-			unit.getTestUnitMethod().invoke(
-					unit.getTestUnitMethod().getDeclaringClass().getDeclaredConstructor().newInstance(), context);
+			unit.getTestUnitInvoker().invoke(unit.getTestUnitMethod().getDeclaringClass(), context);
 
 			notifyTestUnitExecutionFinished(step);
 
@@ -336,11 +339,11 @@ public class BDDRunnerTestSteps {
 		// This is to look after in-line tag and in-line global tag
 		for (int i = 0; i < step.getInlineParameterList().size(); i++) {
 
-			// Get In-line tag
+			// Get In-line tag, global data table key is resolved when step is bound
 			String value = step.getInlineParameterList().get(i);
+			String globalDataTableKey = step.getInlineGlobalKeyList().get(i);
 
-			if (value.startsWith("<") && value.endsWith(">")) {
-				String globalDataTableKey = value.replaceFirst("<", "").replaceAll(">", "").trim();
+			if (null != globalDataTableKey) {
 				// get global data table value
 				List<String> globalValueList = scenario.getGlobalDataTable().get(globalDataTableKey);
 
@@ -481,121 +484,121 @@ public class BDDRunnerTestSteps {
 	// ==================================================================================
 
 	void notifyGlobalBeforeTestUnitMethodExecutionStarted(String methodName, BDDStep step) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_STARTED)) {
 			listener.globalBeforeTestUnitMethodExecutionStarted(methodName, step);
 		}
 	}
 
 	void notifyGlobalBeforeTestUnitMethodExecutionFinished(BDDStep step) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_FINISHED)) {
 			listener.globalBeforeTestUnitMethodExecutionFinished(step);
 		}
 	}
 
 	void notifyGlobalAfterTestUnitMethodExecutionStarted(String methodName, BDDStep step) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_STARTED)) {
 			listener.globalAfterTestUnitMethodExecutionStarted(methodName, step);
 		}
 	}
 
 	void notifyGlobalAfterTestUnitMethodExecutionFinished(BDDStep step) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_FINISHED)) {
 			listener.globalAfterTestUnitMethodExecutionFinished(step);
 		}
 	}
 
 	void notifyGlobalAfterFailedUnitMethodExecutionStarted(String methodName, BDDStep step) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_STARTED)) {
 			listener.globalAfterFailedUnitMethodExecutionStarted(methodName, step);
 		}
 	}
 
 	void notifyGlobalAfterFailedUnitMethodExecutionFinished(BDDStep step) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_FINISHED)) {
 			listener.globalAfterFailedUnitMethodExecutionFinished(step);
 		}
 	}
 
 	// void notifyLocalBeforeTestUnitMethodExecutionStarted(TestScenario scenario,
 	// TestStep step) {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.localBeforeTestUnitMethodExecutionStarted(scenario, step);
 	// }
 	// }
 
 	// void notifyLocalBeforeTestUnitMethodExecutionFinished(TestStep step) {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.localBeforeTestUnitMethodExecutionFinished(step);
 	// }
 	// }
 
 	// void notifyLocalAfterTestUnitMethodExecutionStarted(TestScenario scenario,
 	// TestStep step) {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.localAfterTestUnitMethodExecutionStarted(scenario, step);
 	// }
 	// }
 
 	// void notifyLocalAfterTestUnitMethodExecutionFinished(TestStep step) {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.localAfterTestUnitMethodExecutionFinished(step);
 	// }
 	// }
 
 	void notifyTestUnitExecutionStarted(BDDStep step) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_UNIT_EXECUTION_STARTED)) {
 			listener.testUnitExecutionStarted(step);
 		}
 	}
 
 	void notifyTestUnitExecutionFinished(BDDStep step) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_UNIT_EXECUTION_FINISHED)) {
 			listener.testUnitExecutionFinished(step);
 		}
 	}
 
 	// private void notifyChildTestUnitExecutionStarted(BDDScenario scenario,
 	// BDDStep step, String userInfo) {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.childTestUnitExecutionStarted(scenario, step, userInfo);
 	// }
 	// }
 
 	// private void notifyChildTestUnitExecutionFinished(BDDStep step) {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.childTestUnitExecutionFinished(step);
 	// }
 	// }
 
 	// void notifyLocalBeforeTestCaseMethodExecutionStarted(String methodName,
 	// TestScenario scenario) {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.localBeforeTestCaseMethodExecutionStarted(methodName, scenario);
 	// }
 	// }
 
 	// void notifyLocalBeforeTestCaseMethodExecutionFinished(TestScenario scenario)
 	// {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.localBeforeTestCaseMethodExecutionFinished(scenario);
 	// }
 	// }
 
 	// void notifyLocalAfterTestCaseMethodExecutionStarted(String methodName,
 	// TestScenario scenario) {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.localAfterTestCaseMethodExecutionStarted(methodName, scenario);
 	// }
 	// }
 
 	// void notifyLocalAfterTestCaseMethodExecutionFinished(TestScenario scenario) {
-	// for (TestProgress listener : listenerList) {
+	// for (TestProgress listener : listeners.getListenerList()) {
 	// listener.localAfterTestCaseMethodExecutionFinished(scenario);
 	// }
 	// }
 
 	void notifyPrintTestUnitPlan(BDDStep step) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.PRINT_TEST_UNIT_PLAN)) {
 			listener.printTestUnitPlan(step);
 		}
 	}
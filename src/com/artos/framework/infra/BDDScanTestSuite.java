@@ -28,10 +28,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
-import org.reflections.util.ConfigurationBuilder;
-
 import com.artos.annotation.ExpectedException;
 import com.artos.annotation.Group;
 import com.artos.annotation.KnownToFail;
@@ -49,7 +45,7 @@ import javassist.Modifier;
 public class BDDScanTestSuite {
 
 	TestContext context;
-	Reflections reflection;
+	ScanIndex scanIndex;
 	Map<String, TestUnitObjectWrapper> stepDefinitionsMap = new HashMap<>();
 
 	/**
@@ -73,13 +69,12 @@ public class BDDScanTestSuite {
 	 */
 	private void scan(String packageName) {
 
-		// Find all annotation
-//		reflection = new Reflections(packageName, new MethodAnnotationsScanner(), new TypeAnnotationsScanner(),	new SubTypesScanner(false));
-		reflection = new Reflections(new ConfigurationBuilder().forPackage(packageName).setScanners(Scanners.MethodsAnnotated, Scanners.TypesAnnotated, Scanners.SubTypes.filterResultsBy(s -> true)));
+		// Find all annotation, stored scan index is used if enabled and class files have not changed
+		scanIndex = ScanIndex.load(packageName);
 
 		// GetAllStepDefMethods => Filter Public methods => Get UpperCase StepDef =>
 		// Store it
-		reflection.getMethodsAnnotatedWith(StepDefinition.class).stream()
+		scanIndex.getStepDefinitionMethodList().stream()
 				.filter(method -> Modifier.isPublic(method.getModifiers())).forEach(method -> {
 
 					Unit unit = method.getAnnotation(Unit.class);
@@ -38,6 +38,7 @@ public class BDDStep {
 	private LinkedHashMap<String, List<String>> localDataTable = new LinkedHashMap<>();
 	private TestUnitObjectWrapper unit;
 	private List<String> inlineParameterList = new ArrayList<>();
+	private List<String> inlineGlobalKeyList = new ArrayList<>();
 	private boolean hasGlobalReference = false;
 
 	/**
@@ -126,6 +127,26 @@ public class BDDStep {
 		this.inlineParameterList = inlineParameterList;
 	}
 
+	/**
+	 * Return global data table key for each inline parameter, key is null if
+	 * inline parameter is not a global reference
+	 * 
+	 * @return global data table key list
+	 */
+	public List<String> getInlineGlobalKeyList() {
+		return inlineGlobalKeyList;
+	}
+
+	/**
+	 * Set global data table key for each inline parameter
+	 * 
+	 * @param inlineGlobalKeyList global data table key list, null entry for
+	 *                            inline parameter which is not a global reference
+	 */
+	public void setInlineGlobalKeyList(List<String> inlineGlobalKeyList) {
+		this.inlineGlobalKeyList = inlineGlobalKeyList;
+	}
+
 	/**
 	 * Return boolean confirming global reference
 	 * 
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds step description to step definition. All step definition keys are compiled once into a character trie, where every {@code ""} in the
+ * key becomes a parameter edge. Step description is walked through the trie once, text between quotes follows parameter edge and is captured as
+ * inline parameter at the same time. Outcome is cached per distinct step description because same steps repeat across scenarios.
+ * 
+ * <PRE>
+ * Step definition key : I have "" apples in "" basket
+ * Step description    : I have "5" apples in "&lt;colour&gt;" basket
+ * Inline parameters   : [5, &lt;colour&gt;], global data table keys : [null, colour]
+ * </PRE>
+ */
+class BDDStepMatcher {
+
+	private static final Match NO_MATCH = new Match(null, Collections.emptyList());
+
+	private final Node root = new Node();
+	private final Map<String, Match> matchCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Compiles step definitions
+	 * 
+	 * @param stepDefinitionMap step definition key and associated {@link TestUnitObjectWrapper}
+	 */
+	BDDStepMatcher(Map<String, TestUnitObjectWrapper> stepDefinitionMap) {
+		for (Entry<String, TestUnitObjectWrapper> entry : stepDefinitionMap.entrySet()) {
+			add(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void add(String stepDefinitionKey, TestUnitObjectWrapper unit) {
+		String key = stepDefinitionKey.trim();
+		Node node = root;
+		for (int i = 0; i < key.length(); i++) {
+			char c = key.charAt(i);
+			if (c == '"' && i + 1 < key.length() && key.charAt(i + 1) == '"') {
+				if (null == node.parameterChild) {
+					node.parameterChild = new Node();
+				}
+				node = node.parameterChild;
+				i++;
+			} else {
+				node = node.children.computeIfAbsent(c, k -> new Node());
+			}
+		}
+		node.unit = unit;
+	}
+
+	/**
+	 * Finds step definition for given step description
+	 * 
+	 * @param stepDescription step description without Gherkin keyword
+	 * @return match, or null if step definition does not exist
+	 */
+	Match match(String stepDescription) {
+		Match match = matchCache.computeIfAbsent(stepDescription, this::walk);
+		return match == NO_MATCH ? null : match;
+	}
+
+	private Match walk(String stepDescription) {
+		String description = stepDescription.trim();
+		List<String> parameterList = new ArrayList<>();
+		Node node = root;
+		int i = 0;
+		while (null != node && i < description.length()) {
+			char c = description.charAt(i);
+			int closingQuote = c == '"' ? description.indexOf('"', i + 1) : -1;
+			if (closingQuote != -1) {
+				// Quoted text is a parameter irrespective of its content
+				parameterList.add(description.substring(i + 1, closingQuote));
+				node = node.parameterChild;
+				i = closingQuote + 1;
+			} else {
+				node = node.children.get(c);
+				i++;
+			}
+		}
+		if (null == node || null == node.unit) {
+			return NO_MATCH;
+		}
+		return new Match(node.unit, parameterList);
+	}
+
+	/**
+	 * Outcome of step binding, immutable and shared between steps with the same description
+	 */
+	static class Match {
+		private final TestUnitObjectWrapper unit;
+		private final List<String> inlineParameterList;
+		private final List<String> inlineGlobalKeyList;
+		private final boolean hasGlobalReference;
+
+		private Match(TestUnitObjectWrapper unit, List<String> inlineParameterList) {
+			this.unit = unit;
+			this.inlineParameterList = Collections.unmodifiableList(inlineParameterList);
+
+			// Value in <> refers to global data table column
+			List<String> globalKeyList = new ArrayList<>(inlineParameterList.size());
+			boolean globalReference = false;
+			for (String value : inlineParameterList) {
+				if (value.startsWith("<") && value.endsWith(">")) {
+					globalKeyList.add(value.replaceFirst("<", "").replaceAll(">", "").trim());
+					globalReference = true;
+				} else {
+					globalKeyList.add(null);
+				}
+			}
+			this.inlineGlobalKeyList = Collections.unmodifiableList(globalKeyList);
+			this.hasGlobalReference = globalReference;
+		}
+
+		TestUnitObjectWrapper getUnit() {
+			return unit;
+		}
+
+		List<String> getInlineParameterList() {
+			return inlineParameterList;
+		}
+
+		List<String> getInlineGlobalKeyList() {
+			return inlineGlobalKeyList;
+		}
+
+		boolean hasGlobalReference() {
+			return hasGlobalReference;
+		}
+	}
+
+	private static class Node {
+		final Map<Character, Node> children = new HashMap<>(4);
+		Node parameterChild = null;
+		TestUnitObjectWrapper unit = null;
+	}
+}
@@ -44,6 +44,7 @@ public class CliProcessor {
 
 	private static File testScriptFile = null;
 	private static String profile = null;
+	private static int threadCount = 0;
 
 	/**
 	 * Default constructor
@@ -76,6 +77,8 @@ public class CliProcessor {
 				.desc("Project Contributors name").build();
 		Option testProfile = Option.builder("p").required(false).longOpt("profile").desc("Test Configuration Profile")
 				.hasArg().build();
+		Option parallelThreadCount = Option.builder("n").required(false).longOpt("threadcount")
+				.desc("Number of worker threads for parallel test execution : --threadcount=8").hasArg().build();
 
 		// Add Option
 		Options options = new Options();
@@ -84,6 +87,7 @@ public class CliProcessor {
 		options.addOption(help);
 		options.addOption(contributors);
 		options.addOption(testProfile);
+		options.addOption(parallelThreadCount);
 
 		// Process Options
 		try {
@@ -109,6 +113,13 @@ public class CliProcessor {
 			if (line.hasOption("profile")) {
 				profile = line.getOptionValue("profile");
 			}
+			if (line.hasOption("threadcount")) {
+				try {
+					threadCount = Integer.parseInt(line.getOptionValue("threadcount").trim());
+				} catch (NumberFormatException e) {
+					System.err.println("Invalid thread count : " + line.getOptionValue("threadcount"));
+				}
+			}
 			// Store test script path if provided
 			if (line.hasOption("testscript")) {
 				PrintWriter pw = new PrintWriter(System.out);
@@ -169,4 +180,22 @@ public class CliProcessor {
 		CliProcessor.profile = profile;
 	}
 
+	/**
+	 * Get number of worker threads for parallel test execution
+	 * 
+	 * @return thread count, 0 if not provided
+	 */
+	public static int getThreadCount() {
+		return threadCount;
+	}
+
+	/**
+	 * Set number of worker threads for parallel test execution
+	 * 
+	 * @param threadCount thread count
+	 */
+	protected static void setThreadCount(int threadCount) {
+		CliProcessor.threadCount = threadCount;
+	}
+
 }
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.BaseStream;
+
+import com.artos.exception.InvalidDataException;
+
+/**
+ * Lazily iterates over rows returned by a {@code DataProvider} method. Rows are consumed one at a time while test is executed, so data provider
+ * can generate rows on demand and complete data set is never held in memory.
+ * 
+ * <PRE>
+ * Supported data provider return types
+ * - Object[][]
+ * - Iterator&lt;?&gt;
+ * - Iterable&lt;?&gt; (Example : List&lt;Object[]&gt;)
+ * - Stream&lt;?&gt; (Stream is closed once all rows are consumed or test execution is stopped)
+ * 
+ * Each row is expected to be an Object[], any other object is considered a row with single parameter. Null row is considered a row without parameters.
+ * </PRE>
+ */
+class DataProviderRows implements Iterator<Object[]>, AutoCloseable {
+
+	private final Iterator<?> iterator;
+	private final BaseStream<?, ?> stream;
+
+	private DataProviderRows(Iterator<?> iterator, BaseStream<?, ?> stream) {
+		this.iterator = iterator;
+		this.stream = stream;
+	}
+
+	/**
+	 * Wraps object returned by data provider method
+	 * 
+	 * @param data object returned by data provider method
+	 * @return {@code DataProviderRows}
+	 * @throws InvalidDataException if data provider returned unsupported type
+	 */
+	static DataProviderRows of(Object data) throws InvalidDataException {
+		if (null == data) {
+			return new DataProviderRows(Collections.emptyIterator(), null);
+		}
+		if (data instanceof Object[][]) {
+			return new DataProviderRows(Arrays.asList((Object[][]) data).iterator(), null);
+		}
+		if (data instanceof Iterator) {
+			return new DataProviderRows((Iterator<?>) data, null);
+		}
+		if (data instanceof Iterable) {
+			return new DataProviderRows(((Iterable<?>) data).iterator(), null);
+		}
+		if (data instanceof BaseStream) {
+			BaseStream<?, ?> stream = (BaseStream<?, ?>) data;
+			return new DataProviderRows(stream.iterator(), stream);
+		}
+		throw new InvalidDataException("DataProvider return type is not supported : " + data.getClass().getName()
+				+ " [HINT: return Object[][], Iterator, Iterable or Stream]");
+	}
+
+	@Override
+	public boolean hasNext() {
+		return iterator.hasNext();
+	}
+
+	@Override
+	public Object[] next() {
+		Object row = iterator.next();
+		if (null == row) {
+			return new Object[0];
+		}
+		if (row instanceof Object[]) {
+			return (Object[]) row;
+		}
+		return new Object[] { row };
+	}
+
+	/**
+	 * Closes underlying stream if data provider returned a stream
+	 */
+	@Override
+	public void close() {
+		if (null != stream) {
+			stream.close();
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.artos.framework.Enums.TestStatus;
+
+/**
+ * Dependency graph of test cases or test units. Dependencies are resolved once
+ * using an index map, so dependency agreement can be validated without
+ * searching execution list and dependent items can be released as soon as
+ * their pre-requisites are finished.
+ * 
+ * <PRE>
+ * Dependency can only be resolved if
+ * - Pre-requisite is present in execution list
+ * - Pre-requisite execution index is less than dependent execution index
+ * Because edges always point to an earlier index, graph can not contain a cycle.
+ * </PRE>
+ * 
+ * @param <T> {@code TestObjectWrapper} or {@code TestUnitObjectWrapper}
+ */
+class DependencyGraph<T> {
+
+	private final List<T> itemList;
+	private final Function<T, List<TestStatus>> outcomeFunction;
+	private final Map<T, Integer> indexMap = new HashMap<>();
+	// Execution index of resolved pre-requisites for each item
+	private final List<List<Integer>> prerequisiteList = new ArrayList<>();
+	// Execution index of items which depend on each item
+	private final List<List<Integer>> dependentList = new ArrayList<>();
+	// true if all declared dependencies could be resolved
+	private final boolean[] resolved;
+
+	/**
+	 * Builds dependency graph
+	 * 
+	 * @param itemList           test case or test unit list in execution order
+	 * @param keyFunction        function which returns name used as dependency
+	 *                           reference
+	 * @param dependencyFunction function which returns dependency names of an
+	 *                           item
+	 * @param outcomeFunction    function which returns outcome list of an item
+	 */
+	DependencyGraph(List<T> itemList, Function<T, String> keyFunction, Function<T, List<String>> dependencyFunction,
+			Function<T, List<TestStatus>> outcomeFunction) {
+		this.itemList = itemList;
+		this.outcomeFunction = outcomeFunction;
+		this.resolved = new boolean[itemList.size()];
+
+		// First occurrence wins if same name appears more than once
+		Map<String, Integer> keyMap = new HashMap<>();
+		for (int i = 0; i < itemList.size(); i++) {
+			T item = itemList.get(i);
+			indexMap.putIfAbsent(item, i);
+			keyMap.putIfAbsent(keyFunction.apply(item), i);
+			prerequisiteList.add(new ArrayList<>());
+			dependentList.add(new ArrayList<>());
+		}
+
+		for (int i = 0; i < itemList.size(); i++) {
+			resolved[i] = true;
+			List<String> dependencies = dependencyFunction.apply(itemList.get(i));
+			if (null == dependencies) {
+				continue;
+			}
+			for (String dependency : dependencies) {
+				Integer matchIndex = keyMap.get(dependency);
+				if (null == matchIndex || matchIndex >= i) {
+					resolved[i] = false;
+					continue;
+				}
+				if (!prerequisiteList.get(i).contains(matchIndex)) {
+					prerequisiteList.get(i).add(matchIndex);
+					dependentList.get(matchIndex).add(i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns number of items in the graph
+	 * 
+	 * @return item count
+	 */
+	int size() {
+		return itemList.size();
+	}
+
+	/**
+	 * Returns item at given execution index
+	 * 
+	 * @param index execution index
+	 * @return item
+	 */
+	T get(int index) {
+		return itemList.get(index);
+	}
+
+	/**
+	 * Returns execution index of resolved pre-requisites
+	 * 
+	 * @param index execution index of dependent item
+	 * @return pre-requisite execution index list
+	 */
+	List<Integer> getPrerequisites(int index) {
+		return Collections.unmodifiableList(prerequisiteList.get(index));
+	}
+
+	/**
+	 * Returns execution index of items which depend on given item
+	 * 
+	 * @param index execution index of pre-requisite item
+	 * @return dependent execution index list
+	 */
+	List<Integer> getDependents(int index) {
+		return Collections.unmodifiableList(dependentList.get(index));
+	}
+
+	/**
+	 * Dependency agreement is met if all dependencies are resolved and all
+	 * pre-requisites are completed with PASS status. Must only be called once
+	 * pre-requisites are finished.
+	 * 
+	 * @param item target test case or test unit
+	 * @return true if dependency agreement is met | false if dependency agreement
+	 *         is not met
+	 */
+	boolean hasDependencyMet(T item) {
+		Integer index = indexMap.get(item);
+		if (null == index || !resolved[index]) {
+			return false;
+		}
+		for (int prerequisite : prerequisiteList.get(index)) {
+			for (TestStatus status : outcomeFunction.apply(itemList.get(prerequisite))) {
+				if (status == TestStatus.FAIL || status == TestStatus.KTF || status == TestStatus.SKIP) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Builds dependency graph of test cases
+	 * 
+	 * @param testList test case list in execution order
+	 * @return dependency graph
+	 */
+	static DependencyGraph<TestObjectWrapper> ofTestCases(List<TestObjectWrapper> testList) {
+		return new DependencyGraph<>(testList, t -> t.getTestClassObject().getName(), t -> {
+			if (null == t.getDependencyList()) {
+				return null;
+			}
+			List<String> dependencies = new ArrayList<>();
+			for (Class<?> cls : t.getDependencyList()) {
+				dependencies.add(cls.getName());
+			}
+			return dependencies;
+		}, TestObjectWrapper::getTestOutcomeList);
+	}
+
+	/**
+	 * Builds dependency graph of test units
+	 * 
+	 * @param unitList test unit list in execution order
+	 * @return dependency graph
+	 */
+	static DependencyGraph<TestUnitObjectWrapper> ofTestUnits(List<TestUnitObjectWrapper> unitList) {
+		return new DependencyGraph<>(unitList, unit -> unit.getTestUnitMethod().getName(), TestUnitObjectWrapper::getDependencyList,
+				TestUnitObjectWrapper::getTestUnitOutcomeList);
+	}
+}
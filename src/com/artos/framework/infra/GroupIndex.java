@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+/**
+ * Inverted index from group name to tests which belong to the group. Each distinct group is matched once against user defined groups and tests
+ * of approved groups are collected, instead of matching every group of every test.
+ * 
+ * @param <T> test object type
+ */
+class GroupIndex<T> {
+
+	private final List<T> testList;
+	private final Map<String, BitSet> groupIndex = new HashMap<>();
+
+	/**
+	 * Builds index from test list
+	 * 
+	 * @param testList      ordered test list
+	 * @param groupFunction returns groups of a test
+	 */
+	GroupIndex(List<T> testList, Function<T, List<String>> groupFunction) {
+		this.testList = testList;
+		for (int i = 0; i < testList.size(); i++) {
+			List<String> groupList = groupFunction.apply(testList.get(i));
+			if (null == groupList) {
+				continue;
+			}
+			for (String group : groupList) {
+				if (null != group) {
+					groupIndex.computeIfAbsent(group, k -> new BitSet()).set(i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns tests which belong to at least one approved group, in the same order as index was built with
+	 * 
+	 * @param matcher user defined group matcher
+	 * @return list of selected tests
+	 */
+	List<T> select(GroupMatcher matcher) {
+		BitSet selected = new BitSet(testList.size());
+		for (Entry<String, BitSet> entry : groupIndex.entrySet()) {
+			if (matcher.matchesGroup(entry.getKey())) {
+				selected.or(entry.getValue());
+			}
+		}
+
+		List<T> selectedList = new ArrayList<>(selected.cardinality());
+		for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+			selectedList.add(testList.get(i));
+		}
+		return selectedList;
+	}
+}
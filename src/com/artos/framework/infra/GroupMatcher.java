@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Decides if test case, test unit or scenario belongs to any user defined group. User defined group is either group name or a regular expression.
+ * Group expressions are compiled once and outcome is remembered per group name, so matching cost depends on number of groups test belongs to
+ * rather than number of user defined groups.
+ */
+public class GroupMatcher {
+
+	private static final String REGEX_META_CHARS = "\\[](){}.*+?^$|";
+
+	private final Set<String> literalGroupSet = new HashSet<>();
+	private final List<Pattern> patternList = new ArrayList<>();
+	private final Map<String, Boolean> groupOutcomeCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Compiles user defined group list
+	 * 
+	 * @param refGroupList list of user defined group (list is made up of group name or regular expression), null matches nothing
+	 */
+	public GroupMatcher(List<String> refGroupList) {
+		if (null == refGroupList) {
+			return;
+		}
+		for (String refGroup : refGroupList) {
+			if (null == refGroup) {
+				continue;
+			}
+			literalGroupSet.add(refGroup);
+			// Plain group name can only match itself, literal lookup is sufficient
+			if (refGroup.chars().noneMatch(c -> REGEX_META_CHARS.indexOf(c) >= 0)) {
+				continue;
+			}
+			try {
+				patternList.add(Pattern.compile(refGroup));
+			} catch (PatternSyntaxException e) {
+				// Not a regular expression (for example "*"), group name match is still applied
+			}
+		}
+	}
+
+	/**
+	 * Validate if test belongs to any user defined group(s)
+	 * 
+	 * @param testGroupList list of group test belongs to
+	 * @return true if test belongs to at least one of the user defined groups, false if test does not belong to any user defined groups
+	 */
+	public boolean matches(List<String> testGroupList) {
+		if (null == testGroupList) {
+			return false;
+		}
+		for (String testGroup : testGroupList) {
+			if (matchesGroup(testGroup)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Validate if group name is equal to or matches any of the user defined group(s)
+	 * 
+	 * @param testGroup group name
+	 * @return true if group is approved
+	 */
+	public boolean matchesGroup(String testGroup) {
+		if (null == testGroup) {
+			return false;
+		}
+		if (literalGroupSet.contains(testGroup)) {
+			return true;
+		}
+		if (patternList.isEmpty()) {
+			return false;
+		}
+		return groupOutcomeCache.computeIfAbsent(testGroup, group -> patternList.stream().anyMatch(p -> p.matcher(group).matches()));
+	}
+}
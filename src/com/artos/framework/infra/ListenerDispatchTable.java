@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import com.artos.annotation.ListenerInterest;
+import com.artos.framework.Enums.TestProgressEvent;
+import com.artos.interfaces.TestProgress;
+
+/**
+ * Holds registered {@code TestProgress} listeners together with a dispatch table which lists interested listeners per event, so notify
+ * methods only call listeners which consume the event. Table is re-computed when listener is registered or removed, which happens rarely
+ * compared to event delivery.
+ * 
+ * @see ListenerInterest
+ */
+class ListenerDispatchTable {
+
+	private static final TestProgress[] NO_LISTENER = new TestProgress[0];
+
+	// Interest is read from annotation once per listener class
+	private static final ClassValue<EnumSet<TestProgressEvent>> INTEREST = new ClassValue<EnumSet<TestProgressEvent>>() {
+		@Override
+		protected EnumSet<TestProgressEvent> computeValue(Class<?> listenerClass) {
+			ListenerInterest interest = listenerClass.getAnnotation(ListenerInterest.class);
+			if (null == interest) {
+				return EnumSet.allOf(TestProgressEvent.class);
+			}
+			EnumSet<TestProgressEvent> events = EnumSet.noneOf(TestProgressEvent.class);
+			Collections.addAll(events, interest.value());
+			return events;
+		}
+	};
+
+	private final List<TestProgress> listenerList = new ArrayList<>();
+	private final Map<TestProgressEvent, TestProgress[]> dispatchTable = new EnumMap<>(TestProgressEvent.class);
+
+	/**
+	 * Register new listener
+	 * 
+	 * @param listener TestProgress listener
+	 */
+	void add(TestProgress listener) {
+		listenerList.add(listener);
+		rebuild();
+	}
+
+	/**
+	 * Removes specific listener
+	 * 
+	 * @param listener TestProgress listener
+	 */
+	void remove(TestProgress listener) {
+		listenerList.remove(listener);
+		rebuild();
+	}
+
+	/**
+	 * Removes all listeners
+	 */
+	void clear() {
+		listenerList.clear();
+		rebuild();
+	}
+
+	/**
+	 * Returns listeners interested in given event, in registration order. Returned array must not be modified.
+	 * 
+	 * @param event test progress event
+	 * @return array of listeners
+	 */
+	TestProgress[] get(TestProgressEvent event) {
+		TestProgress[] listeners = dispatchTable.get(event);
+		return null == listeners ? NO_LISTENER : listeners;
+	}
+
+	/**
+	 * Returns all registered listeners in registration order
+	 * 
+	 * @return unmodifiable list of listeners
+	 */
+	List<TestProgress> getListenerList() {
+		return Collections.unmodifiableList(listenerList);
+	}
+
+	/**
+	 * Returns events consumed by the listener. {@code AsyncTestProgressDispatcher} takes interest of the listener it delivers events to.
+	 * 
+	 * @param listener TestProgress listener
+	 * @return set of events
+	 */
+	static EnumSet<TestProgressEvent> getInterest(TestProgress listener) {
+		if (listener instanceof AsyncTestProgressDispatcher) {
+			return getInterest(((AsyncTestProgressDispatcher) listener).getListener());
+		}
+		return INTEREST.get(listener.getClass());
+	}
+
+	private void rebuild() {
+		dispatchTable.clear();
+		for (TestProgressEvent event : TestProgressEvent.values()) {
+			List<TestProgress> interested = new ArrayList<>();
+			for (TestProgress listener : listenerList) {
+				if (getInterest(listener).contains(event)) {
+					interested.add(listener);
+				}
+			}
+			if (!interested.isEmpty()) {
+				dispatchTable.put(event, interested.toArray(new TestProgress[0]));
+			}
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Pre-bound invoker for test unit, before/after and data provider methods. {@code MethodHandle} is looked up once when method is scanned and
+ * adapted to common {@code (Object, TestContext)Object} signature, so invocation skips reflective access and argument checks which
+ * {@code Method.invoke()} performs on every call. Instance on which method is invoked is obtained from {@code TestInstanceProvider} of the
+ * context, so instance lifecycle is decided by framework configuration.
+ * 
+ * <PRE>
+ * - Exception thrown by the method is wrapped in InvocationTargetException, same as Method.invoke()
+ * - If method can not be adapted (not public or does not take TestContext) then Method.invoke() is used, so user gets the same error as before
+ * </PRE>
+ */
+class MethodInvoker {
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, TestContext.class);
+
+	private final Method method;
+	private final boolean staticMethod;
+	private final MethodHandle methodHandle;
+
+	/**
+	 * @param method method which is invoked with {@code TestContext} as the only parameter
+	 */
+	MethodInvoker(Method method) {
+		this.method = method;
+		this.staticMethod = Modifier.isStatic(method.getModifiers());
+		this.methodHandle = createMethodHandle(method, staticMethod);
+	}
+
+	private static MethodHandle createMethodHandle(Method method, boolean staticMethod) {
+		try {
+			MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+			if (staticMethod) {
+				// static method ignores instance argument
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asType(INVOKER_TYPE);
+		} catch (IllegalAccessException | WrongMethodTypeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Invokes method on an instance of provided class. Instance is not created for static method.
+	 * 
+	 * @param cls class used to create instance, test class object is used instead of method's declaring class so inherited methods are invoked
+	 *            on the test class
+	 * @param context test context
+	 * @return value returned by the method, null for void method
+	 * @throws ReflectiveOperationException InvocationTargetException if method (or constructor) throws an exception, other exceptions if
+	 *             instance can not be created or method can not be invoked
+	 */
+	Object invoke(Class<?> cls, TestContext context) throws ReflectiveOperationException {
+		Object instance = staticMethod ? null : context.getTestInstanceProvider().getInstance(cls);
+		if (null == methodHandle) {
+			return method.invoke(instance, context);
+		}
+		try {
+			return methodHandle.invokeExact(instance, context);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	Method getMethod() {
+		return method;
+	}
+
+	boolean isStaticMethod() {
+		return staticMethod;
+	}
+}
@@ -23,6 +23,7 @@ package com.artos.framework.infra;
 
 import java.io.File;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -129,8 +130,8 @@ class OrganisedLog {
 		* [%-5level] = Log level upto 5 char max
 		* [%d{yyyy-MM-dd_HH:mm:ss.SSS}] = Date and time 
 		* [%t] = Thread number
-		* [%F] = File where logs are coming from
-		* [%M] = Method which generated log
+		* [%F] = File where logs are coming from (only if location info is enabled)
+		* [%M] = Method which generated log (only if location info is enabled)
 		* [%c{-1}] = ClassName which issued logCommand 
 		* %msg = Actual msg to be logged 
 		* %n = new line
@@ -138,9 +139,14 @@ class OrganisedLog {
 		* 
 		* @formatter:on
 		*/
+		boolean enableAsyncLogging = FWStaticStore.frameworkConfig.isEnableAsyncLogging();
+		// Location (file and method name) requires stack walk on every log call, so only capture it when requested
+		boolean includeLocation = enableLogDecoration && FWStaticStore.frameworkConfig.isEnableLocationInfo();
 		{
-			if (enableLogDecoration) {
+			if (includeLocation) {
 				logFileLayout.addAttribute("pattern", "[%-5level][%d{yyyy-MM-dd_HH:mm:ss.SSS}][%t][%F][%M][%c{1}] - %msg%n%throwable");
+			} else if (enableLogDecoration) {
+				logFileLayout.addAttribute("pattern", "[%-5level][%d{yyyy-MM-dd_HH:mm:ss.SSS}][%t][%c{1}] - %msg%n%throwable");
 			} else {
 				logFileLayout.addAttribute("pattern", "%msg%n%throwable");
 			}
@@ -278,14 +284,15 @@ class OrganisedLog {
 				AppenderRefComponentBuilder appendRef3 = builder.newAppenderRef("all-log-html" + i);
 				appendRef3.addAttribute("level", Level.ALL);
 
-				generalLoggerBuilder.add(appendRef1);
-
+				List<AppenderRefComponentBuilder> appendRefList = new ArrayList<>();
+				appendRefList.add(appendRef1);
 				if (enableTextLog) {
-					generalLoggerBuilder.add(appendRef2);
+					appendRefList.add(appendRef2);
 				}
 				if (enableHTMLLog) {
-					generalLoggerBuilder.add(appendRef3);
+					appendRefList.add(appendRef3);
 				}
+				addAppenderRefs(builder, generalLoggerBuilder, "async-general-log" + i, appendRefList, enableAsyncLogging, includeLocation);
 			}
 
 			// create new logger for summary
@@ -297,16 +304,19 @@ class OrganisedLog {
 				AppenderRefComponentBuilder appendRef12 = builder.newAppenderRef("summary-log-html" + i);
 				appendRef12.addAttribute("level", Level.ALL);
 
+				List<AppenderRefComponentBuilder> appendRefList = new ArrayList<>();
 				if (enableTextLog) {
-					summaryLoggerBuilder.add(appendRef11);
+					appendRefList.add(appendRef11);
 				}
 				if (enableHTMLLog) {
-					summaryLoggerBuilder.add(appendRef12);
+					appendRefList.add(appendRef12);
 				}
+				addAppenderRefs(builder, summaryLoggerBuilder, "async-summary-log" + i, appendRefList, enableAsyncLogging, false);
 			}
 
 			// create new logger for real time logs
-			LoggerComponentBuilder realTimeLoggerBuilder = builder.newLogger(realtimeLoggerName, Level.ALL);
+			// Logger level is off when real time logs are disabled, so log calls return before any message formatting
+			LoggerComponentBuilder realTimeLoggerBuilder = builder.newLogger(realtimeLoggerName, enableRealTimeLog ? Level.ALL : Level.OFF);
 			realTimeLoggerBuilder.addAttribute("additivity", false);
 			{
 				AppenderRefComponentBuilder appendRef21 = builder.newAppenderRef("realtime-log-text" + i);
@@ -316,12 +326,14 @@ class OrganisedLog {
 				// Change log level to off when real time logs are disabled, otherwise logs will be printed on a console
 				appendRef22.addAttribute("level", enableRealTimeLog ? Level.ALL : Level.OFF);
 
+				List<AppenderRefComponentBuilder> appendRefList = new ArrayList<>();
 				if (enableRealTimeLog && enableTextLog) {
-					realTimeLoggerBuilder.add(appendRef21);
+					appendRefList.add(appendRef21);
 				}
 				if (enableRealTimeLog && enableHTMLLog) {
-					realTimeLoggerBuilder.add(appendRef22);
+					appendRefList.add(appendRef22);
 				}
+				addAppenderRefs(builder, realTimeLoggerBuilder, "async-realtime-log" + i, appendRefList, enableAsyncLogging, false);
 			}
 
 			// Suppress freemarker logs as we are not interested in it
@@ -355,6 +367,40 @@ class OrganisedLog {
 		return loggerContext;
 	}
 
+	/**
+	 * Adds appender references to the logger. If asynchronous logging is enabled then appenders are wrapped by single asynchronous appender, log
+	 * events are placed in a bounded circular buffer and written by background thread so test thread does not wait for file I/O.
+	 * 
+	 * @param builder configuration builder
+	 * @param loggerBuilder logger which will use appenders
+	 * @param asyncAppenderName name of asynchronous appender
+	 * @param appendRefList appender references
+	 * @param enableAsyncLogging Enable/disable asynchronous logging
+	 * @param includeLocation true if location must be captured before log event is handed to background thread
+	 */
+	private void addAppenderRefs(ConfigurationBuilder<BuiltConfiguration> builder, LoggerComponentBuilder loggerBuilder, String asyncAppenderName,
+			List<AppenderRefComponentBuilder> appendRefList, boolean enableAsyncLogging, boolean includeLocation) {
+		if (!enableAsyncLogging || appendRefList.isEmpty()) {
+			for (AppenderRefComponentBuilder appendRef : appendRefList) {
+				loggerBuilder.add(appendRef);
+			}
+			return;
+		}
+
+		AppenderComponentBuilder asyncAppenderBuilder = builder.newAppender(asyncAppenderName, "Async");
+		asyncAppenderBuilder.addAttribute("bufferSize", FWStaticStore.frameworkConfig.getAsyncLogBufferSize());
+		asyncAppenderBuilder.addAttribute("includeLocation", includeLocation);
+		// Test thread waits if buffer is full so no log is lost
+		asyncAppenderBuilder.addAttribute("blocking", true);
+		for (AppenderRefComponentBuilder appendRef : appendRefList) {
+			asyncAppenderBuilder.addComponent(appendRef);
+		}
+		builder.add(asyncAppenderBuilder);
+
+		loggerBuilder.addAttribute("includeLocation", includeLocation);
+		loggerBuilder.add(builder.newAppenderRef(asyncAppenderName));
+	}
+
 	/** Returns Log Files Base Directory */
 	public String getLogBaseDir() {
 		return logBaseDir;
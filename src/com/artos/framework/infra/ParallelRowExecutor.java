@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Executes data provider rows in parallel and delivers row results in row order. Rows are pulled from the iterator one at a time, so lazily
+ * produced rows are not materialised up front.
+ * 
+ * <PRE>
+ * - Calling thread also executes rows, so rows progress even if all worker threads are busy executing test cases
+ * - Row results are delivered to the consumer by calling thread only, in the same order as rows were produced
+ * - If iterator or row task fails then no new rows are started, rows which are already started are finished and delivered and then failure
+ *   is thrown to the calling thread
+ * </PRE>
+ * 
+ * @param <R> result type of the row task
+ */
+public class ParallelRowExecutor<R> implements Runnable {
+
+	/**
+	 * Executes a single row, may be called by any thread
+	 */
+	public interface RowTask<R> {
+		R execute(Object[] row, int rowIndex) throws Exception;
+	}
+
+	/**
+	 * Receives result of a row, always called by the thread which executes {@link ParallelRowExecutor#execute(ExecutorService, int, RowConsumer)}
+	 */
+	public interface RowConsumer<R> {
+		void accept(int rowIndex, R result) throws Exception;
+	}
+
+	private final Iterator<Object[]> rows;
+	private final RowTask<R> task;
+	private final BlockingQueue<Row> completionQueue = new LinkedBlockingQueue<>();
+	private int rowCount = 0;
+	private boolean exhausted = false;
+	private Throwable failure = null;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param rows rows to be executed
+	 * @param task task which executes a single row
+	 */
+	public ParallelRowExecutor(Iterator<Object[]> rows, RowTask<R> task) {
+		this.rows = rows;
+		this.task = task;
+	}
+
+	/**
+	 * Executes all rows and delivers their results to the consumer in row order. Method returns once all started rows are finished.
+	 * 
+	 * @param service executor service used for helper threads
+	 * @param threadCount number of threads executing rows including calling thread, helper threads are not used if thread count is 1 or less
+	 * @param consumer consumer of the row results
+	 * @throws Exception Exception thrown by iterator, row task or consumer, or if calling thread is interrupted
+	 */
+	public void execute(ExecutorService service, int threadCount, RowConsumer<R> consumer) throws Exception {
+		// Helpers which start late simply find no rows left
+		for (int i = 1; i < threadCount; i++) {
+			service.submit(this);
+		}
+
+		Map<Integer, Row> finishedRows = new HashMap<>();
+		int reportIndex = 0;
+		Row row;
+		while (null != (row = next())) {
+			row.run();
+			while (null != (row = completionQueue.poll())) {
+				finishedRows.put(row.rowIndex, row);
+			}
+			reportIndex = deliverFinishedRows(finishedRows, reportIndex, consumer);
+		}
+
+		// Wait for rows which are still running on helper threads
+		while (reportIndex < getRowCount()) {
+			row = completionQueue.take();
+			finishedRows.put(row.rowIndex, row);
+			reportIndex = deliverFinishedRows(finishedRows, reportIndex, consumer);
+		}
+
+		Throwable e = getFailure();
+		if (e instanceof Error) {
+			throw (Error) e;
+		}
+		if (null != e) {
+			throw (Exception) e;
+		}
+	}
+
+	private int deliverFinishedRows(Map<Integer, Row> finishedRows, int reportIndex, RowConsumer<R> consumer) throws Exception {
+		Row row;
+		while (null != (row = finishedRows.remove(reportIndex))) {
+			if (row.completed) {
+				consumer.accept(row.rowIndex, row.result);
+			}
+			reportIndex++;
+		}
+		return reportIndex;
+	}
+
+	/**
+	 * Returns the next row or null if there are no more rows to execute
+	 */
+	private synchronized Row next() {
+		if (exhausted) {
+			return null;
+		}
+		try {
+			if (rows.hasNext()) {
+				return new Row(rows.next(), rowCount++);
+			}
+		} catch (Throwable e) {
+			// Reported by the calling thread once started rows are finished
+			fail(e);
+		}
+		exhausted = true;
+		return null;
+	}
+
+	private synchronized void fail(Throwable e) {
+		if (null == failure) {
+			failure = e;
+		}
+		exhausted = true;
+	}
+
+	private synchronized Throwable getFailure() {
+		return failure;
+	}
+
+	private synchronized int getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public void run() {
+		Row row;
+		while (null != (row = next())) {
+			row.run();
+		}
+	}
+
+	private class Row implements Runnable {
+
+		final Object[] row;
+		final int rowIndex;
+		R result = null;
+		boolean completed = false;
+
+		Row(Object[] row, int rowIndex) {
+			this.row = row;
+			this.rowIndex = rowIndex;
+		}
+
+		@Override
+		public void run() {
+			try {
+				result = task.execute(row, rowIndex);
+				completed = true;
+			} catch (Throwable e) {
+				fail(e);
+			} finally {
+				// Calling thread must be notified even if row execution failed
+				completionQueue.add(this);
+			}
+		}
+	}
+}
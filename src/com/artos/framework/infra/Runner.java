@@ -43,6 +43,7 @@ import org.xml.sax.SAXException;
 
 import com.artos.exception.InvalidDataException;
 import com.artos.framework.FWStaticStore;
+import com.artos.framework.listener.DashBoardEventBatcher;
 import com.artos.framework.parser.FrameworkConfigParser;
 import com.artos.framework.parser.TestScriptParser;
 import com.artos.framework.parser.TestSuite;
@@ -175,6 +176,7 @@ public class Runner {
 
 		// Established UDP channel to DashBoard
 		UDP dashBoardConnector = null;
+		DashBoardEventBatcher dashBoardEventBatcher = null;
 		{
 			if (FWStaticStore.frameworkConfig.isEnableDashBoard()) {
 				String dashBoardremoteIP = FWStaticStore.frameworkConfig.getDashBoardRemoteIP();
@@ -183,6 +185,11 @@ public class Runner {
 					dashBoardConnector = new UDP("127.0.0.1", 22222, dashBoardremoteIP, dashBoardremotePort);
 					dashBoardConnector.connect();
 					dashBoardConnector.sendMsg("Connector Launched : " + FWStaticStore.systemProperties.getUserAccountName());
+					if (FWStaticStore.frameworkConfig.isEnableCompactDashBoardProtocol()) {
+						// Events from all test suites are batched into shared datagrams
+						dashBoardEventBatcher = new DashBoardEventBatcher(dashBoardConnector, FWStaticStore.frameworkConfig.getDashBoardMaxDatagramSize(),
+								FWStaticStore.frameworkConfig.getDashBoardMaxBatchDelay());
+					}
 				} catch (BindException be) {
 					System.err.println("Port " + dashBoardremotePort + " is already in use by other application");
 					System.err.println("Resolve the port binding issue or disable dashboard feature to progress");
@@ -200,7 +207,8 @@ public class Runner {
 
 		// Start Executor service
 		{
-			ExecutorService service = Executors.newFixedThreadPool(threadCount + 20);
+			// One thread per test suite, test cases use shared TestWorkerPool for parallel execution
+			ExecutorService service = Executors.newFixedThreadPool(threadCount);
 			List<Future<Runnable>> futures = new ArrayList<>();
 			CountDownLatch latch = new CountDownLatch(threadCount);
 
@@ -222,6 +230,7 @@ public class Runner {
 
 				// Set DashBoard Connector
 				context.setDashBoardConnector(dashBoardConnector);
+				context.setDashBoardEventBatcher(dashBoardEventBatcher);
 
 				if (null != testSuiteList && !testSuiteList.isEmpty()) {
 					// store test suite
@@ -241,11 +250,16 @@ public class Runner {
 
 			// shut down the executor service so that this thread can exit
 			service.shutdownNow();
+			TestWorkerPool.shutdown();
 
 			// Block until all threads complete execution
 			latch.await();
 
 			// Disconnect dashBoard UDP connector at the end
+			if (null != dashBoardEventBatcher) {
+				dashBoardEventBatcher.close();
+				dashBoardEventBatcher = null;
+			}
 			if (null != dashBoardConnector) {
 				dashBoardConnector.disconnect();
 				dashBoardConnector = null;
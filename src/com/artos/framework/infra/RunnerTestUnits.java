@@ -24,15 +24,9 @@ package com.artos.framework.infra;
 import java.io.InvalidObjectException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.stream.Collectors;
 
+import com.artos.framework.Enums.TestProgressEvent;
 import com.artos.framework.Enums.TestStatus;
 import com.artos.framework.FWStaticStore;
 import com.artos.interfaces.TestProgress;
@@ -42,11 +36,11 @@ public class RunnerTestUnits {
 
 	TestContext context;
 	TestObjectWrapper t;
-	List<TestProgress> listenerList;
+	ListenerDispatchTable listeners;
 
-	protected RunnerTestUnits(TestContext context, List<TestProgress> listenerList) {
+	protected RunnerTestUnits(TestContext context, ListenerDispatchTable listeners) {
 		this.context = context;
-		this.listenerList = listenerList;
+		this.listeners = listeners;
 	}
 
 	/**
@@ -78,16 +72,24 @@ public class RunnerTestUnits {
 				// Run local before Method prior to any test Execution
 				if (null != t.getMethodBeforeTestCase()) {
 					notifyLocalBeforeTestCaseMethodExecutionStarted(t.getMethodBeforeTestCase().getName(), t);
-					t.getMethodBeforeTestCase().invoke(t.getTestClassObject().getDeclaredConstructor().newInstance(), context);
+					t.getBeforeTestCaseInvoker().invoke(t.getTestClassObject(), context);
 					notifyLocalBeforeTestCaseMethodExecutionFinished(t);
 				}
 			} catch (Throwable e) {
 				printException(e);
 			}
 
+			DependencyGraph<TestUnitObjectWrapper> dependencyGraph = DependencyGraph.ofTestUnits(unitTests);
+
 			// --------------------------------------------------------------------------------------------
 			for (TestUnitObjectWrapper unit : unitTests) {
 
+				// If test case has timed out then this thread is abandoned by the runner, do not start remaining units
+				if (TestTimeoutWatchdog.isExpired()) {
+					context.getLogger().warn("Test case timed out, remaining test units are not executed");
+					break;
+				}
+
 				long preserveFailCount = context.getCurrentUnitFailCount();
 
 				// Reset test status for next execution
@@ -104,7 +106,7 @@ public class RunnerTestUnits {
 				notifyPrintTestUnitPlan(unit);
 
 				if (null != unit.getDependencyList() && !unit.getDependencyList().isEmpty()) {
-					if (!hasDependencyMet(unitTests, unit)) {
+					if (!dependencyGraph.hasDependencyMet(unit)) {
 						context.getLogger().warn(FWStaticStore.ARTOS_UNIT_DEPENDENCY_REQ_NOT_MET);
 						continue;
 					}
@@ -125,11 +127,16 @@ public class RunnerTestUnits {
 			}
 			// --------------------------------------------------------------------------------------------
 
+			// Runner has already moved on from a timed out test case
+			if (TestTimeoutWatchdog.isExpired()) {
+				return;
+			}
+
 			try {
 				// Run local after Method prior to any test Execution
 				if (null != t.getMethodAfterTestCase()) {
 					notifyLocalAfterTestCaseMethodExecutionStarted(t.getMethodAfterTestCase().getName(), t);
-					t.getMethodAfterTestCase().invoke(t.getTestClassObject().getDeclaredConstructor().newInstance(), context);
+					t.getAfterTestCaseInvoker().invoke(t.getTestClassObject(), context);
 					notifyLocalAfterTestCaseMethodExecutionFinished(t);
 				}
 			} catch (Throwable e) {
@@ -145,58 +152,6 @@ public class RunnerTestUnits {
 		// ********************************************************************************************
 	}
 
-	/**
-	 * Dependency feature ensures that user specified test cases are executed prior to executing target test case and pre-requisite test cases must be
-	 * completed with PASS status, otherwise dependency agreement will not be met.
-	 * 
-	 * @param unitList = test unit list
-	 * @param unit = target test unit
-	 * @return true if dependency agreement is met | false if dependency agreement is not met
-	 */
-	private boolean hasDependencyMet(List<TestUnitObjectWrapper> unitList, TestUnitObjectWrapper unit) {
-
-		// Find execution index of target test unit
-		int indexOfUnit = unitList.indexOf(unit);
-
-		// Iterate through provided dependency list and ensure it meets an agreement
-		for (String depenencyMethod : unit.getDependencyList()) {
-
-			List<TestUnitObjectWrapper> matchList;
-
-			// Find list dependency method in execution list, If we can not find listed method in execution list then dependency agreement will not be
-			// met
-			{
-				matchList = unitList.stream().filter(obj -> obj.getTestUnitMethod().getName().equals(depenencyMethod)).collect(Collectors.toList());
-				if (null == matchList || matchList.isEmpty()) {
-					return false;
-				}
-			}
-
-			TestUnitObjectWrapper dependencyTestUnitObjectWrapper = matchList.get(0);
-			// If dependency test case execution index is same or greater than target test-case execution index then requirements will not be met
-			{
-				int matchIndex = unitList.indexOf(dependencyTestUnitObjectWrapper);
-				if (matchIndex >= indexOfUnit) {
-					return false;
-				}
-			}
-
-			// If dependency test cases status is not PASS then dependency agreement will not be met
-			{
-				if (dependencyTestUnitObjectWrapper.getTestUnitOutcomeList().stream().anyMatch(s -> (s.equals(TestStatus.FAIL)))) {
-					return false;
-				}
-				if (dependencyTestUnitObjectWrapper.getTestUnitOutcomeList().stream().anyMatch(s -> (s.equals(TestStatus.KTF)))) {
-					return false;
-				}
-				if (dependencyTestUnitObjectWrapper.getTestUnitOutcomeList().stream().anyMatch(s -> (s.equals(TestStatus.SKIP)))) {
-					return false;
-				}
-			}
-		}
-		return true;
-	}
-
 	private void printException(Throwable e) {
 		if (e.getClass() == InvocationTargetException.class) {
 			// Catch InvocationTargetException and return cause
@@ -212,18 +167,21 @@ public class RunnerTestUnits {
 	 * @param unit TestUnit in format {@code TestUnitObjectWrapper}
 	 */
 	private void runIndividualUnitTest(TestUnitObjectWrapper unit) {
+		// Unit scoped class instances are used from here until unit is finished
+		context.getTestInstanceProvider().unitStarted();
+
 		try {
 			// Run global before method prior to each test unit execution
 			if (null != context.getBeforeTestUnit()) {
 				notifyGlobalBeforeTestUnitMethodExecutionStarted(context.getBeforeTestUnit().getName(), unit);
-				context.getBeforeTestUnit().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(), context);
+				context.getBeforeTestUnitInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyGlobalBeforeTestUnitMethodExecutionFinished(unit);
 			}
 
 			// Run custom before method prior to each test unit execution
 			if (null != t.getMethodBeforeTestUnit()) {
 				notifyLocalBeforeTestUnitMethodExecutionStarted(t, unit);
-				t.getMethodBeforeTestUnit().invoke(t.getTestClassObject().getDeclaredConstructor().newInstance(), context);
+				t.getBeforeTestUnitInvoker().invoke(t.getTestClassObject(), context);
 				notifyLocalBeforeTestUnitMethodExecutionFinished(unit);
 			}
 		} catch (Throwable e) {
@@ -234,7 +192,7 @@ public class RunnerTestUnits {
 		// TestUnit Start
 		// ********************************************************************************************
 		try {
-			unit.setTestUnitStartTime(System.currentTimeMillis());
+			context.setUnitStartTime(unit, System.currentTimeMillis());
 
 			// If test timeout is defined then monitor thread for timeout
 			if (0 != unit.getTestTimeout()) {
@@ -247,7 +205,7 @@ public class RunnerTestUnits {
 		} catch (Throwable e) {
 			processTestUnitException(unit, e);
 		} finally {
-			unit.setTestUnitFinishTime(System.currentTimeMillis());
+			context.setUnitFinishTime(unit, System.currentTimeMillis());
 		}
 		// ********************************************************************************************
 		// TestUnit Finish
@@ -258,14 +216,14 @@ public class RunnerTestUnits {
 			// Run custom after method post each test unit execution
 			if (null != t.getMethodAfterTestUnit()) {
 				notifyLocalAfterTestUnitMethodExecutionStarted(t, unit);
-				t.getMethodAfterTestUnit().invoke(t.getTestClassObject().getDeclaredConstructor().newInstance(), context);
+				t.getAfterTestUnitInvoker().invoke(t.getTestClassObject(), context);
 				notifyLocalAfterTestUnitMethodExecutionFinished(unit);
 			}
 
 			// Run global after method post each test unit execution
 			if (null != context.getAfterTestUnit()) {
 				notifyGlobalAfterTestUnitMethodExecutionStarted(context.getAfterTestUnit().getName(), unit);
-				context.getAfterTestUnit().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(), context);
+				context.getAfterTestUnitInvoker().invoke(context.getPrePostRunnableObj(), context);
 				notifyGlobalAfterTestUnitMethodExecutionFinished(unit);
 			}
 
@@ -274,7 +232,7 @@ public class RunnerTestUnits {
 			if (context.getCurrentUnitTestStatus() == TestStatus.FAIL || (unit.isKTF() && context.getCurrentUnitTestStatus() == TestStatus.PASS)) {
 				if (null != context.getAfterFailedUnit()) {
 					notifyGlobalAfterFailedUnitMethodExecutionStarted(context.getAfterFailedUnit().getName(), unit);
-					context.getAfterFailedUnit().invoke(context.getPrePostRunnableObj().getDeclaredConstructor().newInstance(), context);
+					context.getAfterFailedUnitInvoker().invoke(context.getPrePostRunnableObj(), context);
 					notifyGlobalAfterFailedUnitMethodExecutionFinished(unit);
 				}
 			}
@@ -282,6 +240,9 @@ public class RunnerTestUnits {
 			printException(e);
 		}
 
+		// Discard unit scoped test class instances
+		context.getTestInstanceProvider().unitFinished();
+
 		// ********************************************************************************************
 		// Generate Summary
 		// ********************************************************************************************
@@ -293,12 +254,13 @@ public class RunnerTestUnits {
 	/**
 	 * Responsible for executing data provider method which upon successful execution returns an array of parameters. TestCase will be re-run using
 	 * all parameters available in the parameter array. If data provider method returns empty array or null then test case will be executed only once
-	 * with null arguments.
+	 * with null arguments. Iterator, Iterable or Stream returned by data provider method is consumed lazily, one row per unit execution. If
+	 * parallel data provider is enabled for the unit then rows are executed using shared worker pool.
 	 * 
 	 * @param unit TestCase in format {@code TestUnitObjectWrapper}
 	 */
 	private void runParameterizedUnitTest(TestUnitObjectWrapper unit) {
-		Object[][] data = null;
+		Object data = null;
 		TestDataProvider dataProviderObj;
 
 		try {
@@ -314,12 +276,8 @@ public class RunnerTestUnits {
 
 			// Handle it because this executes method
 			try {
-				if (dataProviderObj.isStaticMethod()) {
-					data = (Object[][]) dataProviderObj.getMethod().invoke(null, context);
-				} else {
-					/* NonStatic data provider method needs an instance */
-					data = (Object[][]) dataProviderObj.getMethod().invoke(dataProviderObj.getClassOfTheMethod().getDeclaredConstructor().newInstance(), context);
-				}
+				/* NonStatic data provider method is invoked on an instance provided by context */
+				data = dataProviderObj.getInvoker().invoke(dataProviderObj.getClassOfTheMethod(), context);
 			} catch (InvocationTargetException e) {
 				context.getLogger().debug("=================================================");
 				context.getLogger().debug("=== DataProvider Method failed to return data ===");
@@ -327,13 +285,16 @@ public class RunnerTestUnits {
 				processInvocationTargetException(e);
 			}
 
-			// If data provider method returns null or empty object then execute test with
-			// null parameter
-			if (null == data || data.length == 0) {
-				executeChildTest(unit, new String[][] { {} }, 0);
-			} else {
-				for (int i = 0; i < data.length; i++) {
-					executeChildTest(unit, data, i);
+			// Rows are consumed lazily, if data provider method returns null or empty object then execute test with null parameter
+			try (DataProviderRows rows = DataProviderRows.of(data)) {
+				if (!rows.hasNext()) {
+					executeChildTest(unit, new Object[0], 0);
+				} else if (unit.isParallelDataProvider()) {
+					runParallelRows(unit, rows);
+				} else {
+					for (int i = 0; rows.hasNext(); i++) {
+						executeChildTest(unit, rows.next(), i);
+					}
 				}
 			}
 		} catch (Exception e) {
@@ -359,7 +320,7 @@ public class RunnerTestUnits {
 			notifyTestUnitExecutionStarted(unit);
 
 			// Run single unit
-			unit.getTestUnitMethod().invoke(t.getTestClassObject().getDeclaredConstructor().newInstance(), context);
+			unit.getTestUnitInvoker().invoke(t.getTestClassObject(), context);
 
 			notifyTestUnitExecutionFinished(unit);
 
@@ -393,36 +354,18 @@ public class RunnerTestUnits {
 	 * @throws Throwable Exception during test execution
 	 */
 	private void runUnitTestWithTimeout(TestUnitObjectWrapper unit) throws Throwable {
-		ExecutorService executor = Executors.newSingleThreadExecutor();
-		Future<String> future = executor.submit(new Callable<String>() {
-			@Override
-			public String call() throws Exception {
-				runSimpleUnitTest(unit);
-				return "TEST UNIT FINISHED WITHIN TIME";
-			}
-		});
-
 		try {
-			// System.out.println(future.get(t.getTestTimeout(), TimeUnit.MILLISECONDS));
-			future.get(unit.getTestTimeout(), TimeUnit.MILLISECONDS);
+			TestTimeoutWatchdog.run(() -> {
+				runSimpleUnitTest(unit);
+				return null;
+			}, unit.getTestTimeout());
 		} catch (TimeoutException e) {
-			future.cancel(true);
 			context.setTestStatus(TestStatus.FAIL, "TEST UNIT TIMED OUT");
-		} catch (ExecutionException e) {
-			future.cancel(true);
-			if (null == e.getCause()) {
-				// If no cause is listed then process parent exception
-				throw e;
-			} else {
-				// If cause is listed then only process cause
-				throw e.getCause();
-			}
+			context.getLogger().warn(e.getMessage());
 		} catch (InterruptedException e) {
 			context.getLogger().warn("InterruptedException was supressed assuming thread was intentinally killed by a runner");
-			// This can happen if Unit future thread is cancelled/killed by Test case future while thread is busy/sleeping or occupied.
-			// One scenario : if test case time out before unit timeout then test case will force cancel future.
+			// This happens if test case times out while unit is running, unit thread is abandoned together with test case thread
 		}
-
 	}
 
 	/**
@@ -430,22 +373,22 @@ public class RunnerTestUnits {
 	 * class type(s) will be printed prior to test execution for user's benefit.
 	 * 
 	 * @param unit TestCase in format {@code TestUnitObjectWrapper}
-	 * @param data Array of parameters
-	 * @param arrayIndex Parameter array index
+	 * @param row Row of parameters
+	 * @param rowIndex Row index
 	 */
-	private void executeChildTest(TestUnitObjectWrapper unit, Object[][] data, int arrayIndex) {
-		String userInfo = "DataProvider(" + arrayIndex + ")  : ";
-		if (data[arrayIndex].length == 2) {
-			context.setParameterisedObject1(null == data[arrayIndex][0] ? null : data[arrayIndex][0]);
-			context.setParameterisedObject2(null == data[arrayIndex][1] ? null : data[arrayIndex][1]);
-			String firstType = (context.getParameterisedObject1().getClass().getSimpleName());
-			String secondType = (context.getParameterisedObject2().getClass().getSimpleName());
+	private void executeChildTest(TestUnitObjectWrapper unit, Object[] row, int rowIndex) {
+		String userInfo = "DataProvider(" + rowIndex + ")  : ";
+		if (row.length == 2) {
+			context.setParameterisedObject1(row[0]);
+			context.setParameterisedObject2(row[1]);
+			String firstType = (null == row[0] ? "null" : row[0].getClass().getSimpleName());
+			String secondType = (null == row[1] ? "null" : row[1].getClass().getSimpleName());
 			userInfo += "[" + firstType + "][" + secondType + "]";
 
-		} else if (data[arrayIndex].length == 1) {
-			context.setParameterisedObject1(null == data[arrayIndex][0] ? null : data[arrayIndex][0]);
+		} else if (row.length == 1) {
+			context.setParameterisedObject1(row[0]);
 			context.setParameterisedObject2(null);
-			String firstType = (context.getParameterisedObject1().getClass().getSimpleName());
+			String firstType = (null == row[0] ? "null" : row[0].getClass().getSimpleName());
 			userInfo += "[" + firstType + "][]";
 		} else {
 			context.setParameterisedObject1(null);
@@ -469,6 +412,64 @@ public class RunnerTestUnits {
 		// ********************************************************************************************
 	}
 
+	/**
+	 * Responsible for executing data provider rows in parallel. Each row is executed on a worker thread using its own row {@code TestContext},
+	 * so parameter slots, unit status and execution time of one row can not be overwritten by another. Current thread also executes rows, so
+	 * rows progress even if all worker threads are busy executing test cases. Recorded events and row outcomes are delivered by current thread in
+	 * row order.
+	 * 
+	 * @param unit TestCase in format {@code TestUnitObjectWrapper}
+	 * @param rows data provider rows
+	 * @throws Exception Exception thrown by data provider while producing rows or if current thread is interrupted
+	 */
+	private void runParallelRows(TestUnitObjectWrapper unit, DataProviderRows rows) throws Exception {
+		// Created by owner thread and never modified, so worker threads can create row contexts from it while owner thread merges results
+		TestContext templateContext = context.createRowContext();
+		ParallelRowExecutor<ParallelRowTask> executor = new ParallelRowExecutor<>(rows, (row, rowIndex) -> {
+			TestContext rowContext;
+			synchronized (templateContext) {
+				rowContext = templateContext.createRowContext();
+			}
+			ParallelRowTask task = new ParallelRowTask(rowContext);
+			task.run(unit, row, rowIndex);
+			return task;
+		});
+
+		// Worker pool is shared with parallel test cases
+		executor.execute(TestWorkerPool.getExecutorService(), TestWorkerPool.getThreadCount(), (rowIndex, task) -> {
+			// Listeners read execution time from the test unit, so row is merged before its events are replayed
+			context.mergeRowContext(task.rowContext, unit);
+			task.recorder.replay(listeners);
+		});
+	}
+
+	/**
+	 * Responsible for executing a single data provider row using row {@code TestContext}
+	 */
+	private class ParallelRowTask {
+
+		final TestContext rowContext;
+		final TestProgressRecorder recorder = new TestProgressRecorder();
+
+		ParallelRowTask(TestContext rowContext) {
+			this.rowContext = rowContext;
+		}
+
+		void run(TestUnitObjectWrapper unit, Object[] row, int rowIndex) {
+			try {
+				ListenerDispatchTable rowListeners = new ListenerDispatchTable();
+				rowListeners.add(recorder);
+				rowContext.registerListener(recorder);
+
+				RunnerTestUnits rowRunner = new RunnerTestUnits(rowContext, rowListeners);
+				rowRunner.t = t;
+				rowRunner.executeChildTest(unit, row, rowIndex);
+			} catch (Throwable e) {
+				UtilsFramework.writePrintStackTrace(rowContext, e);
+			}
+		}
+	}
+
 	/**
 	 * Responsible for processing throwable/exception thrown by test cases during execution time. If {@code ExpectedException} annotation defines
 	 * expected throwable/exception and received throwable/exception does not match any of the defined throwable(s)/Exception(s) then test will be
@@ -549,121 +550,121 @@ public class RunnerTestUnits {
 	// ==================================================================================
 
 	void notifyGlobalBeforeTestUnitMethodExecutionStarted(String methodName, TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_STARTED)) {
 			listener.globalBeforeTestUnitMethodExecutionStarted(methodName, unit);
 		}
 	}
 
 	void notifyGlobalBeforeTestUnitMethodExecutionFinished(TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_FINISHED)) {
 			listener.globalBeforeTestUnitMethodExecutionFinished(unit);
 		}
 	}
 
 	void notifyGlobalAfterTestUnitMethodExecutionStarted(String methodName, TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_STARTED)) {
 			listener.globalAfterTestUnitMethodExecutionStarted(methodName, unit);
 		}
 	}
 
 	void notifyGlobalAfterTestUnitMethodExecutionFinished(TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_FINISHED)) {
 			listener.globalAfterTestUnitMethodExecutionFinished(unit);
 		}
 	}
 
 	void notifyGlobalAfterFailedUnitMethodExecutionStarted(String methodName, TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_STARTED)) {
 			listener.globalAfterFailedUnitMethodExecutionStarted(methodName, unit);
 		}
 	}
 
 	void notifyGlobalAfterFailedUnitMethodExecutionFinished(TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_FINISHED)) {
 			listener.globalAfterFailedUnitMethodExecutionFinished(unit);
 		}
 	}
 
 	void notifyLocalBeforeTestUnitMethodExecutionStarted(TestObjectWrapper t, TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.LOCAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_STARTED)) {
 			listener.localBeforeTestUnitMethodExecutionStarted(t, unit);
 		}
 	}
 
 	void notifyLocalBeforeTestUnitMethodExecutionFinished(TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.LOCAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_FINISHED)) {
 			listener.localBeforeTestUnitMethodExecutionFinished(unit);
 		}
 	}
 
 	void notifyLocalAfterTestUnitMethodExecutionStarted(TestObjectWrapper t, TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.LOCAL_AFTER_TEST_UNIT_METHOD_EXECUTION_STARTED)) {
 			listener.localAfterTestUnitMethodExecutionStarted(t, unit);
 		}
 	}
 
 	void notifyLocalAfterTestUnitMethodExecutionFinished(TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.LOCAL_AFTER_TEST_UNIT_METHOD_EXECUTION_FINISHED)) {
 			listener.localAfterTestUnitMethodExecutionFinished(unit);
 		}
 	}
 
 	void notifyTestUnitExecutionStarted(TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_UNIT_EXECUTION_STARTED)) {
 			listener.testUnitExecutionStarted(unit);
 		}
 	}
 
 	void notifyTestUnitExecutionFinished(TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_UNIT_EXECUTION_FINISHED)) {
 			listener.testUnitExecutionFinished(unit);
 		}
 	}
 
 	private void notifyChildTestUnitExecutionStarted(TestObjectWrapper t, TestUnitObjectWrapper unit, String userInfo) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.CHILD_TEST_UNIT_EXECUTION_STARTED)) {
 			listener.childTestUnitExecutionStarted(t, unit, userInfo);
 		}
 	}
 
 	private void notifyChildTestUnitExecutionFinished(TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.CHILD_TEST_UNIT_EXECUTION_FINISHED)) {
 			listener.childTestUnitExecutionFinished(unit);
 		}
 	}
 
 	void notifyLocalBeforeTestCaseMethodExecutionStarted(String methodName, TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.LOCAL_BEFORE_TEST_CASE_METHOD_EXECUTION_STARTED)) {
 			listener.localBeforeTestCaseMethodExecutionStarted(methodName, t);
 		}
 	}
 
 	void notifyLocalBeforeTestCaseMethodExecutionFinished(TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.LOCAL_BEFORE_TEST_CASE_METHOD_EXECUTION_FINISHED)) {
 			listener.localBeforeTestCaseMethodExecutionFinished(t);
 		}
 	}
 
 	void notifyLocalAfterTestCaseMethodExecutionStarted(String methodName, TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.LOCAL_AFTER_TEST_CASE_METHOD_EXECUTION_STARTED)) {
 			listener.localAfterTestCaseMethodExecutionStarted(methodName, t);
 		}
 	}
 
 	void notifyLocalAfterTestCaseMethodExecutionFinished(TestObjectWrapper t) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.LOCAL_AFTER_TEST_CASE_METHOD_EXECUTION_FINISHED)) {
 			listener.localAfterTestCaseMethodExecutionFinished(t);
 		}
 	}
 
 	void notifyPrintTestUnitPlan(TestUnitObjectWrapper unit) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.PRINT_TEST_UNIT_PLAN)) {
 			listener.printTestUnitPlan(unit);
 		}
 	}
 	
 	void notifyPrintTestUnitException(Throwable e) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.UNIT_EXCEPTION)) {
 			listener.unitException(e);
 		}
 	}
@@ -0,0 +1,304 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import com.artos.annotation.DataProvider;
+import com.artos.annotation.StepDefinition;
+import com.artos.annotation.TestCase;
+import com.artos.framework.FWStaticStore;
+
+/**
+ * Result of annotation scan for a package. Classpath scan reads every class file within the package, which takes long time for large test
+ * projects. If scan index is enabled then scan result is stored in cache directory together with fingerprint of class files, next run loads stored
+ * result as long as fingerprint has not changed.
+ * 
+ * <PRE>
+ * Fingerprint is calculated using path, size and last modified time of
+ * - Each class file within the package for class directories
+ * - Jar file containing the package
+ * </PRE>
+ */
+class ScanIndex {
+
+	private static final String INDEX_VERSION = "2";
+	private static final String KEY_FINGERPRINT = "fingerprint";
+	private static final String KEY_TESTCASE = "testcase";
+	private static final String KEY_DATAPROVIDER = "dataprovider";
+	private static final String KEY_STEPDEFINITION = "stepdefinition";
+
+	private final List<Class<?>> testCaseClassList = new ArrayList<>();
+	private final List<Method> dataProviderMethodList = new ArrayList<>();
+	private final List<Method> stepDefinitionMethodList = new ArrayList<>();
+
+	private ScanIndex() {
+		// Use load()
+	}
+
+	/**
+	 * Returns scan result for provided package. Stored index is used if it is enabled and still valid, otherwise classpath is scanned.
+	 * 
+	 * @param packageName Base package name
+	 * @return {@code ScanIndex}
+	 */
+	static ScanIndex load(String packageName) {
+		boolean enableScanIndex = null != FWStaticStore.frameworkConfig && FWStaticStore.frameworkConfig.isEnableScanIndex();
+		if (!enableScanIndex) {
+			return scan(packageName);
+		}
+
+		File indexFile = new File(FWStaticStore.CACHE_BASE_DIR, "scanindex_" + ("".equals(packageName) ? "root" : packageName) + ".properties");
+		String fingerprint = null;
+		try {
+			fingerprint = calculateFingerprint(packageName);
+			ScanIndex index = read(indexFile, fingerprint);
+			if (null != index) {
+				FWStaticStore.logDebug("Scan index loaded : " + indexFile.getAbsolutePath());
+				return index;
+			}
+		} catch (Exception e) {
+			// Stored index can not be used, fall back to scan
+			FWStaticStore.logDebug("Scan index ignored : " + e.getMessage());
+		}
+
+		ScanIndex index = scan(packageName);
+		if (null != fingerprint) {
+			try {
+				index.write(indexFile, fingerprint);
+			} catch (IOException e) {
+				FWStaticStore.logDebug("Scan index could not be stored : " + e.getMessage());
+			}
+		}
+		return index;
+	}
+
+	private static ScanIndex scan(String packageName) {
+		Reflections reflection = new Reflections(new ConfigurationBuilder().forPackage(packageName).setScanners(Scanners.MethodsAnnotated,
+				Scanners.TypesAnnotated, Scanners.SubTypes.filterResultsBy(s -> true)));
+
+		ScanIndex index = new ScanIndex();
+		index.testCaseClassList.addAll(reflection.getTypesAnnotatedWith(TestCase.class));
+		index.dataProviderMethodList.addAll(reflection.getMethodsAnnotatedWith(DataProvider.class));
+		index.stepDefinitionMethodList.addAll(reflection.getMethodsAnnotatedWith(StepDefinition.class));
+		return index;
+	}
+
+	private static ScanIndex read(File indexFile, String fingerprint) throws Exception {
+		if (!indexFile.exists()) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(indexFile)) {
+			properties.load(in);
+		}
+		if (!fingerprint.equals(properties.getProperty(KEY_FINGERPRINT))) {
+			return null;
+		}
+
+		ScanIndex index = new ScanIndex();
+		for (String className : split(properties.getProperty(KEY_TESTCASE))) {
+			index.testCaseClassList.add(loadClass(className));
+		}
+		for (String methodName : split(properties.getProperty(KEY_DATAPROVIDER))) {
+			index.dataProviderMethodList.add(loadMethod(methodName, DataProvider.class));
+		}
+		for (String methodName : split(properties.getProperty(KEY_STEPDEFINITION))) {
+			index.stepDefinitionMethodList.add(loadMethod(methodName, StepDefinition.class));
+		}
+		return index;
+	}
+
+	private void write(File indexFile, String fingerprint) throws IOException {
+		Properties properties = new Properties();
+		properties.setProperty(KEY_FINGERPRINT, fingerprint);
+
+		List<String> classNameList = new ArrayList<>();
+		for (Class<?> cls : testCaseClassList) {
+			classNameList.add(cls.getName());
+		}
+		properties.setProperty(KEY_TESTCASE, String.join(",", classNameList));
+		properties.setProperty(KEY_DATAPROVIDER, join(dataProviderMethodList));
+		properties.setProperty(KEY_STEPDEFINITION, join(stepDefinitionMethodList));
+
+		indexFile.getParentFile().mkdirs();
+		try (OutputStream out = new FileOutputStream(indexFile)) {
+			properties.store(out, "Artos scan index, generated file");
+		}
+	}
+
+	private static String calculateFingerprint(String packageName) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-1");
+		update(digest, INDEX_VERSION + ":" + FWStaticStore.ARTOS_BUILD_VERSION + ":" + packageName);
+
+		String packagePath = packageName.replace('.', '/');
+		for (URL url : ClasspathHelper.forPackage(packageName)) {
+			File root = new File(url.toURI());
+			if (root.isDirectory()) {
+				File packageDir = "".equals(packagePath) ? root : new File(root, packagePath);
+				updateWithDirectory(digest, packageDir);
+			} else {
+				updateWithFile(digest, root);
+			}
+		}
+
+		StringBuilder sb = new StringBuilder();
+		for (byte b : digest.digest()) {
+			sb.append(String.format("%02x", b));
+		}
+		return sb.toString();
+	}
+
+	private static void updateWithDirectory(MessageDigest digest, File dir) {
+		File[] files = dir.listFiles();
+		if (null == files) {
+			return;
+		}
+		// listFiles order is not guaranteed
+		Arrays.sort(files);
+		for (File file : files) {
+			if (file.isDirectory()) {
+				updateWithDirectory(digest, file);
+			} else if (file.getName().endsWith(".class")) {
+				updateWithFile(digest, file);
+			}
+		}
+	}
+
+	private static void updateWithFile(MessageDigest digest, File file) {
+		update(digest, file.getAbsolutePath() + ":" + file.length() + ":" + file.lastModified() + ";");
+	}
+
+	private static void update(MessageDigest digest, String text) {
+		digest.update(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Joins methods using format {@code class#method(parameterType:parameterType)}, parameter types are stored so overloaded methods can be
+	 * resolved
+	 */
+	private static String join(Collection<Method> methodList) {
+		List<String> methodNameList = new ArrayList<>();
+		for (Method method : methodList) {
+			List<String> parameterTypeList = new ArrayList<>();
+			for (Class<?> parameterType : method.getParameterTypes()) {
+				parameterTypeList.add(parameterType.getName());
+			}
+			methodNameList.add(method.getDeclaringClass().getName() + "#" + method.getName() + "(" + String.join(":", parameterTypeList) + ")");
+		}
+		return String.join(",", methodNameList);
+	}
+
+	private static String[] split(String value) {
+		if (null == value || value.isEmpty()) {
+			return new String[0];
+		}
+		return value.split(",");
+	}
+
+	private static Class<?> loadClass(String className) throws ClassNotFoundException {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		if (null == classLoader) {
+			classLoader = ScanIndex.class.getClassLoader();
+		}
+		return Class.forName(className, false, classLoader);
+	}
+
+	private static Method loadMethod(String methodName, Class<? extends Annotation> annotationClass) throws Exception {
+		int index = methodName.lastIndexOf('#');
+		int parameterIndex = methodName.indexOf('(', index);
+		if (index < 0 || parameterIndex < 0 || !methodName.endsWith(")")) {
+			throw new NoSuchMethodException(methodName);
+		}
+		Class<?> cls = loadClass(methodName.substring(0, index));
+		String name = methodName.substring(index + 1, parameterIndex);
+
+		String parameters = methodName.substring(parameterIndex + 1, methodName.length() - 1);
+		String[] parameterTypeNames = parameters.isEmpty() ? new String[0] : parameters.split(":");
+		Class<?>[] parameterTypes = new Class<?>[parameterTypeNames.length];
+		for (int i = 0; i < parameterTypeNames.length; i++) {
+			parameterTypes[i] = loadParameterType(parameterTypeNames[i]);
+		}
+
+		// Annotated methods are found among declared methods, so non public methods are resolved as well
+		Method method = cls.getDeclaredMethod(name, parameterTypes);
+		if (!method.isAnnotationPresent(annotationClass)) {
+			throw new NoSuchMethodException(methodName);
+		}
+		return method;
+	}
+
+	private static Class<?> loadParameterType(String typeName) throws ClassNotFoundException {
+		switch (typeName) {
+		case "boolean":
+			return boolean.class;
+		case "byte":
+			return byte.class;
+		case "char":
+			return char.class;
+		case "short":
+			return short.class;
+		case "int":
+			return int.class;
+		case "long":
+			return long.class;
+		case "float":
+			return float.class;
+		case "double":
+			return double.class;
+		default:
+			return loadClass(typeName);
+		}
+	}
+
+	List<Class<?>> getTestCaseClassList() {
+		return testCaseClassList;
+	}
+
+	List<Method> getDataProviderMethodList() {
+		return dataProviderMethodList;
+	}
+
+	List<Method> getStepDefinitionMethodList() {
+		return stepDefinitionMethodList;
+	}
+}
@@ -48,12 +48,25 @@ import javassist.Modifier;
 public class ScanTestCase {
 
 	TestContext context;
+	GroupMatcher unitGroupMatcher;
 	List<TestUnitObjectWrapper> testUnitWrapperList_All = new ArrayList<>();
 	List<TestUnitObjectWrapper> testUnitWrapperList_WithoutSkipped = new ArrayList<>();
 	private List<TestUnitObjectWrapper> listOfTransformedTestUnits;
 
 	public ScanTestCase(TestContext context, TestObjectWrapper testObj) {
+		this(context, testObj, new GroupMatcher(context.getTestSuite().getTestUnitGroupList()));
+	}
+
+	/**
+	 * Scans for test units within provided test class
+	 * 
+	 * @param context          Test context
+	 * @param testObj          current test case object
+	 * @param unitGroupMatcher compiled test unit group list, shared between all test cases of the suite
+	 */
+	public ScanTestCase(TestContext context, TestObjectWrapper testObj, GroupMatcher unitGroupMatcher) {
 		this.context = context;
+		this.unitGroupMatcher = unitGroupMatcher;
 		scanForTestUnits(testObj);
 	}
 
@@ -128,6 +141,7 @@ public class ScanTestCase {
 
 			TestUnitObjectWrapper testUnitObj = new TestUnitObjectWrapper(method, unit.skip(), unit.sequence(), unit.dataprovider(),
 					unit.testtimeout(), unit.bugref(), unit.dropRemainingUnitsUponFailure());
+			testUnitObj.setParallelDataProvider(unit.parallelDataProvider());
 
 			// Test Plan is an optional attribute so it can be null
 			if (null != testplan) {
@@ -205,9 +219,7 @@ public class ScanTestCase {
 			}
 		}
 
-		List<String> groupList = context.getTestSuite().getTestUnitGroupList();
-
-		groupBasedFiltering(groupList);
+		groupBasedFiltering(unitGroupMatcher);
 
 		// Clear list otherwise wrong methods will be added against wrong class
 		testUnitWrapperList_All.clear();
@@ -218,10 +230,10 @@ public class ScanTestCase {
 	 * Get all test unit objects from test case. Any test units with \"skip = true\" will be skipped. Test units will be ordered as per sequence
 	 * number
 	 */
-	private void groupBasedFiltering(List<String> refGroup) {
+	private void groupBasedFiltering(GroupMatcher groupMatcher) {
 		List<TestUnitObjectWrapper> listOfTestUnitObj = getTestUnitObjectWrapperList(true, true);
 		for (TestUnitObjectWrapper unit : listOfTestUnitObj) {
-			if (belongsToApprovedGroup(refGroup, unit.getGroupList())) {
+			if (groupMatcher.matches(unit.getGroupList())) {
 				listOfTransformedTestUnits.add(unit);
 			}
 		}
@@ -255,35 +267,6 @@ public class ScanTestCase {
 		return removeSkippedTests ? testUnitWrapperList_WithoutSkipped : testUnitWrapperList_All;
 	}
 
-	/**
-	 * Validate if test case belongs to any user defined group(s)
-	 * 
-	 * @param refGroupList list of user defined group (list is made up of group name or regular expression)
-	 * @param testGroupList list of group test case belong to
-	 * @return true if test case belongs to at least one of the user defined groups, false if test case does not belong to any user defined groups
-	 */
-	private boolean belongsToApprovedGroup(List<String> refGroupList, List<String> testGroupList) {
-
-		if (null != refGroupList && null != testGroupList) {
-
-			// Check if string matches
-			if (refGroupList.stream().anyMatch(num -> testGroupList.contains(num))) {
-				return true;
-			} else {
-				// Check if group matches regular expression
-				for (String refGroup : refGroupList) {
-					for (String testcaseGroup : testGroupList) {
-						if (testcaseGroup.matches(refGroup)) {
-							return true;
-						}
-					}
-				}
-			}
-		}
-		return false;
-
-	}
-
 	/**
 	 * Validates if method follows all rules of being {@link Unit}
 	 * 
@@ -350,7 +333,7 @@ public class ScanTestCase {
 				groupList.add("*");
 			}
 
-			return belongsToApprovedGroup(context.getTestSuite().getTestUnitGroupList(), groupList);
+			return unitGroupMatcher.matches(groupList);
 		}
 		*/
 		//@formatter:on
@@ -32,10 +32,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
-import org.reflections.util.ConfigurationBuilder;
-
 import com.artos.annotation.AfterFailedUnit;
 import com.artos.annotation.AfterTest;
 import com.artos.annotation.AfterTestSuite;
@@ -66,7 +62,7 @@ import javassist.Modifier;
 public class ScanTestSuite {
 
 	TestContext context;
-	Reflections reflection;
+	ScanIndex scanIndex;
 	List<TestObjectWrapper> testObjWrapperList_All = new ArrayList<>();
 	List<TestObjectWrapper> testObjWrapperList_WithoutSkipped = new ArrayList<>();
 
@@ -101,12 +97,11 @@ public class ScanTestSuite {
 	 */
 	private void scan(String packageName) {
 
-		// Find all annotation
-//		reflection = new Reflections(packageName, new MethodAnnotationsScanner(), new TypeAnnotationsScanner(), new SubTypesScanner(false));
-		reflection = new Reflections(new ConfigurationBuilder().forPackage(packageName).setScanners(Scanners.MethodsAnnotated, Scanners.TypesAnnotated, Scanners.SubTypes.filterResultsBy(s -> true)));
+		// Find all annotation, stored scan index is used if enabled and class files have not changed
+		scanIndex = ScanIndex.load(packageName);
 
 		// GetAllDataProviderMethods => Filter Public methods => Get UpperCase DataProviderName => Store it
-		reflection.getMethodsAnnotatedWith(DataProvider.class).stream().filter(m -> Modifier.isPublic(m.getModifiers())).forEach(m -> {
+		scanIndex.getDataProviderMethodList().stream().filter(m -> Modifier.isPublic(m.getModifiers())).forEach(m -> {
 			String dataProviderName = m.getAnnotation(DataProvider.class).name().toUpperCase();
 			TestDataProvider testDataProvider = new TestDataProvider(m, dataProviderName, m.getDeclaringClass(), Modifier.isStatic(m.getModifiers()));
 			if (dataProviderMap.containsKey(dataProviderName)) {
@@ -115,7 +110,10 @@ public class ScanTestSuite {
 			dataProviderMap.put(dataProviderName, testDataProvider);
 		});
 
-		for (Class<?> cl : reflection.getTypesAnnotatedWith(TestCase.class)) {
+		// Test unit group list is compiled once for all test cases
+		GroupMatcher unitGroupMatcher = new GroupMatcher(context.getTestSuite().getTestUnitGroupList());
+
+		for (Class<?> cl : scanIndex.getTestCaseClassList()) {
 
 			if (!TestExecutable.class.isAssignableFrom(cl)) {
 				System.err.println("[WARNING] : Class is not an instance of " + TestExecutable.class.getSimpleName() + " : " + cl.getName());
@@ -218,7 +216,7 @@ public class ScanTestSuite {
 			}
 
 			// Get test units and store it in test object
-			ScanTestCase scanforTestUnits = new ScanTestCase(context, testobj);
+			ScanTestCase scanforTestUnits = new ScanTestCase(context, testobj, unitGroupMatcher);
 			testobj.setTestUnitList(scanforTestUnits.getListOfTransformedTestUnits());
 
 			testObjWrapperList_All.add(testobj);
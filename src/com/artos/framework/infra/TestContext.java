@@ -24,16 +24,22 @@ package com.artos.framework.infra;
 import java.io.File;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import com.artos.framework.Enums.Importance;
+import com.artos.framework.Enums.TestInstanceLifecycle;
+import com.artos.framework.Enums.TestProgressEvent;
 import com.artos.framework.Enums.TestStatus;
 import com.artos.framework.FWStaticStore;
 import com.artos.framework.SystemProperties;
+import com.artos.framework.listener.DashBoardEventBatcher;
 import com.artos.framework.parser.TestSuite;
 import com.artos.interfaces.TestProgress;
 import com.artos.utils.UDP;
@@ -82,7 +88,7 @@ public class TestContext {
 
 	private TestSuite testSuite = null;
 	private CountDownLatch threadLatch;
-	List<TestProgress> listenerList = new ArrayList<TestProgress>();
+	ListenerDispatchTable listeners = new ListenerDispatchTable();
 
 	// Objects required for running test cases
 	private Map<String, TestDataProvider> dataProviderMap;
@@ -94,6 +100,15 @@ public class TestContext {
 	private Method beforeTestUnit = null;
 	private Method afterTestUnit = null;
 	private Method afterFailedUnit = null;
+	// Invokers are created once when before/after methods are set
+	private MethodInvoker beforeTestSuiteInvoker = null;
+	private MethodInvoker afterTestSuiteInvoker = null;
+	private MethodInvoker beforeTestInvoker = null;
+	private MethodInvoker afterTestInvoker = null;
+	private MethodInvoker beforeTestUnitInvoker = null;
+	private MethodInvoker afterTestUnitInvoker = null;
+	private MethodInvoker afterFailedUnitInvoker = null;
+	private TestInstanceProvider testInstanceProvider = null;
 
 	// Current TestCase and Unit
 	private TestObjectWrapper currentTestCase = null;
@@ -111,12 +126,21 @@ public class TestContext {
 	private int testUnitParameterIndex = 0;
 
 	// Global parameters
-	private Map<String, Object> globalObject = new HashMap<String, Object>();
-	private Map<String, String> globalString = new HashMap<String, String>();
+	// Global parameters are shared with child contexts so they must be safe to access from parallel test threads
+	private Map<String, Object> globalObject = Collections.synchronizedMap(new HashMap<String, Object>());
+	private Map<String, String> globalString = Collections.synchronizedMap(new HashMap<String, String>());
 	private Object parameterisedObject1 = null;
 	private Object parameterisedObject2 = null;
+	// Only set for row context, collects test unit outcome instead of shared TestUnitObjectWrapper
+	private List<TestStatus> rowOutcomeList = null;
+	private long rowStartTime = 0;
+	private long rowFinishTime = 0;
+	// Only set for scenario context, step definitions and background scenarios are shared between parallel scenarios
+	private Map<Object, ExecutionRecord> scenarioRecordMap = null;
+	private List<String> scenarioSummaryList = null;
 
 	UDP dashBoardConnector = null;
+	DashBoardEventBatcher dashBoardEventBatcher = null;
 
 	// FeatureFile Related Parameter
 	private Map<String, String> stepParameter = new HashMap<String, String>();
@@ -336,8 +360,13 @@ public class TestContext {
 		}
 
 		// Update test object with final outcome, if parameterised test cases then
-		// status will be tracked in list
-		unit.getTestUnitOutcomeList().add(getCurrentUnitTestStatus());
+		// status will be tracked in list. Row context keeps outcome until it is
+		// merged in row order
+		if (null != rowOutcomeList) {
+			rowOutcomeList.add(getCurrentUnitTestStatus());
+		} else {
+			unit.getTestUnitOutcomeList().add(getCurrentUnitTestStatus());
+		}
 
 		// print test unit outcome on the console and log file
 //		getLogger().info("\n[" + TestStatus.getEnumName(getCurrentUnitTestStatus().getValue()) + "]: "
@@ -399,7 +428,8 @@ public class TestContext {
 			setCurrentKTFCount(getCurrentKTFCount() + 1);
 		}
 
-		long totalTestTime = scenario.getTestFinishTime() - scenario.getTestStartTime();
+		ExecutionRecord scenarioRecord = getRecord(scenario);
+		long totalTestTime = scenarioRecord.finishTime - scenarioRecord.startTime;
 		// Finalise and add test result in log file
 		getLogger().info("\nScenario Result : {}", getCurrentTestStatus().name() + "\n");
 
@@ -410,18 +440,20 @@ public class TestContext {
 		notifyTestResult(scenario, getCurrentTestStatus(), null, getStrBugTrackingReference());
 		// Update test object with final outcome, if parameterised test cases then
 		// status will be tracked in list
-		scenario.getTestOutcomeList().add(getCurrentTestStatus());
+		getRecord(scenario).outcomeList.add(getCurrentTestStatus());
 
 		// Go through test unit of each log and print status of each test units into
 		// report
 		for (int i = 0; i < scenario.getSteplist().size(); i++) {
 			BDDStep step = scenario.getSteplist().get(i);
 			TestUnitObjectWrapper unit = step.getUnit();
-			long totalTestUnitTime = unit.getTestUnitFinishTime() - unit.getTestUnitStartTime();
+			ExecutionRecord unitRecord = getRecord(unit);
+			long totalTestUnitTime = unitRecord.finishTime - unitRecord.startTime;
 
 			// go through outcome list of test unit and print them all
-			for (int j = 0; j < unit.getTestUnitOutcomeList().size(); j++) {
-				appendUnitSummaryReport(scenario, unit, unit.getTestUnitOutcomeList().get(j),
+			List<TestStatus> unitOutcomeList = unitRecord.outcomeList;
+			for (int j = 0; j < unitOutcomeList.size(); j++) {
+				appendUnitSummaryReport(scenario, unit, unitOutcomeList.get(j),
 						step.getStepAction() + " " + step.getStepDescription(), unit.getBugTrackingNumber(),
 						totalTestUnitTime);
 			}
@@ -429,7 +461,7 @@ public class TestContext {
 			// This has to be done in BDD because same test can be called again in next
 			// scenario
 			// This is to avoid mix up
-			unit.getTestUnitOutcomeList().clear();
+			unitOutcomeList.clear();
 		}
 
 		// reset status for next test
@@ -485,7 +517,7 @@ public class TestContext {
 
 		// Update test object with final outcome, if parameterised test cases then
 		// status will be tracked in list
-		unit.getTestUnitOutcomeList().add(getCurrentUnitTestStatus());
+		getRecord(unit).outcomeList.add(getCurrentUnitTestStatus());
 
 		// print test unit outcome on the console and log file
 		getLogger().info("[" + TestStatus.getEnumName(getCurrentUnitTestStatus().getValue()) + "]: "
@@ -503,6 +535,254 @@ public class TestContext {
 		resetUnitTestStatus();
 	}
 
+	/**
+	 * Creates child context which is used to execute a single test case on a
+	 * worker thread. Child context shares suite level objects (logger, test
+	 * suite, global parameters, data providers and before/after methods) with
+	 * this context but maintains its own test status, known to fail flags,
+	 * counters and parameter slots, so parallel test cases can not corrupt each
+	 * other's outcome. Listeners are not shared, runner must register listener(s)
+	 * for the child context.
+	 * 
+	 * @return child {@code TestContext}
+	 * @see #mergeChildContext(TestContext)
+	 */
+	protected TestContext createChildContext() {
+		TestContext child = new TestContext();
+
+		// Logger is thread safe, logger is set directly to avoid printing banner again
+		child.logWrapper = logWrapper;
+		child.testSuite = testSuite;
+		child.threadLatch = threadLatch;
+		child.dashBoardConnector = dashBoardConnector;
+		child.dashBoardEventBatcher = dashBoardEventBatcher;
+
+		// Objects required for running test cases
+		child.dataProviderMap = dataProviderMap;
+		child.prePostRunnableObj = prePostRunnableObj;
+		child.beforeTestSuite = beforeTestSuite;
+		child.afterTestSuite = afterTestSuite;
+		child.beforeTest = beforeTest;
+		child.afterTest = afterTest;
+		child.beforeTestUnit = beforeTestUnit;
+		child.afterTestUnit = afterTestUnit;
+		child.afterFailedUnit = afterFailedUnit;
+		child.beforeTestSuiteInvoker = beforeTestSuiteInvoker;
+		child.afterTestSuiteInvoker = afterTestSuiteInvoker;
+		child.beforeTestInvoker = beforeTestInvoker;
+		child.afterTestInvoker = afterTestInvoker;
+		child.beforeTestUnitInvoker = beforeTestUnitInvoker;
+		child.afterTestUnitInvoker = afterTestUnitInvoker;
+		child.afterFailedUnitInvoker = afterFailedUnitInvoker;
+		child.testInstanceProvider = getTestInstanceProvider().forChildContext();
+
+		// Global parameters are shared between parent and child
+		child.globalObject = globalObject;
+		child.globalString = globalString;
+
+		child.testSuiteStartTime = testSuiteStartTime;
+		return child;
+	}
+
+	/**
+	 * Adds test case and test unit counters of the child context to this
+	 * context. Method must be called by the test suite thread once child context
+	 * has finished test execution, so no locking is required while aggregating
+	 * results.
+	 * 
+	 * @param child child {@code TestContext} created using
+	 *              {@link #createChildContext()}
+	 */
+	protected void mergeChildContext(TestContext child) {
+		totalTestCount += child.totalTestCount;
+		currentPassCount += child.currentPassCount;
+		currentFailCount += child.currentFailCount;
+		currentSkipCount += child.currentSkipCount;
+		currentKTFCount += child.currentKTFCount;
+
+		totalFatalCount += child.totalFatalCount;
+		totalCriticalCount += child.totalCriticalCount;
+		totalHighCount += child.totalHighCount;
+		totalMediumCount += child.totalMediumCount;
+		totalLowCount += child.totalLowCount;
+		totalUndefinedCount += child.totalUndefinedCount;
+
+		totalUnitTestCount += child.totalUnitTestCount;
+		currentUnitPassCount += child.currentUnitPassCount;
+		currentUnitFailCount += child.currentUnitFailCount;
+		currentUnitSkipCount += child.currentUnitSkipCount;
+		currentUnitKTFCount += child.currentUnitKTFCount;
+
+		totalUnitFatalCount += child.totalUnitFatalCount;
+		totalUnitCriticalCount += child.totalUnitCriticalCount;
+		totalUnitHighCount += child.totalUnitHighCount;
+		totalUnitMediumCount += child.totalUnitMediumCount;
+		totalUnitLowCount += child.totalUnitLowCount;
+		totalUnitUndefinedCount += child.totalUnitUndefinedCount;
+	}
+
+	/**
+	 * Creates child context which is used to execute a single data provider row
+	 * on a worker thread. In addition to {@link #createChildContext()}, row
+	 * context inherits current test case, test unit and test status of this
+	 * context and collects test unit outcome and execution time locally, so rows
+	 * executing in parallel do not share parameter slots, outcome list or unit
+	 * execution time.
+	 * 
+	 * @return row {@code TestContext}
+	 * @see #mergeRowContext(TestContext, TestUnitObjectWrapper)
+	 */
+	protected TestContext createRowContext() {
+		TestContext child = createChildContext();
+		child.currentTestCase = currentTestCase;
+		child.currentTestUnit = currentTestUnit;
+		child.currentTestStatus = currentTestStatus;
+		child.KnownToFail = KnownToFail;
+		child.strBugTrackingReference = strBugTrackingReference;
+		child.rowOutcomeList = new ArrayList<>(1);
+		return child;
+	}
+
+	/**
+	 * Merges counters, test status, test unit outcome and execution time of the
+	 * row context into this context. Method must be called by the thread which owns this context,
+	 * in row order, so outcome list of the test unit matches data provider order.
+	 * 
+	 * @param child row {@code TestContext} created using
+	 *              {@link #createRowContext()}
+	 * @param unit  test unit which row belongs to
+	 */
+	protected void mergeRowContext(TestContext child, TestUnitObjectWrapper unit) {
+		mergeChildContext(child);
+		unit.getTestUnitOutcomeList().addAll(child.rowOutcomeList);
+		unit.setTestUnitStartTime(child.rowStartTime);
+		unit.setTestUnitFinishTime(child.rowFinishTime);
+
+		// Test case status can only be upgraded (FAIL=>KTF=>SKIP=>PASS)
+		if (child.currentTestStatus.getValue() >= currentTestStatus.getValue()) {
+			currentTestStatus = child.currentTestStatus;
+		}
+	}
+
+	/**
+	 * Creates child context which is used to execute BDD scenario(s) on a worker
+	 * thread. In addition to {@link #createChildContext()}, scenario context
+	 * collects execution time and outcome of scenarios and steps as well as
+	 * summary report lines locally, because step definitions and background
+	 * scenarios are shared between scenarios executing in parallel.
+	 * 
+	 * @return scenario {@code TestContext}
+	 * @see #mergeScenarioContext(TestContext)
+	 */
+	protected TestContext createScenarioContext() {
+		TestContext child = createChildContext();
+		child.scenarioRecordMap = new IdentityHashMap<>();
+		child.scenarioSummaryList = new ArrayList<>();
+		return child;
+	}
+
+	/**
+	 * Merges counters, scenario outcome and summary report lines of the scenario
+	 * context into this context. Method must be called by the test suite thread
+	 * in scenario order, so summary report and outcome lists match sequential
+	 * execution order.
+	 * 
+	 * @param child scenario {@code TestContext} created using
+	 *              {@link #createScenarioContext()}
+	 */
+	protected void mergeScenarioContext(TestContext child) {
+		mergeChildContext(child);
+		for (Entry<Object, ExecutionRecord> entry : child.scenarioRecordMap.entrySet()) {
+			if (entry.getKey() instanceof BDDScenario) {
+				BDDScenario scenario = (BDDScenario) entry.getKey();
+				scenario.setTestStartTime(entry.getValue().startTime);
+				scenario.setTestFinishTime(entry.getValue().finishTime);
+				scenario.getTestOutcomeList().addAll(entry.getValue().outcomeList);
+			}
+		}
+		for (String summaryString : child.scenarioSummaryList) {
+			writeScenarioSummary(summaryString);
+		}
+	}
+
+	protected void setScenarioStartTime(BDDScenario scenario, long startTime) {
+		if (null != scenarioRecordMap) {
+			getRecord(scenario).startTime = startTime;
+		} else {
+			scenario.setTestStartTime(startTime);
+		}
+	}
+
+	protected void setScenarioFinishTime(BDDScenario scenario, long finishTime) {
+		if (null != scenarioRecordMap) {
+			getRecord(scenario).finishTime = finishTime;
+		} else {
+			scenario.setTestFinishTime(finishTime);
+		}
+	}
+
+	protected void setUnitStartTime(TestUnitObjectWrapper unit, long startTime) {
+		if (null != rowOutcomeList) {
+			rowStartTime = startTime;
+		} else {
+			unit.setTestUnitStartTime(startTime);
+		}
+	}
+
+	protected void setUnitFinishTime(TestUnitObjectWrapper unit, long finishTime) {
+		if (null != rowOutcomeList) {
+			rowFinishTime = finishTime;
+		} else {
+			unit.setTestUnitFinishTime(finishTime);
+		}
+	}
+
+	protected void setStepStartTime(TestUnitObjectWrapper unit, long startTime) {
+		if (null != scenarioRecordMap) {
+			getRecord(unit).startTime = startTime;
+		} else {
+			unit.setTestUnitStartTime(startTime);
+		}
+	}
+
+	protected void setStepFinishTime(TestUnitObjectWrapper unit, long finishTime) {
+		if (null != scenarioRecordMap) {
+			getRecord(unit).finishTime = finishTime;
+		} else {
+			unit.setTestUnitFinishTime(finishTime);
+		}
+	}
+
+	/**
+	 * Returns execution record of the scenario, record is backed by scenario
+	 * object unless this is a scenario context
+	 */
+	private ExecutionRecord getRecord(BDDScenario scenario) {
+		if (null != scenarioRecordMap) {
+			return scenarioRecordMap.computeIfAbsent(scenario, k -> new ExecutionRecord());
+		}
+		return new ExecutionRecord(scenario.getTestStartTime(), scenario.getTestFinishTime(), scenario.getTestOutcomeList());
+	}
+
+	/**
+	 * Returns execution record of the step definition, record is backed by test
+	 * unit object unless this is a scenario context
+	 */
+	private ExecutionRecord getRecord(TestUnitObjectWrapper unit) {
+		if (null != scenarioRecordMap) {
+			return scenarioRecordMap.computeIfAbsent(unit, k -> new ExecutionRecord());
+		}
+		return new ExecutionRecord(unit.getTestUnitStartTime(), unit.getTestUnitFinishTime(), unit.getTestUnitOutcomeList());
+	}
+
+	private void writeScenarioSummary(String summaryString) {
+		if (null != scenarioSummaryList) {
+			scenarioSummaryList.add(summaryString);
+		} else {
+			getLogger().getSummaryLogger().info(summaryString);
+		}
+	}
+
 	/**
 	 * Append test summary to summary report
 	 * 
@@ -585,7 +865,7 @@ public class TestContext {
 
 		String summaryString = testStatus + " = " + testName + " P:" + PassCount + " S:" + SkipCount + " K:" + KTFCount
 				+ " F:" + FailCount + " [" + TestImportance + "] " + testTime + " " + JiraRef;
-		getLogger().getSummaryLogger().info(summaryString);
+		writeScenarioSummary(summaryString);
 		notifyTestCaseSummary(scenario.scenarioDescription, summaryString);
 
 	}
@@ -662,7 +942,7 @@ public class TestContext {
 
 		String summaryString = "  |--" + testStatus + " = " + testName + "  :" + PassCount + "  :" + FailCount + "  :"
 				+ SkipCount + "  :" + KTFCount + " [" + TestImportance + "] " + testTime + " " + JiraRef;
-		getLogger().getSummaryLogger().info(summaryString);
+		writeScenarioSummary(summaryString);
 		notifyTestUnitSummary(scenario.scenarioDescription, summaryString);
 	}
 
@@ -868,55 +1148,55 @@ public class TestContext {
 	// Listener
 	// *******************************************************************
 	protected void registerListener(TestProgress listener) {
-		listenerList.add(listener);
+		listeners.add(listener);
 	}
 
 	protected void deRegisterListener(TestProgress listener) {
-		listenerList.remove(listener);
+		listeners.remove(listener);
 	}
 
 	protected void deRegisterAllListener() {
-		listenerList.clear();
+		listeners.clear();
 	}
 
 	private void notifyTestStatusUpdate(TestStatus testStatus, File snapshot, String Msg) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_CASE_STATUS_UPDATE)) {
 			listener.testCaseStatusUpdate(testStatus, snapshot, Msg);
 		}
 	}
 
 	private void notifyTestResult(TestObjectWrapper t, TestStatus testStatus, File snapshot, String Msg) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_RESULT)) {
 			listener.testResult(t, testStatus, snapshot, Msg);
 		}
 	}
 
 	private void notifyTestResult(BDDScenario scenario, TestStatus testStatus, File snapshot, String Msg) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_RESULT)) {
 			listener.testResult(scenario, testStatus, snapshot, Msg);
 		}
 	}
 
 	private void notifyTestUnitResult(TestUnitObjectWrapper unit, TestStatus testStatus, File snapshot, String Msg) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_UNIT_RESULT)) {
 			listener.testUnitResult(unit, testStatus, snapshot, Msg);
 		}
 	}
 
 	private void notifyTestUnitResult(BDDStep step, TestStatus testStatus, File snapshot, String Msg) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_UNIT_RESULT)) {
 			listener.testUnitResult(step, testStatus, snapshot, Msg);
 		}
 	}
 
 	private void notifyTestCaseSummary(String FQCN, String description) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_CASE_SUMMARY_PRINTING)) {
 			listener.testCaseSummaryPrinting(FQCN, description);
 		}
 	}
 
 	private void notifyTestUnitSummary(String FQCN, String description) {
-		for (TestProgress listener : listenerList) {
+		for (TestProgress listener : listeners.get(TestProgressEvent.TEST_UNIT_SUMMARY_PRINTING)) {
 			listener.testUnitSummaryPrinting(FQCN, description);
 		}
 	}
@@ -1210,6 +1490,11 @@ public class TestContext {
 
 	protected void setBeforeTestSuite(Method beforeTestSuite) {
 		this.beforeTestSuite = beforeTestSuite;
+		this.beforeTestSuiteInvoker = null == beforeTestSuite ? null : new MethodInvoker(beforeTestSuite);
+	}
+
+	MethodInvoker getBeforeTestSuiteInvoker() {
+		return beforeTestSuiteInvoker;
 	}
 
 	protected Method getAfterTestSuite() {
@@ -1218,6 +1503,11 @@ public class TestContext {
 
 	protected void setAfterTestSuite(Method afterTestSuite) {
 		this.afterTestSuite = afterTestSuite;
+		this.afterTestSuiteInvoker = null == afterTestSuite ? null : new MethodInvoker(afterTestSuite);
+	}
+
+	MethodInvoker getAfterTestSuiteInvoker() {
+		return afterTestSuiteInvoker;
 	}
 
 	protected Method getBeforeTest() {
@@ -1226,6 +1516,11 @@ public class TestContext {
 
 	protected void setBeforeTest(Method beforeTest) {
 		this.beforeTest = beforeTest;
+		this.beforeTestInvoker = null == beforeTest ? null : new MethodInvoker(beforeTest);
+	}
+
+	MethodInvoker getBeforeTestInvoker() {
+		return beforeTestInvoker;
 	}
 
 	protected Method getAfterTest() {
@@ -1234,6 +1529,11 @@ public class TestContext {
 
 	protected void setAfterTest(Method afterTest) {
 		this.afterTest = afterTest;
+		this.afterTestInvoker = null == afterTest ? null : new MethodInvoker(afterTest);
+	}
+
+	MethodInvoker getAfterTestInvoker() {
+		return afterTestInvoker;
 	}
 
 	protected Method getBeforeTestUnit() {
@@ -1242,6 +1542,11 @@ public class TestContext {
 
 	protected void setBeforeTestUnit(Method beforeTestUnit) {
 		this.beforeTestUnit = beforeTestUnit;
+		this.beforeTestUnitInvoker = null == beforeTestUnit ? null : new MethodInvoker(beforeTestUnit);
+	}
+
+	MethodInvoker getBeforeTestUnitInvoker() {
+		return beforeTestUnitInvoker;
 	}
 
 	protected Method getAfterTestUnit() {
@@ -1250,6 +1555,11 @@ public class TestContext {
 
 	protected void setAfterTestUnit(Method afterTestUnit) {
 		this.afterTestUnit = afterTestUnit;
+		this.afterTestUnitInvoker = null == afterTestUnit ? null : new MethodInvoker(afterTestUnit);
+	}
+
+	MethodInvoker getAfterTestUnitInvoker() {
+		return afterTestUnitInvoker;
 	}
 
 	public int getTotalFatalCount() {
@@ -1432,12 +1742,38 @@ public class TestContext {
 		this.dashBoardConnector = dashBoardConnector;
 	}
 
+	public DashBoardEventBatcher getDashBoardEventBatcher() {
+		return dashBoardEventBatcher;
+	}
+
+	protected void setDashBoardEventBatcher(DashBoardEventBatcher dashBoardEventBatcher) {
+		this.dashBoardEventBatcher = dashBoardEventBatcher;
+	}
+
 	public Method getAfterFailedUnit() {
 		return afterFailedUnit;
 	}
 
 	protected void setAfterFailedUnit(Method afterFailedUnit) {
 		this.afterFailedUnit = afterFailedUnit;
+		this.afterFailedUnitInvoker = null == afterFailedUnit ? null : new MethodInvoker(afterFailedUnit);
+	}
+
+	MethodInvoker getAfterFailedUnitInvoker() {
+		return afterFailedUnitInvoker;
+	}
+
+	/**
+	 * Returns provider of test class instances, lifecycle is taken from framework configuration when provider is first requested
+	 * 
+	 * @return TestInstanceProvider
+	 */
+	TestInstanceProvider getTestInstanceProvider() {
+		if (null == testInstanceProvider) {
+			testInstanceProvider = new TestInstanceProvider(
+					null == FWStaticStore.frameworkConfig ? TestInstanceLifecycle.PER_METHOD : FWStaticStore.frameworkConfig.getTestInstanceLifecycleFromXML());
+		}
+		return testInstanceProvider;
 	}
 
 	protected void setCurrentTestCase(TestObjectWrapper t) {
@@ -1472,4 +1808,23 @@ public class TestContext {
 		return currentTestStep;
 	}
 
+	/**
+	 * Execution time and outcome of a scenario or a step definition
+	 */
+	private static class ExecutionRecord {
+		long startTime;
+		long finishTime;
+		final List<TestStatus> outcomeList;
+
+		ExecutionRecord() {
+			this.outcomeList = new ArrayList<>();
+		}
+
+		ExecutionRecord(long startTime, long finishTime, List<TestStatus> outcomeList) {
+			this.startTime = startTime;
+			this.finishTime = finishTime;
+			this.outcomeList = outcomeList;
+		}
+	}
+
 }
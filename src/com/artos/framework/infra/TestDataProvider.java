@@ -29,6 +29,7 @@ public class TestDataProvider {
 	Class<?> classOfTheMethod;
 	Method method;
 	boolean staticMethod;
+	MethodInvoker invoker;
 
 	/**
 	 * @param method method which has {@code DataProvider} annotation
@@ -42,6 +43,7 @@ public class TestDataProvider {
 		this.dataProviderName = dataProviderName;
 		this.classOfTheMethod = classOfTheMethod;
 		this.staticMethod = staticMethod;
+		this.invoker = new MethodInvoker(method);
 	}
 
 	public String getDataProviderName() {
@@ -56,6 +58,10 @@ public class TestDataProvider {
 		return method;
 	}
 
+	MethodInvoker getInvoker() {
+		return invoker;
+	}
+
 	public boolean isStaticMethod() {
 		return staticMethod;
 	}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.artos.framework.Enums.TestInstanceLifecycle;
+
+/**
+ * Provides test class and pre-post runnable class instances used to invoke test units, before/after methods and non-static data providers.
+ * Instances are reused according to {@code TestInstanceLifecycle}, runners notify provider when unit execution is started and finished and
+ * when test case execution is finished.
+ * 
+ * <PRE>
+ * PER_METHOD    : new instance for every method invocation (default)
+ * PER_UNIT      : unit, its before/after unit methods share an instance which is discarded after the unit (each data provider row is a unit
+ *                 execution). Before/after test case methods and data provider share a test case scoped instance.
+ * PER_TEST_CASE : instances are discarded after each test case
+ * PER_SUITE     : instances are kept for the whole test suite, parallel test cases share instances so test class must be thread safe
+ * </PRE>
+ */
+public class TestInstanceProvider {
+
+	// No argument constructor of each class is looked up only once
+	private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+		@Override
+		protected MethodHandle computeValue(Class<?> type) {
+			try {
+				return MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				return null;
+			}
+		}
+	};
+
+	private final TestInstanceLifecycle lifecycle;
+	// Instances which live until test case (or test suite) is finished
+	private final Map<Class<?>, Object> instanceMap = new ConcurrentHashMap<>();
+	// Instances which live until unit is finished, only used by PER_UNIT lifecycle
+	private final Map<Class<?>, Object> unitInstanceMap = new ConcurrentHashMap<>();
+	private volatile boolean unitRunning = false;
+
+	/**
+	 * @param lifecycle instance lifecycle
+	 */
+	public TestInstanceProvider(TestInstanceLifecycle lifecycle) {
+		this.lifecycle = lifecycle;
+	}
+
+	/**
+	 * Returns instance of provided class, new instance is created if instance is not available for the current lifecycle
+	 * 
+	 * @param cls test class or pre-post runnable class
+	 * @return instance of the class
+	 * @throws ReflectiveOperationException if instance can not be created, InvocationTargetException if constructor throws an exception
+	 */
+	public Object getInstance(Class<?> cls) throws ReflectiveOperationException {
+		if (lifecycle == TestInstanceLifecycle.PER_METHOD) {
+			return newInstance(cls);
+		}
+		Map<Class<?>, Object> map = (lifecycle == TestInstanceLifecycle.PER_UNIT && unitRunning) ? unitInstanceMap : instanceMap;
+		Object instance = map.get(cls);
+		if (null == instance) {
+			instance = newInstance(cls);
+			Object existing = map.putIfAbsent(cls, instance);
+			if (null != existing) {
+				instance = existing;
+			}
+		}
+		return instance;
+	}
+
+	private static Object newInstance(Class<?> cls) throws ReflectiveOperationException {
+		MethodHandle constructor = CONSTRUCTORS.get(cls);
+		if (null == constructor) {
+			// Reflection reports why instance can not be created
+			return cls.getDeclaredConstructor().newInstance();
+		}
+		try {
+			return constructor.invokeExact();
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	/**
+	 * Must be called before unit execution (including before unit methods) is started
+	 */
+	public void unitStarted() {
+		unitInstanceMap.clear();
+		unitRunning = true;
+	}
+
+	/**
+	 * Must be called once unit execution (including after unit methods) is finished
+	 */
+	public void unitFinished() {
+		unitRunning = false;
+		unitInstanceMap.clear();
+	}
+
+	/**
+	 * Must be called once test case execution (including after test case methods) is finished
+	 */
+	public void testCaseFinished() {
+		if (lifecycle != TestInstanceLifecycle.PER_SUITE) {
+			instanceMap.clear();
+		}
+	}
+
+	/**
+	 * Returns provider for child context. Suite scoped provider is shared, otherwise each child context gets own provider because test cases are
+	 * executed in parallel.
+	 * 
+	 * @return TestInstanceProvider
+	 */
+	TestInstanceProvider forChildContext() {
+		return lifecycle == TestInstanceLifecycle.PER_SUITE ? this : new TestInstanceProvider(lifecycle);
+	}
+
+	public TestInstanceLifecycle getLifecycle() {
+		return lifecycle;
+	}
+}
@@ -63,6 +63,11 @@ public class TestObjectWrapper {
 	Method methodAfterTestUnit = null;
 	Method methodBeforeTestCase = null;
 	Method methodAfterTestCase = null;
+	// Invokers are created once at scan time
+	MethodInvoker beforeTestUnitInvoker = null;
+	MethodInvoker afterTestUnitInvoker = null;
+	MethodInvoker beforeTestCaseInvoker = null;
+	MethodInvoker afterTestCaseInvoker = null;
 	List<TestUnitObjectWrapper> testUnitList = null;
 
 	// TestPlan
@@ -283,6 +288,11 @@ public class TestObjectWrapper {
 
 	public void setMethodBeforeTestUnit(Method methodBeforeTestUnit) {
 		this.methodBeforeTestUnit = methodBeforeTestUnit;
+		this.beforeTestUnitInvoker = null == methodBeforeTestUnit ? null : new MethodInvoker(methodBeforeTestUnit);
+	}
+
+	MethodInvoker getBeforeTestUnitInvoker() {
+		return beforeTestUnitInvoker;
 	}
 
 	public Method getMethodAfterTestUnit() {
@@ -291,6 +301,11 @@ public class TestObjectWrapper {
 
 	public void setMethodAfterTestUnit(Method methodAfterTestUnit) {
 		this.methodAfterTestUnit = methodAfterTestUnit;
+		this.afterTestUnitInvoker = null == methodAfterTestUnit ? null : new MethodInvoker(methodAfterTestUnit);
+	}
+
+	MethodInvoker getAfterTestUnitInvoker() {
+		return afterTestUnitInvoker;
 	}
 
 	public Boolean getEnforce() {
@@ -323,6 +338,11 @@ public class TestObjectWrapper {
 
 	public void setMethodBeforeTestCase(Method methodBeforeTestCase) {
 		this.methodBeforeTestCase = methodBeforeTestCase;
+		this.beforeTestCaseInvoker = null == methodBeforeTestCase ? null : new MethodInvoker(methodBeforeTestCase);
+	}
+
+	MethodInvoker getBeforeTestCaseInvoker() {
+		return beforeTestCaseInvoker;
 	}
 
 	public Method getMethodAfterTestCase() {
@@ -331,6 +351,11 @@ public class TestObjectWrapper {
 
 	public void setMethodAfterTestCase(Method methodAfterTestCase) {
 		this.methodAfterTestCase = methodAfterTestCase;
+		this.afterTestCaseInvoker = null == methodAfterTestCase ? null : new MethodInvoker(methodAfterTestCase);
+	}
+
+	MethodInvoker getAfterTestCaseInvoker() {
+		return afterTestCaseInvoker;
 	}
 
 	public boolean isDropRemainingTestsUponFailure() {
@@ -0,0 +1,389 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.io.File;
+import java.util.function.Consumer;
+
+import com.artos.framework.Enums.TestProgressEvent;
+import com.artos.framework.Enums.TestStatus;
+import com.artos.interfaces.TestProgress;
+
+/**
+ * Listener which converts every test progress event into an event object
+ * ({@code Consumer<TestProgress>}) holding event arguments, so event can be
+ * delivered to listener(s) later or on another thread. Subclass decides what
+ * happens to published event.
+ * 
+ * @see TestProgressRecorder
+ * @see AsyncTestProgressDispatcher
+ */
+abstract class TestProgressEventPublisher implements TestProgress {
+
+	/**
+	 * Accepts event published by any of the {@code TestProgress} methods
+	 * 
+	 * @param type  event type
+	 * @param event event which notifies given listener
+	 */
+	protected abstract void publish(TestProgressEvent type, Consumer<TestProgress> event);
+
+	@Override
+	public void testExecutionLoopCount(int count) {
+		publish(TestProgressEvent.TEST_EXECUTION_LOOP_COUNT, listener -> listener.testExecutionLoopCount(count));
+	}
+
+	@Override
+	public void beforeTestSuiteMethodExecutionStarted(String methodName, String description) {
+		publish(TestProgressEvent.BEFORE_TEST_SUITE_METHOD_EXECUTION_STARTED, listener -> listener.beforeTestSuiteMethodExecutionStarted(methodName, description));
+	}
+
+	@Override
+	public void beforeTestSuiteMethodExecutionFinished(String description) {
+		publish(TestProgressEvent.BEFORE_TEST_SUITE_METHOD_EXECUTION_FINISHED, listener -> listener.beforeTestSuiteMethodExecutionFinished(description));
+	}
+
+	@Override
+	public void testSuiteExecutionStarted(String description) {
+		publish(TestProgressEvent.TEST_SUITE_EXECUTION_STARTED, listener -> listener.testSuiteExecutionStarted(description));
+	}
+
+	@Override
+	public void testSuiteExecutionFinished(String description) {
+		publish(TestProgressEvent.TEST_SUITE_EXECUTION_FINISHED, listener -> listener.testSuiteExecutionFinished(description));
+	}
+
+	@Override
+	public void afterTestSuiteMethodExecutionStarted(String methodName, String description) {
+		publish(TestProgressEvent.AFTER_TEST_SUITE_METHOD_EXECUTION_STARTED, listener -> listener.afterTestSuiteMethodExecutionStarted(methodName, description));
+	}
+
+	@Override
+	public void afterTestSuiteMethodExecutionFinished(String description) {
+		publish(TestProgressEvent.AFTER_TEST_SUITE_METHOD_EXECUTION_FINISHED, listener -> listener.afterTestSuiteMethodExecutionFinished(description));
+	}
+
+	@Override
+	public void printTestPlan(TestObjectWrapper t) {
+		publish(TestProgressEvent.PRINT_TEST_PLAN, listener -> listener.printTestPlan(t));
+	}
+
+	@Override
+	public void printTestPlan(BDDScenario sc) {
+		publish(TestProgressEvent.PRINT_TEST_PLAN, listener -> listener.printTestPlan(sc));
+	}
+
+	@Override
+	public void printTestUnitPlan(TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.PRINT_TEST_UNIT_PLAN, listener -> listener.printTestUnitPlan(unit));
+	}
+
+	@Override
+	public void printTestUnitPlan(BDDStep step) {
+		publish(TestProgressEvent.PRINT_TEST_UNIT_PLAN, listener -> listener.printTestUnitPlan(step));
+	}
+
+	@Override
+	public void globalBeforeTestUnitMethodExecutionStarted(String methodName, TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_STARTED, listener -> listener.globalBeforeTestUnitMethodExecutionStarted(methodName, unit));
+	}
+
+	@Override
+	public void globalBeforeTestUnitMethodExecutionStarted(String methodName, BDDStep step) {
+		publish(TestProgressEvent.GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_STARTED, listener -> listener.globalBeforeTestUnitMethodExecutionStarted(methodName, step));
+	}
+
+	@Override
+	public void globalBeforeTestUnitMethodExecutionFinished(TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_FINISHED, listener -> listener.globalBeforeTestUnitMethodExecutionFinished(unit));
+	}
+
+	@Override
+	public void globalBeforeTestUnitMethodExecutionFinished(BDDStep step) {
+		publish(TestProgressEvent.GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_FINISHED, listener -> listener.globalBeforeTestUnitMethodExecutionFinished(step));
+	}
+
+	@Override
+	public void globalAfterTestUnitMethodExecutionStarted(String methodName, TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_STARTED, listener -> listener.globalAfterTestUnitMethodExecutionStarted(methodName, unit));
+	}
+
+	@Override
+	public void globalAfterTestUnitMethodExecutionStarted(String methodName, BDDStep step) {
+		publish(TestProgressEvent.GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_STARTED, listener -> listener.globalAfterTestUnitMethodExecutionStarted(methodName, step));
+	}
+
+	@Override
+	public void globalAfterFailedUnitMethodExecutionStarted(String methodName, TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_STARTED, listener -> listener.globalAfterFailedUnitMethodExecutionStarted(methodName, unit));
+	}
+
+	@Override
+	public void globalAfterFailedUnitMethodExecutionStarted(String methodName, BDDStep step) {
+		publish(TestProgressEvent.GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_STARTED, listener -> listener.globalAfterFailedUnitMethodExecutionStarted(methodName, step));
+	}
+
+	@Override
+	public void globalAfterTestUnitMethodExecutionFinished(TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_FINISHED, listener -> listener.globalAfterTestUnitMethodExecutionFinished(unit));
+	}
+
+	@Override
+	public void globalAfterTestUnitMethodExecutionFinished(BDDStep step) {
+		publish(TestProgressEvent.GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_FINISHED, listener -> listener.globalAfterTestUnitMethodExecutionFinished(step));
+	}
+
+	@Override
+	public void globalAfterFailedUnitMethodExecutionFinished(TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_FINISHED, listener -> listener.globalAfterFailedUnitMethodExecutionFinished(unit));
+	}
+
+	@Override
+	public void globalAfterFailedUnitMethodExecutionFinished(BDDStep step) {
+		publish(TestProgressEvent.GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_FINISHED, listener -> listener.globalAfterFailedUnitMethodExecutionFinished(step));
+	}
+
+	@Override
+	public void localBeforeTestUnitMethodExecutionStarted(TestObjectWrapper t, TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.LOCAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_STARTED, listener -> listener.localBeforeTestUnitMethodExecutionStarted(t, unit));
+	}
+
+	@Override
+	public void localBeforeTestUnitMethodExecutionFinished(TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.LOCAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_FINISHED, listener -> listener.localBeforeTestUnitMethodExecutionFinished(unit));
+	}
+
+	@Override
+	public void localAfterTestUnitMethodExecutionStarted(TestObjectWrapper t, TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.LOCAL_AFTER_TEST_UNIT_METHOD_EXECUTION_STARTED, listener -> listener.localAfterTestUnitMethodExecutionStarted(t, unit));
+	}
+
+	@Override
+	public void localAfterTestUnitMethodExecutionFinished(TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.LOCAL_AFTER_TEST_UNIT_METHOD_EXECUTION_FINISHED, listener -> listener.localAfterTestUnitMethodExecutionFinished(unit));
+	}
+
+	@Override
+	public void globalBeforeTestCaseMethodExecutionStarted(String methodName, TestObjectWrapper t) {
+		publish(TestProgressEvent.GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_STARTED, listener -> listener.globalBeforeTestCaseMethodExecutionStarted(methodName, t));
+	}
+
+	@Override
+	public void globalBeforeTestCaseMethodExecutionStarted(String methodName, BDDScenario scenario) {
+		publish(TestProgressEvent.GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_STARTED, listener -> listener.globalBeforeTestCaseMethodExecutionStarted(methodName, scenario));
+	}
+
+	@Override
+	public void globalBeforeTestCaseMethodExecutionFinished(TestObjectWrapper t) {
+		publish(TestProgressEvent.GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_FINISHED, listener -> listener.globalBeforeTestCaseMethodExecutionFinished(t));
+	}
+
+	@Override
+	public void globalBeforeTestCaseMethodExecutionFinished(BDDScenario scenario) {
+		publish(TestProgressEvent.GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_FINISHED, listener -> listener.globalBeforeTestCaseMethodExecutionFinished(scenario));
+	}
+
+	@Override
+	public void globalAfterTestCaseMethodExecutionStarted(String methodName, TestObjectWrapper t) {
+		publish(TestProgressEvent.GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_STARTED, listener -> listener.globalAfterTestCaseMethodExecutionStarted(methodName, t));
+	}
+
+	@Override
+	public void globalAfterTestCaseMethodExecutionStarted(String methodName, BDDScenario scenario) {
+		publish(TestProgressEvent.GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_STARTED, listener -> listener.globalAfterTestCaseMethodExecutionStarted(methodName, scenario));
+	}
+
+	@Override
+	public void globalAfterTestCaseMethodExecutionFinished(TestObjectWrapper t) {
+		publish(TestProgressEvent.GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_FINISHED, listener -> listener.globalAfterTestCaseMethodExecutionFinished(t));
+	}
+
+	@Override
+	public void globalAfterTestCaseMethodExecutionFinished(BDDScenario scenario) {
+		publish(TestProgressEvent.GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_FINISHED, listener -> listener.globalAfterTestCaseMethodExecutionFinished(scenario));
+	}
+
+	@Override
+	public void localBeforeTestCaseMethodExecutionStarted(String methodName, TestObjectWrapper t) {
+		publish(TestProgressEvent.LOCAL_BEFORE_TEST_CASE_METHOD_EXECUTION_STARTED, listener -> listener.localBeforeTestCaseMethodExecutionStarted(methodName, t));
+	}
+
+	@Override
+	public void localBeforeTestCaseMethodExecutionFinished(TestObjectWrapper t) {
+		publish(TestProgressEvent.LOCAL_BEFORE_TEST_CASE_METHOD_EXECUTION_FINISHED, listener -> listener.localBeforeTestCaseMethodExecutionFinished(t));
+	}
+
+	@Override
+	public void localAfterTestCaseMethodExecutionStarted(String methodName, TestObjectWrapper t) {
+		publish(TestProgressEvent.LOCAL_AFTER_TEST_CASE_METHOD_EXECUTION_STARTED, listener -> listener.localAfterTestCaseMethodExecutionStarted(methodName, t));
+	}
+
+	@Override
+	public void localAfterTestCaseMethodExecutionFinished(TestObjectWrapper t) {
+		publish(TestProgressEvent.LOCAL_AFTER_TEST_CASE_METHOD_EXECUTION_FINISHED, listener -> listener.localAfterTestCaseMethodExecutionFinished(t));
+	}
+
+	@Override
+	public void testCaseExecutionStarted(TestObjectWrapper t) {
+		publish(TestProgressEvent.TEST_CASE_EXECUTION_STARTED, listener -> listener.testCaseExecutionStarted(t));
+	}
+
+	@Override
+	public void testCaseExecutionStarted(BDDScenario scenario) {
+		publish(TestProgressEvent.TEST_CASE_EXECUTION_STARTED, listener -> listener.testCaseExecutionStarted(scenario));
+	}
+
+	@Override
+	public void testCaseExecutionFinished(TestObjectWrapper t) {
+		publish(TestProgressEvent.TEST_CASE_EXECUTION_FINISHED, listener -> listener.testCaseExecutionFinished(t));
+	}
+
+	@Override
+	public void testCaseExecutionFinished(BDDScenario scenario) {
+		publish(TestProgressEvent.TEST_CASE_EXECUTION_FINISHED, listener -> listener.testCaseExecutionFinished(scenario));
+	}
+
+	@Override
+	public void testUnitExecutionStarted(TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.TEST_UNIT_EXECUTION_STARTED, listener -> listener.testUnitExecutionStarted(unit));
+	}
+
+	@Override
+	public void testUnitExecutionStarted(BDDStep step) {
+		publish(TestProgressEvent.TEST_UNIT_EXECUTION_STARTED, listener -> listener.testUnitExecutionStarted(step));
+	}
+
+	@Override
+	public void testUnitExecutionFinished(TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.TEST_UNIT_EXECUTION_FINISHED, listener -> listener.testUnitExecutionFinished(unit));
+	}
+
+	@Override
+	public void testUnitExecutionFinished(BDDStep step) {
+		publish(TestProgressEvent.TEST_UNIT_EXECUTION_FINISHED, listener -> listener.testUnitExecutionFinished(step));
+	}
+
+	@Override
+	public void testCaseExecutionSkipped(TestObjectWrapper t) {
+		publish(TestProgressEvent.TEST_CASE_EXECUTION_SKIPPED, listener -> listener.testCaseExecutionSkipped(t));
+	}
+
+	@Override
+	public void childTestCaseExecutionStarted(TestObjectWrapper t, String paramInfo) {
+		publish(TestProgressEvent.CHILD_TEST_CASE_EXECUTION_STARTED, listener -> listener.childTestCaseExecutionStarted(t, paramInfo));
+	}
+
+	@Override
+	public void childTestCaseExecutionStarted(BDDScenario scenario, String paramInfo) {
+		publish(TestProgressEvent.CHILD_TEST_CASE_EXECUTION_STARTED, listener -> listener.childTestCaseExecutionStarted(scenario, paramInfo));
+	}
+
+	@Override
+	public void childTestCaseExecutionFinished(TestObjectWrapper t) {
+		publish(TestProgressEvent.CHILD_TEST_CASE_EXECUTION_FINISHED, listener -> listener.childTestCaseExecutionFinished(t));
+	}
+
+	@Override
+	public void childTestCaseExecutionFinished(BDDScenario scenario) {
+		publish(TestProgressEvent.CHILD_TEST_CASE_EXECUTION_FINISHED, listener -> listener.childTestCaseExecutionFinished(scenario));
+	}
+
+	@Override
+	public void childTestUnitExecutionStarted(TestObjectWrapper t, TestUnitObjectWrapper unit, String paramInfo) {
+		publish(TestProgressEvent.CHILD_TEST_UNIT_EXECUTION_STARTED, listener -> listener.childTestUnitExecutionStarted(t, unit, paramInfo));
+	}
+
+	@Override
+	public void childTestUnitExecutionStarted(BDDScenario scenario, BDDStep step, String paramInfo) {
+		publish(TestProgressEvent.CHILD_TEST_UNIT_EXECUTION_STARTED, listener -> listener.childTestUnitExecutionStarted(scenario, step, paramInfo));
+	}
+
+	@Override
+	public void childTestUnitExecutionFinished(TestUnitObjectWrapper unit) {
+		publish(TestProgressEvent.CHILD_TEST_UNIT_EXECUTION_FINISHED, listener -> listener.childTestUnitExecutionFinished(unit));
+	}
+
+	@Override
+	public void childTestUnitExecutionFinished(BDDStep step) {
+		publish(TestProgressEvent.CHILD_TEST_UNIT_EXECUTION_FINISHED, listener -> listener.childTestUnitExecutionFinished(step));
+	}
+
+	@Override
+	public void testCaseStatusUpdate(TestStatus testStatus, File snapshot, String msg) {
+		publish(TestProgressEvent.TEST_CASE_STATUS_UPDATE, listener -> listener.testCaseStatusUpdate(testStatus, snapshot, msg));
+	}
+
+	@Override
+	public void testResult(TestObjectWrapper t, TestStatus testStatus, File snapshot, String description) {
+		publish(TestProgressEvent.TEST_RESULT, listener -> listener.testResult(t, testStatus, snapshot, description));
+	}
+
+	@Override
+	public void testResult(BDDScenario scenario, TestStatus testStatus, File snapshot, String description) {
+		publish(TestProgressEvent.TEST_RESULT, listener -> listener.testResult(scenario, testStatus, snapshot, description));
+	}
+
+	@Override
+	public void testCaseSummaryPrinting(String FQCN, String description) {
+		publish(TestProgressEvent.TEST_CASE_SUMMARY_PRINTING, listener -> listener.testCaseSummaryPrinting(FQCN, description));
+	}
+
+	@Override
+	public void testUnitResult(TestUnitObjectWrapper unit, TestStatus testStatus, File snapshot, String description) {
+		publish(TestProgressEvent.TEST_UNIT_RESULT, listener -> listener.testUnitResult(unit, testStatus, snapshot, description));
+	}
+
+	@Override
+	public void testUnitResult(BDDStep step, TestStatus testStatus, File snapshot, String description) {
+		publish(TestProgressEvent.TEST_UNIT_RESULT, listener -> listener.testUnitResult(step, testStatus, snapshot, description));
+	}
+
+	@Override
+	public void testUnitSummaryPrinting(String FQCN, String description) {
+		publish(TestProgressEvent.TEST_UNIT_SUMMARY_PRINTING, listener -> listener.testUnitSummaryPrinting(FQCN, description));
+	}
+
+	@Override
+	public void testSuiteSummaryPrinting(String description) {
+		publish(TestProgressEvent.TEST_SUITE_SUMMARY_PRINTING, listener -> listener.testSuiteSummaryPrinting(description));
+	}
+
+	@Override
+	public void testSuiteFailureHighlight(String description) {
+		publish(TestProgressEvent.TEST_SUITE_FAILURE_HIGHLIGHT, listener -> listener.testSuiteFailureHighlight(description));
+	}
+
+	@Override
+	public void testSuiteException(Throwable e) {
+		publish(TestProgressEvent.TEST_SUITE_EXCEPTION, listener -> listener.testSuiteException(e));
+	}
+
+	@Override
+	public void testException(Throwable e) {
+		publish(TestProgressEvent.TEST_EXCEPTION, listener -> listener.testException(e));
+	}
+
+	@Override
+	public void unitException(Throwable e) {
+		publish(TestProgressEvent.UNIT_EXCEPTION, listener -> listener.unitException(e));
+	}
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import com.artos.framework.Enums.TestProgressEvent;
+import com.artos.interfaces.TestProgress;
+
+/**
+ * Listener which records test progress events instead of delivering them. Used
+ * during parallel test execution, each worker thread records events for its own
+ * test case and test suite thread replays them on registered listeners once test
+ * case is finished, so listeners receive events of one test case at a time and
+ * on a single thread.
+ */
+class TestProgressRecorder extends TestProgressEventPublisher {
+
+	// Events can be recorded by timeout thread and worker thread at the same time
+	private final Queue<RecordedEvent> eventQueue = new ConcurrentLinkedQueue<>();
+
+	@Override
+	protected void publish(TestProgressEvent type, Consumer<TestProgress> event) {
+		eventQueue.add(new RecordedEvent(type, event));
+	}
+
+	/**
+	 * Delivers all recorded events to interested listeners in the same order as
+	 * they were recorded. Recorded events are removed once delivered.
+	 * 
+	 * @param listeners listeners to be notified
+	 */
+	protected void replay(ListenerDispatchTable listeners) {
+		RecordedEvent recorded;
+		while (null != (recorded = eventQueue.poll())) {
+			for (TestProgress listener : listeners.get(recorded.type)) {
+				recorded.event.accept(listener);
+			}
+		}
+	}
+
+	private static class RecordedEvent {
+		final TestProgressEvent type;
+		final Consumer<TestProgress> event;
+
+		RecordedEvent(TestProgressEvent type, Consumer<TestProgress> event) {
+			this.type = type;
+			this.event = event;
+		}
+	}
+}
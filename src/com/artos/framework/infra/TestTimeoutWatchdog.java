@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Framework wide timeout service for test cases and test units. Timed test is executed on a worker thread while calling thread waits for it.
+ * Deadlines are kept in a hashed timer wheel which is driven by a single daemon thread, so arming and disarming a deadline costs a queue insert
+ * and a compare-and-set and no timer thread is created per test. If deadline expires then worker thread is interrupted and abandoned, calling
+ * thread continues straight away even if test ignores the interrupt or is blocked in non-interruptible I/O.
+ * 
+ * <PRE>
+ * - Watchdog thread is started upon first request and parks while no deadline is armed
+ * - Deadline precision is one tick (10 ms)
+ * - Worker threads are daemon threads, abandoned worker does not prevent JVM from exiting
+ * - Code executed by an abandoned worker can query {@link #isExpired()} to stop doing further work
+ * </PRE>
+ */
+public class TestTimeoutWatchdog implements Runnable {
+
+	private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+	// Must be power of two
+	private static final int WHEEL_SIZE = 512;
+
+	private static TestTimeoutWatchdog watchdog = null;
+	// Deadline of the timed execution current worker thread is executing
+	private static final ThreadLocal<Deadline> currentDeadline = new ThreadLocal<>();
+
+	// Deadlines armed by calling threads, only watchdog thread moves them into the wheel
+	private final Queue<Deadline> pendingQueue = new ConcurrentLinkedQueue<>();
+	private final List<List<Deadline>> wheel = new ArrayList<>(WHEEL_SIZE);
+	private final long startNanos = System.nanoTime();
+	private final Thread thread;
+	private final ExecutorService workerService;
+	private volatile boolean idle = false;
+	private long tick = 0;
+	private int deadlineCount = 0;
+
+	private TestTimeoutWatchdog() {
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.add(new ArrayList<>());
+		}
+		// Cached pool, abandoned worker keeps its thread and next timed execution gets a new one
+		AtomicInteger workerCount = new AtomicInteger();
+		workerService = Executors.newCachedThreadPool(r -> {
+			Thread worker = new Thread(r, "TestTimeoutWorker-" + workerCount.incrementAndGet());
+			worker.setDaemon(true);
+			return worker;
+		});
+		thread = new Thread(this, "TestTimeoutWatchdog");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Executes task on a worker thread and waits until it finishes or timeout expires. If timeout expires then worker thread is interrupted and
+	 * abandoned and {@code TimeoutException} is thrown without waiting for the task. If calling thread is itself a timed worker which gets
+	 * interrupted while waiting then nested task is abandoned as well.
+	 * 
+	 * @param task task to be executed
+	 * @param timeoutMillis timeout in milliseconds
+	 * @throws TimeoutException if task did not finish within timeout
+	 * @throws InterruptedException if calling thread is interrupted while waiting
+	 * @throws Exception exception thrown by the task
+	 */
+	public static void run(Callable<?> task, long timeoutMillis) throws TimeoutException, InterruptedException, Exception {
+		TestTimeoutWatchdog instance = getInstance();
+		Deadline deadline = new Deadline(currentDeadline.get(), timeoutMillis);
+		FutureTask<Object> future = new FutureTask<>(() -> {
+			currentDeadline.set(deadline);
+			try {
+				return task.call();
+			} finally {
+				currentDeadline.remove();
+			}
+		});
+		deadline.future = future;
+
+		instance.workerService.execute(future);
+		instance.pendingQueue.offer(deadline);
+		if (instance.idle) {
+			LockSupport.unpark(instance.thread);
+		}
+
+		try {
+			future.get();
+		} catch (CancellationException e) {
+			throw new TimeoutException("Timeout : " + timeoutMillis + "ms, execution abandoned after : " + deadline.getElapsedMillis() + "ms");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			throw e;
+		} finally {
+			deadline.disarm();
+		}
+	}
+
+	/**
+	 * Returns true if current thread is executing a timed task whose deadline, or deadline of any enclosing timed task, has expired. Such thread
+	 * has been abandoned by its caller and should not start any further work.
+	 * 
+	 * @return true if current timed execution has expired
+	 */
+	public static boolean isExpired() {
+		for (Deadline deadline = currentDeadline.get(); null != deadline; deadline = deadline.parent) {
+			if (deadline.isExpired()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static synchronized TestTimeoutWatchdog getInstance() {
+		if (null == watchdog) {
+			watchdog = new TestTimeoutWatchdog();
+		}
+		return watchdog;
+	}
+
+	@Override
+	public void run() {
+		while (true) {
+			if (0 == deadlineCount && pendingQueue.isEmpty()) {
+				// Nothing to watch, park until a deadline is armed
+				idle = true;
+				if (pendingQueue.isEmpty()) {
+					LockSupport.park(this);
+				}
+				idle = false;
+				tick = currentTick();
+			} else {
+				long sleepNanos = startNanos + (tick + 1) * TICK_NANOS - System.nanoTime();
+				if (sleepNanos > 0) {
+					LockSupport.parkNanos(this, sleepNanos);
+					continue;
+				}
+				tick++;
+			}
+			transferPendingDeadlines();
+			expireDeadlines(wheel.get((int) (tick & (WHEEL_SIZE - 1))));
+		}
+	}
+
+	private long currentTick() {
+		return (System.nanoTime() - startNanos) / TICK_NANOS;
+	}
+
+	private void transferPendingDeadlines() {
+		Deadline deadline;
+		while (null != (deadline = pendingQueue.poll())) {
+			if (deadline.isDisarmed()) {
+				continue;
+			}
+			// Round up so deadline never expires early, already passed deadline expires on current tick
+			long deadlineTick = Math.max(tick, (deadline.deadlineNanos - startNanos + TICK_NANOS - 1) / TICK_NANOS);
+			deadline.remainingRounds = (deadlineTick - tick) / WHEEL_SIZE;
+			wheel.get((int) (deadlineTick & (WHEEL_SIZE - 1))).add(deadline);
+			deadlineCount++;
+		}
+	}
+
+	private void expireDeadlines(List<Deadline> bucket) {
+		Iterator<Deadline> it = bucket.iterator();
+		while (it.hasNext()) {
+			Deadline deadline = it.next();
+			if (deadline.isDisarmed()) {
+				it.remove();
+				deadlineCount--;
+			} else if (deadline.remainingRounds > 0) {
+				deadline.remainingRounds--;
+			} else {
+				it.remove();
+				deadlineCount--;
+				deadline.expire();
+			}
+		}
+	}
+
+	/**
+	 * Deadline of a single timed test case or test unit execution
+	 */
+	static class Deadline {
+
+		private static final int ARMED = 0;
+		private static final int DISARMED = 1;
+		private static final int EXPIRED = 2;
+
+		private final Deadline parent;
+		private final long armedNanos;
+		private final long deadlineNanos;
+		private final AtomicInteger state = new AtomicInteger(ARMED);
+		private volatile FutureTask<Object> future;
+		// only accessed by watchdog thread
+		private long remainingRounds = 0;
+
+		private Deadline(Deadline parent, long timeoutMillis) {
+			this.parent = parent;
+			this.armedNanos = System.nanoTime();
+			this.deadlineNanos = armedNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		}
+
+		private void expire() {
+			if (state.compareAndSet(ARMED, EXPIRED)) {
+				// Interrupts worker and releases waiting caller, worker itself is not waited for
+				future.cancel(true);
+			}
+		}
+
+		private void disarm() {
+			state.compareAndSet(ARMED, DISARMED);
+		}
+
+		private boolean isDisarmed() {
+			return state.get() == DISARMED;
+		}
+
+		private boolean isExpired() {
+			return state.get() == EXPIRED;
+		}
+
+		private long getElapsedMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - armedNanos);
+		}
+	}
+}
@@ -41,10 +41,13 @@ public class TestUnitObjectWrapper {
 
 	// TestUnit
 	private Method testUnitMethod = null;
+	// Invoker is created once at scan time
+	private MethodInvoker testUnitInvoker = null;
 	private boolean skipTest = false;
 	private boolean dropRemainingUnitsUponFailure = false;
 	private int testsequence = 0;
 	private String dataProviderName = "";
+	private boolean parallelDataProvider = false;
 	private long testTimeout = 0;
 
 	// TestPlan
@@ -92,6 +95,7 @@ public class TestUnitObjectWrapper {
 		super();
 
 		this.testUnitMethod = method;
+		this.testUnitInvoker = new MethodInvoker(method);
 		this.skipTest = skipTest;
 		this.testsequence = testsequence;
 		this.dataProviderName = dataProviderName;
@@ -122,6 +126,11 @@ public class TestUnitObjectWrapper {
 
 	public void setTestUnitMethod(Method testUnitMethod) {
 		this.testUnitMethod = testUnitMethod;
+		this.testUnitInvoker = null == testUnitMethod ? null : new MethodInvoker(testUnitMethod);
+	}
+
+	MethodInvoker getTestUnitInvoker() {
+		return testUnitInvoker;
 	}
 
 	public boolean isSkipTest() {
@@ -180,6 +189,14 @@ public class TestUnitObjectWrapper {
 		this.dataProviderName = dataProviderName;
 	}
 
+	public boolean isParallelDataProvider() {
+		return parallelDataProvider;
+	}
+
+	public void setParallelDataProvider(boolean parallelDataProvider) {
+		this.parallelDataProvider = parallelDataProvider;
+	}
+
 	public boolean isKTF() {
 		return KTF;
 	}
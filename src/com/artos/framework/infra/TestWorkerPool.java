@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.infra;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.artos.framework.FWStaticStore;
+
+/**
+ * Worker thread pool shared by all test suites for parallel test execution.
+ * Pool is created once and reused across test loops, so short test cases do not
+ * pay for thread creation.
+ * 
+ * <PRE>
+ * Number of worker threads is chosen in following order
+ * - Command line argument (--threadcount)
+ * - Framework configuration (parallelThreadCount)
+ * - Number of available processors
+ * 
+ * If virtual threads are enabled and Java runtime supports them then every task gets its own virtual thread, which is suitable for I/O heavy
+ * test cases. Number of tasks running at the same time is only limited if thread count is configured (command line or framework
+ * configuration). Otherwise work stealing pool is used.
+ * </PRE>
+ */
+public class TestWorkerPool {
+
+	private static ExecutorService executorService = null;
+	private static int threadCount = 0;
+
+	private TestWorkerPool() {
+		// Static class
+	}
+
+	/**
+	 * Returns shared worker pool, pool is created upon first request
+	 * 
+	 * @return {@code ExecutorService}
+	 */
+	public static synchronized ExecutorService getExecutorService() {
+		if (null == executorService || executorService.isShutdown()) {
+			threadCount = getConfiguredThreadCount();
+			ThreadFactory virtualThreadFactory = null;
+			if (FWStaticStore.frameworkConfig.isEnableVirtualThreads()) {
+				virtualThreadFactory = getVirtualThreadFactory();
+				if (null == virtualThreadFactory) {
+					System.err.println("[WARNING] : Virtual threads are not supported by Java runtime. Platform threads will be used");
+				}
+			}
+
+			ExecutorService threadPerTaskExecutor = null == virtualThreadFactory ? null : newThreadPerTaskExecutor(virtualThreadFactory);
+			if (null == threadPerTaskExecutor) {
+				executorService = Executors.newWorkStealingPool(threadCount);
+				FWStaticStore.logDebug("Worker pool created with " + threadCount + " thread(s)");
+			} else if (isThreadCountConfigured()) {
+				executorService = new BoundedExecutorService(threadPerTaskExecutor, threadCount);
+				FWStaticStore.logDebug("Worker pool created with virtual thread per task, limited to " + threadCount + " task(s)");
+			} else {
+				executorService = threadPerTaskExecutor;
+				FWStaticStore.logDebug("Worker pool created with virtual thread per task");
+			}
+		}
+		return executorService;
+	}
+
+	/**
+	 * Returns number of worker threads in the pool. If pool creates a virtual thread per task without limit then number of available processors
+	 * is returned, callers use it to decide in how many parts work is split.
+	 * 
+	 * @return worker thread count
+	 */
+	public static synchronized int getThreadCount() {
+		return null == executorService ? getConfiguredThreadCount() : threadCount;
+	}
+
+	/**
+	 * Shuts down worker pool, next request will create a new pool
+	 */
+	public static synchronized void shutdown() {
+		if (null != executorService) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+	}
+
+	private static boolean isThreadCountConfigured() {
+		return CliProcessor.getThreadCount() > 0 || (null != FWStaticStore.frameworkConfig && FWStaticStore.frameworkConfig.getParallelThreadCount() > 0);
+	}
+
+	private static int getConfiguredThreadCount() {
+		if (CliProcessor.getThreadCount() > 0) {
+			return CliProcessor.getThreadCount();
+		}
+		if (null != FWStaticStore.frameworkConfig && FWStaticStore.frameworkConfig.getParallelThreadCount() > 0) {
+			return FWStaticStore.frameworkConfig.getParallelThreadCount();
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Framework is compiled for Java 8 so virtual thread factory is looked up
+	 * using reflection.
+	 * 
+	 * @return virtual thread factory or null if Java runtime does not support it
+	 */
+	private static ThreadFactory getVirtualThreadFactory() {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+			return (ThreadFactory) factory.invoke(builder);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Executors.newThreadPerTaskExecutor is only available from Java 21 so it is looked up using reflection.
+	 * 
+	 * @param threadFactory thread factory
+	 * @return executor which starts a new thread for each task or null if Java runtime does not support it
+	 */
+	private static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Limits number of tasks which run at the same time on a thread per task executor. Task thread waits for a permit before task is run,
+	 * waiting is cheap because threads are virtual.
+	 */
+	private static class BoundedExecutorService extends AbstractExecutorService {
+
+		private final ExecutorService executor;
+		private final Semaphore permits;
+
+		BoundedExecutorService(ExecutorService executor, int maxTasks) {
+			this.executor = executor;
+			this.permits = new Semaphore(maxTasks);
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			executor.execute(() -> {
+				try {
+					permits.acquire();
+				} catch (InterruptedException e) {
+					// Pool is shut down while task was waiting, task is never run
+					if (command instanceof Future) {
+						((Future<?>) command).cancel(false);
+					}
+					return;
+				}
+				try {
+					command.run();
+				} finally {
+					permits.release();
+				}
+			});
+		}
+
+		@Override
+		public void shutdown() {
+			executor.shutdown();
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return executor.shutdownNow();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return executor.isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return executor.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			return executor.awaitTermination(timeout, unit);
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.listener;
+
+/**
+ * Test progress event sent to the dashboard. Events are encoded using {@link DashBoardEventCodec} when compact dashboard protocol is enabled.
+ */
+public class DashBoardEvent {
+
+	/**
+	 * Dashboard event type, code is used as wire representation
+	 */
+	public enum Type {
+		/** Plain text datagram, sent by connector or legacy dashboard protocol */
+		TEXT(0),
+		/** Test case summary */
+		TEST_CASE_SUMMARY(1),
+		/** Test unit summary */
+		TEST_UNIT_SUMMARY(2);
+
+		private final int code;
+
+		Type(int code) {
+			this.code = code;
+		}
+
+		public int getCode() {
+			return code;
+		}
+
+		public static Type fromCode(int code) {
+			for (Type type : values()) {
+				if (type.code == code) {
+					return type;
+				}
+			}
+			throw new IllegalArgumentException("Unknown dashboard event type : " + code);
+		}
+	}
+
+	private final Type type;
+	private final long timestamp;
+	private final String userName;
+	private final String suiteName;
+	private final String FQCN;
+	private final String description;
+
+	/**
+	 * Constructor, string fields may be null
+	 * 
+	 * @param type        event type
+	 * @param timestamp   event time in milliseconds since epoch
+	 * @param userName    user account name
+	 * @param suiteName   test suite name
+	 * @param FQCN        fully qualified class name or scenario description
+	 * @param description summary string
+	 */
+	public DashBoardEvent(Type type, long timestamp, String userName, String suiteName, String FQCN, String description) {
+		this.type = type;
+		this.timestamp = timestamp;
+		this.userName = userName;
+		this.suiteName = suiteName;
+		this.FQCN = FQCN;
+		this.description = description;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	public String getUserName() {
+		return userName;
+	}
+
+	public String getSuiteName() {
+		return suiteName;
+	}
+
+	public String getFQCN() {
+		return FQCN;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * Returns event in the same format as legacy dashboard text datagram
+	 */
+	@Override
+	public String toString() {
+		if (type == Type.TEXT) {
+			return description;
+		}
+		return description + ":" + userName + ":" + suiteName + ":" + FQCN;
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.listener;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.artos.utils.UDP;
+
+/**
+ * Coalesces dashboard events into compact datagrams. Datagram is sent when the next event does not fit within maximum datagram size or when
+ * oldest event in the batch has waited for maximum batch delay, whichever comes first. Batcher is shared by all test suites which use the same
+ * dashboard connector and is thread safe.
+ */
+public class DashBoardEventBatcher {
+
+	private final UDP udp;
+	private final long maxBatchDelayNanos;
+	private final DashBoardEventCodec.Encoder encoder;
+	private int sequence = 0;
+	private long batchDeadline;
+	private Thread flusher = null;
+	private boolean closed = false;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param udp             dashboard connector
+	 * @param maxDatagramSize maximum datagram size in bytes
+	 * @param maxBatchDelay   maximum time (in milliseconds) an event waits before it is sent
+	 */
+	public DashBoardEventBatcher(UDP udp, int maxDatagramSize, int maxBatchDelay) {
+		this.udp = udp;
+		this.maxBatchDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxBatchDelay));
+		this.encoder = new DashBoardEventCodec.Encoder(maxDatagramSize);
+	}
+
+	/**
+	 * Adds event to current batch. Event added after {@link #close()} is sent immediately.
+	 * 
+	 * @param event dashboard event
+	 */
+	public synchronized void add(DashBoardEvent event) {
+		boolean newBatch = encoder.isEmpty();
+		if (!encoder.append(event)) {
+			send();
+			encoder.append(event);
+			newBatch = true;
+		}
+
+		if (closed || maxBatchDelayNanos == 0) {
+			send();
+			return;
+		}
+
+		if (newBatch) {
+			batchDeadline = System.nanoTime() + maxBatchDelayNanos;
+			if (null == flusher) {
+				flusher = new Thread(this::flushOnDeadline, "artos-dashboard-batcher");
+				flusher.setDaemon(true);
+				flusher.start();
+			} else {
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Sends pending events without waiting for batch delay
+	 */
+	public synchronized void flush() {
+		send();
+	}
+
+	/**
+	 * Sends pending events and stops background flusher
+	 */
+	public synchronized void close() {
+		send();
+		closed = true;
+		notifyAll();
+	}
+
+	private void send() {
+		if (encoder.isEmpty()) {
+			return;
+		}
+		byte[] datagram = encoder.finish(sequence++);
+		try {
+			udp.sendMsg(datagram);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private synchronized void flushOnDeadline() {
+		try {
+			while (!closed) {
+				if (encoder.isEmpty()) {
+					wait();
+					continue;
+				}
+				long remaining = batchDeadline - System.nanoTime();
+				if (remaining <= 0) {
+					send();
+				} else {
+					TimeUnit.NANOSECONDS.timedWait(this, remaining);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,332 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.listener;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes and decodes compact dashboard protocol. A datagram carries a batch of events and is self-contained, so loss of a datagram does not
+ * affect decoding of the next one.
+ * 
+ * <PRE>
+ * Datagram : magic(0xAD) version(1) sequence(int32) baseTime(int64) eventCount(uint16) event...
+ * Event    : type(uint8) timeDelta(zigzag varint) userName suiteName FQCN description
+ * String   : varint 0 followed by varint (length + 1) and UTF-8 bytes, varint 0 followed by varint 0 for null, or varint n referring to n-th
+ *            string already written in the same datagram
+ * </PRE>
+ * 
+ * Multi-byte numbers are big-endian, varints are unsigned LEB128. User name, suite name and FQCN repeat across events of a batch, so those are
+ * written once per datagram. Datagram which does not start with magic byte is treated as legacy text datagram. Event which does not fit in a
+ * single datagram on its own is truncated, longest string fields are shortened until event fits.
+ */
+public class DashBoardEventCodec {
+
+	static final byte MAGIC = (byte) 0xAD;
+	static final byte VERSION = 2;
+	static final int HEADER_SIZE = 16;
+	/** Largest payload which fits in single UDP datagram */
+	public static final int MAX_DATAGRAM_SIZE = 65507;
+	private static final int MAX_EVENT_COUNT = 0xFFFF;
+	/** Size of the first event of a datagram when all string fields are empty or null */
+	private static final int MIN_EVENT_SIZE = 10;
+	/** Smallest datagram size which can hold an event */
+	public static final int MIN_DATAGRAM_SIZE = HEADER_SIZE + MIN_EVENT_SIZE;
+
+	/**
+	 * Returns true if datagram is encoded using compact dashboard protocol
+	 * 
+	 * @param data   datagram data
+	 * @param offset offset of datagram in data
+	 * @param length datagram length
+	 * @return true if datagram is in compact format
+	 */
+	public static boolean isCompact(byte[] data, int offset, int length) {
+		return length >= HEADER_SIZE && data[offset] == MAGIC && data[offset + 1] == VERSION;
+	}
+
+	/**
+	 * Returns sequence number of compact datagram
+	 * 
+	 * @param data   datagram data
+	 * @param offset offset of datagram in data
+	 * @param length datagram length
+	 * @return sequence number
+	 * @throws IllegalArgumentException if datagram is not in compact format
+	 */
+	public static int getSequence(byte[] data, int offset, int length) {
+		if (!isCompact(data, offset, length)) {
+			throw new IllegalArgumentException("Not a compact dashboard datagram");
+		}
+		return ByteBuffer.wrap(data).getInt(offset + 2);
+	}
+
+	/**
+	 * Decodes datagram into list of events. Legacy text datagram is returned as single {@link DashBoardEvent.Type#TEXT} event.
+	 * 
+	 * @param data   datagram data
+	 * @param offset offset of datagram in data
+	 * @param length datagram length
+	 * @return list of decoded events in the order they were encoded
+	 * @throws IllegalArgumentException if compact datagram is malformed
+	 */
+	public static List<DashBoardEvent> decode(byte[] data, int offset, int length) {
+		List<DashBoardEvent> events = new ArrayList<>();
+		if (!isCompact(data, offset, length)) {
+			String text = new String(data, offset, length, StandardCharsets.UTF_8);
+			events.add(new DashBoardEvent(DashBoardEvent.Type.TEXT, System.currentTimeMillis(), null, null, null, text));
+			return events;
+		}
+
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(data, offset, length);
+			buffer.position(offset + 6);
+			long baseTime = buffer.getLong();
+			int count = buffer.getShort() & 0xFFFF;
+			List<String> stringTable = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				DashBoardEvent.Type type = DashBoardEvent.Type.fromCode(buffer.get() & 0xFF);
+				long delta = readVarLong(buffer);
+				long timestamp = baseTime + ((delta >>> 1) ^ -(delta & 1));
+				String userName = readString(buffer, stringTable);
+				String suiteName = readString(buffer, stringTable);
+				String FQCN = readString(buffer, stringTable);
+				String description = readString(buffer, stringTable);
+				events.add(new DashBoardEvent(type, timestamp, userName, suiteName, FQCN, description));
+			}
+		} catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("Malformed dashboard datagram", e);
+		}
+		return events;
+	}
+
+	private static long readVarLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint");
+	}
+
+	private static String readString(ByteBuffer buffer, List<String> stringTable) {
+		int reference = (int) readVarLong(buffer);
+		if (reference != 0) {
+			return stringTable.get(reference - 1);
+		}
+		int length = (int) readVarLong(buffer) - 1;
+		if (length == -1) {
+			return null;
+		}
+		if (length < 0 || length > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+		buffer.position(buffer.position() + length);
+		stringTable.add(value);
+		return value;
+	}
+
+	/**
+	 * Accumulates events into a single datagram. Encoder is not thread safe.
+	 */
+	public static class Encoder {
+
+		private final int maxDatagramSize;
+		private final Map<String, Integer> stringTable = new HashMap<>();
+		// strings added to the table by the event being appended, removed if event does not fit
+		private final List<String> pendingStrings = new ArrayList<>(4);
+		private byte[] buffer;
+		private int position;
+		private int count;
+		private long baseTime;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param maxDatagramSize maximum datagram size in bytes
+		 */
+		public Encoder(int maxDatagramSize) {
+			if (maxDatagramSize < MIN_DATAGRAM_SIZE || maxDatagramSize > MAX_DATAGRAM_SIZE) {
+				throw new IllegalArgumentException("Datagram size must be between " + MIN_DATAGRAM_SIZE + " and " + MAX_DATAGRAM_SIZE);
+			}
+			this.maxDatagramSize = maxDatagramSize;
+			this.buffer = new byte[maxDatagramSize];
+			reset();
+		}
+
+		/**
+		 * Appends event to current datagram. Event which does not fit in remaining space is rejected, unless datagram is empty in which case
+		 * longest string fields of the event are truncated until it fits, so datagram never exceeds maximum datagram size.
+		 * 
+		 * @param event event to be appended
+		 * @return true if event is appended, false if current datagram must be finished first
+		 */
+		public boolean append(DashBoardEvent event) {
+			if (count == MAX_EVENT_COUNT) {
+				return false;
+			}
+			if (count == 0) {
+				baseTime = event.getTimestamp();
+			}
+
+			String[] fields = { event.getUserName(), event.getSuiteName(), event.getFQCN(), event.getDescription() };
+			int mark = position;
+			write(event, fields);
+			while (position > maxDatagramSize) {
+				int excess = position - maxDatagramSize;
+				rollback(mark);
+				if (count > 0) {
+					return false;
+				}
+				truncateLongest(fields, excess);
+				write(event, fields);
+			}
+			count++;
+			return true;
+		}
+
+		private void write(DashBoardEvent event, String[] fields) {
+			pendingStrings.clear();
+			long delta = event.getTimestamp() - baseTime;
+			writeByte(event.getType().getCode());
+			writeVarLong((delta << 1) ^ (delta >> 63));
+			for (String field : fields) {
+				writeString(field);
+			}
+		}
+
+		private void rollback(int mark) {
+			position = mark;
+			for (String value : pendingStrings) {
+				stringTable.remove(value);
+			}
+		}
+
+		/**
+		 * Shortens longest field by at least given number of bytes, field is cut at UTF-8 character boundary
+		 */
+		private static void truncateLongest(String[] fields, int excess) {
+			int longest = 0;
+			byte[] longestBytes = new byte[0];
+			for (int i = 0; i < fields.length; i++) {
+				if (null != fields[i]) {
+					byte[] bytes = fields[i].getBytes(StandardCharsets.UTF_8);
+					if (bytes.length > longestBytes.length) {
+						longest = i;
+						longestBytes = bytes;
+					}
+				}
+			}
+			int length = Math.max(0, longestBytes.length - excess);
+			while (length > 0 && (longestBytes[length] & 0xC0) == 0x80) {
+				length--;
+			}
+			fields[longest] = new String(longestBytes, 0, length, StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Returns true if no event is appended since last {@link #finish(int)}
+		 * 
+		 * @return true if datagram is empty
+		 */
+		public boolean isEmpty() {
+			return count == 0;
+		}
+
+		/**
+		 * Completes current datagram and resets encoder for next datagram
+		 * 
+		 * @param sequence datagram sequence number
+		 * @return encoded datagram
+		 */
+		public byte[] finish(int sequence) {
+			ByteBuffer header = ByteBuffer.wrap(buffer, 0, HEADER_SIZE);
+			header.put(MAGIC);
+			header.put(VERSION);
+			header.putInt(sequence);
+			header.putLong(baseTime);
+			header.putShort((short) count);
+			byte[] datagram = Arrays.copyOf(buffer, position);
+			reset();
+			return datagram;
+		}
+
+		private void reset() {
+			if (buffer.length > maxDatagramSize) {
+				buffer = new byte[maxDatagramSize];
+			}
+			position = HEADER_SIZE;
+			count = 0;
+			stringTable.clear();
+		}
+
+		private void writeString(String value) {
+			if (null == value) {
+				writeVarLong(0);
+				writeVarLong(0);
+				return;
+			}
+			Integer index = stringTable.get(value);
+			if (null != index) {
+				writeVarLong(index + 1);
+				return;
+			}
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarLong(0);
+			writeVarLong(bytes.length + 1);
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, buffer, position, bytes.length);
+			position += bytes.length;
+			stringTable.put(value, stringTable.size());
+			pendingStrings.add(value);
+		}
+
+		private void writeVarLong(long value) {
+			while ((value & ~0x7FL) != 0) {
+				writeByte((int) ((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			writeByte((int) value);
+		}
+
+		private void writeByte(int value) {
+			ensureCapacity(1);
+			buffer[position++] = (byte) value;
+		}
+
+		private void ensureCapacity(int length) {
+			if (position + length > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+			}
+		}
+	}
+}
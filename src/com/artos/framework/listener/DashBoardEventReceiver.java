@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.listener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Receives and decodes dashboard datagrams. Both compact and legacy text datagrams are accepted, so dashboard can be used with either protocol.
+ * Lost compact datagrams are detected using per sender sequence number.
+ * 
+ * <PRE>
+ * try (DashBoardEventReceiver receiver = new DashBoardEventReceiver(11111)) {
+ * 	while (true) {
+ * 		for (DashBoardEvent event : receiver.receive(1000)) {
+ * 			System.out.println(event);
+ * 		}
+ * 	}
+ * }
+ * </PRE>
+ */
+public class DashBoardEventReceiver implements Closeable {
+
+	private final DatagramSocket socket;
+	private final DatagramPacket packet = new DatagramPacket(new byte[DashBoardEventCodec.MAX_DATAGRAM_SIZE], DashBoardEventCodec.MAX_DATAGRAM_SIZE);
+	private final Map<SocketAddress, Integer> lastSequence = new HashMap<>();
+	private long lostDatagramCount = 0;
+	private long malformedDatagramCount = 0;
+
+	/**
+	 * Binds receiver to given local port on all interfaces
+	 * 
+	 * @param port local port dashboard events are sent to
+	 * @throws IOException if socket could not be opened or bound
+	 */
+	public DashBoardEventReceiver(int port) throws IOException {
+		this(new InetSocketAddress(port));
+	}
+
+	/**
+	 * Binds receiver to given local address
+	 * 
+	 * @param localAddress local address dashboard events are sent to
+	 * @throws IOException if socket could not be opened or bound
+	 */
+	public DashBoardEventReceiver(SocketAddress localAddress) throws IOException {
+		socket = new DatagramSocket(localAddress);
+		socket.setReceiveBufferSize(1024 * 1024);
+	}
+
+	/**
+	 * Waits for next datagram and returns events it carries. Malformed datagram is discarded.
+	 * 
+	 * @param timeout maximum wait time in milliseconds, 0 = wait forever
+	 * @return list of events, empty list if no datagram is received within timeout
+	 * @throws IOException if an I/O error occurs
+	 */
+	public synchronized List<DashBoardEvent> receive(int timeout) throws IOException {
+		socket.setSoTimeout(timeout);
+		packet.setLength(packet.getData().length);
+		try {
+			socket.receive(packet);
+		} catch (SocketTimeoutException e) {
+			return new ArrayList<>();
+		}
+
+		byte[] data = packet.getData();
+		int offset = packet.getOffset();
+		int length = packet.getLength();
+		try {
+			List<DashBoardEvent> events = DashBoardEventCodec.decode(data, offset, length);
+			if (DashBoardEventCodec.isCompact(data, offset, length)) {
+				trackSequence(packet.getSocketAddress(), DashBoardEventCodec.getSequence(data, offset, length));
+			}
+			return events;
+		} catch (IllegalArgumentException e) {
+			malformedDatagramCount++;
+			return new ArrayList<>();
+		}
+	}
+
+	private void trackSequence(SocketAddress sender, int sequence) {
+		Integer last = lastSequence.put(sender, sequence);
+		// Sequence restarts when sender is restarted, gap is counted only for datagrams which arrive in order
+		if (null != last && sequence > last + 1) {
+			lostDatagramCount += sequence - last - 1;
+		}
+	}
+
+	/**
+	 * Returns number of compact datagrams detected as lost
+	 * 
+	 * @return lost datagram count
+	 */
+	public synchronized long getLostDatagramCount() {
+		return lostDatagramCount;
+	}
+
+	/**
+	 * Returns number of discarded malformed datagrams
+	 * 
+	 * @return malformed datagram count
+	 */
+	public synchronized long getMalformedDatagramCount() {
+		return malformedDatagramCount;
+	}
+
+	/**
+	 * Returns local port receiver is bound to
+	 * 
+	 * @return local port
+	 */
+	public int getLocalPort() {
+		return socket.getLocalPort();
+	}
+
+	@Override
+	public void close() {
+		socket.close();
+	}
+}
@@ -23,6 +23,8 @@ package com.artos.framework.listener;
 
 import java.io.File;
 
+import com.artos.annotation.ListenerInterest;
+import com.artos.framework.Enums.TestProgressEvent;
 import com.artos.framework.Enums.TestStatus;
 import com.artos.framework.Version;
 import com.artos.framework.infra.BDDScenario;
@@ -37,6 +39,19 @@ import com.relevantcodes.extentreports.ExtentReports;
 import com.relevantcodes.extentreports.ExtentTest;
 import com.relevantcodes.extentreports.LogStatus;
 
+@ListenerInterest({ TestProgressEvent.CHILD_TEST_CASE_EXECUTION_FINISHED,
+		TestProgressEvent.CHILD_TEST_CASE_EXECUTION_STARTED,
+		TestProgressEvent.CHILD_TEST_UNIT_EXECUTION_FINISHED,
+		TestProgressEvent.CHILD_TEST_UNIT_EXECUTION_STARTED,
+		TestProgressEvent.TEST_CASE_EXECUTION_FINISHED,
+		TestProgressEvent.TEST_CASE_EXECUTION_SKIPPED,
+		TestProgressEvent.TEST_CASE_EXECUTION_STARTED,
+		TestProgressEvent.TEST_CASE_STATUS_UPDATE,
+		TestProgressEvent.TEST_EXCEPTION,
+		TestProgressEvent.TEST_RESULT,
+		TestProgressEvent.TEST_SUITE_EXECUTION_FINISHED,
+		TestProgressEvent.TEST_SUITE_EXECUTION_STARTED,
+		TestProgressEvent.UNIT_EXCEPTION })
 public class ExtentReportListener implements TestProgress {
 
 	TestContext context;
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.framework.listener;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * Log message which converts byte array to hex string only when message is written by an appender, so disabled real time logs do not pay for
+ * hex encoding. Byte array must not be modified after message is created.
+ * 
+ * <PRE>
+ * Example: prefix "Req: ", data {0x01, 0x02, 0xFF}, maxBytes 2
+ * Result : Req: 0102...[3 bytes]
+ * </PRE>
+ */
+class HexDumpMessage implements Message, StringBuilderFormattable {
+
+	private static final long serialVersionUID = 1L;
+	private static final char[] HEXES = "0123456789ABCDEF".toCharArray();
+
+	private final String prefix;
+	private final byte[] data;
+	private final int maxBytes;
+	private transient String formattedMessage = null;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param prefix text printed before hex string
+	 * @param data data to be logged
+	 * @param maxBytes maximum number of bytes to be converted, 0 = no limit
+	 */
+	HexDumpMessage(String prefix, byte[] data, int maxBytes) {
+		this.prefix = prefix;
+		this.data = data;
+		this.maxBytes = maxBytes;
+	}
+
+	@Override
+	public void formatTo(StringBuilder buffer) {
+		if (null != formattedMessage) {
+			buffer.append(formattedMessage);
+			return;
+		}
+		buffer.append(prefix);
+		int length = (maxBytes > 0 && maxBytes < data.length) ? maxBytes : data.length;
+		for (int i = 0; i < length; i++) {
+			buffer.append(HEXES[(data[i] & 0xF0) >> 4]).append(HEXES[data[i] & 0x0F]);
+		}
+		if (length < data.length) {
+			buffer.append("...[").append(data.length).append(" bytes]");
+		}
+	}
+
+	@Override
+	public String getFormattedMessage() {
+		if (null == formattedMessage) {
+			StringBuilder buffer = new StringBuilder(prefix.length() + data.length * 2 + 16);
+			formatTo(buffer);
+			formattedMessage = buffer.toString();
+		}
+		return formattedMessage;
+	}
+
+	@Override
+	public String getFormat() {
+		return prefix;
+	}
+
+	@Override
+	public Object[] getParameters() {
+		return null;
+	}
+
+	@Override
+	public Throwable getThrowable() {
+		return null;
+	}
+}
@@ -21,26 +21,35 @@
  ******************************************************************************/
 package com.artos.framework.listener;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.PrintWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.SequenceInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
+import com.artos.annotation.ListenerInterest;
+import com.artos.framework.Enums.TestProgressEvent;
 import com.artos.framework.Enums.TestStatus;
 import com.artos.framework.FWStaticStore;
 import com.artos.framework.infra.BDDScenario;
@@ -50,13 +59,36 @@ import com.artos.framework.infra.TestObjectWrapper;
 import com.artos.framework.infra.TestUnitObjectWrapper;
 import com.artos.interfaces.TestProgress;
 
+/**
+ * Writes JUnit XML report using StAX writer. Each {@code testsuite} element is written to a spool file as soon as test case result is known,
+ * so only test units of the test case in progress are held in memory. Once test suite execution is finished, spool file is wrapped into
+ * {@code testsuites} element and written to the report file.
+ * 
+ * <PRE>
+ * If execution is killed before test suite is finished then spool file (JUnit_Report_[SuiteName].xml.part) is left behind. It contains
+ * every finished test case and is recovered into JUnit_Report_[SuiteName]_recovered.xml next time report is created for the same test
+ * suite, or it can be recovered manually using {@link #recoverReport(File)}.
+ * </PRE>
+ */
+@ListenerInterest({ TestProgressEvent.TEST_CASE_EXECUTION_STARTED,
+		TestProgressEvent.TEST_RESULT,
+		TestProgressEvent.TEST_SUITE_EXECUTION_FINISHED,
+		TestProgressEvent.TEST_UNIT_RESULT })
 public class JUnitReportListener implements TestProgress {
 
+	static final String SPOOL_FILE_EXTENSION = ".part";
+	static final String RECOVERED_FILE_SUFFIX = "_recovered";
+	private static final String XSI_NAMESPACE = "http://www.w3.org/2001/XMLSchema-instance";
+	private static final String SCHEMA_LOCATION = "../../conf/JUnit.xsd";
+	private static final byte[] TESTSUITE_END_TAG = "</testsuite>".getBytes(StandardCharsets.UTF_8);
+
 	TestContext context;
 	File fXmlFile;
-	Document doc;
-	Element rootElement;
-	Element test_suite;
+	File fSpoolFile;
+	OutputStream spoolStream;
+	XMLStreamWriter spoolWriter;
+	// Test unit results of the test case in progress
+	List<UnitResult> unitResultList = new ArrayList<>();
 	long testcasePassCount = 0;
 	long testcaseFailCount = 0;
 	long testcaseSkipCount = 0;
@@ -73,6 +105,18 @@ public class JUnitReportListener implements TestProgress {
 	public JUnitReportListener(TestContext context) {
 		this.context = context;
 		fXmlFile = new File(FWStaticStore.JUNIT_REPORT_BASE_DIR + "JUnit_Report_" + context.getTestSuiteName() + ".xml");
+		fSpoolFile = new File(fXmlFile.getPath() + SPOOL_FILE_EXTENSION);
+
+		// Recover report left behind by killed execution before it is overwritten
+		try {
+			if (fSpoolFile.exists() && fSpoolFile.isFile()) {
+				File recoveredFile = recoverReport(fSpoolFile);
+				System.err.println("[WARNING] : JUnit report of unfinished execution is recovered : " + recoveredFile.getPath());
+				fSpoolFile.delete();
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
 
 		// Delete this file if already exist
 		try {
@@ -88,18 +132,8 @@ public class JUnitReportListener implements TestProgress {
 				fXmlFile.getParentFile().mkdirs();
 			}
 
-			DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-			SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-			docFactory.setNamespaceAware(true);
-			docFactory.setValidating(true);
-			Schema schema = sf.newSchema(new StreamSource(FWStaticStore.CONFIG_BASE_DIR + File.separator + "JUnit.xsd"));
-			docFactory.setSchema(schema);
-
-			DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-
-			// root elements
-			doc = docBuilder.newDocument();
-			rootElement = doc.createElement("testsuites");
+			spoolStream = new BufferedOutputStream(new FileOutputStream(fSpoolFile, false));
+			spoolWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(spoolStream, StandardCharsets.UTF_8.name());
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
@@ -130,30 +164,145 @@ public class JUnitReportListener implements TestProgress {
 	@Override
 	public void testSuiteExecutionFinished(String description) {
 		try {
-			rootElement.setAttributeNS("http://www.w3.org/2001/XMLSchema-instance", "xsi:noNamespaceSchemaLocation", "../../conf/JUnit.xsd");
-			rootElement.setAttribute("disabled", "false");
-			rootElement.setAttribute("errors", "0");
-			rootElement.setAttribute("failures", Long.toString(context.getCurrentFailCount()));
-			rootElement.setAttribute("name", context.getTestSuiteName());
-			rootElement.setAttribute("tests", Long.toString(context.getTotalTestCount()));
-			rootElement.setAttribute("time", String.format("%2d.%3d", TimeUnit.MILLISECONDS.toSeconds(context.getTestSuiteTimeDuration()),
-					-TimeUnit.MINUTES.toMillis(TimeUnit.MILLISECONDS.toSeconds(context.getTestSuiteTimeDuration()))));
-			doc.appendChild(rootElement);
-
-			// write the content into xml file
-			TransformerFactory transformerFactory = TransformerFactory.newInstance();
-			Transformer transformer = transformerFactory.newTransformer();
-			transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-			transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
-			DOMSource source = new DOMSource(doc);
-			StreamResult result = new StreamResult(new PrintWriter(new FileOutputStream(fXmlFile, false)));
-
-			transformer.transform(source, result);
+			spoolWriter.close();
+			spoolStream.close();
+
+			//@formatter:off
+			String time = String.format("%2d.%3d", TimeUnit.MILLISECONDS.toSeconds(context.getTestSuiteTimeDuration()),
+					-TimeUnit.MINUTES.toMillis(TimeUnit.MILLISECONDS.toSeconds(context.getTestSuiteTimeDuration())));
+			//@formatter:on
+			writeReport(fSpoolFile, fXmlFile, context.getTestSuiteName(), context.getTotalTestCount(),
+					context.getCurrentFailCount(), time);
+			fSpoolFile.delete();
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
 	}
 
+	/**
+	 * Recovers JUnit report from spool file left behind by killed execution. Every complete {@code testsuite} element of the spool file is
+	 * written to JUnit_Report_[SuiteName]_recovered.xml, partially written element at the end of the spool file is truncated. Test suite totals
+	 * are calculated from recovered elements.
+	 * 
+	 * @param spoolFile spool file (JUnit_Report_[SuiteName].xml.part)
+	 * @return recovered report file
+	 * @throws IOException if spool file can not be read or report can not be written
+	 * @throws XMLStreamException if spool file content is not valid XML
+	 */
+	public static File recoverReport(File spoolFile) throws IOException, XMLStreamException {
+		String reportPath = spoolFile.getPath();
+		if (reportPath.endsWith(SPOOL_FILE_EXTENSION)) {
+			reportPath = reportPath.substring(0, reportPath.length() - SPOOL_FILE_EXTENSION.length());
+		}
+		String suiteName = new File(reportPath).getName().replaceFirst("^JUnit_Report_", "").replaceFirst("\\.xml$", "");
+		File recoveredFile = new File(reportPath.replaceFirst("\\.xml$", "") + RECOVERED_FILE_SUFFIX + ".xml");
+
+		// Drop partially written test suite element
+		long length = findLastTestSuiteEnd(spoolFile);
+		try (RandomAccessFile raf = new RandomAccessFile(spoolFile, "rw")) {
+			raf.setLength(length);
+		}
+
+		// Calculate totals from recovered test suites
+		long tests = 0;
+		long failures = 0;
+		BigDecimal time = BigDecimal.ZERO;
+		try (InputStream in = openWrapped(spoolFile)) {
+			XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(in, StandardCharsets.UTF_8.name());
+			try {
+				while (reader.hasNext()) {
+					if (reader.next() == XMLStreamConstants.START_ELEMENT && "testsuite".equals(reader.getLocalName())) {
+						tests++;
+						String failureCount = reader.getAttributeValue(null, "failures");
+						if (null != failureCount && !"0".equals(failureCount)) {
+							failures++;
+						}
+						String suiteTime = reader.getAttributeValue(null, "time");
+						if (null != suiteTime && !"".equals(suiteTime.trim())) {
+							time = time.add(new BigDecimal(suiteTime.trim()));
+						}
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		}
+
+		writeReport(spoolFile, recoveredFile, suiteName, tests, failures, time.toPlainString());
+		return recoveredFile;
+	}
+
+	/**
+	 * Writes report file by wrapping spool file content into {@code testsuites} element. Spool file content is copied as is, so memory usage
+	 * does not depend on size of the report.
+	 */
+	private static void writeReport(File spoolFile, File reportFile, String suiteName, long tests, long failures, String time)
+			throws IOException, XMLStreamException {
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(reportFile, false))) {
+			XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+			writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+			writer.writeCharacters("\n");
+			writer.writeStartElement("testsuites");
+			writer.writeAttribute("disabled", "false");
+			writer.writeAttribute("errors", "0");
+			writer.writeAttribute("failures", Long.toString(failures));
+			writer.writeAttribute("name", suiteName);
+			writer.writeAttribute("tests", Long.toString(tests));
+			writer.writeAttribute("time", time);
+			writer.writeNamespace("xsi", XSI_NAMESPACE);
+			writer.writeAttribute("xsi", XSI_NAMESPACE, "noNamespaceSchemaLocation", SCHEMA_LOCATION);
+			writer.writeCharacters("\n");
+			writer.flush();
+
+			// Test suite elements are already serialised, copy them without parsing
+			Files.copy(spoolFile.toPath(), out);
+
+			writer.writeEndElement();
+			writer.writeCharacters("\n");
+			writer.writeEndDocument();
+			writer.close();
+		}
+	}
+
+	/**
+	 * Finds end of the last complete {@code testsuite} element within spool file
+	 * 
+	 * @return number of bytes which can be recovered
+	 */
+	private static long findLastTestSuiteEnd(File spoolFile) throws IOException {
+		long lastEnd = 0;
+		long position = 0;
+		int matched = 0;
+		try (InputStream in = new BufferedInputStream(new FileInputStream(spoolFile))) {
+			int b;
+			while ((b = in.read()) != -1) {
+				position++;
+				// Keep line break which follows end tag
+				if (b == '\n' && position == lastEnd + 1 && lastEnd != 0) {
+					lastEnd = position;
+				} else if (b == TESTSUITE_END_TAG[matched]) {
+					if (++matched == TESTSUITE_END_TAG.length) {
+						lastEnd = position;
+						matched = 0;
+					}
+				} else {
+					matched = (b == TESTSUITE_END_TAG[0]) ? 1 : 0;
+				}
+			}
+		}
+		return lastEnd;
+	}
+
+	/**
+	 * Spool file holds sequence of {@code testsuite} elements, it is wrapped into root element so it can be parsed
+	 */
+	private static InputStream openWrapped(File spoolFile) throws IOException {
+		InputStream content = new BufferedInputStream(new FileInputStream(spoolFile));
+		InputStream start = new ByteArrayInputStream("<testsuites>".getBytes(StandardCharsets.UTF_8));
+		InputStream end = new ByteArrayInputStream("</testsuites>".getBytes(StandardCharsets.UTF_8));
+		return new SequenceInputStream(Collections.enumeration(Arrays.asList(start, content, end)));
+	}
+
 	@Override
 	public void afterTestSuiteMethodExecutionStarted(String methodName, String description) {
 		// TODO Auto-generated method stub
@@ -360,8 +509,8 @@ public class JUnitReportListener implements TestProgress {
 
 	@Override
 	public void testCaseExecutionStarted(TestObjectWrapper t) {
-		// create testsuite element
-		test_suite = doc.createElement("testsuite");
+		// Test units of previous test case are already written
+		unitResultList.clear();
 	}
 
 	@Override
@@ -388,38 +537,52 @@ public class JUnitReportListener implements TestProgress {
 			testcaseKTFCount++;
 		}
 
-		// populate test suite element
-		test_suite.setAttribute("disabled", "false");
-		test_suite.setAttribute("errors", "0");
-		test_suite.setAttribute("skipped", Long.toString(singleTestCaseSkipUnitCount));
-		test_suite.setAttribute("failures", Long.toString(singleTestCaseFailUnitCount));
-		test_suite.setAttribute("hostname", "");
-		test_suite.setAttribute("id", "");
-		test_suite.setAttribute("name", t.getTestClassObject().getName());
-		// test_suite.setAttribute("package", t.getTestClassObject().getPackage().getName());
-		test_suite.setAttribute("tests", Long.toString(t.getTestUnitList().size()));
-		test_suite.setAttribute("time", convertMillisecondsToSecondMills(t.getTestFinishTime() - t.getTestStartTime()));
-		test_suite.setAttribute("timestamp", "");
-
-		// properties element
-		Element properties = doc.createElement("properties");
-
-		// add property to properties element
-		Element property = doc.createElement("property");
-		property.setAttribute("name", "");
-		property.setAttribute("value", "");
-		properties.appendChild(property);
-
-//		test_suite.appendChild(doc.createElement("system-out"));
-//		test_suite.appendChild(doc.createElement("system-err"));
+		try {
+			// populate test suite element
+			spoolWriter.writeCharacters("  ");
+			spoolWriter.writeStartElement("testsuite");
+			spoolWriter.writeAttribute("disabled", "false");
+			spoolWriter.writeAttribute("errors", "0");
+			spoolWriter.writeAttribute("failures", Long.toString(singleTestCaseFailUnitCount));
+			spoolWriter.writeAttribute("hostname", "");
+			spoolWriter.writeAttribute("id", "");
+			spoolWriter.writeAttribute("name", t.getTestClassObject().getName());
+			// spoolWriter.writeAttribute("package", t.getTestClassObject().getPackage().getName());
+			spoolWriter.writeAttribute("skipped", Long.toString(singleTestCaseSkipUnitCount));
+			spoolWriter.writeAttribute("tests", Long.toString(t.getTestUnitList().size()));
+			spoolWriter.writeAttribute("time", convertMillisecondsToSecondMills(t.getTestFinishTime() - t.getTestStartTime()));
+			spoolWriter.writeAttribute("timestamp", "");
+			spoolWriter.writeCharacters("\n");
+
+			// properties element
+			spoolWriter.writeCharacters("    ");
+			spoolWriter.writeStartElement("properties");
+			spoolWriter.writeCharacters("\n      ");
+			spoolWriter.writeEmptyElement("property");
+			spoolWriter.writeAttribute("name", "");
+			spoolWriter.writeAttribute("value", "");
+			spoolWriter.writeCharacters("\n    ");
+			spoolWriter.writeEndElement();
+			spoolWriter.writeCharacters("\n");
+
+			for (UnitResult unitResult : unitResultList) {
+				writeTestCaseElement(unitResult);
+			}
 
-		// add properties element to test suite
-		test_suite.appendChild(properties);
+			spoolWriter.writeCharacters("  ");
+			spoolWriter.writeEndElement();
+			spoolWriter.writeCharacters("\n");
 
-		rootElement.appendChild(test_suite);
+			// Finished test case must reach the disk, so it can be recovered if execution is killed
+			spoolWriter.flush();
+			spoolStream.flush();
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
 
 		// Reset count after each test execution
 		{
+			unitResultList.clear();
 			singleTestCasePassUnitCount = 0;
 			singleTestCaseFailUnitCount = 0;
 			singleTestCaseSkipUnitCount = 0;
@@ -430,40 +593,55 @@ public class JUnitReportListener implements TestProgress {
 	@Override
 	public void testUnitResult(TestUnitObjectWrapper unit, TestStatus testStatus, File snapshot, String description) {
 
-		// add testcase to properties element
-		Element testcase = doc.createElement("testcase");
-
 		if (testStatus == TestStatus.PASS) {
 			totalUnitPassCount++;
 			singleTestCasePassUnitCount++;
 		} else if (testStatus == TestStatus.FAIL) {
 			totalUnitFailCount++;
 			singleTestCaseFailUnitCount++;
-			Element failure = doc.createElement("failure");
-			failure.setAttribute("message", description);
-			testcase.appendChild(failure);
 		} else if (testStatus == TestStatus.SKIP) {
 			totalUnitSkipCount++;
 			singleTestCaseSkipUnitCount++;
-			Element skipped = doc.createElement("skipped");
-			testcase.appendChild(skipped);
 		} else if (testStatus == TestStatus.KTF) {
 			totalUnitKTFCount++;
 			singleTestCaseKTFUnitCount++;
-			Element errors = doc.createElement("error");
-			errors.setAttribute("message", description);
-			testcase.appendChild(errors);
 		}
 
-		testcase.setAttribute("assertions", "");
-		testcase.setAttribute("classname", unit.getTestUnitMethod().getDeclaringClass().getName());
-		testcase.setAttribute("name", unit.getTestUnitMethod().getName());
-		testcase.setAttribute("status", TestStatus.getEnumName(context.getCurrentUnitTestStatus().getValue()));
-		testcase.setAttribute("time", convertMillisecondsToSecondMills(unit.getTestUnitFinishTime() - unit.getTestUnitStartTime()));
+		// Test suite element attributes are known only after test case is finished, so test unit result is kept until then
+		unitResultList.add(new UnitResult(unit.getTestUnitMethod().getDeclaringClass().getName(), unit.getTestUnitMethod().getName(), testStatus,
+				unit.getTestUnitFinishTime() - unit.getTestUnitStartTime(), description));
+	}
+
+	private void writeTestCaseElement(UnitResult unitResult) throws XMLStreamException {
+		spoolWriter.writeCharacters("    ");
+		if (unitResult.status == TestStatus.FAIL || unitResult.status == TestStatus.SKIP || unitResult.status == TestStatus.KTF) {
+			spoolWriter.writeStartElement("testcase");
+			writeTestCaseAttributes(unitResult);
+			spoolWriter.writeCharacters("\n      ");
+			if (unitResult.status == TestStatus.FAIL) {
+				spoolWriter.writeEmptyElement("failure");
+				spoolWriter.writeAttribute("message", null == unitResult.description ? "" : unitResult.description);
+			} else if (unitResult.status == TestStatus.SKIP) {
+				spoolWriter.writeEmptyElement("skipped");
+			} else {
+				spoolWriter.writeEmptyElement("error");
+				spoolWriter.writeAttribute("message", null == unitResult.description ? "" : unitResult.description);
+			}
+			spoolWriter.writeCharacters("\n    ");
+			spoolWriter.writeEndElement();
+		} else {
+			spoolWriter.writeEmptyElement("testcase");
+			writeTestCaseAttributes(unitResult);
+		}
+		spoolWriter.writeCharacters("\n");
+	}
 
-		// testcase.appendChild(doc.createElement("system-out"));
-		// testcase.appendChild(doc.createElement("system-err"));
-		test_suite.appendChild(testcase);
+	private void writeTestCaseAttributes(UnitResult unitResult) throws XMLStreamException {
+		spoolWriter.writeAttribute("assertions", "");
+		spoolWriter.writeAttribute("classname", unitResult.className);
+		spoolWriter.writeAttribute("name", unitResult.methodName);
+		spoolWriter.writeAttribute("status", TestStatus.getEnumName(unitResult.status.getValue()));
+		spoolWriter.writeAttribute("time", convertMillisecondsToSecondMills(unitResult.duration));
 	}
 
 	@Override
@@ -617,4 +795,23 @@ public class JUnitReportListener implements TestProgress {
 		
 	}
 
+	/**
+	 * Test unit result which is held until test case result is known
+	 */
+	private static class UnitResult {
+		final String className;
+		final String methodName;
+		final TestStatus status;
+		final long duration;
+		final String description;
+
+		UnitResult(String className, String methodName, TestStatus status, long duration, String description) {
+			this.className = className;
+			this.methodName = methodName;
+			this.status = status;
+			this.duration = duration;
+			this.description = description;
+		}
+	}
+
 }
@@ -24,10 +24,10 @@ package com.artos.framework.listener;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.Logger;
 
+import com.artos.framework.FWStaticStore;
 import com.artos.framework.infra.LogWrapper;
 import com.artos.framework.infra.TestContext;
 import com.artos.interfaces.RealTimeLoggable;
-import com.artos.utils.Transform;
 
 /**
  * Responsible for logging byte array provided by registering classes. Generally
@@ -39,9 +39,9 @@ import com.artos.utils.Transform;
 public class RealTimeLogEventListener implements RealTimeLoggable {
 
 	static final String FQCN = LogWrapper.class.getName();
-	Transform _tfm = new Transform();
 	TestContext context;
 	Logger logger;
+	int maxBytes = 0;
 
 	/**
 	 * Constructor of type 'Real Time Log Listener' storing the context and the
@@ -53,22 +53,34 @@ public class RealTimeLogEventListener implements RealTimeLoggable {
 	public RealTimeLogEventListener(TestContext context) {
 		this.context = context;
 		this.logger = context.getLogger().getRealTimeLogger();
+		if (null != FWStaticStore.frameworkConfig) {
+			this.maxBytes = FWStaticStore.frameworkConfig.getRealTimeLogMaxBytes();
+		}
 	}
 
 	/**
-	 * Logs the byte array
+	 * Returns true if real time logs are written, connectors can use it to avoid preparing data which will not be logged
+	 * 
+	 * @return true if real time logging is enabled
+	 */
+	public boolean isEnabled() {
+		return logger.isEnabled(Level.TRACE);
+	}
+
+	/**
+	 * Logs the byte array, hex string is only created if log is written
 	 */
 	@Override
 	public void send(byte[] data) {
-		logger.logIfEnabled(FQCN, Level.TRACE, null, "Req: {}", _tfm.bytesToHexString(data));
+		logger.logIfEnabled(FQCN, Level.TRACE, null, new HexDumpMessage("Req: ", data, maxBytes), null);
 	}
 
 	/**
-	 * Logs the byte array
+	 * Logs the byte array, hex string is only created if log is written
 	 */
 	@Override
 	public void receive(byte[] data) {
-		logger.logIfEnabled(FQCN, Level.TRACE, null, "Res: {}", _tfm.bytesToHexString(data));
+		logger.logIfEnabled(FQCN, Level.TRACE, null, new HexDumpMessage("Res: ", data, maxBytes), null);
 	}
 
 	/**
@@ -23,6 +23,8 @@ package com.artos.framework.listener;
 
 import java.io.File;
 
+import com.artos.annotation.ListenerInterest;
+import com.artos.framework.Enums.TestProgressEvent;
 import com.artos.framework.Enums.TestStatus;
 import com.artos.framework.FWStaticStore;
 import com.artos.framework.infra.BDDScenario;
@@ -38,6 +40,21 @@ import com.artos.interfaces.TestProgress;
  * development
  *
  */
+@ListenerInterest({ TestProgressEvent.TEST_EXECUTION_LOOP_COUNT,
+		TestProgressEvent.PRINT_TEST_PLAN,
+		TestProgressEvent.PRINT_TEST_UNIT_PLAN,
+		TestProgressEvent.BEFORE_TEST_SUITE_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.AFTER_TEST_SUITE_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.GLOBAL_BEFORE_TEST_CASE_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.GLOBAL_AFTER_TEST_CASE_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.LOCAL_BEFORE_TEST_CASE_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.LOCAL_AFTER_TEST_CASE_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.GLOBAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.GLOBAL_AFTER_TEST_UNIT_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.GLOBAL_AFTER_FAILED_UNIT_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.LOCAL_BEFORE_TEST_UNIT_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.LOCAL_AFTER_TEST_UNIT_METHOD_EXECUTION_STARTED,
+		TestProgressEvent.TEST_CASE_EXECUTION_SKIPPED })
 public class TestExecutionEventListener implements TestProgress {
 
 	TestContext context;
@@ -3,6 +3,8 @@ package com.artos.framework.listener;
 import java.io.File;
 import java.io.IOException;
 
+import com.artos.annotation.ListenerInterest;
+import com.artos.framework.Enums.TestProgressEvent;
 import com.artos.framework.Enums.TestStatus;
 import com.artos.framework.FWStaticStore;
 import com.artos.framework.infra.BDDScenario;
@@ -14,16 +16,20 @@ import com.artos.framework.infra.TestUnitObjectWrapper;
 import com.artos.interfaces.TestProgress;
 import com.artos.utils.UDP;
 
+@ListenerInterest({ TestProgressEvent.TEST_SUITE_EXECUTION_FINISHED, TestProgressEvent.TEST_CASE_SUMMARY_PRINTING,
+		TestProgressEvent.TEST_UNIT_SUMMARY_PRINTING })
 public class UDPReportListener implements TestProgress {
 
 	TestContext context;
 	LogWrapper logger;
 	UDP udp;
+	DashBoardEventBatcher batcher;
 
 	public UDPReportListener(TestContext context) {
 		this.context = context;
 		this.logger = context.getLogger();
 		udp = context.getDashBoardConnector();
+		batcher = context.getDashBoardEventBatcher();
 	}
 
 	@Override
@@ -52,8 +58,10 @@ public class UDPReportListener implements TestProgress {
 
 	@Override
 	public void testSuiteExecutionFinished(String description) {
-		// TODO Auto-generated method stub
-
+		// Do not hold last events of the suite until batch delay expires
+		if (null != batcher) {
+			batcher.flush();
+		}
 	}
 
 	@Override
@@ -404,33 +412,29 @@ public class UDPReportListener implements TestProgress {
 
 	@Override
 	public void testCaseSummaryPrinting(String FQCN, String description) {
-
-		if (null == udp) {
-			return;
-		}
-
-		try {
-			String rawUserName = FWStaticStore.systemProperties.getUserAccountName();
-			String suiteName = String.format("%-" + 10 + "s", context.getTestSuiteName());
-			String userName = String.format("%-" + 10 + "s", rawUserName.length() > 10 ? rawUserName.substring(0, 10) : rawUserName);
-			String testCaseName = String.format("%-" + 100 + "s", FQCN.length() > 100 ? FQCN.substring(0, 100) : FQCN);
-			String msg = description + ":" + userName + ":" + suiteName + ":" + testCaseName;
-			// System.err.println(msg);
-			udp.sendMsg(msg.getBytes());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		sendSummary(DashBoardEvent.Type.TEST_CASE_SUMMARY, FQCN, description);
 	}
 
 	@Override
 	public void testUnitSummaryPrinting(String FQCN, String description) {
+		sendSummary(DashBoardEvent.Type.TEST_UNIT_SUMMARY, FQCN, description);
+	}
+
+	private void sendSummary(DashBoardEvent.Type type, String FQCN, String description) {
 
 		if (null == udp) {
 			return;
 		}
 
+		String rawUserName = FWStaticStore.systemProperties.getUserAccountName();
+
+		// Compact protocol, event is sent as part of a batch
+		if (null != batcher) {
+			batcher.add(new DashBoardEvent(type, System.currentTimeMillis(), rawUserName, context.getTestSuiteName(), FQCN, description));
+			return;
+		}
+
 		try {
-			String rawUserName = FWStaticStore.systemProperties.getUserAccountName();
 			String suiteName = String.format("%-" + 10 + "s", context.getTestSuiteName());
 			String userName = String.format("%-" + 10 + "s", rawUserName.length() > 10 ? rawUserName.substring(0, 10) : rawUserName);
 			String testCaseName = String.format("%-" + 100 + "s", FQCN.length() > 100 ? FQCN.substring(0, 100) : FQCN);
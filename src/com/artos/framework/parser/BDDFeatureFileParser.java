@@ -29,12 +29,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.artos.framework.infra.BDDFeature;
 import com.artos.framework.infra.BDDScenario;
 import com.artos.framework.infra.BDDStep;
+import com.artos.framework.infra.GroupMatcher;
 import com.google.common.collect.Lists;
 
 /**
@@ -46,7 +45,7 @@ import com.google.common.collect.Lists;
 public class BDDFeatureFileParser {
 
 	File featureFile;
-	List<String> unitGroupList;
+	GroupMatcher unitGroupMatcher;
 	BDDScenario scenario = null;
 	List<String> currentTableHeader = null;
 	List<BDDScenario> scenarioList;
@@ -60,6 +59,16 @@ public class BDDFeatureFileParser {
 	 * @param unitGroupList list of groups which required to be executed
 	 */
 	public BDDFeatureFileParser(File featureFile, List<String> unitGroupList) {
+		this(featureFile, new GroupMatcher(unitGroupList));
+	}
+
+	/**
+	 * Responsible for parsing feature file.
+	 * 
+	 * @param featureFile      file with extension ".feature"
+	 * @param unitGroupMatcher compiled list of groups which required to be executed
+	 */
+	public BDDFeatureFileParser(File featureFile, GroupMatcher unitGroupMatcher) {
 		// Create empty scenario list
 		scenarioList = new ArrayList<>();
 
@@ -69,7 +78,7 @@ public class BDDFeatureFileParser {
 
 		// Parse File
 		this.featureFile = featureFile;
-		this.unitGroupList = unitGroupList;
+		this.unitGroupMatcher = unitGroupMatcher;
 		parse();
 	}
 
@@ -131,7 +140,7 @@ public class BDDFeatureFileParser {
 						// store scenario object as a background object
 						feature.setBackground(scenario);
 					} else {
-						if (belongsToApprovedGroup(unitGroupList, scenario.getGroupList())) {
+						if (unitGroupMatcher.matches(scenario.getGroupList())) {
 
 							// If present, Add background before each scenario
 							if (null != feature.getBackground()) {
@@ -158,17 +167,7 @@ public class BDDFeatureFileParser {
 						BDDStep step = new BDDStep(keyWord, stepDescription, new LinkedHashMap<>());
 						scenario.getSteplist().add(step);
 
-						// Find all words between quotes and store them in a list for later use
-						Matcher m = Pattern.compile("\\\"(.*?)\\\"").matcher(stepDescription);
-						while (m.find()) {
-							step.getInlineParameterList().add(m.group(1));
-
-							// If any data values have <> then flag as global reference
-							// global reference can be in-line or in localDataTable
-							if (m.group(1).startsWith("<") && m.group(1).endsWith(">")) {
-								step.setHasGlobalReference(true);
-							}
-						}
+						// In-line parameters are extracted when step is bound to step definition
 					}
 				} else if (currentLine.startsWith("|")) {
 
@@ -315,32 +314,4 @@ public class BDDFeatureFileParser {
 		return feature;
 	}
 
-	/**
-	 * Validate if test scenario belongs to any user defined group(s)
-	 * 
-	 * @param refGroupList list of user defined group (list is made up of group name or regular expression)
-	 * @param testGroupList list of group test case belong to
-	 * @return true if test case belongs to at least one of the user defined groups, false if test case does not belong to any user defined groups
-	 */
-	private boolean belongsToApprovedGroup(List<String> refGroupList, List<String> testGroupList) {
-
-		if (null != refGroupList && null != testGroupList) {
-
-			// Check if string matches
-			if (refGroupList.stream().anyMatch(num -> testGroupList.contains(num))) {
-				return true;
-			} else {
-				// Check if group matches regular expression
-				for (String refGroup : refGroupList) {
-					for (String testcaseGroup : testGroupList) {
-						if (testcaseGroup.matches(refGroup)) {
-							return true;
-						}
-					}
-				}
-			}
-		}
-		return false;
-
-	}
 }
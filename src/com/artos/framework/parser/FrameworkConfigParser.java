@@ -45,7 +45,9 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
+import com.artos.framework.Enums.TestInstanceLifecycle;
 import com.artos.framework.FWStaticStore;
+import com.artos.framework.listener.DashBoardEventCodec;
 
 /**
  * This class is responsible for storing framework Configuration. During test
@@ -86,10 +88,17 @@ public class FrameworkConfigParser {
 	private boolean enableExtentReport = true;
 	private boolean enableJUnitReport = false;
 	private boolean enableLogCleanup = false;
+	private boolean enableAsyncLogging = false;
+	private int asyncLogBufferSize = 8192;
+	private boolean enableLocationInfo = true;
+	private int realTimeLogMaxBytes = 0;
 
 	// Dashboard
 	private String dashBoardRemoteIP = "127.0.0.1";
 	private String dashBoardRemotePort = "11111";
+	private boolean enableCompactDashBoardProtocol = false;
+	private int dashBoardMaxDatagramSize = 1400;
+	private int dashBoardMaxBatchDelay = 100;
 
 	// Features
 	private boolean enableGUITestSelector = true;
@@ -103,6 +112,12 @@ public class FrameworkConfigParser {
 	private boolean generateTestScript = false;
 	private boolean stopOnFail = false;
 	private boolean enableDashBoard = false;
+	private boolean enableParallelTestExecution = false;
+	private int parallelThreadCount = 0;
+	private boolean enableVirtualThreads = false;
+	private boolean enableScanIndex = false;
+	private String testInstanceLifecycle = "method";
+	private boolean enableAsyncListeners = false;
 
 	/**
 	 * Constructor
@@ -316,6 +331,72 @@ public class FrameworkConfigParser {
 			attr.setValue("enableDashBoard");
 			property.setAttributeNode(attr);
 		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Boolean.toString(isEnableParallelTestExecution())));
+			features.appendChild(property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("enableParallelTestExecution");
+			property.setAttributeNode(attr);
+		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Integer.toString(getParallelThreadCount())));
+			features.appendChild(property);
+
+			Comment comment = doc.createComment("Number of worker threads for parallel test execution, 0 = number of available processors (no limit for virtual threads)");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("parallelThreadCount");
+			property.setAttributeNode(attr);
+		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Boolean.toString(isEnableVirtualThreads())));
+			features.appendChild(property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("enableVirtualThreads");
+			property.setAttributeNode(attr);
+		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Boolean.toString(isEnableScanIndex())));
+			features.appendChild(property);
+
+			Comment comment = doc.createComment("Stores test case scan result in cache directory and reuses it until class files are changed");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("enableScanIndex");
+			property.setAttributeNode(attr);
+		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(getTestInstanceLifecycle()));
+			features.appendChild(property);
+
+			Comment comment = doc.createComment("method|unit|testcase|suite : new test class instance per method invocation, or instance reused per unit, per test case or per test suite");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("testInstanceLifecycle");
+			property.setAttributeNode(attr);
+		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Boolean.toString(isEnableAsyncListeners())));
+			features.appendChild(property);
+
+			Comment comment = doc.createComment("true = Deliver events to report and external listeners on dedicated thread per listener");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("enableAsyncListeners");
+			property.setAttributeNode(attr);
+		}
 	}
 
 	private void addEmailConfig(Document doc, Element rootElement) {
@@ -506,6 +587,54 @@ public class FrameworkConfigParser {
 			attr.setValue("enableLogCleanup");
 			property.setAttributeNode(attr);
 		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Boolean.toString(isEnableAsyncLogging())));
+			logger.appendChild(property);
+
+			Comment comment = doc.createComment("Asynchronous logging trades strict log ordering with console output for test throughput");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("enableAsyncLogging");
+			property.setAttributeNode(attr);
+		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Integer.toString(getAsyncLogBufferSize())));
+			logger.appendChild(property);
+
+			Comment comment = doc.createComment("Number of log events buffered per logger when asynchronous logging is enabled");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("asyncLogBufferSize");
+			property.setAttributeNode(attr);
+		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Boolean.toString(isEnableLocationInfo())));
+			logger.appendChild(property);
+
+			Comment comment = doc.createComment("Includes file and method name in decorated logs, location lookup is expensive");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("enableLocationInfo");
+			property.setAttributeNode(attr);
+		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Integer.toString(getRealTimeLogMaxBytes())));
+			logger.appendChild(property);
+
+			Comment comment = doc.createComment("Maximum number of bytes logged per real time log entry, 0 = no limit");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("realTimeLogMaxBytes");
+			property.setAttributeNode(attr);
+		}
 	}
 
 	private void addDashBoardConfig(Document doc, Element rootElement) {
@@ -534,6 +663,43 @@ public class FrameworkConfigParser {
 			attr.setValue("dashBoardRemotePort");
 			property.setAttributeNode(attr);
 		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Boolean.toString(isEnableCompactDashBoardProtocol())));
+			logger.appendChild(property);
+
+			Comment comment = doc.createComment("Sends batched binary events instead of one text datagram per event, dashboard must support compact protocol");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("enableCompactDashBoardProtocol");
+			property.setAttributeNode(attr);
+		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Integer.toString(getDashBoardMaxDatagramSize())));
+			logger.appendChild(property);
+
+			Comment comment = doc.createComment("Maximum size of compact protocol datagram in bytes ("
+					+ DashBoardEventCodec.MIN_DATAGRAM_SIZE + " - " + DashBoardEventCodec.MAX_DATAGRAM_SIZE + ")");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("dashBoardMaxDatagramSize");
+			property.setAttributeNode(attr);
+		}
+		{
+			Element property = doc.createElement("property");
+			property.appendChild(doc.createTextNode(Integer.toString(getDashBoardMaxBatchDelay())));
+			logger.appendChild(property);
+
+			Comment comment = doc.createComment("Maximum time (in milliseconds) an event waits in batch before datagram is sent");
+			property.getParentNode().insertBefore(comment, property);
+
+			Attr attr = doc.createAttribute("name");
+			attr.setValue("dashBoardMaxBatchDelay");
+			property.setAttributeNode(attr);
+		}
 	}
 
 	private void addOrganisatioInfo(Document doc, Element rootElement) {
@@ -659,6 +825,30 @@ public class FrameworkConfigParser {
 						setEnableJUnitReport(Boolean.parseBoolean(eElement.getTextContent()));
 					} else if ("enableLogCleanup".equals(eElement.getAttribute("name"))) {
 						setEnableLogCleanup(Boolean.parseBoolean(eElement.getTextContent()));
+					} else if ("enableAsyncLogging".equals(eElement.getAttribute("name"))) {
+						setEnableAsyncLogging(Boolean.parseBoolean(eElement.getTextContent()));
+					} else if ("asyncLogBufferSize".equals(eElement.getAttribute("name"))) {
+						try {
+							int asyncLogBufferSize = Integer.parseInt(eElement.getTextContent().trim());
+							if (asyncLogBufferSize <= 0) {
+								throw new NumberFormatException();
+							}
+							setAsyncLogBufferSize(asyncLogBufferSize);
+						} catch (NumberFormatException e) {
+							System.err.println("[WARNING]: Invalid asyncLogBufferSize : " + eElement.getTextContent() + ", default will be used");
+						}
+					} else if ("enableLocationInfo".equals(eElement.getAttribute("name"))) {
+						setEnableLocationInfo(Boolean.parseBoolean(eElement.getTextContent()));
+					} else if ("realTimeLogMaxBytes".equals(eElement.getAttribute("name"))) {
+						try {
+							int realTimeLogMaxBytes = Integer.parseInt(eElement.getTextContent().trim());
+							if (realTimeLogMaxBytes < 0) {
+								throw new NumberFormatException();
+							}
+							setRealTimeLogMaxBytes(realTimeLogMaxBytes);
+						} catch (NumberFormatException e) {
+							System.err.println("[WARNING]: Invalid realTimeLogMaxBytes : " + eElement.getTextContent() + ", default will be used");
+						}
 					}
 				}
 			}
@@ -722,6 +912,27 @@ public class FrameworkConfigParser {
 						setStopOnFail(Boolean.parseBoolean(eElement.getTextContent()));
 					} else if ("enableDashBoard".equals(eElement.getAttribute("name"))) {
 						setEnableDashBoard(Boolean.parseBoolean(eElement.getTextContent()));
+					} else if ("enableParallelTestExecution".equals(eElement.getAttribute("name"))) {
+						setEnableParallelTestExecution(Boolean.parseBoolean(eElement.getTextContent()));
+					} else if ("parallelThreadCount".equals(eElement.getAttribute("name"))) {
+						try {
+							int parallelThreadCount = Integer.parseInt(eElement.getTextContent().trim());
+							if (parallelThreadCount < 0) {
+								throw new NumberFormatException();
+							}
+							setParallelThreadCount(parallelThreadCount);
+						} catch (NumberFormatException e) {
+							System.err.println("[WARNING]: Invalid parallelThreadCount : " + eElement.getTextContent() + ", default will be used");
+							setParallelThreadCount(0);
+						}
+					} else if ("enableVirtualThreads".equals(eElement.getAttribute("name"))) {
+						setEnableVirtualThreads(Boolean.parseBoolean(eElement.getTextContent()));
+					} else if ("enableScanIndex".equals(eElement.getAttribute("name"))) {
+						setEnableScanIndex(Boolean.parseBoolean(eElement.getTextContent()));
+					} else if ("testInstanceLifecycle".equals(eElement.getAttribute("name"))) {
+						setTestInstanceLifecycle(eElement.getTextContent());
+					} else if ("enableAsyncListeners".equals(eElement.getAttribute("name"))) {
+						setEnableAsyncListeners(Boolean.parseBoolean(eElement.getTextContent()));
 					}
 				}
 			}
@@ -828,6 +1039,33 @@ public class FrameworkConfigParser {
 						setDashBoardRemoteIP(eElement.getTextContent());
 					} else if ("dashBoardRemotePort".equals(eElement.getAttribute("name"))) {
 						setDashBoardRemotePort(eElement.getTextContent());
+					} else if ("enableCompactDashBoardProtocol".equals(eElement.getAttribute("name"))) {
+						setEnableCompactDashBoardProtocol(Boolean.parseBoolean(eElement.getTextContent()));
+					} else if ("dashBoardMaxDatagramSize".equals(eElement.getAttribute("name"))) {
+						try {
+							int dashBoardMaxDatagramSize = Integer.parseInt(eElement.getTextContent().trim());
+							// Out of range size would make dashboard connector fail at launch
+							int clampedSize = Math.max(DashBoardEventCodec.MIN_DATAGRAM_SIZE,
+									Math.min(DashBoardEventCodec.MAX_DATAGRAM_SIZE, dashBoardMaxDatagramSize));
+							if (clampedSize != dashBoardMaxDatagramSize) {
+								System.err.println("[WARNING]: dashBoardMaxDatagramSize : " + dashBoardMaxDatagramSize + " is out of range ("
+										+ DashBoardEventCodec.MIN_DATAGRAM_SIZE + " - " + DashBoardEventCodec.MAX_DATAGRAM_SIZE + "), " + clampedSize
+										+ " will be used");
+							}
+							setDashBoardMaxDatagramSize(clampedSize);
+						} catch (NumberFormatException e) {
+							System.err.println("[WARNING]: Invalid dashBoardMaxDatagramSize : " + eElement.getTextContent() + ", default will be used");
+						}
+					} else if ("dashBoardMaxBatchDelay".equals(eElement.getAttribute("name"))) {
+						try {
+							int dashBoardMaxBatchDelay = Integer.parseInt(eElement.getTextContent().trim());
+							if (dashBoardMaxBatchDelay < 0) {
+								throw new NumberFormatException();
+							}
+							setDashBoardMaxBatchDelay(dashBoardMaxBatchDelay);
+						} catch (NumberFormatException e) {
+							System.err.println("[WARNING]: Invalid dashBoardMaxBatchDelay : " + eElement.getTextContent() + ", default will be used");
+						}
 					}
 				}
 			}
@@ -920,6 +1158,16 @@ public class FrameworkConfigParser {
 		return Level.DEBUG;
 	}
 
+	public TestInstanceLifecycle getTestInstanceLifecycleFromXML() {
+		String lifecycle = getTestInstanceLifecycle().trim();
+		for (TestInstanceLifecycle e : TestInstanceLifecycle.values()) {
+			if (e.getValue().equalsIgnoreCase(lifecycle)) {
+				return e;
+			}
+		}
+		return TestInstanceLifecycle.PER_METHOD;
+	}
+
 	public String getOrganisation_Name() {
 		return Organisation_Name;
 	}
@@ -1200,6 +1448,30 @@ public class FrameworkConfigParser {
 		this.dashBoardRemotePort = dashBoardRemotePort;
 	}
 
+	public boolean isEnableCompactDashBoardProtocol() {
+		return enableCompactDashBoardProtocol;
+	}
+
+	public void setEnableCompactDashBoardProtocol(boolean enableCompactDashBoardProtocol) {
+		this.enableCompactDashBoardProtocol = enableCompactDashBoardProtocol;
+	}
+
+	public int getDashBoardMaxDatagramSize() {
+		return dashBoardMaxDatagramSize;
+	}
+
+	public void setDashBoardMaxDatagramSize(int dashBoardMaxDatagramSize) {
+		this.dashBoardMaxDatagramSize = dashBoardMaxDatagramSize;
+	}
+
+	public int getDashBoardMaxBatchDelay() {
+		return dashBoardMaxBatchDelay;
+	}
+
+	public void setDashBoardMaxBatchDelay(int dashBoardMaxBatchDelay) {
+		this.dashBoardMaxBatchDelay = dashBoardMaxBatchDelay;
+	}
+
 	public boolean isEnableJUnitReport() {
 		return enableJUnitReport;
 	}
@@ -1238,4 +1510,84 @@ public class FrameworkConfigParser {
 	public void setEnableLogCleanup(boolean enableLogCleanup) {
 		this.enableLogCleanup = enableLogCleanup;
 	}
+
+	public boolean isEnableParallelTestExecution() {
+		return enableParallelTestExecution;
+	}
+
+	public void setEnableParallelTestExecution(boolean enableParallelTestExecution) {
+		this.enableParallelTestExecution = enableParallelTestExecution;
+	}
+
+	public int getParallelThreadCount() {
+		return parallelThreadCount;
+	}
+
+	public void setParallelThreadCount(int parallelThreadCount) {
+		this.parallelThreadCount = parallelThreadCount;
+	}
+
+	public boolean isEnableVirtualThreads() {
+		return enableVirtualThreads;
+	}
+
+	public void setEnableVirtualThreads(boolean enableVirtualThreads) {
+		this.enableVirtualThreads = enableVirtualThreads;
+	}
+
+	public boolean isEnableAsyncLogging() {
+		return enableAsyncLogging;
+	}
+
+	public void setEnableAsyncLogging(boolean enableAsyncLogging) {
+		this.enableAsyncLogging = enableAsyncLogging;
+	}
+
+	public int getAsyncLogBufferSize() {
+		return asyncLogBufferSize;
+	}
+
+	public void setAsyncLogBufferSize(int asyncLogBufferSize) {
+		this.asyncLogBufferSize = asyncLogBufferSize;
+	}
+
+	public boolean isEnableLocationInfo() {
+		return enableLocationInfo;
+	}
+
+	public void setEnableLocationInfo(boolean enableLocationInfo) {
+		this.enableLocationInfo = enableLocationInfo;
+	}
+
+	public int getRealTimeLogMaxBytes() {
+		return realTimeLogMaxBytes;
+	}
+
+	public void setRealTimeLogMaxBytes(int realTimeLogMaxBytes) {
+		this.realTimeLogMaxBytes = realTimeLogMaxBytes;
+	}
+
+	public boolean isEnableScanIndex() {
+		return enableScanIndex;
+	}
+
+	public void setEnableScanIndex(boolean enableScanIndex) {
+		this.enableScanIndex = enableScanIndex;
+	}
+
+	public String getTestInstanceLifecycle() {
+		return testInstanceLifecycle;
+	}
+
+	public void setTestInstanceLifecycle(String testInstanceLifecycle) {
+		this.testInstanceLifecycle = testInstanceLifecycle;
+	}
+
+	public boolean isEnableAsyncListeners() {
+		return enableAsyncListeners;
+	}
+
+	public void setEnableAsyncListeners(boolean enableAsyncListeners) {
+		this.enableAsyncListeners = enableAsyncListeners;
+	}
 }
@@ -21,6 +21,8 @@
  ******************************************************************************/
 package com.artos.interfaces;
 
+import java.nio.ByteBuffer;
+
 /**
  * Used for creating filter for any class which implements {@code Connectable}
  * 
@@ -36,4 +38,17 @@ public interface ConnectableFilter {
 	 */
 	public boolean meetCriteria(byte[] data);
 
+	/**
+	 * method let user confirm if frame meets criteria. Used with {@code ConnectableFrameParser}, default implementation copies frame to byte array
+	 * so override it to avoid the copy.
+	 * 
+	 * @param frame frame under scanner, must not be modified
+	 * @return true|false based on defined criteria
+	 */
+	public default boolean meetCriteria(ByteBuffer frame) {
+		byte[] data = new byte[frame.remaining()];
+		frame.duplicate().get(data);
+		return meetCriteria(data);
+	}
+
 }
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.interfaces;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Used for separating messages from received byte stream of any class which implements {@code Connectable}. Unlike
+ * {@code ConnectableMessageParser}, received bytes are not copied, parser works directly on reusable receive buffer and returns each frame as a
+ * slice of that buffer.
+ * 
+ * <PRE>
+ * Parser object is used by single receiver thread, so one parser object must be created per connection.
+ * </PRE>
+ * 
+ * @see Connectable
+ * @see com.artos.utils.FrameBuffer
+ */
+public interface ConnectableFrameParser {
+
+	/**
+	 * method to return next complete frame from received bytes. Buffer position points to first unparsed byte and limit points to end of received
+	 * bytes. If complete frame is available then buffer position must be advanced past the frame, otherwise buffer position must not be changed.
+	 * 
+	 * @param buffer received bytes
+	 * @return frame as a slice of buffer or null if complete frame is not available yet
+	 */
+	public ByteBuffer nextFrame(ByteBuffer buffer);
+
+}
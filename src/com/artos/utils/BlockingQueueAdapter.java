@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapts plain {@code Queue} provided by user to {@code BlockingQueue} used by connector receiver threads. All operations synchronise on the
+ * adapted queue and waiting threads are notified using its monitor, so user code which synchronises on the queue keeps working.
+ * 
+ * @param <E> the type of elements held in this queue
+ */
+final class BlockingQueueAdapter<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+	private final Queue<E> queue;
+
+	BlockingQueueAdapter(Queue<E> queue) {
+		this.queue = queue;
+	}
+
+	/**
+	 * Returns queue as {@code BlockingQueue}, queue is adapted only if required
+	 * 
+	 * @param <E> the type of elements held in the queue
+	 * @param queue queue
+	 * @return {@code BlockingQueue}
+	 */
+	static <E> BlockingQueue<E> of(Queue<E> queue) {
+		if (queue instanceof BlockingQueue) {
+			return (BlockingQueue<E>) queue;
+		}
+		return new BlockingQueueAdapter<>(queue);
+	}
+
+	@Override
+	public boolean offer(E e) {
+		synchronized (queue) {
+			if (!queue.offer(e)) {
+				return false;
+			}
+			queue.notifyAll();
+			return true;
+		}
+	}
+
+	@Override
+	public E poll() {
+		synchronized (queue) {
+			E e = queue.poll();
+			if (null != e) {
+				queue.notifyAll();
+			}
+			return e;
+		}
+	}
+
+	@Override
+	public E peek() {
+		synchronized (queue) {
+			return queue.peek();
+		}
+	}
+
+	@Override
+	public int size() {
+		synchronized (queue) {
+			return queue.size();
+		}
+	}
+
+	/**
+	 * Returned iterator is not synchronised, user must synchronise on the adapted queue while iterating
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return queue.iterator();
+	}
+
+	@Override
+	public void clear() {
+		synchronized (queue) {
+			queue.clear();
+			queue.notifyAll();
+		}
+	}
+
+	@Override
+	public void put(E e) throws InterruptedException {
+		synchronized (queue) {
+			while (!queue.offer(e)) {
+				queue.wait();
+			}
+			queue.notifyAll();
+		}
+	}
+
+	@Override
+	public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		synchronized (queue) {
+			while (!queue.offer(e)) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(queue, remaining);
+			}
+			queue.notifyAll();
+			return true;
+		}
+	}
+
+	@Override
+	public E take() throws InterruptedException {
+		synchronized (queue) {
+			E e;
+			while (null == (e = queue.poll())) {
+				queue.wait();
+			}
+			queue.notifyAll();
+			return e;
+		}
+	}
+
+	@Override
+	public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		synchronized (queue) {
+			E e;
+			while (null == (e = queue.poll())) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					return null;
+				}
+				TimeUnit.NANOSECONDS.timedWait(queue, remaining);
+			}
+			queue.notifyAll();
+			return e;
+		}
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> c) {
+		return drainTo(c, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> c, int maxElements) {
+		synchronized (queue) {
+			int count = 0;
+			E e;
+			while (count < maxElements && null != (e = queue.poll())) {
+				c.add(e);
+				count++;
+			}
+			if (count > 0) {
+				queue.notifyAll();
+			}
+			return count;
+		}
+	}
+}
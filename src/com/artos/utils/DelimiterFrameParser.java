@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.nio.ByteBuffer;
+
+import com.artos.interfaces.ConnectableFrameParser;
+
+/**
+ * Frame parser for protocols where frames are separated by delimiter, for example "\r\n". Bytes which were already searched are not searched
+ * again when more bytes are received, so one parser object must be used per connection.
+ * 
+ * If delimiter is not found within maximum frame length then {@code IllegalStateException} is thrown, so stream which never sends delimiter
+ * can not make receiver buffer unlimited amount of data. Connectors close the connection because stream can not be framed any more.
+ */
+public class DelimiterFrameParser implements ConnectableFrameParser {
+
+	/** Default maximum frame length in bytes (1 MiB) */
+	public static final int DEFAULT_MAX_FRAME_LENGTH = 1024 * 1024;
+
+	final byte[] delimiter;
+	final boolean stripDelimiter;
+	final int maxFrameLength;
+	// Number of bytes from buffer position which are known not to contain start of delimiter
+	int searchedCount = 0;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param delimiter frame delimiter
+	 * @param stripDelimiter true if delimiter should not be part of returned frame
+	 */
+	public DelimiterFrameParser(byte[] delimiter, boolean stripDelimiter) {
+		this(delimiter, stripDelimiter, DEFAULT_MAX_FRAME_LENGTH);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param delimiter frame delimiter
+	 * @param stripDelimiter true if delimiter should not be part of returned frame
+	 * @param maxFrameLength maximum frame length in bytes including delimiter
+	 */
+	public DelimiterFrameParser(byte[] delimiter, boolean stripDelimiter, int maxFrameLength) {
+		if (null == delimiter || delimiter.length == 0) {
+			throw new IllegalArgumentException("Delimiter must not be empty");
+		}
+		this.delimiter = delimiter.clone();
+		this.stripDelimiter = stripDelimiter;
+		if (maxFrameLength < delimiter.length) {
+			throw new IllegalArgumentException("Maximum frame length must not be less than delimiter length");
+		}
+		this.maxFrameLength = maxFrameLength;
+	}
+
+	@Override
+	public ByteBuffer nextFrame(ByteBuffer buffer) {
+		int start = buffer.position();
+		// Delimiter must end within maximum frame length
+		int lastStart = Math.min(buffer.limit(), start + maxFrameLength) - delimiter.length;
+
+		for (int i = start + searchedCount; i <= lastStart; i++) {
+			if (matchesDelimiter(buffer, i)) {
+				int frameEnd = stripDelimiter ? i : i + delimiter.length;
+				ByteBuffer frame = buffer.duplicate();
+				frame.limit(frameEnd);
+				buffer.position(i + delimiter.length);
+				searchedCount = 0;
+				return frame.slice();
+			}
+		}
+
+		if (buffer.remaining() >= maxFrameLength) {
+			throw new IllegalStateException("Delimiter not found within maximum frame length : " + maxFrameLength);
+		}
+		searchedCount = Math.max(0, lastStart + 1 - start);
+		return null;
+	}
+
+	private boolean matchesDelimiter(ByteBuffer buffer, int index) {
+		for (int j = 0; j < delimiter.length; j++) {
+			if (buffer.get(index + j) != delimiter[j]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
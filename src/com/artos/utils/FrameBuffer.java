@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.nio.ByteBuffer;
+
+import com.artos.interfaces.ConnectableFrameParser;
+
+/**
+ * Reusable receive buffer used with {@code ConnectableFrameParser}. Received bytes are written straight into the buffer and frames are returned as
+ * slices of it, so complete frames are never copied. After parsing, only bytes of incomplete frame are moved to the start of the buffer, buffer
+ * capacity is doubled if single frame does not fit.
+ * 
+ * <PRE>
+ * FrameBuffer frameBuffer = new FrameBuffer(4 * 1024);
+ * while (channel.read(frameBuffer.getWriteBuffer()) &gt; 0) {
+ * 	ByteBuffer frame;
+ * 	while (null != (frame = frameBuffer.nextFrame(parser))) {
+ * 		// process frame
+ * 	}
+ * }
+ * </PRE>
+ * 
+ * Returned frames are only valid until next call to {@link #getWriteBuffer()}. Not thread safe.
+ */
+public class FrameBuffer {
+
+	private static final int MIN_FREE_SPACE = 1024;
+
+	ByteBuffer buffer;
+	boolean readMode = false;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param initialCapacity initial buffer capacity in bytes
+	 */
+	public FrameBuffer(int initialCapacity) {
+		buffer = ByteBuffer.allocate(Math.max(initialCapacity, MIN_FREE_SPACE));
+	}
+
+	/**
+	 * Returns buffer ready for writing received bytes, buffer position must be advanced by number of bytes written. Buffer will have at least 1 KiB
+	 * free space.
+	 * 
+	 * @return {@code ByteBuffer} in write mode
+	 */
+	public ByteBuffer getWriteBuffer() {
+		if (readMode) {
+			buffer.compact();
+			readMode = false;
+		}
+		if (buffer.remaining() < MIN_FREE_SPACE) {
+			ByteBuffer newBuffer = ByteBuffer.allocate(buffer.capacity() * 2);
+			buffer.flip();
+			newBuffer.put(buffer);
+			buffer = newBuffer;
+		}
+		return buffer;
+	}
+
+	/**
+	 * Returns next complete frame from received bytes
+	 * 
+	 * @param parser frame parser
+	 * @return frame as a slice of the buffer or null if complete frame is not available yet
+	 */
+	public ByteBuffer nextFrame(ConnectableFrameParser parser) {
+		if (!readMode) {
+			buffer.flip();
+			readMode = true;
+		}
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+		return parser.nextFrame(buffer);
+	}
+
+	/**
+	 * Returns number of received bytes which are not parsed yet
+	 * 
+	 * @return number of bytes
+	 */
+	public int getLeftOverCount() {
+		return readMode ? buffer.remaining() : buffer.position();
+	}
+
+	/**
+	 * Discards all received bytes
+	 */
+	public void clear() {
+		buffer.clear();
+		readMode = false;
+	}
+}
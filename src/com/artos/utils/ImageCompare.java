@@ -22,9 +22,17 @@
 package com.artos.utils;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.concurrent.RecursiveTask;
 
 import javax.imageio.ImageIO;
 
@@ -41,11 +49,37 @@ import com.google.common.io.Files;
  * 3) Both image file format should be same for comparison. Code will use base image file format to create resultant image file.
  * </PRE>
  * 
+ * Pixels of common image types are read from and written to underlying data buffer directly and image is compared in bands of rows using
+ * fork/join, so large screenshots are compared using all available processors.
  */
 public class ImageCompare {
 
+	// Number of pixels below which band of rows is compared on the current thread
+	private static final int BAND_PIXEL_THRESHOLD = 64 * 1024;
+	// Colour of pixels which are not available in target image
+	private static final int MISSING_PIXEL = 0x80ff0000;
+
 	private int percentageMatch = 0;
 	private File resultImage = null;
+	private ImageFingerprintStore fingerprintStore = null;
+
+	/**
+	 * Constructor
+	 */
+	public ImageCompare() {
+		// Images are always compared pixel by pixel
+	}
+
+	/**
+	 * Constructor. Fingerprints of the store are used to accept identical images and to reject images which can not reach required percentage of
+	 * match without comparing them pixel by pixel.
+	 * 
+	 * @param fingerprintStore fingerprint store, can be shared between {@code ImageCompare} objects
+	 * @see #isMatch(File, File, int)
+	 */
+	public ImageCompare(ImageFingerprintStore fingerprintStore) {
+		this.fingerprintStore = fingerprintStore;
+	}
 
 	/**
 	 * compare image with reference image and return percentage of match.
@@ -70,52 +104,45 @@ public class ImageCompare {
 	 */
 	public void compare(File referenceImage, File targetImage, File resultDir, String resultImageName) throws Exception {
 
-		String fileExtenstion = Files.getFileExtension(referenceImage.getName());
+		validate(referenceImage, targetImage);
 
-		if (!(referenceImage.exists() && targetImage.exists() && referenceImage.isFile() && targetImage.isFile())) {
-			throw new FileNotFoundException();
+		if (null == fingerprintStore) {
+			compare(ImageIO.read(referenceImage), ImageIO.read(targetImage), Files.getFileExtension(referenceImage.getName()), resultDir,
+					resultImageName);
+			return;
 		}
 
-		if (!(Files.getFileExtension(referenceImage.getName()).equalsIgnoreCase(Files.getFileExtension(targetImage.getName())))) {
-			throw new Exception("File extensions are not the same");
+		// Each file is read once, content is hashed and decoded from the same bytes
+		ImageFingerprintStore.LoadedImage ref = fingerprintStore.load(referenceImage, false);
+		ImageFingerprintStore.LoadedImage target = fingerprintStore.load(targetImage, false);
+
+		// Identical files match completely, so pixels are only compared if result image is required
+		if ((null == resultDir || null == resultImageName) && ref.contentHash.equals(target.contentHash)) {
+			setPercentageMatch(100);
+			return;
 		}
+		compare(ref.getImage(), target.getImage(), Files.getFileExtension(referenceImage.getName()), resultDir, resultImageName);
+	}
 
-		long matchCount = 0;
-		BufferedImage refImage = ImageIO.read(referenceImage);
-		BufferedImage testImage = ImageIO.read(targetImage);
+	private void compare(BufferedImage refImage, BufferedImage testImage, String fileExtenstion, File resultDir, String resultImageName)
+			throws IOException {
 		int height = refImage.getHeight();
 		int width = refImage.getWidth();
 
-		BufferedImage rImage;
-		if (fileExtenstion.toUpperCase().contains("PNG")) {
-			rImage = new BufferedImage(width, height, BufferedImage.TYPE_4BYTE_ABGR);
-		} else {
-			// Assume jpg, it does not have alpha
-			rImage = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
-		}
-		for (int y = 0; y < height; y++) {
-			for (int x = 0; x < width; x++) {
-				try {
-					int pixelC = testImage.getRGB(x, y);
-					int pixelB = refImage.getRGB(x, y);
-					if (pixelB == pixelC) {
-						rImage.setRGB(x, y, refImage.getRGB(x, y));
-						// Add one to increase percentage of match
-						matchCount++;
-					} else {
-						int a = 0xff | refImage.getRGB(x, y) >> 24, r = 0xff & refImage.getRGB(x, y) >> 16, g = 0x00 & refImage.getRGB(x, y) >> 8,
-								b = 0x00 & refImage.getRGB(x, y);
-
-						int modifiedRGB = a << 24 | r << 16 | g << 8 | b;
-						rImage.setRGB(x, y, modifiedRGB);
-					}
-				} catch (Exception e) {
-					// handled height or width mismatch
-					rImage.setRGB(x, y, 0x80ff0000);
-				}
+		// Result image is only required if it is going to be stored
+		BufferedImage rImage = null;
+		if (null != resultDir && null != resultImageName) {
+			if (fileExtenstion.toUpperCase().contains("PNG")) {
+				rImage = new BufferedImage(width, height, BufferedImage.TYPE_4BYTE_ABGR);
+			} else {
+				// Assume jpg, it does not have alpha
+				rImage = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
 			}
 		}
 
+		long matchCount = new CompareTask(new PixelReader(refImage), new PixelReader(testImage), null == rImage ? null : new PixelWriter(rImage),
+				0, height).invoke();
+
 		if (null != resultDir && null != resultImageName) {
 			if (!resultDir.exists() || !resultDir.isDirectory()) {
 				resultDir.mkdirs();
@@ -141,6 +168,254 @@ public class ImageCompare {
 		setPercentageMatch((int) (matchCount * 100 / totalPixel));
 	}
 
+	/**
+	 * Compares image with reference image and returns true if percentage of match is at least as required. If {@code ImageCompare} is constructed
+	 * with {@link ImageFingerprintStore} then identical images are accepted and images which can not reach required percentage of match, as
+	 * told by their thumbnails (see {@link ImageFingerprint#getMaxPercentageMatch(ImageFingerprint)}), are rejected without comparing pixels. In
+	 * such case percentage of match is 100 for identical images and -1 (unknown) for rejected images. All other images are compared pixel by pixel.
+	 * 
+	 * @param referenceImage = golden sample, reference image
+	 * @param targetImage = image which is required to be tested
+	 * @param minPercentageMatch = minimum percentage of match (0 - 100)
+	 * @return true if images match
+	 * @throws Exception Exception in case image does not exist or extension does not match
+	 */
+	public boolean isMatch(File referenceImage, File targetImage, int minPercentageMatch) throws Exception {
+		if (null == fingerprintStore) {
+			compare(referenceImage, targetImage);
+			return getPercentageMatch() >= minPercentageMatch;
+		}
+
+		validate(referenceImage, targetImage);
+		ImageFingerprintStore.LoadedImage ref = fingerprintStore.load(referenceImage, true);
+		ImageFingerprintStore.LoadedImage target = fingerprintStore.load(targetImage, true);
+
+		if (ref.fingerprint.isIdentical(target.fingerprint)) {
+			setPercentageMatch(100);
+			return true;
+		}
+		if (ref.fingerprint.getMaxPercentageMatch(target.fingerprint) < minPercentageMatch) {
+			setPercentageMatch(-1);
+			return false;
+		}
+
+		// Borderline case, images decoded for fingerprinting are reused
+		compare(ref.getImage(), target.getImage(), Files.getFileExtension(referenceImage.getName()), null, null);
+		return getPercentageMatch() >= minPercentageMatch;
+	}
+
+	private void validate(File referenceImage, File targetImage) throws Exception {
+		if (!(referenceImage.exists() && targetImage.exists() && referenceImage.isFile() && targetImage.isFile())) {
+			throw new FileNotFoundException();
+		}
+
+		if (!(Files.getFileExtension(referenceImage.getName()).equalsIgnoreCase(Files.getFileExtension(targetImage.getName())))) {
+			throw new Exception("File extensions are not the same");
+		}
+	}
+
+	/**
+	 * Compares band of rows, splits band into two if it is larger than {@link #BAND_PIXEL_THRESHOLD}
+	 */
+	private static class CompareTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		final PixelReader ref;
+		final PixelReader test;
+		final PixelWriter result;
+		final int startRow;
+		final int endRow;
+
+		CompareTask(PixelReader ref, PixelReader test, PixelWriter result, int startRow, int endRow) {
+			this.ref = ref;
+			this.test = test;
+			this.result = result;
+			this.startRow = startRow;
+			this.endRow = endRow;
+		}
+
+		@Override
+		protected Long compute() {
+			if ((long) (endRow - startRow) * ref.width <= BAND_PIXEL_THRESHOLD || endRow - startRow < 2) {
+				return compareRows();
+			}
+			int middleRow = (startRow + endRow) >>> 1;
+			CompareTask upper = new CompareTask(ref, test, result, startRow, middleRow);
+			CompareTask lower = new CompareTask(ref, test, result, middleRow, endRow);
+			upper.fork();
+			long matchCount = lower.compute();
+			return matchCount + upper.join();
+		}
+
+		private long compareRows() {
+			int width = ref.width;
+			// Size mismatch is handled up front, pixels outside of target image never match
+			int overlapWidth = Math.min(width, test.width);
+			int[] refRow = new int[width];
+			int[] testRow = new int[overlapWidth];
+			int[] resultRow = null == result ? null : new int[width];
+			long matchCount = 0;
+
+			for (int y = startRow; y < endRow; y++) {
+				int matchWidth = y < test.height ? overlapWidth : 0;
+				if (matchWidth > 0) {
+					test.readRow(y, matchWidth, testRow);
+				}
+				if (null == resultRow) {
+					if (matchWidth > 0) {
+						ref.readRow(y, matchWidth, refRow);
+						for (int x = 0; x < matchWidth; x++) {
+							if (refRow[x] == testRow[x]) {
+								matchCount++;
+							}
+						}
+					}
+					continue;
+				}
+
+				ref.readRow(y, width, refRow);
+				for (int x = 0; x < matchWidth; x++) {
+					int pixelB = refRow[x];
+					if (pixelB == testRow[x]) {
+						resultRow[x] = pixelB;
+						// Add one to increase percentage of match
+						matchCount++;
+					} else {
+						// Keep red channel of the reference pixel, opaque
+						resultRow[x] = 0xff000000 | (pixelB & 0x00ff0000);
+					}
+				}
+				for (int x = matchWidth; x < width; x++) {
+					resultRow[x] = MISSING_PIXEL;
+				}
+				result.writeRow(y, resultRow);
+			}
+			return matchCount;
+		}
+	}
+
+	/**
+	 * Reads rows of pixels in default RGB colour model, same as {@link BufferedImage#getRGB(int, int)}. Pixels of common image types are read
+	 * straight from data buffer, other image types are converted by image colour model.
+	 */
+	static class PixelReader {
+
+		final BufferedImage image;
+		final int width;
+		final int height;
+		// Image type if data buffer can be accessed directly, otherwise TYPE_CUSTOM
+		int directType = BufferedImage.TYPE_CUSTOM;
+		byte[] byteData;
+		int[] intData;
+		int baseOffset;
+		int scanlineStride;
+
+		PixelReader(BufferedImage image) {
+			this.image = image;
+			this.width = image.getWidth();
+			this.height = image.getHeight();
+
+			WritableRaster raster = image.getRaster();
+			SampleModel sampleModel = raster.getSampleModel();
+			DataBuffer dataBuffer = raster.getDataBuffer();
+			if (dataBuffer.getNumBanks() != 1) {
+				return;
+			}
+			int type = image.getType();
+			if ((type == BufferedImage.TYPE_3BYTE_BGR || type == BufferedImage.TYPE_4BYTE_ABGR) && dataBuffer instanceof DataBufferByte
+					&& sampleModel instanceof ComponentSampleModel) {
+				ComponentSampleModel csm = (ComponentSampleModel) sampleModel;
+				byteData = ((DataBufferByte) dataBuffer).getData();
+				scanlineStride = csm.getScanlineStride();
+				// Band offsets are verified by BufferedImage when image type is determined
+				baseOffset = dataBuffer.getOffset() - raster.getSampleModelTranslateY() * scanlineStride
+						- raster.getSampleModelTranslateX() * csm.getPixelStride();
+				directType = type;
+			} else if ((type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB || type == BufferedImage.TYPE_INT_BGR)
+					&& dataBuffer instanceof DataBufferInt && sampleModel instanceof SinglePixelPackedSampleModel) {
+				intData = ((DataBufferInt) dataBuffer).getData();
+				scanlineStride = ((SinglePixelPackedSampleModel) sampleModel).getScanlineStride();
+				baseOffset = dataBuffer.getOffset() - raster.getSampleModelTranslateY() * scanlineStride - raster.getSampleModelTranslateX();
+				directType = type;
+			}
+		}
+
+		/**
+		 * Reads first {@code count} pixels of the row
+		 */
+		void readRow(int y, int count, int[] row) {
+			int offset = baseOffset + y * scanlineStride;
+			switch (directType) {
+			case BufferedImage.TYPE_3BYTE_BGR:
+				for (int x = 0; x < count; x++, offset += 3) {
+					row[x] = 0xff000000 | (byteData[offset + 2] & 0xff) << 16 | (byteData[offset + 1] & 0xff) << 8 | (byteData[offset] & 0xff);
+				}
+				break;
+			case BufferedImage.TYPE_4BYTE_ABGR:
+				for (int x = 0; x < count; x++, offset += 4) {
+					row[x] = (byteData[offset] & 0xff) << 24 | (byteData[offset + 3] & 0xff) << 16 | (byteData[offset + 2] & 0xff) << 8
+							| (byteData[offset + 1] & 0xff);
+				}
+				break;
+			case BufferedImage.TYPE_INT_RGB:
+				for (int x = 0; x < count; x++) {
+					row[x] = 0xff000000 | intData[offset + x];
+				}
+				break;
+			case BufferedImage.TYPE_INT_ARGB:
+				System.arraycopy(intData, offset, row, 0, count);
+				break;
+			case BufferedImage.TYPE_INT_BGR:
+				for (int x = 0; x < count; x++) {
+					int pixel = intData[offset + x];
+					row[x] = 0xff000000 | (pixel & 0xff) << 16 | (pixel & 0xff00) | (pixel >> 16 & 0xff);
+				}
+				break;
+			default:
+				image.getRGB(0, y, count, 1, row, 0, count);
+			}
+		}
+	}
+
+	/**
+	 * Writes rows of default RGB pixels into result image data buffer, same as {@link BufferedImage#setRGB(int, int, int)}. Result image is
+	 * always created by {@code ImageCompare} as TYPE_4BYTE_ABGR or TYPE_3BYTE_BGR.
+	 */
+	private static class PixelWriter {
+
+		final byte[] data;
+		final boolean alpha;
+		final int width;
+
+		PixelWriter(BufferedImage image) {
+			this.data = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+			this.alpha = image.getType() == BufferedImage.TYPE_4BYTE_ABGR;
+			this.width = image.getWidth();
+		}
+
+		void writeRow(int y, int[] row) {
+			if (alpha) {
+				int offset = y * width * 4;
+				for (int x = 0; x < width; x++, offset += 4) {
+					int pixel = row[x];
+					data[offset] = (byte) (pixel >>> 24);
+					data[offset + 1] = (byte) pixel;
+					data[offset + 2] = (byte) (pixel >> 8);
+					data[offset + 3] = (byte) (pixel >> 16);
+				}
+			} else {
+				int offset = y * width * 3;
+				for (int x = 0; x < width; x++, offset += 3) {
+					int pixel = row[x];
+					data[offset] = (byte) pixel;
+					data[offset + 1] = (byte) (pixel >> 8);
+					data[offset + 2] = (byte) (pixel >> 16);
+				}
+			}
+		}
+	}
+
 	private void createPngImage(BufferedImage image) throws IOException {
 		ImageIO.write(image, "png", getResultImage());
 	}
@@ -150,7 +425,8 @@ public class ImageCompare {
 	}
 
 	/**
-	 * Returns image match percentage. 100 if image matches completely.
+	 * Returns image match percentage. 100 if image matches completely, -1 if {@link #isMatch(File, File, int)} rejected image without comparing
+	 * pixels.
 	 * 
 	 * @return image match percentage
 	 */
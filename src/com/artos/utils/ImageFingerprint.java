@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Fingerprint of an image file, consists of file content hash, image dimensions, 32x32 thumbnail and 64 bit perceptual hash (difference hash).
+ * Images with identical content hash are identical, hamming distance between perceptual hashes tells how similar two images look.
+ * 
+ * @see ImageFingerprintStore
+ */
+public class ImageFingerprint {
+
+	public static final int THUMBNAIL_SIZE = 32;
+	// Difference hash compares 9 horizontally adjacent cells in each of 8 rows
+	private static final int HASH_COLUMNS = 9;
+	private static final int HASH_ROWS = 8;
+
+	private final String contentHash;
+	private final int width;
+	private final int height;
+	private final int[] thumbnail;
+	private final long perceptualHash;
+
+	/**
+	 * Constructor, thumbnail and perceptual hash are calculated in one pass over image pixels
+	 * 
+	 * @param contentHash hash of the image file content
+	 * @param image decoded image
+	 */
+	ImageFingerprint(String contentHash, BufferedImage image) {
+		this.contentHash = contentHash;
+		this.width = image.getWidth();
+		this.height = image.getHeight();
+
+		int cellCount = THUMBNAIL_SIZE * THUMBNAIL_SIZE;
+		long[] sumA = new long[cellCount];
+		long[] sumR = new long[cellCount];
+		long[] sumG = new long[cellCount];
+		long[] sumB = new long[cellCount];
+		int[] pixelCount = new int[cellCount];
+		long[] lumaSum = new long[HASH_COLUMNS * HASH_ROWS];
+		int[] lumaCount = new int[HASH_COLUMNS * HASH_ROWS];
+
+		ImageCompare.PixelReader reader = new ImageCompare.PixelReader(image);
+		int[] row = new int[width];
+		for (int y = 0; y < height; y++) {
+			reader.readRow(y, width, row);
+			int cellRow = (int) ((long) y * THUMBNAIL_SIZE / height) * THUMBNAIL_SIZE;
+			int hashRow = (int) ((long) y * HASH_ROWS / height) * HASH_COLUMNS;
+			for (int x = 0; x < width; x++) {
+				int pixel = row[x];
+				int r = pixel >> 16 & 0xff;
+				int g = pixel >> 8 & 0xff;
+				int b = pixel & 0xff;
+
+				int cell = cellRow + (int) ((long) x * THUMBNAIL_SIZE / width);
+				sumA[cell] += pixel >>> 24;
+				sumR[cell] += r;
+				sumG[cell] += g;
+				sumB[cell] += b;
+				pixelCount[cell]++;
+
+				int hashCell = hashRow + (int) ((long) x * HASH_COLUMNS / width);
+				lumaSum[hashCell] += r * 299 + g * 587 + b * 114;
+				lumaCount[hashCell]++;
+			}
+		}
+
+		thumbnail = new int[cellCount];
+		for (int i = 0; i < cellCount; i++) {
+			// Cells are empty if image is smaller than thumbnail
+			if (pixelCount[i] > 0) {
+				int n = pixelCount[i];
+				thumbnail[i] = (int) (sumA[i] / n) << 24 | (int) (sumR[i] / n) << 16 | (int) (sumG[i] / n) << 8 | (int) (sumB[i] / n);
+			}
+		}
+
+		long hash = 0;
+		for (int y = 0; y < HASH_ROWS; y++) {
+			for (int x = 0; x < HASH_COLUMNS - 1; x++) {
+				int left = y * HASH_COLUMNS + x;
+				// Compare average brightness without division
+				hash <<= 1;
+				if (lumaSum[left] * lumaCount[left + 1] < lumaSum[left + 1] * lumaCount[left]) {
+					hash |= 1;
+				}
+			}
+		}
+		perceptualHash = hash;
+	}
+
+	/**
+	 * Returns true if both image files have same content
+	 * 
+	 * @param other fingerprint of other image
+	 * @return true if images are identical
+	 */
+	public boolean isIdentical(ImageFingerprint other) {
+		return contentHash.equals(other.contentHash);
+	}
+
+	/**
+	 * Returns hamming distance between perceptual hashes of two images. 0 means images look the same, 64 means images are completely different.
+	 * 
+	 * @param other fingerprint of other image
+	 * @return number of different perceptual hash bits
+	 */
+	public int getDistance(ImageFingerprint other) {
+		return Long.bitCount(perceptualHash ^ other.perceptualHash);
+	}
+
+	/**
+	 * Returns upper bound of the percentage of match {@link ImageCompare} can report for the two images. Thumbnail cell is the average of its image
+	 * area, so difference between averages of a cell requires minimum number of different pixels within that area. Bound is only calculated for
+	 * images of the same dimensions, otherwise 100 is returned.
+	 * 
+	 * @param other fingerprint of the target image
+	 * @return maximum possible percentage of match (0 - 100)
+	 */
+	public int getMaxPercentageMatch(ImageFingerprint other) {
+		if (width != other.width || height != other.height) {
+			return 100;
+		}
+		int[] rowCount = cellSpan(height);
+		int[] columnCount = cellSpan(width);
+		long minMismatchCount = 0;
+		for (int i = 0; i < thumbnail.length; i++) {
+			long n = (long) rowCount[i / THUMBNAIL_SIZE] * columnCount[i % THUMBNAIL_SIZE];
+			if (n == 0) {
+				continue;
+			}
+			int maxDelta = 0;
+			for (int shift = 0; shift < 32; shift += 8) {
+				maxDelta = Math.max(maxDelta, Math.abs((thumbnail[i] >>> shift & 0xff) - (other.thumbnail[i] >>> shift & 0xff)));
+			}
+			// Averages are truncated, so channel sums differ by more than n * (delta - 1) and one pixel contributes at most 255 to the difference
+			long sumDelta = n * maxDelta - (n - 1);
+			if (sumDelta > 0) {
+				minMismatchCount += (sumDelta + 254) / 255;
+			}
+		}
+		long totalPixel = (long) width * height;
+		return (int) ((totalPixel - minMismatchCount) * 100 / totalPixel);
+	}
+
+	/**
+	 * Returns number of image rows (or columns) which belong to each thumbnail row (or column)
+	 */
+	private static int[] cellSpan(int size) {
+		int[] span = new int[THUMBNAIL_SIZE];
+		for (int i = 0; i < size; i++) {
+			span[(int) ((long) i * THUMBNAIL_SIZE / size)]++;
+		}
+		return span;
+	}
+
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public long getPerceptualHash() {
+		return perceptualHash;
+	}
+
+	/**
+	 * Returns thumbnail pixels in default RGB colour model, row by row. Each pixel is average of the corresponding area of the image.
+	 * 
+	 * @return copy of {@value #THUMBNAIL_SIZE}x{@value #THUMBNAIL_SIZE} thumbnail pixels
+	 */
+	public int[] getThumbnail() {
+		return thumbnail.clone();
+	}
+}
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Caches {@link ImageFingerprint} of image files keyed by file content hash and keeps index of golden (reference) images. Content hash of a file
+ * is remembered until file size or modification time changes, so golden images are read and decoded only once. Store is thread safe and can be
+ * shared by test cases running in parallel.
+ * 
+ * <PRE>
+ * ImageFingerprintStore store = new ImageFingerprintStore();
+ * store.addGoldenImages(new File("./golden"));
+ * 
+ * ImageCompare imageCompare = new ImageCompare(store);
+ * for (File golden : store.findGoldenImages(screenshot, 10)) {
+ * 	if (imageCompare.isMatch(golden, screenshot, 98)) {
+ * 		// screenshot matches golden image
+ * 	}
+ * }
+ * </PRE>
+ */
+public class ImageFingerprintStore {
+
+	private final Map<String, ImageFingerprint> fingerprintMap = new ConcurrentHashMap<>();
+	private final Map<String, FileEntry> fileMap = new ConcurrentHashMap<>();
+	private final List<File> goldenImageList = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Returns content hash of the image file, file is not decoded
+	 * 
+	 * @param imageFile image file
+	 * @return hex formatted SHA-256 hash of file content
+	 * @throws IOException if file can not be read
+	 */
+	public String getContentHash(File imageFile) throws IOException {
+		FileEntry entry = fileMap.get(imageFile.getAbsolutePath());
+		if (null != entry && entry.isUpToDate(imageFile)) {
+			return entry.contentHash;
+		}
+		long lastModified = imageFile.lastModified();
+		return hash(imageFile, lastModified, Files.readAllBytes(imageFile.toPath()));
+	}
+
+	/**
+	 * Returns fingerprint of the image file. File is decoded only if image with the same content is not fingerprinted yet.
+	 * 
+	 * @param imageFile image file
+	 * @return image fingerprint
+	 * @throws IOException if file can not be read or image format is not supported
+	 */
+	public ImageFingerprint getFingerprint(File imageFile) throws IOException {
+		return load(imageFile, true).fingerprint;
+	}
+
+	/**
+	 * Returns content hash and, if requested, fingerprint of the image file. File is read at most once, its content is hashed and decoded from
+	 * the same bytes. If content hash (and fingerprint) is already known then file is not read until image is requested.
+	 * 
+	 * @param imageFile image file
+	 * @param fingerprint true if fingerprint is required
+	 * @return loaded image
+	 * @throws IOException if file can not be read or image format is not supported
+	 */
+	LoadedImage load(File imageFile, boolean fingerprint) throws IOException {
+		FileEntry entry = fileMap.get(imageFile.getAbsolutePath());
+		if (null != entry && entry.isUpToDate(imageFile)) {
+			ImageFingerprint cached = fingerprintMap.get(entry.contentHash);
+			if (!fingerprint || null != cached) {
+				return new LoadedImage(imageFile, entry.contentHash, null, cached);
+			}
+		}
+
+		// Modification time is taken before file is read, so concurrent modification is detected next time
+		long lastModified = imageFile.lastModified();
+		byte[] content = Files.readAllBytes(imageFile.toPath());
+		String contentHash = hash(imageFile, lastModified, content);
+		LoadedImage loadedImage = new LoadedImage(imageFile, contentHash, content, fingerprintMap.get(contentHash));
+		if (fingerprint && null == loadedImage.fingerprint) {
+			loadedImage.fingerprint = new ImageFingerprint(contentHash, loadedImage.getImage());
+			fingerprintMap.put(contentHash, loadedImage.fingerprint);
+		}
+		return loadedImage;
+	}
+
+	/**
+	 * Adds golden image to the index and fingerprints it
+	 * 
+	 * @param imageFile golden image file
+	 * @throws IOException if file can not be read or image format is not supported
+	 */
+	public void addGoldenImage(File imageFile) throws IOException {
+		getFingerprint(imageFile);
+		if (!goldenImageList.contains(imageFile)) {
+			goldenImageList.add(imageFile);
+		}
+	}
+
+	/**
+	 * Adds all images of the directory (not recursive) to the golden image index. Files which are not supported images are ignored.
+	 * 
+	 * @param dir directory containing golden images
+	 * @throws IOException if directory can not be read
+	 */
+	public void addGoldenImages(File dir) throws IOException {
+		File[] files = dir.listFiles();
+		if (null == files) {
+			throw new IOException("Directory can not be read : " + dir.getAbsolutePath());
+		}
+		for (File file : files) {
+			if (!file.isFile()) {
+				continue;
+			}
+			try {
+				addGoldenImage(file);
+			} catch (IOException e) {
+				// Not an image
+			}
+		}
+	}
+
+	/**
+	 * Returns golden images which look similar to given image, most similar first. Golden images with identical content are always returned
+	 * first.
+	 * 
+	 * @param imageFile image to look up
+	 * @param maxDistance maximum perceptual hash distance (0 - 64)
+	 * @return list of golden image files, empty list if no similar golden image is found
+	 * @throws IOException if file can not be read or image format is not supported
+	 */
+	public List<File> findGoldenImages(File imageFile, int maxDistance) throws IOException {
+		ImageFingerprint fingerprint = getFingerprint(imageFile);
+		List<File> candidateList = new ArrayList<>();
+		Map<File, Integer> distanceMap = new HashMap<>();
+		for (File golden : goldenImageList) {
+			ImageFingerprint goldenFingerprint = getFingerprint(golden);
+			int distance = goldenFingerprint.isIdentical(fingerprint) ? -1 : goldenFingerprint.getDistance(fingerprint);
+			if (distance <= maxDistance) {
+				candidateList.add(golden);
+				distanceMap.put(golden, distance);
+			}
+		}
+
+		// Sort is stable, so equally similar golden images keep the order they were added in
+		candidateList.sort(Comparator.comparingInt(distanceMap::get));
+		return candidateList;
+	}
+
+	/**
+	 * Returns golden images added to the index
+	 * 
+	 * @return list of golden image files
+	 */
+	public List<File> getGoldenImageList() {
+		return new ArrayList<>(goldenImageList);
+	}
+
+	/**
+	 * Removes all fingerprints and golden images
+	 */
+	public void clear() {
+		goldenImageList.clear();
+		fileMap.clear();
+		fingerprintMap.clear();
+	}
+
+	private String hash(File imageFile, long lastModified, byte[] content) throws IOException {
+		String contentHash;
+		try {
+			contentHash = new Transform().bytesToHexString(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+		fileMap.put(imageFile.getAbsolutePath(), new FileEntry(content.length, lastModified, contentHash));
+		return contentHash;
+	}
+
+	/**
+	 * Image file loaded by the store, image is decoded on first request from content which has already been read, or from the file if content
+	 * was not required to calculate hash
+	 */
+	static class LoadedImage {
+		final File file;
+		final String contentHash;
+		ImageFingerprint fingerprint;
+		private byte[] content;
+		private BufferedImage image = null;
+
+		LoadedImage(File file, String contentHash, byte[] content, ImageFingerprint fingerprint) {
+			this.file = file;
+			this.contentHash = contentHash;
+			this.content = content;
+			this.fingerprint = fingerprint;
+		}
+
+		BufferedImage getImage() throws IOException {
+			if (null == image) {
+				image = null == content ? ImageIO.read(file) : ImageIO.read(new ByteArrayInputStream(content));
+				if (null == image) {
+					throw new IOException("Image format is not supported : " + file.getAbsolutePath());
+				}
+				content = null;
+			}
+			return image;
+		}
+	}
+
+	/**
+	 * Content hash of a file together with file attributes which were valid when hash was calculated
+	 */
+	private static class FileEntry {
+		final long length;
+		final long lastModified;
+		final String contentHash;
+
+		FileEntry(long length, long lastModified, String contentHash) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.contentHash = contentHash;
+		}
+
+		boolean isUpToDate(File file) {
+			return file.length() == length && file.lastModified() == lastModified;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.artos.interfaces.ConnectableFrameParser;
+
+/**
+ * Frame parser for protocols where each frame carries its own length field. Returned frame includes header and length field.
+ * 
+ * <PRE>
+ * Frame length = lengthFieldOffset + lengthFieldSize + length field value + lengthAdjustment
+ * 
+ * Example: 2 byte big endian length field at the start of frame which only counts payload bytes
+ * new LengthPrefixedFrameParser(0, 2, ByteOrder.BIG_ENDIAN, 0);
+ * 
+ * Example: 4 byte little endian length field after 2 byte message id which counts whole frame
+ * new LengthPrefixedFrameParser(2, 4, ByteOrder.LITTLE_ENDIAN, -6);
+ * </PRE>
+ * 
+ * Frame longer than maximum frame length is rejected with {@code IllegalStateException} before it is buffered, so corrupted length field can
+ * not make receiver buffer gigabytes of data. Connectors close the connection because stream can not be framed any more.
+ */
+public class LengthPrefixedFrameParser implements ConnectableFrameParser {
+
+	/** Default maximum frame length in bytes (1 MiB) */
+	public static final int DEFAULT_MAX_FRAME_LENGTH = 1024 * 1024;
+
+	final int lengthFieldOffset;
+	final int lengthFieldSize;
+	final ByteOrder byteOrder;
+	final int lengthAdjustment;
+	final int maxFrameLength;
+
+	/**
+	 * Constructor for frames which start with length field that counts payload bytes
+	 * 
+	 * @param lengthFieldSize length field size in bytes (1, 2 or 4)
+	 * @param byteOrder byte order of length field
+	 */
+	public LengthPrefixedFrameParser(int lengthFieldSize, ByteOrder byteOrder) {
+		this(0, lengthFieldSize, byteOrder, 0);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param lengthFieldOffset offset of length field from start of the frame
+	 * @param lengthFieldSize length field size in bytes (1, 2 or 4)
+	 * @param byteOrder byte order of length field
+	 * @param lengthAdjustment value added to length field value to calculate number of bytes which follow length field
+	 */
+	public LengthPrefixedFrameParser(int lengthFieldOffset, int lengthFieldSize, ByteOrder byteOrder, int lengthAdjustment) {
+		this(lengthFieldOffset, lengthFieldSize, byteOrder, lengthAdjustment, DEFAULT_MAX_FRAME_LENGTH);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param lengthFieldOffset offset of length field from start of the frame
+	 * @param lengthFieldSize length field size in bytes (1, 2 or 4)
+	 * @param byteOrder byte order of length field
+	 * @param lengthAdjustment value added to length field value to calculate number of bytes which follow length field
+	 * @param maxFrameLength maximum frame length in bytes including header and length field
+	 */
+	public LengthPrefixedFrameParser(int lengthFieldOffset, int lengthFieldSize, ByteOrder byteOrder, int lengthAdjustment, int maxFrameLength) {
+		if (lengthFieldSize != 1 && lengthFieldSize != 2 && lengthFieldSize != 4) {
+			throw new IllegalArgumentException("Length field size must be 1, 2 or 4 bytes");
+		}
+		this.lengthFieldOffset = lengthFieldOffset;
+		this.lengthFieldSize = lengthFieldSize;
+		this.byteOrder = byteOrder;
+		this.lengthAdjustment = lengthAdjustment;
+		if (maxFrameLength < lengthFieldOffset + lengthFieldSize) {
+			throw new IllegalArgumentException("Maximum frame length must not be less than header length");
+		}
+		this.maxFrameLength = maxFrameLength;
+	}
+
+	@Override
+	public ByteBuffer nextFrame(ByteBuffer buffer) {
+		int headerLength = lengthFieldOffset + lengthFieldSize;
+		if (buffer.remaining() < headerLength) {
+			return null;
+		}
+
+		int start = buffer.position();
+		long length;
+		ByteOrder order = buffer.order();
+		buffer.order(byteOrder);
+		switch (lengthFieldSize) {
+		case 1:
+			length = buffer.get(start + lengthFieldOffset) & 0xFF;
+			break;
+		case 2:
+			length = buffer.getShort(start + lengthFieldOffset) & 0xFFFF;
+			break;
+		default:
+			length = buffer.getInt(start + lengthFieldOffset) & 0xFFFFFFFFL;
+			break;
+		}
+		buffer.order(order);
+
+		long frameLength = headerLength + length + lengthAdjustment;
+		if (frameLength < headerLength) {
+			throw new IllegalStateException("Invalid frame length : " + frameLength);
+		}
+		if (frameLength > maxFrameLength) {
+			throw new IllegalStateException("Frame length : " + frameLength + " exceeds maximum frame length : " + maxFrameLength);
+		}
+		if (buffer.remaining() < frameLength) {
+			return null;
+		}
+
+		ByteBuffer frame = buffer.duplicate();
+		frame.limit(start + (int) frameLength);
+		buffer.position(start + (int) frameLength);
+		return frame.slice();
+	}
+
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selector based event loop which serves many non-blocking connections using few I/O threads. Each I/O thread owns a {@code Selector}, new
+ * connections are assigned to I/O threads in round robin order.
+ * 
+ * <PRE>
+ * Default event loop is shared by all {@code NioTCPClient} and {@code NioTCPServer} objects which are not given an event loop explicitly.
+ * Handlers are executed on I/O threads, so they must never block.
+ * </PRE>
+ */
+public class NioEventLoop {
+
+	private static NioEventLoop defaultEventLoop = null;
+
+	private final Worker[] workers;
+	private final AtomicInteger nextWorker = new AtomicInteger(0);
+
+	/**
+	 * Constructor
+	 * 
+	 * @param threadCount number of I/O threads
+	 * @throws IOException if selector can not be opened
+	 */
+	public NioEventLoop(int threadCount) throws IOException {
+		workers = new Worker[Math.max(1, threadCount)];
+		for (int i = 0; i < workers.length; i++) {
+			workers[i] = new Worker(Selector.open(), "Artos_NIO_IO_Thread_" + i);
+			workers[i].thread.start();
+		}
+	}
+
+	/**
+	 * Returns shared event loop, event loop is created with one I/O thread per available processor upon first request
+	 * 
+	 * @return shared {@code NioEventLoop}
+	 * @throws IOException if selector can not be opened
+	 */
+	public static synchronized NioEventLoop getDefault() throws IOException {
+		if (null == defaultEventLoop) {
+			defaultEventLoop = new NioEventLoop(Runtime.getRuntime().availableProcessors());
+		}
+		return defaultEventLoop;
+	}
+
+	/**
+	 * Stops all I/O threads and closes selectors. Connections registered with this event loop will not receive any more data.
+	 */
+	public void shutdown() {
+		for (Worker worker : workers) {
+			worker.running = false;
+			worker.selector.wakeup();
+		}
+		synchronized (NioEventLoop.class) {
+			if (this == defaultEventLoop) {
+				defaultEventLoop = null;
+			}
+		}
+	}
+
+	/**
+	 * Returns I/O thread for a new connection
+	 * 
+	 * @return {@code Worker}
+	 */
+	Worker next() {
+		return workers[Math.abs(nextWorker.getAndIncrement() % workers.length)];
+	}
+
+	/**
+	 * Handler of selected keys, handler object is attached to {@code SelectionKey}
+	 */
+	interface Handler {
+
+		/**
+		 * Invoked on I/O thread when channel is ready for selected operations
+		 * 
+		 * @param key selected key
+		 * @throws IOException if an I/O error occurs
+		 */
+		void handle(SelectionKey key) throws IOException;
+
+		/**
+		 * Invoked on I/O thread if handler has thrown an exception
+		 * 
+		 * @param e exception
+		 */
+		void handleException(Exception e);
+	}
+
+	/**
+	 * I/O thread with its own selector
+	 */
+	static class Worker implements Runnable {
+
+		final Selector selector;
+		final Thread thread;
+		final Queue<Runnable> taskQueue = new ConcurrentLinkedQueue<>();
+		volatile boolean running = true;
+
+		Worker(Selector selector, String threadName) {
+			this.selector = selector;
+			this.thread = new Thread(this, threadName);
+			this.thread.setDaemon(true);
+		}
+
+		/**
+		 * Executes task on I/O thread. Channel registration and interest changes must be done using this method.
+		 * 
+		 * @param task task to be executed
+		 */
+		void execute(Runnable task) {
+			taskQueue.add(task);
+			selector.wakeup();
+		}
+
+		@Override
+		public void run() {
+			while (running) {
+				try {
+					selector.select();
+
+					Runnable task;
+					while (null != (task = taskQueue.poll())) {
+						// Failure of one task must not delay remaining tasks and selected keys
+						try {
+							task.run();
+						} catch (CancelledKeyException e) {
+							// Channel was closed by another thread
+						} catch (Exception e) {
+							e.printStackTrace();
+						}
+					}
+
+					Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+					while (it.hasNext()) {
+						SelectionKey key = it.next();
+						it.remove();
+						Handler handler = (Handler) key.attachment();
+						try {
+							if (key.isValid()) {
+								handler.handle(key);
+							}
+						} catch (CancelledKeyException e) {
+							// Channel was closed by another thread
+						} catch (Exception e) {
+							handler.handleException(e);
+						}
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			}
+
+			try {
+				selector.close();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+}
@@ -0,0 +1,522 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.artos.framework.Enums.QueueOverflowPolicy;
+import com.artos.framework.listener.RealTimeLogEventListener;
+import com.artos.interfaces.Connectable;
+import com.artos.interfaces.ConnectableFilter;
+import com.artos.interfaces.ConnectableFrameParser;
+import com.artos.interfaces.ConnectableMessageParser;
+
+/**
+ * This class creates non-blocking TCP Client. Unlike {@code TCPClient}, it does not create any thread. Reads and writes are performed by shared
+ * {@code NioEventLoop}, so few I/O threads can serve hundreds of connections.
+ * 
+ * <PRE>
+ * Message parser, filters and real time listener are invoked on I/O thread, so they must not block.
+ * With {@link QueueOverflowPolicy#BLOCK} reading from the socket is paused while receive queue is full, so back-pressure is applied through TCP flow control without blocking I/O thread.
+ * </PRE>
+ */
+public class NioTCPClient implements Connectable {
+	String ip;
+	int nPort;
+	SocketChannel socketChannel;
+	NioEventLoop eventLoop;
+	NioEventLoop.Worker worker;
+	BlockingQueue<byte[]> queue = new LinkedBlockingQueue<byte[]>();
+	QueueOverflowPolicy overflowPolicy = QueueOverflowPolicy.BLOCK;
+	AtomicLong droppedMsgCount = new AtomicLong(0);
+	List<ConnectableFilter> filterList = null;
+	RealTimeLogEventListener realTimeListener = null;
+	ConnectableMessageParser msgParser = null;
+	ConnectableFrameParser frameParser = null;
+	Transform _transform = new Transform();
+
+	// Only accessed by I/O thread
+	SelectionKey selectionKey;
+	ByteBuffer readBuffer = ByteBuffer.allocate(4 * 1024); // a read buffer of 4KiB
+	byte[] leftOverBytes = null;
+	FrameBuffer frameBuffer = null;
+	Queue<byte[]> backlog = new ArrayDeque<byte[]>();
+
+	Queue<ByteBuffer> writeQueue = new ConcurrentLinkedQueue<ByteBuffer>();
+	volatile boolean readPaused = false;
+
+	final NioEventLoop.Handler handler = new NioEventLoop.Handler() {
+		@Override
+		public void handle(SelectionKey key) throws IOException {
+			if (key.isReadable()) {
+				read();
+			}
+			if (key.isValid() && key.isWritable()) {
+				flush();
+			}
+		}
+
+		@Override
+		public void handleException(Exception e) {
+			// Channel closed by disconnect() while I/O thread was using it, connection is closed as expected
+			if (!(e instanceof ClosedChannelException) || socketChannel.isOpen()) {
+				e.printStackTrace();
+			}
+			try {
+				socketChannel.close();
+			} catch (IOException e1) {
+				e1.printStackTrace();
+			}
+		}
+	};
+
+	/**
+	 * Constructor, shared {@code NioEventLoop} is used
+	 * 
+	 * @param ip Server IP
+	 * @param nPort Server Port
+	 */
+	public NioTCPClient(String ip, int nPort) {
+		this(ip, nPort, null, null, null);
+	}
+
+	/**
+	 * Constructor, shared {@code NioEventLoop} is used. Every filter adds overheads in processing received messages which may have impact on
+	 * performance
+	 * 
+	 * @param ip Server IP
+	 * @param nPort Server Port
+	 * @param msgParser {@code ConnectableMessageParser} object which contains logic to separate concatenated messages
+	 * @param filterList list of filters
+	 */
+	public NioTCPClient(String ip, int nPort, ConnectableMessageParser msgParser, List<ConnectableFilter> filterList) {
+		this(ip, nPort, msgParser, filterList, null);
+	}
+
+	/**
+	 * Constructor. Every filter adds overheads in processing received messages which may have impact on performance
+	 * 
+	 * @param ip Server IP
+	 * @param nPort Server Port
+	 * @param msgParser {@code ConnectableMessageParser} object which contains logic to separate concatenated messages
+	 * @param filterList list of filters
+	 * @param eventLoop event loop which serves this connection, shared event loop is used if null
+	 */
+	public NioTCPClient(String ip, int nPort, ConnectableMessageParser msgParser, List<ConnectableFilter> filterList, NioEventLoop eventLoop) {
+		this.ip = ip;
+		this.nPort = nPort;
+		this.msgParser = msgParser;
+		this.filterList = filterList;
+		this.eventLoop = eventLoop;
+	}
+
+	/**
+	 * Connects to the specified port number on the named host. Method blocks until connection is established, after that all I/O is non-blocking.
+	 * 
+	 * @throws IOException if an I/O error occurs when connecting.
+	 */
+	public void connect() throws IOException {
+		System.out.println("Connecting on Port : " + nPort);
+
+		SocketChannel channel = SocketChannel.open(new InetSocketAddress(ip, nPort));
+		if (channel.isConnected()) {
+			System.out.println("Connected to " + channel.socket().getInetAddress().getHostAddress() + ":" + channel.socket().getPort());
+		}
+		register(channel);
+	}
+
+	/**
+	 * Registers connected channel with the event loop, after that all I/O is non-blocking. Also used by {@code NioTCPServer} for accepted
+	 * connection.
+	 * 
+	 * @param channel connected {@code SocketChannel}
+	 * @throws IOException if an I/O error occurs
+	 */
+	void register(SocketChannel channel) throws IOException {
+		socketChannel = channel;
+		socketChannel.configureBlocking(false);
+
+		if (null == eventLoop) {
+			eventLoop = NioEventLoop.getDefault();
+		}
+		worker = eventLoop.next();
+		worker.execute(() -> {
+			try {
+				selectionKey = socketChannel.register(worker.selector, SelectionKey.OP_READ, handler);
+			} catch (IOException e) {
+				handler.handleException(e);
+			}
+		});
+		notifyConnected();
+	}
+
+	/**
+	 * Returns the connection state of the socket. true is returned if socket is successfully connected and has not been closed
+	 */
+	public boolean isConnected() {
+		if (null != socketChannel && socketChannel.isOpen() && socketChannel.isConnected()) {
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Closes this connection. Once a connection has been closed, it is not available for further networking use. Event loop is not affected.
+	 * 
+	 * @throws IOException if an I/O error occurs when closing this socket.
+	 */
+	public void disconnect() throws IOException {
+		socketChannel.close();
+		notifyDisconnected();
+		System.out.println("Connection Closed");
+	}
+
+	/**
+	 * Returns true if receive queue is not empty
+	 */
+	@Override
+	public boolean hasNextMsg() {
+		return !queue.isEmpty();
+	}
+
+	/**
+	 * Get the message from the queue. With non zero timeout, function blocks until message is received or timeout has occurred. If timeout value is
+	 * zero then function will block until next message is received with infinite timeout.
+	 * 
+	 * @param timeout timeout value
+	 * @param timeunit timeunit
+	 * @return byte[] from queue, null is returned if timeout has occurred
+	 * @throws InterruptedException if any thread has interrupted the current thread. The interrupted status of the current thread is cleared when
+	 *             this exception is thrown.
+	 */
+	public byte[] getNextMsg(long timeout, TimeUnit timeunit) throws InterruptedException {
+		// Zero timeout means wait until next message is received
+		byte[] msg = (timeout == 0) ? queue.take() : queue.poll(timeout, timeunit);
+		resumeReading();
+		return msg;
+	}
+
+	/**
+	 * Returns byte array from the queue, null is returned if queue is empty
+	 */
+	@Override
+	public byte[] getNextMsg() {
+		byte[] msg = queue.poll();
+		resumeReading();
+		return msg;
+	}
+
+	/**
+	 * Send data to server in String format
+	 * 
+	 * @param data data to be sent in String format
+	 * @throws IOException if connection is not established
+	 */
+	public void sendMsg(String data) throws IOException {
+		sendMsg(data.getBytes());
+	}
+
+	/**
+	 * Queues byte array to be sent to server, data is written by I/O thread as soon as socket is ready. Byte array must not be modified after this
+	 * call.
+	 * 
+	 * @throws IOException if connection is not established
+	 */
+	@Override
+	public void sendMsg(byte[] data) throws IOException {
+		if (!isConnected()) {
+			throw new IOException("Not connected");
+		}
+		writeQueue.add(ByteBuffer.wrap(data));
+		worker.execute(() -> {
+			try {
+				flush();
+			} catch (IOException e) {
+				handler.handleException(e);
+			}
+		});
+		notifySend(data);
+	}
+
+	/**
+	 * Sets capacity and overflow policy of the receive queue. By default receive queue is unbounded. Must be called prior to connecting, messages
+	 * present in the existing queue are discarded.
+	 * 
+	 * @param capacity maximum number of messages receive queue can hold
+	 * @param overflowPolicy policy applied when receive queue is full
+	 */
+	public void setQueueCapacity(int capacity, QueueOverflowPolicy overflowPolicy) {
+		this.queue = new LinkedBlockingQueue<byte[]>(capacity);
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Sets {@code ByteBuffer} based frame parser. If set then it is used instead of {@code ConnectableMessageParser}, socket is read directly into
+	 * reusable buffer so received bytes are not copied until a frame passes the filters. Must be called prior to connecting.
+	 * 
+	 * @param frameParser frame parser, one object per connection
+	 */
+	public void setFrameParser(ConnectableFrameParser frameParser) {
+		this.frameParser = frameParser;
+	}
+
+	/**
+	 * Returns number of messages dropped due to receive queue overflow
+	 * 
+	 * @return dropped message count
+	 */
+	public long getDroppedMsgCount() {
+		return droppedMsgCount.get();
+	}
+
+	/**
+	 * Clean receive queue
+	 */
+	public void cleanQueue() {
+		queue.clear();
+		resumeReading();
+	}
+
+	// =================================================================================================
+	// I/O thread
+	// =================================================================================================
+	private void read() throws IOException {
+		if (null != frameParser) {
+			readFramed();
+			return;
+		}
+
+		int read = socketChannel.read(readBuffer);
+		if (read < 0) {
+			// Remote end has closed the connection
+			socketChannel.close();
+			System.out.println("Connection closed by remote host");
+			return;
+		}
+		if (read == 0) {
+			return;
+		}
+
+		readBuffer.flip();
+		byte[] readData = new byte[readBuffer.remaining()];
+		readBuffer.get(readData);
+		readBuffer.clear();
+
+		notifyReceive(readData);
+
+		/*
+		 * If user has not provided logic for msg parsing then do simple filtering
+		 */
+		if (null == msgParser) {
+			applyFilter(readData);
+		} else {
+			/*
+			 * If user has provided message parsing logic then assemble any left over data from previous byte[] to readData and then put it through
+			 * parsing logic to separate each messages.
+			 */
+			if (null != leftOverBytes) {
+				readData = _transform.concat(leftOverBytes, readData);
+				leftOverBytes = null;
+			}
+			List<byte[]> msgList = msgParser.parse(readData);
+			if (null != msgParser.getLeftOverBytes() && msgParser.getLeftOverBytes().length != 0) {
+				leftOverBytes = msgParser.getLeftOverBytes();
+			}
+			for (byte[] msg : msgList) {
+				applyFilter(msg);
+			}
+		}
+	}
+
+	private void readFramed() throws IOException {
+		if (null == frameBuffer) {
+			frameBuffer = new FrameBuffer(4 * 1024);
+		}
+		ByteBuffer writeBuffer = frameBuffer.getWriteBuffer();
+		int start = writeBuffer.position();
+		int read = socketChannel.read(writeBuffer);
+		if (read < 0) {
+			// Remote end has closed the connection
+			socketChannel.close();
+			System.out.println("Connection closed by remote host");
+			return;
+		}
+		if (read == 0) {
+			return;
+		}
+		if (null != realTimeListener && realTimeListener.isEnabled()) {
+			notifyReceive(Arrays.copyOfRange(writeBuffer.array(), writeBuffer.arrayOffset() + start, writeBuffer.arrayOffset() + start + read));
+		}
+
+		ByteBuffer frame;
+		while (null != (frame = frameBuffer.nextFrame(frameParser))) {
+			applyFilter(frame);
+		}
+	}
+
+	private void applyFilter(ByteBuffer frame) {
+		if (null != filterList && !filterList.isEmpty()) {
+			for (ConnectableFilter filter : filterList) {
+				if (filter.meetCriteria(frame)) {
+					// Do not add to queue if filter match is found
+					return;
+				}
+			}
+		}
+		byte[] msg = new byte[frame.remaining()];
+		frame.get(msg);
+		enqueue(msg);
+	}
+
+	private void applyFilter(byte[] readData) {
+		if (null != filterList && !filterList.isEmpty()) {
+			for (ConnectableFilter filter : filterList) {
+				if (filter.meetCriteria(readData)) {
+					// Do not add to queue if filter match is found
+					return;
+				}
+			}
+		}
+		enqueue(readData);
+	}
+
+	private void enqueue(byte[] msg) {
+		if (overflowPolicy == QueueOverflowPolicy.BLOCK) {
+			// I/O thread must not block, so stop reading until consumer makes space in the queue
+			if (!backlog.isEmpty() || !queue.offer(msg)) {
+				backlog.add(msg);
+				if (!readPaused) {
+					readPaused = true;
+					selectionKey.interestOps(selectionKey.interestOps() & ~SelectionKey.OP_READ);
+					// Consumer may have made space before it could see paused state
+					drainBacklog();
+				}
+			}
+			return;
+		}
+		try {
+			ReceiveQueue.add(queue, msg, overflowPolicy, droppedMsgCount);
+		} catch (InterruptedException e) {
+			// Drop policies never wait
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void resumeReading() {
+		if (readPaused) {
+			worker.execute(this::drainBacklog);
+		}
+	}
+
+	private void drainBacklog() {
+		while (!backlog.isEmpty() && queue.offer(backlog.peek())) {
+			backlog.poll();
+		}
+		if (backlog.isEmpty() && readPaused && selectionKey.isValid()) {
+			readPaused = false;
+			selectionKey.interestOps(selectionKey.interestOps() | SelectionKey.OP_READ);
+		}
+	}
+
+	private void flush() throws IOException {
+		if (null == selectionKey || !selectionKey.isValid()) {
+			return;
+		}
+		ByteBuffer buffer;
+		while (null != (buffer = writeQueue.peek())) {
+			socketChannel.write(buffer);
+			if (buffer.hasRemaining()) {
+				// Socket send buffer is full, continue once socket is writable
+				selectionKey.interestOps(selectionKey.interestOps() | SelectionKey.OP_WRITE);
+				return;
+			}
+			writeQueue.poll();
+		}
+		selectionKey.interestOps(selectionKey.interestOps() & ~SelectionKey.OP_WRITE);
+	}
+
+	// =================================================================================================
+	// Listener Notify
+	// =================================================================================================
+	private void notifySend(byte[] data) {
+		if (null != realTimeListener) {
+			realTimeListener.send(data);
+		}
+	}
+
+	private void notifyReceive(byte[] data) {
+		if (null != realTimeListener) {
+			realTimeListener.receive(data);
+		}
+	}
+
+	private void notifyConnected() {
+		if (null != realTimeListener) {
+			realTimeListener.connected();
+		}
+	}
+
+	private void notifyDisconnected() {
+		if (null != realTimeListener) {
+			realTimeListener.disConnected();
+		}
+	}
+
+	// =================================================================================================
+	// Getter Setter
+	// =================================================================================================
+
+	public SocketChannel getConnector() {
+		return socketChannel;
+	}
+
+	public BlockingQueue<byte[]> getQueue() {
+		return queue;
+	}
+
+	public NioEventLoop getEventLoop() {
+		return eventLoop;
+	}
+
+	public RealTimeLogEventListener getRealTimeListener() {
+		return realTimeListener;
+	}
+
+	public void setRealTimeListener(RealTimeLogEventListener realTimeListener) {
+		this.realTimeListener = realTimeListener;
+	}
+
+}
@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.artos.framework.Enums.QueueOverflowPolicy;
+import com.artos.framework.listener.RealTimeLogEventListener;
+import com.artos.interfaces.Connectable;
+import com.artos.interfaces.ConnectableFilter;
+import com.artos.interfaces.ConnectableFrameParser;
+import com.artos.interfaces.ConnectableMessageParser;
+
+/**
+ * This class listens for client connection and accepts single client connection with server. Unlike {@code TCPServer}, it does not create
+ * receiver thread or thread pool. Once connection is accepted, reads and writes are performed by shared {@code NioEventLoop}, so few I/O threads
+ * can serve hundreds of connections.
+ * 
+ * <PRE>
+ * Message parser, filters and real time listener are invoked on I/O thread, so they must not block.
+ * With {@link QueueOverflowPolicy#BLOCK} reading from the socket is paused while receive queue is full, so back-pressure is applied through TCP flow control without blocking I/O thread.
+ * </PRE>
+ */
+public class NioTCPServer implements Connectable {
+	int nPort;
+	ServerSocketChannel serverSocketChannel;
+	// Accepted connection is served the same way as client connection
+	NioTCPClient connection;
+
+	/**
+	 * Constructor, shared {@code NioEventLoop} is used
+	 * 
+	 * @param nPort Port Number, or 0 to use a port number that is automatically allocated
+	 */
+	public NioTCPServer(int nPort) {
+		this(nPort, null, null, null);
+	}
+
+	/**
+	 * Constructor, shared {@code NioEventLoop} is used. Every filter adds overheads in processing received messages which may have impact on
+	 * performance
+	 * 
+	 * @param nPort Port Number, or 0 to use a port number that is automatically allocated
+	 * @param msgParser parser which is used to separate relevant msgs from received TCP byte array
+	 * @param filterList list of filters
+	 */
+	public NioTCPServer(int nPort, ConnectableMessageParser msgParser, List<ConnectableFilter> filterList) {
+		this(nPort, msgParser, filterList, null);
+	}
+
+	/**
+	 * Constructor. Every filter adds overheads in processing received messages which may have impact on performance
+	 * 
+	 * @param nPort Port Number, or 0 to use a port number that is automatically allocated
+	 * @param msgParser parser which is used to separate relevant msgs from received TCP byte array
+	 * @param filterList list of filters
+	 * @param eventLoop event loop which serves accepted connection, shared event loop is used if null
+	 */
+	public NioTCPServer(int nPort, ConnectableMessageParser msgParser, List<ConnectableFilter> filterList, NioEventLoop eventLoop) {
+		this.nPort = nPort;
+		this.connection = new NioTCPClient(null, nPort, msgParser, filterList, eventLoop);
+	}
+
+	/**
+	 * Creates a server socket, bound to the specified port. The method blocks until a connection is made.
+	 * 
+	 * @throws IOException if an I/O error occurs when opening the socket.
+	 */
+	public void connect() throws IOException {
+		// set infinite timeout by default
+		connect(0);
+	}
+
+	/**
+	 * Creates a server socket, bound to the specified port. The method blocks until a connection is made, after that all I/O is non-blocking.
+	 * 
+	 * Setting soTimeout to a non-zero timeout, a call to accept() will block for only this amount of time. If the timeout expires, a
+	 * java.net.SocketTimeoutException is raised, though the server socket is still valid.
+	 * 
+	 * @param soTimeout the specified timeout in milliseconds.
+	 * @throws IOException if an I/O error occurs when opening the socket.
+	 */
+	public void connect(int soTimeout) throws IOException {
+		System.out.println("Listening on Port : " + nPort);
+
+		if (null == serverSocketChannel) {
+			serverSocketChannel = ServerSocketChannel.open();
+			serverSocketChannel.bind(new InetSocketAddress(nPort));
+		}
+		serverSocketChannel.socket().setSoTimeout(soTimeout);
+		Socket socket = serverSocketChannel.socket().accept();
+		if (socket.isConnected()) {
+			System.out.println("Connected to " + socket.getInetAddress().getHostAddress() + ":" + socket.getLocalPort());
+		}
+
+		connection.register(socket.getChannel());
+	}
+
+	/**
+	 * Returns the connection state of the socket. true is returned if socket is successfully connected and has not been closed
+	 */
+	public boolean isConnected() {
+		return connection.isConnected();
+	}
+
+	/**
+	 * Closes accepted connection and server socket. Once closed, it is not available for further networking use. Event loop is not affected.
+	 * 
+	 * @throws IOException if an I/O error occurs when closing this socket.
+	 */
+	public void disconnect() throws IOException {
+		try {
+			connection.disconnect();
+		} finally {
+			serverSocketChannel.close();
+		}
+	}
+
+	/**
+	 * Returns true if receive queue is not empty
+	 */
+	@Override
+	public boolean hasNextMsg() {
+		return connection.hasNextMsg();
+	}
+
+	/**
+	 * Get the message from the queue. With non zero timeout, function blocks until message is received or timeout has occurred. If timeout value is
+	 * zero then function will block until next message is received with infinite timeout.
+	 * 
+	 * @param timeout timeout value
+	 * @param timeunit timeunit
+	 * @return byte[] from queue, null is returned if timeout has occurred
+	 * @throws InterruptedException if any thread has interrupted the current thread. The interrupted status of the current thread is cleared when
+	 *             this exception is thrown.
+	 */
+	public byte[] getNextMsg(long timeout, TimeUnit timeunit) throws InterruptedException {
+		return connection.getNextMsg(timeout, timeunit);
+	}
+
+	/**
+	 * Returns byte array from the queue, null is returned if queue is empty
+	 */
+	@Override
+	public byte[] getNextMsg() {
+		return connection.getNextMsg();
+	}
+
+	/**
+	 * Send data to client in String format
+	 * 
+	 * @param data data to be sent in String format
+	 * @throws IOException if connection is not established
+	 */
+	public void sendMsg(String data) throws IOException {
+		connection.sendMsg(data);
+	}
+
+	/**
+	 * Queues byte array to be sent to client, data is written by I/O thread as soon as socket is ready. Byte array must not be modified after this
+	 * call.
+	 * 
+	 * @throws IOException if connection is not established
+	 */
+	@Override
+	public void sendMsg(byte[] data) throws IOException {
+		connection.sendMsg(data);
+	}
+
+	/**
+	 * Sets capacity and overflow policy of the receive queue. By default receive queue is unbounded. Must be called prior to connecting, messages
+	 * present in the existing queue are discarded.
+	 * 
+	 * @param capacity maximum number of messages receive queue can hold
+	 * @param overflowPolicy policy applied when receive queue is full
+	 */
+	public void setQueueCapacity(int capacity, QueueOverflowPolicy overflowPolicy) {
+		connection.setQueueCapacity(capacity, overflowPolicy);
+	}
+
+	/**
+	 * Sets {@code ByteBuffer} based frame parser. If set then it is used instead of {@code ConnectableMessageParser}, socket is read directly into
+	 * reusable buffer so received bytes are not copied until a frame passes the filters. Must be called prior to connecting.
+	 * 
+	 * @param frameParser frame parser, one object per connection
+	 */
+	public void setFrameParser(ConnectableFrameParser frameParser) {
+		connection.setFrameParser(frameParser);
+	}
+
+	/**
+	 * Returns number of messages dropped due to receive queue overflow
+	 * 
+	 * @return dropped message count
+	 */
+	public long getDroppedMsgCount() {
+		return connection.getDroppedMsgCount();
+	}
+
+	/**
+	 * Clean receive queue
+	 */
+	public void cleanQueue() {
+		connection.cleanQueue();
+	}
+
+	// =================================================================================================
+	// Getter Setter
+	// =================================================================================================
+
+	public ServerSocketChannel getServerSocketChannel() {
+		return serverSocketChannel;
+	}
+
+	/**
+	 * Returns port server socket is bound to, which is useful if server was created with port number 0
+	 * 
+	 * @return local port or -1 if server socket is not bound yet
+	 */
+	public int getLocalPort() {
+		if (null == serverSocketChannel) {
+			return -1;
+		}
+		return serverSocketChannel.socket().getLocalPort();
+	}
+
+	public SocketChannel getConnector() {
+		return connection.getConnector();
+	}
+
+	public BlockingQueue<byte[]> getQueue() {
+		return connection.getQueue();
+	}
+
+	public NioEventLoop getEventLoop() {
+		return connection.getEventLoop();
+	}
+
+	public int getnPort() {
+		return nPort;
+	}
+
+	public void setnPort(int nPort) {
+		this.nPort = nPort;
+	}
+
+	public RealTimeLogEventListener getRealTimeListener() {
+		return connection.getRealTimeListener();
+	}
+
+	public void setRealTimeListener(RealTimeLogEventListener realTimeListener) {
+		connection.setRealTimeListener(realTimeListener);
+	}
+
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.artos.framework.Enums.QueueOverflowPolicy;
+
+/**
+ * Adds received messages to connector receive queue according to overflow policy. Used by receiver threads of {@code TCPClient},
+ * {@code TCPServer} and {@code UDP}.
+ */
+final class ReceiveQueue {
+
+	private ReceiveQueue() {
+		// Static class
+	}
+
+	/**
+	 * Adds message to the queue. If queue is full then message is handled according to overflow policy.
+	 * 
+	 * @param queue receive queue
+	 * @param data received message
+	 * @param overflowPolicy policy applied when queue is full
+	 * @param droppedMsgCount counter which is incremented for every dropped message
+	 * @throws InterruptedException if receiver thread is interrupted while waiting for space in the queue
+	 */
+	static void add(BlockingQueue<byte[]> queue, byte[] data, QueueOverflowPolicy overflowPolicy, AtomicLong droppedMsgCount)
+			throws InterruptedException {
+		switch (overflowPolicy) {
+		case DROP_NEWEST:
+			if (!queue.offer(data)) {
+				droppedMsgCount.incrementAndGet();
+			}
+			break;
+		case DROP_OLDEST:
+			while (!queue.offer(data)) {
+				if (null != queue.poll()) {
+					droppedMsgCount.incrementAndGet();
+				}
+			}
+			break;
+		default:
+			queue.put(data);
+			break;
+		}
+	}
+}
@@ -21,9 +21,8 @@
  ******************************************************************************/
 package com.artos.utils;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 
 import com.artos.framework.infra.TestContext;
@@ -36,8 +35,9 @@ public class SSH {
 	TestContext context;
 	Session ssh = null;
 	Channel channel = null;
-	private InputStream in;
+	private ReceiveBuffer in;
 	private PrintStream out;
+	private int maxCaptureSize = 1024 * 1024;
 	private int portNumber = 22;
 	private String privateKeyPath;
 	private String hostIP;
@@ -147,9 +147,10 @@ public class SSH {
 			// channel = ssh.openChannel("exec");
 			setChannel(getSsh().openChannel("shell"));
 
-			// Get input and output stream references
+			// Received data is pushed into receive buffer by session thread, so reader is woken up as soon as data arrives
 			getChannel().setInputStream(null);
-			in = new BufferedInputStream(getChannel().getInputStream());
+			in = new ReceiveBuffer();
+			getChannel().setOutputStream(in);
 			out = new PrintStream(getChannel().getOutputStream());
 			// ((ChannelExec) getChannel()).setErrStream(System.err);
 
@@ -251,34 +252,14 @@ public class SSH {
 	 *             if an I/O error occurs.
 	 */
 	public String readUntil(String pattern) throws IOException, InterruptedException {
-		char lastChar = pattern.charAt(pattern.length() - 1);
-		StringBuffer sb = new StringBuffer();
-
-		// Run Until Pattern match
-		while (true) {
-			if (in.available() >= 1) {
-				char ch = (char) in.read();
-				sb.append(ch);
-				if (ch == lastChar) {
-					if (sb.toString().endsWith(pattern)) {
-						return sb.toString();
-					}
-				}
-			} else {
-				Thread.sleep(10);
-			}
-			if (getChannel().isClosed()) {
-				if (in.available() > 0) {
-					continue;
-				} else {
-					context.getLogger().debug("exit-status: {}", getChannel().getExitStatus());
-					break;
-				}
-			}
+		String data = in.read(new StreamPatternMatcher(pattern), Long.MAX_VALUE);
+		if (null != data) {
+			return data;
 		}
+		context.getLogger().debug("exit-status: {}", getChannel().getExitStatus());
 		context.getLogger().debug("*************************************************" + "\nPattern match could not be found"
 				+ "\n*************************************************");
-		return sb.toString();
+		return in.readAll();
 	}
 
 	/**
@@ -307,44 +288,54 @@ public class SSH {
 	 *             if an I/O error occurs.
 	 */
 	public String readUntil(String pattern, long longTimeoutMilliseconds) throws IOException, InterruptedException {
-		char lastChar = pattern.charAt(pattern.length() - 1);
-		StringBuffer sb = new StringBuffer();
-		long starttime = System.currentTimeMillis();
-		char ch;
+		return readUntil(new StreamPatternMatcher(pattern), longTimeoutMilliseconds);
+	}
 
+	/**
+	 * Reads shell commands until any of the matcher's patterns is received or timeout is met. Use
+	 * {@link StreamPatternMatcher#getMatchedPattern()} to find out which pattern was received.
+	 * 
+	 * <pre>
+	 * Example:
+	 * SSH ssh = new SSH(context, "192.168.1.100", "root", "1234", 22);
+	 * ssh.connect();
+	 * ssh.write("ping 192.168.3.100");
+	 * ssh.readUntil(new StreamPatternMatcher("#123", "$123").addRegex("(?i)password:\\s*$"), 2000);
+	 * ssh.disconnect();
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            patterns to look for in received msg
+	 * @param longTimeoutMilliseconds
+	 *            timeout value
+	 * @return returns string data which are read from console within provided
+	 *         timeout
+	 * @throws InterruptedException
+	 *             if any thread has interrupted the current thread. The interrupted
+	 *             status of the current thread is cleared when this exception is
+	 *             thrown
+	 * @throws IOException
+	 *             if an I/O error occurs.
+	 */
+	public String readUntil(StreamPatternMatcher matcher, long longTimeoutMilliseconds) throws IOException, InterruptedException {
+		StringBuilder sb = new StringBuilder();
 		sb.append("\n---------------------------\n");
-		while ((System.currentTimeMillis() - starttime) < longTimeoutMilliseconds) {
-			if (in.available() >= 1) {
-				ch = (char) in.read();
-				sb.append(ch);
-				if (ch == lastChar) {
-					if (sb.toString().endsWith(pattern)) {
-						if ((System.currentTimeMillis() - starttime) >= longTimeoutMilliseconds) {
-							break;
-						}
-						// add end
-						sb.append("\n---------------------------\n");
-						return sb.toString();
-					} else {
-						if ((System.currentTimeMillis() - starttime) >= longTimeoutMilliseconds) {
-							context.getLogger().debug(
-									"*************************************************\nTimed out before Pattern match could be found\n*************************************************");
-							break;
-						}
-					}
-				}
-			} else {
-				Thread.sleep(10);
-			}
-			if (channel.isClosed()) {
-				if (in.available() > 0) {
-					continue;
-				} else {
-					context.getLogger().debug("exit-status: {}", channel.getExitStatus());
-					break;
-				}
-			}
+
+		String data = in.read(matcher, longTimeoutMilliseconds);
+		if (null != data) {
+			sb.append(data);
+			// add end
+			sb.append("\n---------------------------\n");
+			return sb.toString();
+		}
+
+		if (in.isClosed()) {
+			context.getLogger().debug("exit-status: {}", channel.getExitStatus());
+		} else {
+			context.getLogger().debug(
+					"*************************************************\nTimed out before Pattern match could be found\n*************************************************");
 		}
+		sb.append(in.readAll());
 		return sb.toString();
 	}
 
@@ -367,38 +358,23 @@ public class SSH {
 	 *             if anything failed
 	 */
 	public String readUntil(long longTimeoutMilliseconds) throws Exception {
-
-		StringBuffer sb = new StringBuffer();
-		int readcount = 0;
-		long starttime = System.currentTimeMillis();
-		char ch;
-		// add start
-		sb.append("\n---------------------------\n");
-		// Run Until Timeout occurs
-		while ((System.currentTimeMillis() - starttime) < longTimeoutMilliseconds) {
-			if (in.available() >= 1) {
-				ch = (char) in.read();
-				sb.append(ch);
-				readcount++;
-			} else {
-				Thread.sleep(10);
-			}
-			if (channel.isClosed()) {
-				if (in.available() > 0) {
-					continue;
-				} else {
-					context.getLogger().debug("exit-status: {}", channel.getExitStatus());
-					break;
-				}
-			}
+		// Nothing can match, so all data received within timeout is returned
+		in.read(new StreamPatternMatcher(), longTimeoutMilliseconds);
+		if (in.isClosed()) {
+			context.getLogger().debug("exit-status: {}", channel.getExitStatus());
 		}
-		if (readcount > 0) {
-			// add end
-			sb.append("\n---------------------------\n");
-			return sb.toString();
-		} else {
+
+		String data = in.readAll();
+		if (data.isEmpty()) {
 			return null;
 		}
+		StringBuilder sb = new StringBuilder();
+		// add start
+		sb.append("\n---------------------------\n");
+		sb.append(data);
+		// add end
+		sb.append("\n---------------------------\n");
+		return sb.toString();
 	}
 
 	/**
@@ -412,6 +388,20 @@ public class SSH {
 		getSsh().disconnect();
 	}
 
+	/**
+	 * Sets maximum number of characters kept while waiting for pattern match. If more data is received then the oldest characters are discarded,
+	 * so long running command can not exhaust memory.
+	 * 
+	 * @param maxCaptureSize maximum number of characters
+	 */
+	public void setMaxCaptureSize(int maxCaptureSize) {
+		this.maxCaptureSize = maxCaptureSize;
+	}
+
+	public int getMaxCaptureSize() {
+		return maxCaptureSize;
+	}
+
 	public Session getSsh() {
 		return ssh;
 	}
@@ -467,4 +457,103 @@ public class SSH {
 	public void setPassword(String password) {
 		this.password = password;
 	}
+
+	/**
+	 * Receives data from the SSH channel. Session thread writes received data into the buffer and wakes up waiting reader, characters which are
+	 * searched once are not searched again when more data arrives.
+	 */
+	private class ReceiveBuffer extends OutputStream {
+
+		final StringBuilder data = new StringBuilder();
+		// Number of characters at the start of data which are already searched by current matcher
+		int searchedCount = 0;
+		// Total number of characters discarded due to capture size limit
+		long discardedCount = 0;
+		boolean closed = false;
+
+		@Override
+		public synchronized void write(int b) {
+			append(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) {
+			append(b, off, len);
+		}
+
+		@Override
+		public synchronized void close() {
+			closed = true;
+			notifyAll();
+		}
+
+		synchronized boolean isClosed() {
+			return closed;
+		}
+
+		private void append(byte[] b, int off, int len) {
+			// Each byte is one character, same as reading channel byte by byte
+			for (int i = off; i < off + len; i++) {
+				data.append((char) (b[i] & 0xFF));
+			}
+
+			// Keep the capture bounded by discarding the oldest characters
+			int overflow = data.length() - maxCaptureSize;
+			if (overflow > 0) {
+				data.delete(0, overflow);
+				searchedCount = Math.max(0, searchedCount - overflow);
+				discardedCount += overflow;
+			}
+			notifyAll();
+		}
+
+		/**
+		 * Waits until matcher finds a pattern, timeout is met or channel is closed
+		 * 
+		 * @return received data up to and including matched pattern or null if pattern is not found
+		 */
+		synchronized String read(StreamPatternMatcher matcher, long timeoutMilliseconds) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + timeoutMilliseconds;
+			if (deadline < 0) {
+				deadline = Long.MAX_VALUE;
+			}
+			matcher.reset();
+			searchedCount = 0;
+			long knownDiscardedCount = discardedCount;
+
+			while (true) {
+				// Oldest characters may have been discarded while waiting
+				if (discardedCount != knownDiscardedCount) {
+					matcher.discard((int) Math.min(Integer.MAX_VALUE, discardedCount - knownDiscardedCount));
+					knownDiscardedCount = discardedCount;
+				}
+				if (searchedCount < data.length()) {
+					int end = matcher.find(data, searchedCount);
+					if (end >= 0) {
+						String match = data.substring(0, end);
+						data.delete(0, end);
+						searchedCount = 0;
+						return match;
+					}
+					searchedCount = data.length();
+				}
+
+				long remaining = deadline - System.currentTimeMillis();
+				if (closed || remaining <= 0) {
+					return null;
+				}
+				wait(remaining);
+			}
+		}
+
+		/**
+		 * Returns and removes all received data
+		 */
+		synchronized String readAll() {
+			String all = data.toString();
+			data.setLength(0);
+			searchedCount = 0;
+			return all;
+		}
+	}
 }
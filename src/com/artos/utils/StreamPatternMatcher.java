@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (C) 2018-2019 Arpit Shah and Artos Contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package com.artos.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches several prompts and/or regular expressions against a stream of characters. Literal patterns are matched incrementally using
+ * Aho-Corasick automaton, so each received character is inspected once regardless of number of patterns. Regular expressions are evaluated
+ * against unmatched text once per received chunk. Regular expression search starts at most {@link #DEFAULT_REGEX_LOOKBACK} characters before
+ * the end of received text, so each chunk is not searched from the beginning of the unmatched text. Expression which can match longer text
+ * requires larger look back, see {@link #setRegexLookback(int)}.
+ * 
+ * <PRE>
+ * StreamPatternMatcher matcher = new StreamPatternMatcher("# ", "$ ").addRegex("(?i)password:\\s*$");
+ * String response = ssh.readUntil(matcher, 2000);
+ * if ("# ".equals(matcher.getMatchedPattern())) {
+ * 	// root prompt
+ * }
+ * </PRE>
+ * 
+ * Matcher keeps state between calls, so one matcher object must not be used by more than one stream at the same time. Not thread safe.
+ */
+public class StreamPatternMatcher {
+
+	/** Default number of already searched characters which are searched again by regular expressions */
+	public static final int DEFAULT_REGEX_LOOKBACK = 1024;
+
+	final List<String> literalList = new ArrayList<>();
+	final List<Pattern> regexList = new ArrayList<>();
+
+	// Aho-Corasick automaton, built when first character is matched
+	List<Map<Character, Integer>> transitionList = null;
+	int[] failState;
+	// Index of the first added literal which ends at state, -1 if none
+	int[] outputLiteral;
+
+	int state = 0;
+	// Text before this index can not be start of regular expression match
+	int regexSearchStart = 0;
+	int regexLookback = DEFAULT_REGEX_LOOKBACK;
+	String matchedPattern = null;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param patterns literal patterns (prompts) to look for
+	 */
+	public StreamPatternMatcher(String... patterns) {
+		for (String pattern : patterns) {
+			addPattern(pattern);
+		}
+	}
+
+	/**
+	 * Adds literal pattern
+	 * 
+	 * @param pattern literal pattern to look for
+	 * @return this matcher
+	 */
+	public StreamPatternMatcher addPattern(String pattern) {
+		if (null == pattern || pattern.isEmpty()) {
+			throw new IllegalArgumentException("Pattern must not be empty");
+		}
+		literalList.add(pattern);
+		transitionList = null;
+		return this;
+	}
+
+	/**
+	 * Adds regular expression. Text received so far (but not consumed by earlier match) is the input of the expression, so "$" matches end of
+	 * the received text.
+	 * 
+	 * @param regex regular expression to look for
+	 * @return this matcher
+	 */
+	public StreamPatternMatcher addRegex(String regex) {
+		regexList.add(Pattern.compile(regex));
+		return this;
+	}
+
+	/**
+	 * Sets number of already searched characters which are searched again by regular expressions when new characters are received. Must be at
+	 * least as long as the longest text a regular expression is expected to match.
+	 * 
+	 * @param regexLookback number of characters, must be greater than zero
+	 * @return this matcher
+	 */
+	public StreamPatternMatcher setRegexLookback(int regexLookback) {
+		if (regexLookback <= 0) {
+			throw new IllegalArgumentException("Regex lookback must be greater than zero");
+		}
+		this.regexLookback = regexLookback;
+		return this;
+	}
+
+	/**
+	 * Returns index of the first character which is searched by regular expressions when next chunk is received
+	 * 
+	 * @return regular expression search start
+	 */
+	public int getRegexSearchStart() {
+		return regexSearchStart;
+	}
+
+	/**
+	 * Searches newly received characters. Characters before {@code from} must have been searched by earlier calls and must not be modified.
+	 * 
+	 * @param text received text which is not consumed yet
+	 * @param from index of first character which was not searched yet
+	 * @return index after the end of the first match or -1 if no pattern is found
+	 */
+	public int find(CharSequence text, int from) {
+		int literalEnd = findLiteral(text, from);
+		int regexEnd = findRegex(text, null == matchedPattern ? text.length() : literalEnd);
+		if (regexEnd >= 0) {
+			return regexEnd;
+		}
+		return literalEnd;
+	}
+
+	/**
+	 * Resets matcher so next search starts at beginning of new text. Must be called after matched text is consumed.
+	 */
+	public void reset() {
+		state = 0;
+		regexSearchStart = 0;
+		matchedPattern = null;
+	}
+
+	/**
+	 * Returns pattern or regular expression which was found by the last successful search
+	 * 
+	 * @return matched pattern or null if pattern was not found
+	 */
+	public String getMatchedPattern() {
+		return matchedPattern;
+	}
+
+	/**
+	 * Informs matcher that characters are removed from beginning of the text without being matched
+	 * 
+	 * @param count number of removed characters
+	 */
+	void discard(int count) {
+		regexSearchStart = Math.max(0, regexSearchStart - count);
+	}
+
+	private int findLiteral(CharSequence text, int from) {
+		matchedPattern = null;
+		if (literalList.isEmpty()) {
+			return -1;
+		}
+		if (null == transitionList) {
+			buildAutomaton();
+		}
+		for (int i = from; i < text.length(); i++) {
+			state = nextState(state, text.charAt(i));
+			if (outputLiteral[state] >= 0) {
+				matchedPattern = literalList.get(outputLiteral[state]);
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Searches regular expressions which end no later than given index
+	 */
+	private int findRegex(CharSequence text, int end) {
+		if (regexList.isEmpty()) {
+			return -1;
+		}
+		int firstEnd = -1;
+		for (Pattern pattern : regexList) {
+			Matcher m = pattern.matcher(text);
+			m.region(regexSearchStart, end);
+			// Search start is not a line start, so it must not be treated as one
+			m.useAnchoringBounds(false);
+			m.useTransparentBounds(true);
+			if (m.find()) {
+				if (firstEnd < 0 || m.end() < firstEnd) {
+					firstEnd = m.end();
+					matchedPattern = pattern.pattern();
+				}
+			}
+		}
+		// Only the last characters can be part of a future match, so older text is not searched again
+		if (firstEnd < 0) {
+			regexSearchStart = Math.max(regexSearchStart, end - regexLookback);
+		}
+		return firstEnd;
+	}
+
+	private int nextState(int current, char ch) {
+		while (true) {
+			Integer next = transitionList.get(current).get(ch);
+			if (null != next) {
+				return next;
+			}
+			if (current == 0) {
+				return 0;
+			}
+			current = failState[current];
+		}
+	}
+
+	private void buildAutomaton() {
+		transitionList = new ArrayList<>();
+		transitionList.add(new HashMap<>());
+		List<Integer> literalOfState = new ArrayList<>();
+		literalOfState.add(-1);
+
+		for (int i = 0; i < literalList.size(); i++) {
+			int current = 0;
+			for (char ch : literalList.get(i).toCharArray()) {
+				Integer next = transitionList.get(current).get(ch);
+				if (null == next) {
+					next = transitionList.size();
+					transitionList.add(new HashMap<>());
+					literalOfState.add(-1);
+					transitionList.get(current).put(ch, next);
+				}
+				current = next;
+			}
+			if (literalOfState.get(current) < 0) {
+				literalOfState.set(current, i);
+			}
+		}
+
+		int stateCount = transitionList.size();
+		failState = new int[stateCount];
+		outputLiteral = new int[stateCount];
+		for (int i = 0; i < stateCount; i++) {
+			outputLiteral[i] = literalOfState.get(i);
+		}
+
+		// Breadth first, so fail state of shorter prefix is known before it is used
+		Queue<Integer> queue = new LinkedList<>();
+		queue.addAll(transitionList.get(0).values());
+		while (!queue.isEmpty()) {
+			int current = queue.poll();
+			for (Map.Entry<Character, Integer> entry : transitionList.get(current).entrySet()) {
+				int child = entry.getValue();
+				failState[child] = current == 0 ? 0 : nextState(failState[current], entry.getKey());
+				// Literal which ends at fail state also ends here, first added literal wins
+				int inherited = outputLiteral[failState[child]];
+				if (inherited >= 0 && (outputLiteral[child] < 0 || inherited < outputLiteral[child])) {
+					outputLiteral[child] = inherited;
+				}
+				queue.add(child);
+			}
+		}
+		state = 0;
+	}
+}
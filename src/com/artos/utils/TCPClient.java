@@ -24,19 +24,26 @@ package com.artos.utils;
 import java.io.BufferedReader;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.Socket;
 import java.net.SocketException;
 import java.net.UnknownHostException;
-import java.util.LinkedList;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.artos.framework.Enums.QueueOverflowPolicy;
 import com.artos.framework.listener.RealTimeLogEventListener;
 import com.artos.interfaces.Connectable;
 import com.artos.interfaces.ConnectableFilter;
+import com.artos.interfaces.ConnectableFrameParser;
 import com.artos.interfaces.ConnectableMessageParser;
 
 /**
@@ -48,11 +55,14 @@ public class TCPClient implements Connectable {
 	Socket clientSocket;
 	BufferedReader inFromServer;
 	DataOutputStream outToServer;
-	Queue<byte[]> queue = new LinkedList<byte[]>();
+	BlockingQueue<byte[]> queue = new LinkedBlockingQueue<byte[]>();
+	QueueOverflowPolicy overflowPolicy = QueueOverflowPolicy.BLOCK;
+	AtomicLong droppedMsgCount = new AtomicLong(0);
 	ServerTask serverTask = null;
 	List<ConnectableFilter> filterList = null;
 	RealTimeLogEventListener realTimeListener = null;
 	ConnectableMessageParser msgParser = null;
+	ConnectableFrameParser frameParser = null;
 	Transform _transform = new Transform();
 	ExecutorService clientProcessingPool;
 
@@ -147,21 +157,11 @@ public class TCPClient implements Connectable {
 	 *             this exception is thrown.
 	 */
 	public byte[] getNextMsg(long timeout, TimeUnit timeunit) throws InterruptedException {
-		long maxAllowedTime = TimeUnit.MILLISECONDS.convert(timeout, timeunit);
-		// If queue has message then return it
-		if (hasNextMsg()) {
-			return queue.poll();
-		}
-		// If queue did not have message then wait for message until timeout
-		synchronized (queue) {
-			queue.wait(maxAllowedTime);
-		}
-		// If queue has message then return it or return null
-		if (hasNextMsg()) {
-			return queue.poll();
-		} else {
-			return null;
+		// Zero timeout means wait until next message is received
+		if (timeout == 0) {
+			return queue.take();
 		}
+		return queue.poll(timeout, timeunit);
 	}
 
 	/**
@@ -169,10 +169,7 @@ public class TCPClient implements Connectable {
 	 */
 	@Override
 	public byte[] getNextMsg() {
-		if (hasNextMsg()) {
-			return queue.poll();
-		}
-		return null;
+		return queue.poll();
 	}
 
 	/**
@@ -197,6 +194,37 @@ public class TCPClient implements Connectable {
 		notifySend(data);
 	}
 
+	/**
+	 * Sets capacity and overflow policy of the receive queue. By default receive queue is unbounded. Must be called prior to connecting, messages
+	 * present in the existing queue are discarded.
+	 * 
+	 * @param capacity maximum number of messages receive queue can hold
+	 * @param overflowPolicy policy applied when receive queue is full
+	 */
+	public void setQueueCapacity(int capacity, QueueOverflowPolicy overflowPolicy) {
+		this.queue = new LinkedBlockingQueue<byte[]>(capacity);
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Sets {@code ByteBuffer} based frame parser. If set then it is used instead of {@code ConnectableMessageParser}, received bytes are framed in
+	 * reusable buffer so they are not copied until a frame passes the filters. Must be called prior to connecting.
+	 * 
+	 * @param frameParser frame parser, one object per connection
+	 */
+	public void setFrameParser(ConnectableFrameParser frameParser) {
+		this.frameParser = frameParser;
+	}
+
+	/**
+	 * Returns number of messages dropped due to receive queue overflow
+	 * 
+	 * @return dropped message count
+	 */
+	public long getDroppedMsgCount() {
+		return droppedMsgCount.get();
+	}
+
 	/**
 	 * Clean receive queue
 	 */
@@ -210,7 +238,8 @@ public class TCPClient implements Connectable {
 			@Override
 			public void run() {
 				try {
-					serverTask = new ServerTask(clientSocket, queue, realTimeListener, filterList, msgParser);
+					serverTask = new ServerTask(clientSocket, queue, overflowPolicy, droppedMsgCount, realTimeListener, filterList, msgParser,
+							frameParser);
 					clientProcessingPool.submit(serverTask);
 				} catch (Exception e) {
 					e.printStackTrace();
@@ -262,6 +291,15 @@ public class TCPClient implements Connectable {
 		return queue;
 	}
 
+	/**
+	 * Returns receive queue, which allows consumer to wait for messages
+	 * 
+	 * @return receive queue
+	 */
+	public BlockingQueue<byte[]> getBlockingQueue() {
+		return queue;
+	}
+
 	public RealTimeLogEventListener getRealTimeListener() {
 		return realTimeListener;
 	}
@@ -285,24 +323,35 @@ class ServerTask implements Runnable {
 	byte[] buffer = new byte[4 * 1024]; // a read buffer of 4KiB
 	byte[] readData;
 	String redDataText;
-	Queue<byte[]> queue;
+	BlockingQueue<byte[]> queue;
+	QueueOverflowPolicy overflowPolicy;
+	AtomicLong droppedMsgCount;
 	volatile RealTimeLogEventListener realTimeListener;
 	Transform _transform = new Transform();
 	volatile List<ConnectableFilter> filterList = null;
 	byte[] leftOverBytes = null;
 	volatile ConnectableMessageParser msgParser = null;
+	volatile ConnectableFrameParser frameParser = null;
 
-	ServerTask(Socket connector, Queue<byte[]> queue, RealTimeLogEventListener realTimeListener, List<ConnectableFilter> filterList,
-			ConnectableMessageParser msgParser) {
+	ServerTask(Socket connector, BlockingQueue<byte[]> queue, QueueOverflowPolicy overflowPolicy, AtomicLong droppedMsgCount,
+			RealTimeLogEventListener realTimeListener, List<ConnectableFilter> filterList, ConnectableMessageParser msgParser,
+			ConnectableFrameParser frameParser) {
 		this.connector = connector;
 		this.queue = queue;
+		this.overflowPolicy = overflowPolicy;
+		this.droppedMsgCount = droppedMsgCount;
 		this.realTimeListener = realTimeListener;
 		this.filterList = filterList;
 		this.msgParser = msgParser;
+		this.frameParser = frameParser;
 	}
 
 	@Override
 	public void run() {
+		if (null != frameParser) {
+			runFramed();
+			return;
+		}
 		try {
 			while ((read = connector.getInputStream().read(buffer)) > -1) {
 				readData = new byte[read];
@@ -337,6 +386,61 @@ class ServerTask implements Runnable {
 		}
 	}
 
+	/**
+	 * Reads directly into reusable frame buffer, so bytes are only copied once a frame has passed the filters
+	 */
+	private void runFramed() {
+		FrameBuffer frameBuffer = new FrameBuffer(4 * 1024);
+		try {
+			InputStream in = connector.getInputStream();
+			while (true) {
+				ByteBuffer writeBuffer = frameBuffer.getWriteBuffer();
+				int offset = writeBuffer.arrayOffset() + writeBuffer.position();
+				read = in.read(writeBuffer.array(), offset, writeBuffer.remaining());
+				if (read < 0) {
+					break;
+				}
+				if (null != realTimeListener && realTimeListener.isEnabled()) {
+					notifyReceive(Arrays.copyOfRange(writeBuffer.array(), offset, offset + read));
+				}
+				writeBuffer.position(writeBuffer.position() + read);
+
+				ByteBuffer frame;
+				while (null != (frame = frameBuffer.nextFrame(frameParser))) {
+					applyFilter(frame);
+				}
+			}
+		} catch (SocketException se) {
+			// Do nothing because if connector was closed then this
+			// exception is as expected
+			System.out.println(se.getMessage());
+		} catch (IllegalStateException e) {
+			// Frame parser rejected received bytes, stream can not be framed any more
+			e.printStackTrace();
+			try {
+				connector.close();
+			} catch (IOException e1) {
+				e1.printStackTrace();
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	private void applyFilter(ByteBuffer frame) throws Exception {
+		if (null != filterList && !filterList.isEmpty()) {
+			for (ConnectableFilter filter : filterList) {
+				if (filter.meetCriteria(frame)) {
+					// Do not add to queue if filter match is found
+					return;
+				}
+			}
+		}
+		byte[] msg = new byte[frame.remaining()];
+		frame.get(msg);
+		ReceiveQueue.add(queue, msg, overflowPolicy, droppedMsgCount);
+	}
+
 	private void parseIncomingData(byte[] readData) throws Exception {
 		List<byte[]> msgList = msgParser.parse(readData);
 		if (null != msgParser.getLeftOverBytes() && msgParser.getLeftOverBytes().length != 0) {
@@ -356,16 +460,9 @@ class ServerTask implements Runnable {
 					return;
 				}
 			}
-			queue.add(readData);
-
-			synchronized (queue) {
-				queue.notifyAll();
-			}
+			ReceiveQueue.add(queue, readData, overflowPolicy, droppedMsgCount);
 		} else {
-			queue.add(readData);
-			synchronized (queue) {
-				queue.notifyAll();
-			}
+			ReceiveQueue.add(queue, readData, overflowPolicy, droppedMsgCount);
 		}
 	}
 
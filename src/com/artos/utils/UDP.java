@@ -29,13 +29,16 @@ import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.artos.framework.Enums.QueueOverflowPolicy;
 import com.artos.framework.listener.RealTimeLogEventListener;
 import com.artos.interfaces.Connectable;
 import com.artos.interfaces.ConnectableFilter;
@@ -48,7 +51,9 @@ public class UDP implements Connectable {
 	DatagramSocket serverSocket;
 	BufferedReader inFromClient;
 	DataOutputStream outToClient;
-	Queue<byte[]> queue = new LinkedList<byte[]>();
+	BlockingQueue<byte[]> queue = new LinkedBlockingQueue<byte[]>();
+	QueueOverflowPolicy overflowPolicy = QueueOverflowPolicy.BLOCK;
+	AtomicLong droppedMsgCount = new AtomicLong(0);
 	Thread serverThread;
 	List<ConnectableFilter> filterList = null;
 	RealTimeLogEventListener realTimeListener = null;
@@ -165,23 +170,7 @@ public class UDP implements Connectable {
 	 *             this exception is thrown.
 	 */
 	public byte[] getNextMsg(long timeout, TimeUnit timeunit) throws InterruptedException {
-		boolean isTimeout = false;
-		long startTime = System.nanoTime();
-		long finishTime;
-		long maxAllowedTime = TimeUnit.NANOSECONDS.convert(timeout, timeunit);
-
-		while (!isTimeout) {
-			if (hasNextMsg()) {
-				return queue.poll();
-			}
-			finishTime = System.nanoTime();
-			if ((finishTime - startTime) > maxAllowedTime) {
-				return null;
-			}
-			// Give system some time to do other things
-			Thread.sleep(2);
-		}
-		return null;
+		return queue.poll(timeout, timeunit);
 	}
 
 	/**
@@ -189,10 +178,7 @@ public class UDP implements Connectable {
 	 */
 	@Override
 	public byte[] getNextMsg() {
-		if (hasNextMsg()) {
-			return queue.poll();
-		}
-		return null;
+		return queue.poll();
 	}
 
 	/**
@@ -222,6 +208,27 @@ public class UDP implements Connectable {
 		notifySend(data);
 	}
 
+	/**
+	 * Sets capacity and overflow policy of the receive queue. By default receive queue is unbounded. Must be called prior to connecting, messages
+	 * present in the existing queue are discarded.
+	 * 
+	 * @param capacity maximum number of messages receive queue can hold
+	 * @param overflowPolicy policy applied when receive queue is full
+	 */
+	public void setQueueCapacity(int capacity, QueueOverflowPolicy overflowPolicy) {
+		this.queue = new LinkedBlockingQueue<byte[]>(capacity);
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Returns number of messages dropped due to receive queue overflow
+	 * 
+	 * @return dropped message count
+	 */
+	public long getDroppedMsgCount() {
+		return droppedMsgCount.get();
+	}
+
 	/**
 	 * Cleans all message from the queue
 	 */
@@ -235,7 +242,7 @@ public class UDP implements Connectable {
 			@Override
 			public void run() {
 				try {
-					clientProcessingPool.submit(new UDPClientTask(serverSocket, queue, realTimeListener, filterList));
+					clientProcessingPool.submit(new UDPClientTask(serverSocket, queue, overflowPolicy, droppedMsgCount, realTimeListener, filterList));
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -297,8 +304,23 @@ public class UDP implements Connectable {
 		return queue;
 	}
 
+	/**
+	 * Returns receive queue, which allows consumer to wait for messages
+	 * 
+	 * @return receive queue
+	 */
+	public BlockingQueue<byte[]> getBlockingQueue() {
+		return queue;
+	}
+
+	/**
+	 * Sets receive queue. Queue which is not a {@code BlockingQueue} is adapted, waiting threads are notified using monitor of the provided
+	 * queue.
+	 * 
+	 * @param queue receive queue
+	 */
 	public void setQueue(Queue<byte[]> queue) {
-		this.queue = queue;
+		this.queue = BlockingQueueAdapter.of(queue);
 	}
 
 	public int getLocalPort() {
@@ -340,21 +362,24 @@ class UDPClientTask implements Runnable {
 	byte[] buffer = new byte[4 * 1024]; // a read buffer of 4KiB
 	byte[] readData;
 	String redDataText;
-	Queue<byte[]> queue;
+	BlockingQueue<byte[]> queue;
+	QueueOverflowPolicy overflowPolicy;
+	AtomicLong droppedMsgCount;
 	volatile List<ConnectableFilter> filterList = null;
 	volatile RealTimeLogEventListener realTimeListener;
 	Transform _transform = new Transform();
 
-	UDPClientTask(DatagramSocket connector, Queue<byte[]> queue, RealTimeLogEventListener realTimeListener) {
-		this.connector = connector;
-		this.queue = queue;
-		this.realTimeListener = realTimeListener;
-		this.filterList = null;
+	UDPClientTask(DatagramSocket connector, BlockingQueue<byte[]> queue, QueueOverflowPolicy overflowPolicy, AtomicLong droppedMsgCount,
+			RealTimeLogEventListener realTimeListener) {
+		this(connector, queue, overflowPolicy, droppedMsgCount, realTimeListener, null);
 	}
 
-	UDPClientTask(DatagramSocket connector, Queue<byte[]> queue, RealTimeLogEventListener realTimeListener, List<ConnectableFilter> filterList) {
+	UDPClientTask(DatagramSocket connector, BlockingQueue<byte[]> queue, QueueOverflowPolicy overflowPolicy, AtomicLong droppedMsgCount,
+			RealTimeLogEventListener realTimeListener, List<ConnectableFilter> filterList) {
 		this.connector = connector;
 		this.queue = queue;
+		this.overflowPolicy = overflowPolicy;
+		this.droppedMsgCount = droppedMsgCount;
 		this.realTimeListener = realTimeListener;
 		this.filterList = filterList;
 	}
@@ -385,7 +410,7 @@ class UDPClientTask implements Runnable {
 		System.out.println("Terminating thread");
 	}
 
-	private void applyFilter(byte[] readData) {
+	private void applyFilter(byte[] readData) throws InterruptedException {
 		if (null != filterList && !filterList.isEmpty()) {
 			for (ConnectableFilter filter : filterList) {
 				if (filter.meetCriteria(readData)) {
@@ -393,9 +418,9 @@ class UDPClientTask implements Runnable {
 					return;
 				}
 			}
-			queue.add(readData);
+			ReceiveQueue.add(queue, readData, overflowPolicy, droppedMsgCount);
 		} else {
-			queue.add(readData);
+			ReceiveQueue.add(queue, readData, overflowPolicy, droppedMsgCount);
 		}
 	}
 
@@ -22,21 +22,41 @@
 package com.artos.utils;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
-import org.apache.commons.io.IOUtils;
 
+/**
+ * This class provides Tar and Tar.gz related utilities. Gzip compression of a tar stream is split into 128KiB blocks which are deflated in
+ * parallel (primed with the last 32KiB of the previous block, same as pigz) and joined into a single standard gzip member. Blocks which mostly
+ * carry already compressed files are stored without recompressing them.
+ *
+ */
 public class UtilsTar {
 
 	/**
@@ -62,7 +82,7 @@ public class UtilsTar {
 	public static void tar(List<File> files, File destFile) throws IOException {
 		try (TarArchiveOutputStream out = getTarArchiveOutputStream(destFile)) {
 			for (File file : files) {
-				addToArchiveCompression(out, file, destFile.getName());
+				addToArchiveCompression(out, null, file, destFile.getName());
 			}
 		}
 	}
@@ -88,9 +108,10 @@ public class UtilsTar {
 	 * @throws IOException if an I/O error has occurred
 	 */
 	public static void tarGZ(List<File> files, File destFile) throws IOException {
-		try (TarArchiveOutputStream out = getTgzArchiveOutputStream(destFile)) {
+		ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(new FileOutputStream(destFile));
+		try (TarArchiveOutputStream out = getTarArchiveOutputStream(gzip)) {
 			for (File file : files) {
-				addToArchiveCompression(out, file, destFile.getName());
+				addToArchiveCompression(out, gzip, file, destFile.getName());
 			}
 		}
 	}
@@ -103,33 +124,9 @@ public class UtilsTar {
 	 * @throws IOException if an I/O error has occurred
 	 */
 	public static void untar(File tarFile, File destFile) throws Exception {
-		FileInputStream fis = new FileInputStream(tarFile);
-		TarArchiveInputStream tis = new TarArchiveInputStream(fis);
-		TarArchiveEntry tarEntry = null;
-
-		// tarIn is a TarArchiveInputStream
-		while ((tarEntry = tis.getNextEntry()) != null) {
-			File outputFile = new File(destFile + File.separator + tarEntry.getName());
-
-			if (tarEntry.isDirectory()) {
-				// System.out.println("outputFile Directory ---- " +
-				// outputFile.getAbsolutePath());
-				if (!outputFile.exists()) {
-					outputFile.mkdirs();
-				}
-			} else {
-				// File outputFile = new File(destFile + File.separator +
-				// tarEntry.getName());
-				// System.out.println("outputFile File ---- " +
-				// outputFile.getAbsolutePath());
-				outputFile.getParentFile().mkdirs();
-				// outputFile.createNewFile();
-				FileOutputStream fos = new FileOutputStream(outputFile);
-				IOUtils.copy(tis, fos);
-				fos.close();
-			}
+		try (InputStream fis = Files.newInputStream(tarFile.toPath())) {
+			extract(new TarArchiveInputStream(fis), destFile);
 		}
-		tis.close();
 	}
 
 	/**
@@ -140,49 +137,35 @@ public class UtilsTar {
 	 * @throws IOException if an I/O error has occurred
 	 */
 	public static void untarGZIP(File tarFile, File destFile) throws Exception {
-		FileInputStream fis = new FileInputStream(tarFile);
-		GzipCompressorInputStream gzipis = new GzipCompressorInputStream(new BufferedInputStream(fis));
-		TarArchiveInputStream tis = new TarArchiveInputStream(gzipis);
-		TarArchiveEntry tarEntry = null;
+		try (InputStream fis = Files.newInputStream(tarFile.toPath())) {
+			// concatenated members are accepted so archives produced by pigz style tools unpack completely
+			extract(new TarArchiveInputStream(new GzipCompressorInputStream(new BufferedInputStream(fis), true)), destFile);
+		}
+	}
 
-		// tarIn is a TarArchiveInputStream
+	private static void extract(TarArchiveInputStream tis, File destFile) throws IOException {
+		TarArchiveEntry tarEntry = null;
 		while ((tarEntry = tis.getNextEntry()) != null) {
 			File outputFile = new File(destFile + File.separator + tarEntry.getName());
 
 			if (tarEntry.isDirectory()) {
-				// System.out.println("outputFile Directory ---- " +
-				// outputFile.getAbsolutePath());
 				if (!outputFile.exists()) {
 					outputFile.mkdirs();
 				}
 			} else {
-				// File outputFile = new File(destFile + File.separator +
-				// tarEntry.getName());
-				// System.out.println("outputFile File ---- " +
-				// outputFile.getAbsolutePath());
 				outputFile.getParentFile().mkdirs();
-				// outputFile.createNewFile();
-				FileOutputStream fos = new FileOutputStream(outputFile);
-				IOUtils.copy(tis, fos);
-				fos.close();
+				// entry content is streamed straight into the destination file
+				Files.copy(tis, outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
 			}
 		}
-		tis.close();
 	}
 
 	private static TarArchiveOutputStream getTarArchiveOutputStream(File file) throws IOException {
-		TarArchiveOutputStream taos = new TarArchiveOutputStream(new FileOutputStream(file));
-		// TAR has an 8 gig file limit by default, this gets around that
-		taos.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_STAR);
-		// TAR originally didn't support long file names, so enable the support
-		// for it
-		taos.setLongFileMode(TarArchiveOutputStream.LONGFILE_GNU);
-		taos.setAddPaxHeadersForNonAsciiNames(true);
-		return taos;
+		return getTarArchiveOutputStream(new FileOutputStream(file));
 	}
 
-	private static TarArchiveOutputStream getTgzArchiveOutputStream(File file) throws IOException {
-		TarArchiveOutputStream taos = new TarArchiveOutputStream(new GzipCompressorOutputStream(new FileOutputStream(file)));
+	private static TarArchiveOutputStream getTarArchiveOutputStream(OutputStream os) {
+		TarArchiveOutputStream taos = new TarArchiveOutputStream(os);
 		// TAR has an 8 gig file limit by default, this gets around that
 		taos.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_STAR);
 		// TAR originally didn't support long file names, so enable the support
@@ -192,19 +175,36 @@ public class UtilsTar {
 		return taos;
 	}
 
-	private static void addToArchiveCompression(TarArchiveOutputStream out, File sourceFile, String dir) throws IOException {
+	private static void addToArchiveCompression(TarArchiveOutputStream out, ParallelGzipOutputStream gzip, File sourceFile, String dir)
+			throws IOException {
 		String entry = dir + File.separator + sourceFile.getName();
 		if (sourceFile.isFile()) {
-			out.putArchiveEntry(new TarArchiveEntry(sourceFile, entry));
-			try (FileInputStream in = new FileInputStream(sourceFile)) {
-				IOUtils.copy(in, out);
+			TarArchiveEntry tarEntry = new TarArchiveEntry(sourceFile, entry);
+			out.putArchiveEntry(tarEntry);
+			if (null != gzip) {
+				gzip.setStoreHint(UtilsZip.isCompressed(sourceFile));
+			}
+			try (FileChannel in = FileChannel.open(sourceFile.toPath(), StandardOpenOption.READ)) {
+				WritableByteChannel target = Channels.newChannel(out);
+				long size = tarEntry.getSize();
+				long position = 0;
+				while (position < size) {
+					long count = in.transferTo(position, size - position, target);
+					if (count <= 0) {
+						throw new IOException(sourceFile.getAbsolutePath() + " was truncated while being archived");
+					}
+					position += count;
+				}
+			}
+			if (null != gzip) {
+				gzip.setStoreHint(false);
 			}
 			out.closeArchiveEntry();
 		} else if (sourceFile.isDirectory()) {
 			File[] children = sourceFile.listFiles();
 			if (children != null) {
 				for (File child : children) {
-					addToArchiveCompression(out, child, entry);
+					addToArchiveCompression(out, gzip, child, entry);
 				}
 			}
 		} else {
@@ -221,20 +221,157 @@ public class UtilsTar {
 	 * @throws IOException if an I/O error has occurred
 	 */
 	public File deCompressGZipFile(File gZippedFile, File tarFile) throws Exception {
-		FileInputStream fis = new FileInputStream(gZippedFile);
-		GZIPInputStream gZIPInputStream = new GZIPInputStream(fis);
+		try (GZIPInputStream gZIPInputStream = new GZIPInputStream(Files.newInputStream(gZippedFile.toPath()))) {
+			Files.copy(gZIPInputStream, tarFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		return tarFile;
+	}
+
+	/**
+	 * Gzip output stream which deflates fixed size blocks on a worker pool. Every block is primed with the tail of the previous block and ends
+	 * with a sync flush, so the concatenated output is one ordinary deflate stream wrapped in a single gzip header and trailer.
+	 */
+	private static final class ParallelGzipOutputStream extends OutputStream {
+
+		static final int BLOCK_SIZE = 128 * 1024;
+		static final int DICTIONARY_SIZE = 32 * 1024;
+		static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+		final OutputStream out;
+		final ExecutorService executor;
+		final int maxPending;
+		final ArrayDeque<Future<byte[]>> pending = new ArrayDeque<>();
+		final CRC32 crc = new CRC32();
+		byte[] block = new byte[BLOCK_SIZE];
+		byte[] previous = null;
+		int count = 0;
+		int storedCount = 0;
+		boolean storeHint = false;
+		long totalIn = 0;
+		boolean closed = false;
 
-		FileOutputStream fos = new FileOutputStream(tarFile);
-		byte[] buffer = new byte[1024];
-		int len;
-		while ((len = gZIPInputStream.read(buffer)) > 0) {
-			fos.write(buffer, 0, len);
+		ParallelGzipOutputStream(OutputStream out) throws IOException {
+			int threads = Runtime.getRuntime().availableProcessors();
+			this.out = out;
+			this.maxPending = threads * 2;
+			this.executor = Executors.newFixedThreadPool(threads, r -> {
+				Thread t = new Thread(r, "UtilsTar-gzip");
+				t.setDaemon(true);
+				return t;
+			});
+			out.write(HEADER);
 		}
 
-		fos.close();
-		gZIPInputStream.close();
+		/**
+		 * Bytes written while hint is set are counted as already compressed, a block which is mostly made of such bytes is stored
+		 */
+		void setStoreHint(boolean storeHint) {
+			this.storeHint = storeHint;
+		}
 
-		return tarFile;
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				int n = Math.min(len, BLOCK_SIZE - count);
+				System.arraycopy(b, off, block, count, n);
+				count += n;
+				if (storeHint) {
+					storedCount += n;
+				}
+				off += n;
+				len -= n;
+				if (count == BLOCK_SIZE) {
+					submit(false);
+				}
+			}
+		}
+
+		private void submit(boolean last) throws IOException {
+			final byte[] input = block;
+			final byte[] dictionary = previous;
+			final int length = count;
+			final int level = storedCount * 2 > length ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION;
+			crc.update(input, 0, length);
+			totalIn += length;
+			pending.add(executor.submit(() -> deflate(input, length, dictionary, level, last)));
+			previous = input;
+			block = new byte[BLOCK_SIZE];
+			count = 0;
+			storedCount = 0;
+			while (pending.size() > (last ? 0 : maxPending)) {
+				drain();
+			}
+		}
+
+		private static byte[] deflate(byte[] input, int length, byte[] dictionary, int level, boolean last) {
+			Deflater deflater = new Deflater(level, true);
+			try {
+				if (null != dictionary) {
+					deflater.setDictionary(dictionary, BLOCK_SIZE - DICTIONARY_SIZE, DICTIONARY_SIZE);
+				}
+				deflater.setInput(input, 0, length);
+				ByteArrayOutputStream bos = new ByteArrayOutputStream(length / 2 + 64);
+				byte[] buf = new byte[64 * 1024];
+				if (last) {
+					deflater.finish();
+					while (!deflater.finished()) {
+						int n = deflater.deflate(buf);
+						bos.write(buf, 0, n);
+					}
+				} else {
+					int n;
+					do {
+						n = deflater.deflate(buf, 0, buf.length, Deflater.SYNC_FLUSH);
+						bos.write(buf, 0, n);
+					} while (n == buf.length);
+				}
+				return bos.toByteArray();
+			} finally {
+				deflater.end();
+			}
+		}
+
+		private void drain() throws IOException {
+			try {
+				out.write(pending.poll().get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Gzip compression was interrupted");
+			} catch (ExecutionException e) {
+				throw new IOException(e.getCause());
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				submit(true);
+				long crcValue = crc.getValue();
+				byte[] trailer = new byte[8];
+				for (int i = 0; i < 4; i++) {
+					trailer[i] = (byte) (crcValue >>> (8 * i));
+					trailer[i + 4] = (byte) (totalIn >>> (8 * i));
+				}
+				out.write(trailer);
+			} finally {
+				executor.shutdownNow();
+				out.close();
+			}
+		}
 	}
 
 }
@@ -25,20 +25,42 @@ import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 
 /**
- * This class provides Zip related utilities
+ * This class provides Zip related utilities. Entries are deflated in parallel (one entry per worker thread) and written to the archive in
+ * order, files which are already compressed (images, archives, media) are stored without recompressing them.
  *
  */
 public class UtilsZip {
 
+	/** File extensions which are stored as is, deflating them again only costs time */
+	static final Set<String> COMPRESSED_EXTENSIONS = new HashSet<>(Arrays.asList("png", "jpg", "jpeg", "gif", "webp", "zip", "jar", "gz", "tgz",
+			"bz2", "xz", "7z", "rar", "mp3", "mp4", "avi", "mkv", "pdf", "docx", "xlsx", "pptx"));
+
 	/**
 	 * 
 	 * @param source
@@ -49,12 +71,9 @@ public class UtilsZip {
 	 *             if an I/O error has occurred
 	 */
 	public static void zip(File source, File destFile) throws IOException {
-		FileOutputStream fos = new FileOutputStream(destFile);
-		ZipOutputStream zipOut = new ZipOutputStream(fos);
-
-		zipFile(source, source.getName(), zipOut);
-		zipOut.close();
-		fos.close();
+		List<File> files = new ArrayList<>();
+		files.add(source);
+		zipFiles(files, destFile);
 	}
 
 	/**
@@ -67,36 +86,75 @@ public class UtilsZip {
 	 *             if file io fails
 	 */
 	public static void zip(List<File> source, File destFile) throws Exception {
-		FileOutputStream fos = new FileOutputStream(destFile);
-		ZipOutputStream zipOut = new ZipOutputStream(fos);
+		zipFiles(source, destFile);
+	}
 
-		for (File f : source) {
-			zipFile(f, f.getName(), zipOut);
+	private static void zipFiles(List<File> source, File destFile) throws IOException {
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+			Thread t = new Thread(r, "UtilsZip");
+			t.setDaemon(true);
+			return t;
+		});
+		try {
+			ParallelScatterZipCreator creator = new ParallelScatterZipCreator(executor);
+			for (File f : source) {
+				zipFile(f, f.getName(), creator);
+			}
+			try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(destFile)) {
+				creator.writeTo(zipOut);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Zip of " + destFile.getAbsolutePath() + " was interrupted");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw new IOException(cause);
+		} finally {
+			executor.shutdownNow();
 		}
-		zipOut.close();
-		fos.close();
 	}
 
-	private static void zipFile(File fileToZip, String fileName, ZipOutputStream zipOut) throws IOException {
+	private static void zipFile(File fileToZip, String fileName, ParallelScatterZipCreator creator) {
 		if (fileToZip.isHidden()) {
 			return;
 		}
 		if (fileToZip.isDirectory()) {
 			File[] children = fileToZip.listFiles();
+			if (children == null) {
+				return;
+			}
 			for (File childFile : children) {
-				zipFile(childFile, fileName + "/" + childFile.getName(), zipOut);
+				zipFile(childFile, fileName + "/" + childFile.getName(), creator);
 			}
 			return;
 		}
-		FileInputStream fis = new FileInputStream(fileToZip);
-		ZipEntry zipEntry = new ZipEntry(fileName);
-		zipOut.putNextEntry(zipEntry);
-		byte[] bytes = new byte[1024];
-		int length;
-		while ((length = fis.read(bytes)) >= 0) {
-			zipOut.write(bytes, 0, length);
-		}
-		fis.close();
+		ZipArchiveEntry zipEntry = new ZipArchiveEntry(fileName);
+		zipEntry.setMethod(isCompressed(fileToZip) ? ZipEntry.STORED : ZipEntry.DEFLATED);
+		zipEntry.setTime(fileToZip.lastModified());
+		Path path = fileToZip.toPath();
+		creator.addArchiveEntry(zipEntry, () -> {
+			try {
+				return Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	/**
+	 * Returns true if file extension belongs to an already compressed format
+	 * 
+	 * @param file
+	 *            file to be verified
+	 * @return true if file content is already compressed
+	 */
+	static boolean isCompressed(File file) {
+		String name = file.getName();
+		int dot = name.lastIndexOf('.');
+		return dot >= 0 && COMPRESSED_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
 	}
 
 	/**
@@ -177,12 +235,7 @@ public class UtilsZip {
 			destDir.mkdirs();
 		}
 
-		FileInputStream fis;
-		// buffer for read and write data to file
-		byte[] buffer = new byte[1024];
-		try {
-			fis = new FileInputStream(zipFile);
-			ZipInputStream zis = new ZipInputStream(fis);
+		try (ZipInputStream zis = new ZipInputStream(Files.newInputStream(zipFile.toPath()))) {
 			ZipEntry ze = zis.getNextEntry();
 			while (ze != null) {
 				String fileName = ze.getName();
@@ -194,22 +247,13 @@ public class UtilsZip {
 				} else {
 					// create directories for sub directories in zip
 					new File(newFile.getParent()).mkdirs();
-
-					FileOutputStream fos = new FileOutputStream(newFile);
-					int len;
-					while ((len = zis.read(buffer)) > 0) {
-						fos.write(buffer, 0, len);
-					}
-					fos.close();
+					// inflate straight into the destination file
+					Files.copy(zis, newFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
 				}
 				// close this ZipEntry
 				zis.closeEntry();
 				ze = zis.getNextEntry();
 			}
-			// close last ZipEntry
-			zis.closeEntry();
-			zis.close();
-			fis.close();
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
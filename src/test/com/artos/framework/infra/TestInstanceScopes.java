@@ -0,0 +1,107 @@
+package test.com.artos.framework.infra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.artos.framework.Enums.TestInstanceLifecycle;
+import com.artos.framework.infra.TestInstanceProvider;
+
+public class TestInstanceScopes {
+
+	public static class Sample {
+	}
+
+	/**
+	 * Instances requested by a test case with two units, in the order runner requests them
+	 */
+	private static class TestCaseInstances {
+		Object beforeTestCase;
+		Object afterTestCase;
+		List<Object[]> units = new ArrayList<>();
+	}
+
+	private static TestCaseInstances runTestCase(TestInstanceProvider provider) throws Exception {
+		TestCaseInstances instances = new TestCaseInstances();
+		instances.beforeTestCase = provider.getInstance(Sample.class);
+		for (int i = 0; i < 2; i++) {
+			provider.unitStarted();
+			Object beforeUnit = provider.getInstance(Sample.class);
+			Object unit = provider.getInstance(Sample.class);
+			Object afterUnit = provider.getInstance(Sample.class);
+			provider.unitFinished();
+			instances.units.add(new Object[] { beforeUnit, unit, afterUnit });
+		}
+		instances.afterTestCase = provider.getInstance(Sample.class);
+		provider.testCaseFinished();
+		return instances;
+	}
+
+	private static int countDistinct(TestCaseInstances... testCases) {
+		Set<Object> set = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (TestCaseInstances instances : testCases) {
+			set.add(instances.beforeTestCase);
+			set.add(instances.afterTestCase);
+			for (Object[] unit : instances.units) {
+				Collections.addAll(set, unit);
+			}
+		}
+		return set.size();
+	}
+
+	@Test
+	public void testPerMethod() throws Exception {
+		TestInstanceProvider provider = new TestInstanceProvider(TestInstanceLifecycle.PER_METHOD);
+		TestCaseInstances first = runTestCase(provider);
+		TestCaseInstances second = runTestCase(provider);
+
+		// Every invocation gets a new instance
+		assertEquals(16, countDistinct(first, second));
+	}
+
+	@Test
+	public void testPerUnit() throws Exception {
+		TestInstanceProvider provider = new TestInstanceProvider(TestInstanceLifecycle.PER_UNIT);
+		TestCaseInstances first = runTestCase(provider);
+		TestCaseInstances second = runTestCase(provider);
+
+		for (Object[] unit : first.units) {
+			assertSame(unit[0], unit[1]);
+			assertSame(unit[1], unit[2]);
+			assertNotSame(first.beforeTestCase, unit[1]);
+		}
+		assertNotSame(first.units.get(0)[1], first.units.get(1)[1]);
+		// Before/after test case instance is test case scoped, it does not leak into the first unit
+		assertSame(first.beforeTestCase, first.afterTestCase);
+		assertNotSame(first.beforeTestCase, second.beforeTestCase);
+		assertEquals(6, countDistinct(first, second));
+	}
+
+	@Test
+	public void testPerTestCase() throws Exception {
+		TestInstanceProvider provider = new TestInstanceProvider(TestInstanceLifecycle.PER_TEST_CASE);
+		TestCaseInstances first = runTestCase(provider);
+		TestCaseInstances second = runTestCase(provider);
+
+		assertEquals(1, countDistinct(first));
+		assertEquals(1, countDistinct(second));
+		assertNotSame(first.beforeTestCase, second.beforeTestCase);
+	}
+
+	@Test
+	public void testPerSuite() throws Exception {
+		TestInstanceProvider provider = new TestInstanceProvider(TestInstanceLifecycle.PER_SUITE);
+		TestCaseInstances first = runTestCase(provider);
+		TestCaseInstances second = runTestCase(provider);
+
+		assertEquals(1, countDistinct(first, second));
+	}
+}
@@ -0,0 +1,151 @@
+package test.com.artos.framework.infra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.artos.framework.infra.ParallelRowExecutor;
+
+public class TestParallelRows {
+
+	private static List<Object[]> createRows(int count) {
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			rows.add(new Object[] { "row" + i });
+		}
+		return rows;
+	}
+
+	private static List<Integer> range(int count) {
+		List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	@Test
+	public void testResultsAreDeliveredInRowOrder() throws Exception {
+		ExecutorService service = Executors.newFixedThreadPool(3);
+		try {
+			List<Integer> deliveredRows = new ArrayList<>();
+			List<Thread> consumerThreads = new CopyOnWriteArrayList<>();
+
+			// Earlier rows take longer, so rows finish out of order
+			ParallelRowExecutor<String> executor = new ParallelRowExecutor<>(createRows(20).iterator(), (row, rowIndex) -> {
+				Thread.sleep((20 - rowIndex) * 5);
+				return (String) row[0];
+			});
+			executor.execute(service, 4, (rowIndex, result) -> {
+				assertEquals("row" + rowIndex, result);
+				deliveredRows.add(rowIndex);
+				consumerThreads.add(Thread.currentThread());
+			});
+
+			assertEquals(range(20), deliveredRows);
+			for (Thread thread : consumerThreads) {
+				assertSame(Thread.currentThread(), thread);
+			}
+		} finally {
+			service.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testDataProviderFailureIsThrownAfterStartedRows() throws Exception {
+		ExecutorService service = Executors.newFixedThreadPool(3);
+		try {
+			IllegalStateException exception = new IllegalStateException("data provider failed");
+			Iterator<Object[]> rows = new Iterator<Object[]>() {
+				int rowCount = 0;
+
+				@Override
+				public boolean hasNext() {
+					return true;
+				}
+
+				@Override
+				public Object[] next() {
+					if (rowCount == 5) {
+						throw exception;
+					}
+					return new Object[] { rowCount++ };
+				}
+			};
+
+			List<Integer> deliveredRows = new ArrayList<>();
+			ParallelRowExecutor<Object> executor = new ParallelRowExecutor<>(rows, (row, rowIndex) -> {
+				Thread.sleep(20);
+				return row[0];
+			});
+			try {
+				executor.execute(service, 4, (rowIndex, result) -> deliveredRows.add(rowIndex));
+				fail("IllegalStateException expected");
+			} catch (IllegalStateException e) {
+				assertSame(exception, e);
+			}
+			assertEquals(range(5), deliveredRows);
+		} finally {
+			service.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testRowFailureStopsNewRows() throws Exception {
+		IllegalArgumentException exception = new IllegalArgumentException("row failed");
+		List<Integer> deliveredRows = new ArrayList<>();
+		ParallelRowExecutor<Object> executor = new ParallelRowExecutor<>(createRows(10).iterator(), (row, rowIndex) -> {
+			if (rowIndex == 3) {
+				throw exception;
+			}
+			return row[0];
+		});
+		try {
+			executor.execute(null, 1, (rowIndex, result) -> deliveredRows.add(rowIndex));
+			fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException e) {
+			assertSame(exception, e);
+		}
+		assertEquals(range(3), deliveredRows);
+	}
+
+	@Test
+	public void testSingleThreadPool() throws Exception {
+		ExecutorService service = Executors.newSingleThreadExecutor();
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			// Only pool thread is busy, so rows must be executed by calling thread
+			service.submit(() -> {
+				release.await();
+				return null;
+			});
+
+			List<Thread> rowThreads = new CopyOnWriteArrayList<>();
+			List<Integer> deliveredRows = new ArrayList<>();
+			ParallelRowExecutor<Object> executor = new ParallelRowExecutor<>(createRows(10).iterator(), (row, rowIndex) -> {
+				rowThreads.add(Thread.currentThread());
+				return row[0];
+			});
+			executor.execute(service, 2, (rowIndex, result) -> deliveredRows.add(rowIndex));
+
+			assertEquals(range(10), deliveredRows);
+			assertEquals(10, rowThreads.size());
+			for (Thread thread : rowThreads) {
+				assertSame(Thread.currentThread(), thread);
+			}
+		} finally {
+			release.countDown();
+			service.shutdownNow();
+		}
+	}
+}
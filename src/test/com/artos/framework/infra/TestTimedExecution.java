@@ -0,0 +1,111 @@
+package test.com.artos.framework.infra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import com.artos.framework.infra.TestTimeoutWatchdog;
+
+public class TestTimedExecution {
+
+	/**
+	 * Keeps running for given time, interrupts are swallowed
+	 */
+	private static void ignoreInterrupts(long millis) {
+		long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+		while (System.nanoTime() < end) {
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				// ignored on purpose
+			}
+		}
+	}
+
+	@Test
+	public void testFinishedWithinTimeout() throws Exception {
+		List<String> executed = new CopyOnWriteArrayList<>();
+		TestTimeoutWatchdog.run(() -> executed.add("unit"), 1000);
+		assertEquals(Arrays.asList("unit"), executed);
+		assertFalse(TestTimeoutWatchdog.isExpired());
+	}
+
+	@Test
+	public void testExceptionIsPropagated() throws Exception {
+		IllegalStateException exception = new IllegalStateException("failed");
+		try {
+			TestTimeoutWatchdog.run(() -> {
+				throw exception;
+			}, 1000);
+			fail("Exception expected");
+		} catch (IllegalStateException e) {
+			assertSame(exception, e);
+		}
+	}
+
+	@Test
+	public void testTaskIgnoringInterruptIsAbandoned() throws Exception {
+		long start = System.nanoTime();
+		try {
+			TestTimeoutWatchdog.run(() -> {
+				ignoreInterrupts(3000);
+				return null;
+			}, 100);
+			fail("TimeoutException expected");
+		} catch (TimeoutException e) {
+			// expected
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertTrue("Caller waited " + elapsed + "ms", elapsed < 1000);
+	}
+
+	@Test
+	public void testTestCaseTimeoutExpiresMidUnit() throws Exception {
+		List<Integer> startedUnits = new CopyOnWriteArrayList<>();
+		List<Boolean> unitInterrupted = new CopyOnWriteArrayList<>();
+		long start = System.nanoTime();
+
+		// Test case with three units, second unit has its own (longer) timeout and ignores interrupts
+		try {
+			TestTimeoutWatchdog.run(() -> {
+				for (int i = 0; i < 3; i++) {
+					if (TestTimeoutWatchdog.isExpired()) {
+						break;
+					}
+					startedUnits.add(i);
+					if (i == 1) {
+						try {
+							TestTimeoutWatchdog.run(() -> {
+								ignoreInterrupts(800);
+								return null;
+							}, 5000);
+						} catch (InterruptedException e) {
+							unitInterrupted.add(true);
+						}
+					}
+				}
+				return null;
+			}, 200);
+			fail("TimeoutException expected");
+		} catch (TimeoutException e) {
+			// expected
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertTrue("Caller waited " + elapsed + "ms", elapsed < 700);
+
+		// Give abandoned test case thread time to reach the next unit
+		Thread.sleep(1200);
+		assertEquals(Arrays.asList(0, 1), startedUnits);
+		assertEquals(Arrays.asList(true), unitInterrupted);
+	}
+}
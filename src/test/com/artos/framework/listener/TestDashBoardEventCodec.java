@@ -0,0 +1,129 @@
+package test.com.artos.framework.listener;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.artos.framework.listener.DashBoardEvent;
+import com.artos.framework.listener.DashBoardEventCodec;
+
+public class TestDashBoardEventCodec {
+
+	private static List<DashBoardEvent> roundTrip(DashBoardEventCodec.Encoder encoder, int sequence) {
+		byte[] datagram = encoder.finish(sequence);
+		assertTrue(datagram.length <= DashBoardEventCodec.MAX_DATAGRAM_SIZE);
+		assertTrue(DashBoardEventCodec.isCompact(datagram, 0, datagram.length));
+		assertEquals(sequence, DashBoardEventCodec.getSequence(datagram, 0, datagram.length));
+		return DashBoardEventCodec.decode(datagram, 0, datagram.length);
+	}
+
+	private static void assertEvent(DashBoardEvent expected, DashBoardEvent actual) {
+		assertEquals(expected.getType(), actual.getType());
+		assertEquals(expected.getTimestamp(), actual.getTimestamp());
+		assertEquals(expected.getUserName(), actual.getUserName());
+		assertEquals(expected.getSuiteName(), actual.getSuiteName());
+		assertEquals(expected.getFQCN(), actual.getFQCN());
+		assertEquals(expected.getDescription(), actual.getDescription());
+	}
+
+	private static String repeat(String value, int count) {
+		StringBuilder sb = new StringBuilder(value.length() * count);
+		for (int i = 0; i < count; i++) {
+			sb.append(value);
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testRoundTrip_NullAndEmptyFields() {
+		DashBoardEventCodec.Encoder encoder = new DashBoardEventCodec.Encoder(DashBoardEventCodec.MAX_DATAGRAM_SIZE);
+		List<DashBoardEvent> events = new ArrayList<>();
+		events.add(new DashBoardEvent(DashBoardEvent.Type.TEST_CASE_SUMMARY, 1000, "user", "suite", "com.test.Test1", null));
+		events.add(new DashBoardEvent(DashBoardEvent.Type.TEST_UNIT_SUMMARY, 900, null, null, null, null));
+		events.add(new DashBoardEvent(DashBoardEvent.Type.TEST_UNIT_SUMMARY, 1100, "", "suite", "", ""));
+		events.add(new DashBoardEvent(DashBoardEvent.Type.TEST_CASE_SUMMARY, 1200, "user", "suite", "com.test.Test1", "PASS"));
+		for (DashBoardEvent event : events) {
+			assertTrue(encoder.append(event));
+		}
+
+		List<DashBoardEvent> decoded = roundTrip(encoder, 7);
+		assertEquals(events.size(), decoded.size());
+		for (int i = 0; i < events.size(); i++) {
+			assertEvent(events.get(i), decoded.get(i));
+		}
+		assertTrue(encoder.isEmpty());
+	}
+
+	@Test
+	public void testRoundTrip_Unicode() {
+		DashBoardEventCodec.Encoder encoder = new DashBoardEventCodec.Encoder(DashBoardEventCodec.MAX_DATAGRAM_SIZE);
+		DashBoardEvent event = new DashBoardEvent(DashBoardEvent.Type.TEST_UNIT_SUMMARY, System.currentTimeMillis(), "Jürgen", "スイート",
+				"com.test.Тест", "PASS 😀 €");
+		assertTrue(encoder.append(event));
+		assertTrue(encoder.append(event));
+
+		List<DashBoardEvent> decoded = roundTrip(encoder, 0);
+		assertEquals(2, decoded.size());
+		assertEvent(event, decoded.get(0));
+		assertEvent(event, decoded.get(1));
+	}
+
+	@Test
+	public void testOversizeEventIsTruncated() {
+		DashBoardEventCodec.Encoder encoder = new DashBoardEventCodec.Encoder(DashBoardEventCodec.MAX_DATAGRAM_SIZE);
+		// Multi-byte characters, so truncation must respect UTF-8 character boundary
+		String description = repeat("é😀", 20000);
+		DashBoardEvent event = new DashBoardEvent(DashBoardEvent.Type.TEST_CASE_SUMMARY, 1000, "user", null, "com.test.Test1", description);
+		assertTrue(encoder.append(event));
+
+		List<DashBoardEvent> decoded = roundTrip(encoder, 1);
+		assertEquals(1, decoded.size());
+		DashBoardEvent actual = decoded.get(0);
+		assertEquals("user", actual.getUserName());
+		assertNull(actual.getSuiteName());
+		assertEquals("com.test.Test1", actual.getFQCN());
+		assertTrue(actual.getDescription().length() < description.length());
+		assertTrue(description.startsWith(actual.getDescription()));
+		assertFalse(actual.getDescription().contains("�"));
+		assertTrue(actual.getDescription().getBytes(StandardCharsets.UTF_8).length > DashBoardEventCodec.MAX_DATAGRAM_SIZE - 100);
+	}
+
+	@Test
+	public void testOversizeEventStartsNewDatagram() {
+		DashBoardEventCodec.Encoder encoder = new DashBoardEventCodec.Encoder(512);
+		DashBoardEvent small = new DashBoardEvent(DashBoardEvent.Type.TEST_UNIT_SUMMARY, 1000, "user", "suite", "com.test.Test1", "PASS");
+		DashBoardEvent large = new DashBoardEvent(DashBoardEvent.Type.TEST_UNIT_SUMMARY, 1001, "user", "suite", "com.test.Test1", repeat("x", 2000));
+		assertTrue(encoder.append(small));
+		assertFalse(encoder.append(large));
+
+		List<DashBoardEvent> decoded = roundTrip(encoder, 0);
+		assertEquals(1, decoded.size());
+		assertEvent(small, decoded.get(0));
+
+		// Strings of rejected event must not be referenced by next datagram
+		assertTrue(encoder.append(large));
+		byte[] datagram = encoder.finish(1);
+		assertTrue(datagram.length <= 512);
+		decoded = DashBoardEventCodec.decode(datagram, 0, datagram.length);
+		assertEquals(1, decoded.size());
+		assertEquals("user", decoded.get(0).getUserName());
+		assertTrue(large.getDescription().startsWith(decoded.get(0).getDescription()));
+	}
+
+	@Test
+	public void testLegacyTextDatagram() {
+		byte[] data = "PASS:user:suite:com.test.Test1".getBytes(StandardCharsets.UTF_8);
+		assertFalse(DashBoardEventCodec.isCompact(data, 0, data.length));
+		List<DashBoardEvent> decoded = DashBoardEventCodec.decode(data, 0, data.length);
+		assertEquals(1, decoded.size());
+		assertEquals(DashBoardEvent.Type.TEXT, decoded.get(0).getType());
+		assertEquals("PASS:user:suite:com.test.Test1", decoded.get(0).toString());
+	}
+}
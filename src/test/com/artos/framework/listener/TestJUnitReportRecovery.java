@@ -0,0 +1,115 @@
+package test.com.artos.framework.listener;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import com.artos.framework.listener.JUnitReportListener;
+
+public class TestJUnitReportRecovery {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	// Test suite elements as written to spool file by JUnitReportListener
+	private static String testSuite(String name, int failures, String time) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("  <testsuite disabled=\"false\" errors=\"0\" failures=\"").append(failures).append("\" hostname=\"\" id=\"\" name=\"")
+				.append(name).append("\" skipped=\"0\" tests=\"2\" time=\"").append(time).append("\" timestamp=\"\">\n");
+		sb.append("    <properties>\n      <property name=\"\" value=\"\"/>\n    </properties>\n");
+		sb.append("    <testcase assertions=\"\" classname=\"").append(name).append("\" name=\"unit1\" status=\"PASS\" time=\"0.001\"/>\n");
+		if (failures > 0) {
+			// Failure message which looks like an end tag is escaped by the writer
+			sb.append("    <testcase assertions=\"\" classname=\"").append(name).append("\" name=\"unit2\" status=\"FAIL\" time=\"0.002\">\n");
+			sb.append("      <failure message=\"expected &lt;/testsuite&gt; ü\"/>\n    </testcase>\n");
+		} else {
+			sb.append("    <testcase assertions=\"\" classname=\"").append(name).append("\" name=\"unit2\" status=\"PASS\" time=\"0.002\"/>\n");
+		}
+		sb.append("  </testsuite>\n");
+		return sb.toString();
+	}
+
+	private File writeSpoolFile(byte[] content, int length) throws Exception {
+		File spoolFile = new File(folder.getRoot(), "JUnit_Report_SuiteName.xml.part");
+		try (OutputStream out = new FileOutputStream(spoolFile, false)) {
+			out.write(content, 0, length);
+		}
+		return spoolFile;
+	}
+
+	private static Document parse(File file) throws Exception {
+		return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file);
+	}
+
+	@Test
+	public void testRecoverTruncatedSpoolFile() throws Exception {
+		byte[] complete = (testSuite("test.Suite1", 0, "1.500") + testSuite("test.Suite2", 1, "0.250")).getBytes(StandardCharsets.UTF_8);
+		byte[] partial = testSuite("test.Suite3", 1, "2.000").getBytes(StandardCharsets.UTF_8);
+		byte[] content = Arrays.copyOf(complete, complete.length + partial.length);
+		System.arraycopy(partial, 0, content, complete.length, partial.length);
+
+		// Cut spool file at every byte of the last test suite element, including middle of the end tag and multi-byte character
+		// Last byte is the line break after the end tag, without it element is still complete
+		for (int length = complete.length; length < content.length - 1; length++) {
+			File spoolFile = writeSpoolFile(content, length);
+			File recoveredFile = JUnitReportListener.recoverReport(spoolFile);
+
+			assertEquals("JUnit_Report_SuiteName_recovered.xml", recoveredFile.getName());
+			Document document = parse(recoveredFile);
+			Element root = document.getDocumentElement();
+			assertEquals("testsuites", root.getTagName());
+			assertEquals("SuiteName", root.getAttribute("name"));
+			assertEquals("2", root.getAttribute("tests"));
+			assertEquals("1", root.getAttribute("failures"));
+			assertEquals(0, Double.compare(1.75, Double.parseDouble(root.getAttribute("time"))));
+
+			NodeList suites = document.getElementsByTagName("testsuite");
+			assertEquals("Cut at " + length, 2, suites.getLength());
+			assertEquals("test.Suite1", ((Element) suites.item(0)).getAttribute("name"));
+			assertEquals("test.Suite2", ((Element) suites.item(1)).getAttribute("name"));
+			assertEquals(4, document.getElementsByTagName("testcase").getLength());
+			assertEquals("expected </testsuite> ü", ((Element) document.getElementsByTagName("failure").item(0)).getAttribute("message"));
+		}
+
+		File spoolFile = writeSpoolFile(content, content.length - 1);
+		Document document = parse(JUnitReportListener.recoverReport(spoolFile));
+		assertEquals(3, document.getElementsByTagName("testsuite").getLength());
+		assertEquals("3", document.getDocumentElement().getAttribute("tests"));
+	}
+
+	@Test
+	public void testRecoverCompleteSpoolFile() throws Exception {
+		byte[] content = (testSuite("test.Suite1", 0, "1.500") + testSuite("test.Suite2", 1, "0.250")).getBytes(StandardCharsets.UTF_8);
+		File spoolFile = writeSpoolFile(content, content.length);
+		Document document = parse(JUnitReportListener.recoverReport(spoolFile));
+
+		assertEquals(2, document.getElementsByTagName("testsuite").getLength());
+		assertEquals(content.length, spoolFile.length());
+	}
+
+	@Test
+	public void testRecoverWithoutCompleteTestSuite() throws Exception {
+		byte[] content = testSuite("test.Suite1", 0, "1.500").getBytes(StandardCharsets.UTF_8);
+		File spoolFile = writeSpoolFile(content, content.length / 2);
+		Document document = parse(JUnitReportListener.recoverReport(spoolFile));
+
+		Element root = document.getDocumentElement();
+		assertEquals("0", root.getAttribute("tests"));
+		assertEquals(0, document.getElementsByTagName("testsuite").getLength());
+		assertEquals(0, root.getElementsByTagName("*").getLength());
+		assertEquals(0, spoolFile.length());
+	}
+}
@@ -0,0 +1,104 @@
+package test.com.artos.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.artos.utils.UtilsTar;
+import com.artos.utils.UtilsZip;
+
+public class TestArchive {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File source;
+	private byte[] text;
+	private byte[] image;
+
+	@Before
+	public void createSource() throws Exception {
+		source = folder.newFolder("source");
+		new File(source, "sub").mkdirs();
+
+		// larger than a few compression blocks so block boundaries are covered
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; sb.length() < 600 * 1024; i++) {
+			sb.append("line ").append(i).append('\n');
+		}
+		text = sb.toString().getBytes("UTF-8");
+		image = new byte[300 * 1024];
+		new Random(7).nextBytes(image);
+
+		Files.write(new File(source, "log.txt").toPath(), text);
+		Files.write(new File(source, "sub/screen.png").toPath(), image);
+		Files.write(new File(source, "sub/empty.txt").toPath(), new byte[0]);
+	}
+
+	private void assertExtracted(File root) throws Exception {
+		assertArrayEquals(text, Files.readAllBytes(new File(root, "log.txt").toPath()));
+		assertArrayEquals(image, Files.readAllBytes(new File(root, "sub/screen.png").toPath()));
+		assertEquals(0, new File(root, "sub/empty.txt").length());
+	}
+
+	@Test
+	public void testZipRoundTrip() throws Exception {
+		File zip = new File(folder.getRoot(), "out.zip");
+		UtilsZip.zip(source, zip);
+
+		try (ZipFile zipFile = new ZipFile(zip)) {
+			assertEquals(3, zipFile.size());
+			assertEquals(ZipEntry.DEFLATED, zipFile.getEntry("source/log.txt").getMethod());
+			// already compressed content is stored as is
+			assertEquals(ZipEntry.STORED, zipFile.getEntry("source/sub/screen.png").getMethod());
+		}
+
+		File dest = folder.newFolder("unzipped");
+		UtilsZip.unzip(zip, dest);
+		assertExtracted(new File(dest, "source"));
+	}
+
+	@Test
+	public void testTarGZRoundTrip() throws Exception {
+		File tgz = new File(folder.getRoot(), "out.tgz");
+		UtilsTar.tarGZ(source, tgz);
+
+		// output must be one standard gzip stream
+		long length = 0;
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(tgz.toPath()))) {
+			byte[] buffer = new byte[8192];
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				length += n;
+			}
+		}
+		assertFalse(length < text.length + image.length);
+
+		File dest = folder.newFolder("untarred");
+		UtilsTar.untarGZIP(tgz, dest);
+		assertExtracted(new File(dest, "out.tgz/source"));
+	}
+
+	@Test
+	public void testTarRoundTrip() throws Exception {
+		File tar = new File(folder.getRoot(), "out.tar");
+		UtilsTar.tar(source, tar);
+
+		File dest = folder.newFolder("untarred");
+		UtilsTar.untar(tar, dest);
+		assertExtracted(new File(dest, "out.tar/source"));
+	}
+}
@@ -0,0 +1,67 @@
+package test.com.artos.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.net.DatagramSocket;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.artos.utils.UDP;
+
+public class TestConnectorQueue {
+
+	private static int getFreePort() throws Exception {
+		try (DatagramSocket socket = new DatagramSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	@Test
+	public void testUserQueueIsNotifiedOnReceive() throws Exception {
+		int receiverPort = getFreePort();
+		int senderPort = getFreePort();
+		UDP receiver = new UDP("127.0.0.1", receiverPort, "127.0.0.1", senderPort);
+		UDP sender = new UDP("127.0.0.1", senderPort, "127.0.0.1", receiverPort);
+
+		// Plain queue, consumer waits on queue monitor
+		Queue<byte[]> userQueue = new LinkedList<>();
+		receiver.setQueue(userQueue);
+		receiver.connect();
+		sender.connect();
+		try {
+			sender.sendMsg(new byte[] { 1, 2, 3 });
+			synchronized (userQueue) {
+				long deadline = System.currentTimeMillis() + 5000;
+				while (userQueue.isEmpty() && System.currentTimeMillis() < deadline) {
+					userQueue.wait(100);
+				}
+				assertEquals(1, userQueue.size());
+			}
+			assertArrayEquals(new byte[] { 1, 2, 3 }, receiver.getNextMsg());
+
+			sender.sendMsg(new byte[] { 4 });
+			assertArrayEquals(new byte[] { 4 }, receiver.getNextMsg(5, TimeUnit.SECONDS));
+			assertNull(receiver.getNextMsg(10, TimeUnit.MILLISECONDS));
+		} finally {
+			sender.disconnect();
+			receiver.disconnect();
+		}
+	}
+
+	@Test
+	public void testBlockingQueueIsUsedAsIs() {
+		UDP udp = new UDP("127.0.0.1", 0, "127.0.0.1", 0);
+		BlockingQueue<byte[]> queue = new LinkedBlockingQueue<>();
+		udp.setQueue(queue);
+		assertSame(queue, udp.getQueue());
+		assertSame(queue, udp.getBlockingQueue());
+	}
+}
@@ -0,0 +1,142 @@
+package test.com.artos.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.artos.interfaces.ConnectableFrameParser;
+import com.artos.utils.DelimiterFrameParser;
+import com.artos.utils.FrameBuffer;
+import com.artos.utils.LengthPrefixedFrameParser;
+
+public class TestFrameParser {
+
+	private List<byte[]> receive(FrameBuffer frameBuffer, ConnectableFrameParser parser, byte[] data) {
+		frameBuffer.getWriteBuffer().put(data);
+		List<byte[]> frameList = new ArrayList<>();
+		ByteBuffer frame;
+		while (null != (frame = frameBuffer.nextFrame(parser))) {
+			byte[] msg = new byte[frame.remaining()];
+			frame.get(msg);
+			frameList.add(msg);
+		}
+		return frameList;
+	}
+
+	@Test
+	public void testLengthPrefixed_SplitAcrossReads() {
+		ConnectableFrameParser parser = new LengthPrefixedFrameParser(2, ByteOrder.BIG_ENDIAN);
+		FrameBuffer frameBuffer = new FrameBuffer(1024);
+
+		List<byte[]> frameList = receive(frameBuffer, parser, new byte[] { 0, 2, 10, 11, 0, 3, 20 });
+		assertEquals(1, frameList.size());
+		assertArrayEquals(new byte[] { 0, 2, 10, 11 }, frameList.get(0));
+		assertEquals(3, frameBuffer.getLeftOverCount());
+
+		frameList = receive(frameBuffer, parser, new byte[] { 21, 22, 0 });
+		assertEquals(1, frameList.size());
+		assertArrayEquals(new byte[] { 0, 3, 20, 21, 22 }, frameList.get(0));
+		assertEquals(1, frameBuffer.getLeftOverCount());
+	}
+
+	@Test
+	public void testLengthPrefixed_OffsetAndAdjustment() {
+		// 1 byte id followed by 4 byte little endian length which counts whole frame
+		ConnectableFrameParser parser = new LengthPrefixedFrameParser(1, 4, ByteOrder.LITTLE_ENDIAN, -5);
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 7, 6, 0, 0, 0, 1, 9 });
+
+		ByteBuffer frame = parser.nextFrame(buffer);
+		assertEquals(6, frame.remaining());
+		assertEquals(1, buffer.remaining());
+		assertNull(parser.nextFrame(buffer));
+	}
+
+	@Test
+	public void testDelimiter_SplitDelimiter() {
+		ConnectableFrameParser parser = new DelimiterFrameParser("\r\n".getBytes(), true);
+		FrameBuffer frameBuffer = new FrameBuffer(1024);
+
+		List<byte[]> frameList = receive(frameBuffer, parser, "OK\r\nERR\r".getBytes());
+		assertEquals(1, frameList.size());
+		assertArrayEquals("OK".getBytes(), frameList.get(0));
+
+		frameList = receive(frameBuffer, parser, "\nREADY\r\n".getBytes());
+		assertEquals(2, frameList.size());
+		assertArrayEquals("ERR".getBytes(), frameList.get(0));
+		assertArrayEquals("READY".getBytes(), frameList.get(1));
+		assertEquals(0, frameBuffer.getLeftOverCount());
+	}
+
+	@Test
+	public void testDelimiter_FrameLargerThanBuffer() {
+		ConnectableFrameParser parser = new DelimiterFrameParser(new byte[] { '\n' }, false);
+		FrameBuffer frameBuffer = new FrameBuffer(1024);
+
+		byte[] chunk = new byte[700];
+		Arrays.fill(chunk, (byte) 'a');
+		for (int i = 0; i < 5; i++) {
+			assertEquals(0, receive(frameBuffer, parser, chunk).size());
+		}
+		List<byte[]> frameList = receive(frameBuffer, parser, new byte[] { '\n' });
+		assertEquals(1, frameList.size());
+		assertEquals(3501, frameList.get(0).length);
+	}
+
+	@Test
+	public void testLengthPrefixed_MaxFrameLength() {
+		ConnectableFrameParser parser = new LengthPrefixedFrameParser(0, 2, ByteOrder.BIG_ENDIAN, 0, 6);
+
+		// Frame which is exactly maximum length is accepted
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 0, 4, 1, 2, 3, 4 });
+		assertEquals(6, parser.nextFrame(buffer).remaining());
+
+		// Longer frame is rejected as soon as length field is received
+		try {
+			parser.nextFrame(ByteBuffer.wrap(new byte[] { 0, 5 }));
+			fail("IllegalStateException expected");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testLengthPrefixed_DefaultMaxFrameLength() {
+		ConnectableFrameParser parser = new LengthPrefixedFrameParser(4, ByteOrder.BIG_ENDIAN);
+		try {
+			parser.nextFrame(ByteBuffer.wrap(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xF0 }));
+			fail("IllegalStateException expected");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testDelimiter_MaxFrameLength() {
+		ConnectableFrameParser parser = new DelimiterFrameParser("\r\n".getBytes(), true, 8);
+		FrameBuffer frameBuffer = new FrameBuffer(1024);
+
+		// Delimiter which ends at maximum frame length is accepted, even if it is split across reads
+		assertEquals(0, receive(frameBuffer, parser, "ABCDEF\r".getBytes()).size());
+		List<byte[]> frameList = receive(frameBuffer, parser, "\nAB".getBytes());
+		assertEquals(1, frameList.size());
+		assertArrayEquals("ABCDEF".getBytes(), frameList.get(0));
+
+		// Stream which never sends delimiter is rejected once maximum frame length is received
+		assertEquals(0, receive(frameBuffer, parser, "CDEF".getBytes()).size());
+		try {
+			receive(frameBuffer, parser, "GH".getBytes());
+			fail("IllegalStateException expected");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+}
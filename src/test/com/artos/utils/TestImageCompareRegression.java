@@ -0,0 +1,235 @@
+package test.com.artos.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.IndexColorModel;
+import java.awt.image.WritableRaster;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.artos.utils.ImageCompare;
+
+/**
+ * Compares match percentage and result image of {@link ImageCompare} with original per-pixel getRGB/setRGB algorithm
+ */
+public class TestImageCompareRegression {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	// Larger than one band of rows, so comparison is split between threads
+	private static final int WIDTH = 400;
+	private static final int HEIGHT = 300;
+
+	private final Random random = new Random(20240101L);
+
+	@Test
+	public void testIntRgb() throws Exception {
+		verifyAllSizes(BufferedImage.TYPE_INT_RGB);
+	}
+
+	@Test
+	public void testIntArgb() throws Exception {
+		verifyAllSizes(BufferedImage.TYPE_INT_ARGB);
+	}
+
+	@Test
+	public void testIntBgr() throws Exception {
+		verifyAllSizes(BufferedImage.TYPE_INT_BGR);
+	}
+
+	@Test
+	public void test3ByteBgr() throws Exception {
+		verifyAllSizes(BufferedImage.TYPE_3BYTE_BGR);
+	}
+
+	@Test
+	public void test4ByteAbgr() throws Exception {
+		verifyAllSizes(BufferedImage.TYPE_4BYTE_ABGR);
+	}
+
+	@Test
+	public void testByteIndexed() throws Exception {
+		verifyAllSizes(BufferedImage.TYPE_BYTE_INDEXED);
+	}
+
+	@Test
+	public void testByteGray() throws Exception {
+		verifyAllSizes(BufferedImage.TYPE_BYTE_GRAY);
+	}
+
+	@Test
+	public void testCustom() throws Exception {
+		// 16 bit per channel RGB image is TYPE_CUSTOM
+		ColorModel colorModel = new ComponentColorModel(ColorSpace.getInstance(ColorSpace.CS_sRGB), false, false, Transparency.OPAQUE,
+				DataBuffer.TYPE_USHORT);
+		BufferedImage ref = fill(new BufferedImage(colorModel, colorModel.createCompatibleWritableRaster(WIDTH, HEIGHT), false, null));
+		BufferedImage test = copyWithChanges(ref, new BufferedImage(colorModel, colorModel.createCompatibleWritableRaster(WIDTH, HEIGHT), false, null));
+		assertEquals(BufferedImage.TYPE_CUSTOM, ref.getType());
+		verify(ref, test);
+	}
+
+	@Test
+	public void testSubimage() throws Exception {
+		// Raster of sub image does not start at the beginning of data buffer
+		int[] types = { BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_3BYTE_BGR, BufferedImage.TYPE_4BYTE_ABGR };
+		for (int type : types) {
+			BufferedImage ref = fill(new BufferedImage(WIDTH + 20, HEIGHT + 10, type)).getSubimage(13, 7, WIDTH, HEIGHT);
+			BufferedImage test = copyWithChanges(fill(new BufferedImage(WIDTH + 20, HEIGHT + 10, type)), new BufferedImage(WIDTH + 20, HEIGHT + 10, type))
+					.getSubimage(5, 3, WIDTH, HEIGHT);
+			verify(ref, test);
+		}
+	}
+
+	@Test
+	public void testImagesReadFromFiles() throws Exception {
+		int[] types = { BufferedImage.TYPE_3BYTE_BGR, BufferedImage.TYPE_4BYTE_ABGR, BufferedImage.TYPE_BYTE_INDEXED };
+		for (int type : types) {
+			BufferedImage ref = fill(new BufferedImage(WIDTH, HEIGHT, type));
+			File refFile = folder.newFile("reference_" + type + ".png");
+			File testFile = folder.newFile("target_" + type + ".png");
+			ImageIO.write(ref, "png", refFile);
+			ImageIO.write(copyWithChanges(ref, new BufferedImage(WIDTH - 30, HEIGHT + 20, type)), "png", testFile);
+
+			File resultDir = folder.newFolder("result_" + type);
+			ImageCompare imageCompare = new ImageCompare();
+			imageCompare.compare(refFile, testFile, resultDir, "result");
+
+			BufferedImage expected = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_4BYTE_ABGR);
+			int expectedMatch = perPixelCompare(ImageIO.read(refFile), ImageIO.read(testFile), expected);
+			assertEquals(expectedMatch, imageCompare.getPercentageMatch());
+			assertSameRGB(expected, ImageIO.read(imageCompare.getResultImage()));
+		}
+	}
+
+	private void verifyAllSizes(int type) throws Exception {
+		BufferedImage ref = fill(new BufferedImage(WIDTH, HEIGHT, type));
+		// Same size, smaller target, larger target and target which is narrower but taller
+		verify(ref, copyWithChanges(ref, new BufferedImage(WIDTH, HEIGHT, type)));
+		verify(ref, copyWithChanges(ref, new BufferedImage(WIDTH - 57, HEIGHT - 31, type)));
+		verify(ref, copyWithChanges(ref, new BufferedImage(WIDTH + 23, HEIGHT + 11, type)));
+		verify(ref, copyWithChanges(ref, new BufferedImage(WIDTH - 1, HEIGHT + 40, type)));
+		// Small image which is compared on a single thread
+		BufferedImage small = fill(new BufferedImage(17, 9, type));
+		verify(small, copyWithChanges(small, new BufferedImage(15, 9, type)));
+	}
+
+	private void verify(BufferedImage ref, BufferedImage test) throws Exception {
+		ImageCompare imageCompare = new ImageCompare();
+		File resultDir = folder.newFolder();
+		invokeCompare(imageCompare, ref, test, "png", resultDir, "result");
+
+		BufferedImage expected = new BufferedImage(ref.getWidth(), ref.getHeight(), BufferedImage.TYPE_4BYTE_ABGR);
+		int expectedMatch = perPixelCompare(ref, test, expected);
+		assertEquals(expectedMatch, imageCompare.getPercentageMatch());
+		assertSameRGB(expected, ImageIO.read(imageCompare.getResultImage()));
+
+		// Without result image only matching pixels are counted
+		ImageCompare noResult = new ImageCompare();
+		invokeCompare(noResult, ref, test, "jpg", null, null);
+		assertEquals(expectedMatch, noResult.getPercentageMatch());
+	}
+
+	private static void invokeCompare(ImageCompare imageCompare, BufferedImage ref, BufferedImage test, String extension, File resultDir,
+			String resultImageName) throws Exception {
+		// Images of any type are compared by private method, files only produce types ImageIO decodes to
+		Method compare = ImageCompare.class.getDeclaredMethod("compare", BufferedImage.class, BufferedImage.class, String.class, File.class,
+				String.class);
+		compare.setAccessible(true);
+		compare.invoke(imageCompare, ref, test, extension, resultDir, resultImageName);
+	}
+
+	/**
+	 * Original algorithm, compares images one pixel at a time using getRGB/setRGB
+	 */
+	private static int perPixelCompare(BufferedImage refImage, BufferedImage testImage, BufferedImage rImage) {
+		int height = refImage.getHeight();
+		int width = refImage.getWidth();
+		long matchCount = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				try {
+					int pixelC = testImage.getRGB(x, y);
+					int pixelB = refImage.getRGB(x, y);
+					if (pixelB == pixelC) {
+						rImage.setRGB(x, y, refImage.getRGB(x, y));
+						matchCount++;
+					} else {
+						int a = 0xff | refImage.getRGB(x, y) >> 24;
+						int r = 0xff & refImage.getRGB(x, y) >> 16;
+						int g = 0x00 & refImage.getRGB(x, y) >> 8;
+						int b = 0x00 & refImage.getRGB(x, y);
+						rImage.setRGB(x, y, a << 24 | r << 16 | g << 8 | b);
+					}
+				} catch (Exception e) {
+					rImage.setRGB(x, y, 0x80ff0000);
+				}
+			}
+		}
+		return (int) (matchCount * 100 / (height * width));
+	}
+
+	private BufferedImage fill(BufferedImage image) {
+		if (image.getColorModel() instanceof IndexColorModel || image.getRaster().getDataBuffer().getDataType() == DataBuffer.TYPE_USHORT) {
+			// Write samples directly so every palette entry and 16 bit value is used
+			WritableRaster raster = image.getRaster();
+			int max = image.getColorModel() instanceof IndexColorModel ? 255 : 65535;
+			for (int y = 0; y < image.getHeight(); y++) {
+				for (int x = 0; x < image.getWidth(); x++) {
+					for (int band = 0; band < raster.getNumBands(); band++) {
+						raster.setSample(x, y, band, random.nextInt(max + 1));
+					}
+				}
+			}
+			return image;
+		}
+		for (int y = 0; y < image.getHeight(); y++) {
+			for (int x = 0; x < image.getWidth(); x++) {
+				image.setRGB(x, y, random.nextInt());
+			}
+		}
+		return image;
+	}
+
+	/**
+	 * Copies overlapping area of reference raster into target, changes about one pixel in ten and fills rest of target with random pixels
+	 */
+	private BufferedImage copyWithChanges(BufferedImage ref, BufferedImage target) {
+		fill(target);
+		WritableRaster from = ref.getRaster();
+		WritableRaster to = target.getRaster();
+		int width = Math.min(ref.getWidth(), target.getWidth());
+		int height = Math.min(ref.getHeight(), target.getHeight());
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if (random.nextInt(10) != 0) {
+					to.setDataElements(x, y, from.getDataElements(x, y, null));
+				}
+			}
+		}
+		return target;
+	}
+
+	private static void assertSameRGB(BufferedImage expected, BufferedImage actual) {
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		for (int y = 0; y < expected.getHeight(); y++) {
+			for (int x = 0; x < expected.getWidth(); x++) {
+				assertEquals("Pixel (" + x + "," + y + ")", expected.getRGB(x, y), actual.getRGB(x, y));
+			}
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package test.com.artos.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.artos.utils.ImageCompare;
+import com.artos.utils.ImageFingerprintStore;
+
+public class TestImageFingerprint {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File writeImage(String name, boolean inverted, int changedPixels) throws Exception {
+		BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_3BYTE_BGR);
+		for (int y = 0; y < 100; y++) {
+			for (int x = 0; x < 200; x++) {
+				int grey = inverted ? 255 - x : x;
+				image.setRGB(x, y, grey << 16 | grey << 8 | y);
+			}
+		}
+		for (int i = 0; i < changedPixels; i++) {
+			image.setRGB(i % 200, 40 + i / 200, 0xffffff);
+		}
+		File file = new File(folder.getRoot(), name);
+		ImageIO.write(image, "png", file);
+		return file;
+	}
+
+	@Test
+	public void testIdenticalImages() throws Exception {
+		File reference = writeImage("reference.png", false, 0);
+		File target = writeImage("target.png", false, 0);
+		ImageCompare imageCompare = new ImageCompare(new ImageFingerprintStore());
+
+		assertTrue(imageCompare.isMatch(reference, target, 100));
+		assertEquals(100, imageCompare.getPercentageMatch());
+
+		imageCompare.compare(reference, target);
+		assertEquals(100, imageCompare.getPercentageMatch());
+	}
+
+	@Test
+	public void testBorderlineImagesAreComparedPixelByPixel() throws Exception {
+		File reference = writeImage("reference.png", false, 0);
+		File target = writeImage("target.png", false, 1000);
+		ImageCompare imageCompare = new ImageCompare(new ImageFingerprintStore());
+
+		// 1000 of 20000 pixels are changed
+		assertTrue(imageCompare.isMatch(reference, target, 95));
+		assertEquals(95, imageCompare.getPercentageMatch());
+		assertFalse(imageCompare.isMatch(reference, target, 96));
+	}
+
+	@Test
+	public void testClearlyDifferentImages() throws Exception {
+		File reference = writeImage("reference.png", false, 0);
+		File target = writeImage("target.png", true, 0);
+		ImageCompare imageCompare = new ImageCompare(new ImageFingerprintStore());
+
+		assertFalse(imageCompare.isMatch(reference, target, 90));
+		assertEquals(-1, imageCompare.getPercentageMatch());
+
+		// Pixel comparison is always performed by compare()
+		imageCompare.compare(reference, target);
+		assertEquals(0, imageCompare.getPercentageMatch());
+	}
+
+	@Test
+	public void testLowThresholdIsComparedPixelByPixel() throws Exception {
+		File reference = writeImage("reference.png", false, 0);
+		File target = writeImage("target.png", true, 0);
+		ImageCompare imageCompare = new ImageCompare(new ImageFingerprintStore());
+
+		// Rejection is not guaranteed for 0%, so outcome must be the same as without fingerprints
+		assertTrue(imageCompare.isMatch(reference, target, 0));
+		assertEquals(0, imageCompare.getPercentageMatch());
+	}
+
+	@Test
+	public void testMaxPercentageMatchIsUpperBound() throws Exception {
+		File reference = writeImage("reference.png", false, 0);
+		ImageFingerprintStore store = new ImageFingerprintStore();
+		ImageCompare imageCompare = new ImageCompare();
+
+		for (int changedPixels : new int[] { 1, 1000, 5000, 12000 }) {
+			File target = writeImage("target" + changedPixels + ".png", false, changedPixels);
+			imageCompare.compare(reference, target);
+			int maxPercentageMatch = store.getFingerprint(reference).getMaxPercentageMatch(store.getFingerprint(target));
+			assertTrue(maxPercentageMatch + " < " + imageCompare.getPercentageMatch(), maxPercentageMatch >= imageCompare.getPercentageMatch());
+		}
+		assertEquals(100, store.getFingerprint(reference).getMaxPercentageMatch(store.getFingerprint(reference)));
+	}
+
+	@Test
+	public void testFindGoldenImages() throws Exception {
+		File inverted = writeImage("golden_inverted.png", true, 0);
+		File changed = writeImage("golden_changed.png", false, 1000);
+		File same = writeImage("golden_same.png", false, 0);
+		File screenshot = writeImage("screenshot.png", false, 0);
+
+		ImageFingerprintStore store = new ImageFingerprintStore();
+		store.addGoldenImage(inverted);
+		store.addGoldenImage(changed);
+		store.addGoldenImage(same);
+
+		assertEquals(Arrays.asList(same, changed), store.findGoldenImages(screenshot, 10));
+		assertEquals(Arrays.asList(same, changed, inverted), store.findGoldenImages(screenshot, 64));
+	}
+}
@@ -0,0 +1,210 @@
+package test.com.artos.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.nio.ByteOrder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.artos.utils.LengthPrefixedFrameParser;
+import com.artos.utils.NioEventLoop;
+import com.artos.utils.NioTCPClient;
+import com.artos.utils.NioTCPServer;
+
+public class TestNioConnector {
+
+	private NioEventLoop eventLoop;
+	private ExecutorService service;
+
+	@Before
+	public void setUp() throws IOException {
+		eventLoop = new NioEventLoop(1);
+		service = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		service.shutdownNow();
+		eventLoop.shutdown();
+	}
+
+	private static int getFreePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	/**
+	 * Accepts a single connection on background thread
+	 */
+	private Future<NioTCPServer> accept(int port) {
+		return service.submit(() -> {
+			NioTCPServer server = new NioTCPServer(port, null, null, eventLoop);
+			server.setFrameParser(new LengthPrefixedFrameParser(1, ByteOrder.BIG_ENDIAN));
+			server.connect(5000);
+			return server;
+		});
+	}
+
+	private static NioTCPClient connect(int port, NioEventLoop eventLoop) throws Exception {
+		// Server may not be listening yet
+		for (int i = 0;; i++) {
+			NioTCPClient client = new NioTCPClient("127.0.0.1", port, null, null, eventLoop);
+			client.setFrameParser(new LengthPrefixedFrameParser(1, ByteOrder.BIG_ENDIAN));
+			try {
+				client.connect();
+				return client;
+			} catch (IOException e) {
+				if (i == 50) {
+					throw e;
+				}
+				Thread.sleep(100);
+			}
+		}
+	}
+
+	@Test
+	public void testLoopbackEcho() throws Exception {
+		int port = getFreePort();
+		Future<NioTCPServer> serverFuture = accept(port);
+		NioTCPClient client = connect(port, eventLoop);
+		NioTCPServer server = serverFuture.get(5, TimeUnit.SECONDS);
+		try {
+			assertTrue(client.isConnected());
+			assertTrue(server.isConnected());
+
+			// Two frames in one write and a frame split across writes
+			client.sendMsg(new byte[] { 2, 10, 11, 1, 20 });
+			client.sendMsg(new byte[] { 3, 30 });
+			Thread.sleep(50);
+			client.sendMsg(new byte[] { 31, 32 });
+
+			byte[][] expected = { { 2, 10, 11 }, { 1, 20 }, { 3, 30, 31, 32 } };
+			for (byte[] frame : expected) {
+				byte[] msg = server.getNextMsg(5, TimeUnit.SECONDS);
+				assertArrayEquals(frame, msg);
+				server.sendMsg(msg);
+			}
+			for (byte[] frame : expected) {
+				assertArrayEquals(frame, client.getNextMsg(5, TimeUnit.SECONDS));
+			}
+			assertNull(client.getNextMsg());
+		} finally {
+			client.disconnect();
+		}
+
+		// Server side is closed by I/O thread once client has closed the connection
+		long deadline = System.currentTimeMillis() + 5000;
+		while (server.isConnected() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertFalse(client.isConnected());
+		assertFalse(server.isConnected());
+		server.disconnect();
+		assertFalse(server.getServerSocketChannel().isOpen());
+	}
+
+	@Test
+	public void testOversizeFrameClosesConnection() throws Exception {
+		int port = getFreePort();
+		Future<NioTCPServer> serverFuture = accept(port);
+		NioTCPClient client = new NioTCPClient("127.0.0.1", port, null, null, eventLoop);
+		client.setFrameParser(new LengthPrefixedFrameParser(0, 1, ByteOrder.BIG_ENDIAN, 0, 16));
+		for (int i = 0; !client.isConnected(); i++) {
+			try {
+				client.connect();
+			} catch (IOException e) {
+				if (i == 50) {
+					throw e;
+				}
+				Thread.sleep(100);
+			}
+		}
+		NioTCPServer server = serverFuture.get(5, TimeUnit.SECONDS);
+		PrintStream err = System.err;
+		System.setErr(new PrintStream(new ByteArrayOutputStream(), true));
+		try {
+			server.sendMsg(new byte[] { 2, 1, 2, 100, 1 });
+
+			long deadline = System.currentTimeMillis() + 5000;
+			while (client.isConnected() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertFalse(client.isConnected());
+			// Frame received before corrupt length field is still delivered
+			assertArrayEquals(new byte[] { 2, 1, 2 }, client.getNextMsg(5, TimeUnit.SECONDS));
+		} finally {
+			System.setErr(err);
+			server.disconnect();
+		}
+	}
+
+	@Test
+	public void testLocalDisconnectIsQuiet() throws Exception {
+		PrintStream err = System.err;
+		ByteArrayOutputStream captured = new ByteArrayOutputStream();
+		System.setErr(new PrintStream(captured, true));
+		try {
+			for (int i = 0; i < 20; i++) {
+				int port = getFreePort();
+				Future<NioTCPServer> serverFuture = accept(port);
+				NioTCPClient client = connect(port, eventLoop);
+				NioTCPServer server = serverFuture.get(5, TimeUnit.SECONDS);
+
+				// Keep I/O thread busy reading while connection is closed locally
+				for (int j = 0; j < 200; j++) {
+					server.sendMsg(new byte[] { 1, (byte) j });
+				}
+				client.disconnect();
+				server.disconnect();
+			}
+			// Let I/O thread process pending keys of closed channels
+			Thread.sleep(200);
+		} finally {
+			System.setErr(err);
+		}
+		assertFalse(captured.toString(), captured.toString().contains("ClosedChannelException"));
+	}
+
+	@Test
+	public void testManyConnectionsShareEventLoop() throws Exception {
+		NioTCPServer[] servers = new NioTCPServer[20];
+		NioTCPClient[] clients = new NioTCPClient[servers.length];
+		try {
+			for (int i = 0; i < servers.length; i++) {
+				int port = getFreePort();
+				Future<NioTCPServer> serverFuture = accept(port);
+				clients[i] = connect(port, eventLoop);
+				servers[i] = serverFuture.get(5, TimeUnit.SECONDS);
+			}
+			for (int i = 0; i < servers.length; i++) {
+				clients[i].sendMsg(new byte[] { 1, (byte) i });
+			}
+			for (int i = 0; i < servers.length; i++) {
+				assertArrayEquals(new byte[] { 1, (byte) i }, servers[i].getNextMsg(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			for (int i = 0; i < servers.length; i++) {
+				if (null != clients[i]) {
+					clients[i].disconnect();
+				}
+				if (null != servers[i]) {
+					servers[i].disconnect();
+				}
+			}
+		}
+	}
+}
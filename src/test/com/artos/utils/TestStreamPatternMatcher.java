@@ -0,0 +1,103 @@
+package test.com.artos.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.artos.utils.StreamPatternMatcher;
+
+public class TestStreamPatternMatcher {
+
+	@Test
+	public void testLiteral_SplitAcrossChunks() {
+		StreamPatternMatcher matcher = new StreamPatternMatcher("root@host:~# ");
+		StringBuilder sb = new StringBuilder("ls\r\nfile1 file2\r\nroot@ho");
+
+		assertEquals(-1, matcher.find(sb, 0));
+		int searched = sb.length();
+		sb.append("st:~# trailing");
+		assertEquals(sb.indexOf("trailing"), matcher.find(sb, searched));
+		assertEquals("root@host:~# ", matcher.getMatchedPattern());
+	}
+
+	@Test
+	public void testLiteral_FirstEndingPatternWins() {
+		StreamPatternMatcher matcher = new StreamPatternMatcher("login: ", "Password: ", "word");
+
+		assertEquals("abc Pass".length() + 4, matcher.find("abc Password: ", 0));
+		assertEquals("word", matcher.getMatchedPattern());
+
+		matcher.reset();
+		assertEquals("abc login: ".length(), matcher.find("abc login: Password: ", 0));
+		assertEquals("login: ", matcher.getMatchedPattern());
+	}
+
+	@Test
+	public void testLiteral_OverlappingPrefix() {
+		// Failure link must fall back to "aab" prefix instead of starting again
+		StreamPatternMatcher matcher = new StreamPatternMatcher("aabaac", "abx");
+
+		assertEquals("aabaabaac".length(), matcher.find("aabaabaac", 0));
+		assertEquals("aabaac", matcher.getMatchedPattern());
+
+		matcher.reset();
+		assertEquals("aaaabx".length(), matcher.find("aaaabx", 0));
+		assertEquals("abx", matcher.getMatchedPattern());
+	}
+
+	@Test
+	public void testRegex_EndOfReceivedText() {
+		StreamPatternMatcher matcher = new StreamPatternMatcher().addRegex("(?i)password:\\s*$");
+		StringBuilder sb = new StringBuilder("Enter PASSWORD");
+
+		assertEquals(-1, matcher.find(sb, 0));
+		int searched = sb.length();
+		sb.append(": ");
+		assertEquals(sb.length(), matcher.find(sb, searched));
+		assertEquals("(?i)password:\\s*$", matcher.getMatchedPattern());
+	}
+
+	@Test
+	public void testRegexAndLiteral_EarliestMatchWins() {
+		StreamPatternMatcher matcher = new StreamPatternMatcher("# ").addRegex("error \\d+");
+
+		assertEquals("cmd\nerror 42".length(), matcher.find("cmd\nerror 42\n# ", 0));
+		assertEquals("error \\d+", matcher.getMatchedPattern());
+
+		matcher.reset();
+		assertEquals("cmd\n# ".length(), matcher.find("cmd\n# error 42", 0));
+		assertEquals("# ", matcher.getMatchedPattern());
+	}
+
+	@Test
+	public void testRegex_SearchStartMovesForward() {
+		StreamPatternMatcher matcher = new StreamPatternMatcher("# ").addRegex("(?i)password:\\s*$").addRegex("error \\d+").setRegexLookback(64);
+		StringBuilder sb = new StringBuilder();
+
+		int previousStart = 0;
+		for (int i = 0; i < 1000; i++) {
+			int searched = sb.length();
+			sb.append("line ").append(i).append(" of command output without prompt\r\n");
+			assertEquals(-1, matcher.find(sb, searched));
+			assertTrue(matcher.getRegexSearchStart() >= previousStart);
+			assertTrue(sb.length() - matcher.getRegexSearchStart() <= 64);
+			previousStart = matcher.getRegexSearchStart();
+		}
+
+		// Match which is within look back is still found
+		int searched = sb.length();
+		sb.append("Password: ");
+		assertEquals(sb.length(), matcher.find(sb, searched));
+		assertEquals("(?i)password:\\s*$", matcher.getMatchedPattern());
+	}
+
+	@Test
+	public void testNoPattern() {
+		StreamPatternMatcher matcher = new StreamPatternMatcher();
+
+		assertEquals(-1, matcher.find("any text", 0));
+		assertNull(matcher.getMatchedPattern());
+	}
+}